@@ -28,6 +28,7 @@ import org.opendaylight.openflowjava.protocol.api.keys.MatchEntryDeserializerKey
 import org.opendaylight.openflowjava.protocol.api.keys.MatchEntrySerializerKey;
 import org.opendaylight.openflowjava.protocol.api.util.EncodeConstants;
 import org.opendaylight.openflowjava.protocol.spi.connection.SwitchConnectionProvider;
+import org.opendaylight.openflowjava.util.LongKeyedTable;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.action.rev150203.actions.grouping.Action;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.MatchField;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.OxmClassBase;
@@ -42,6 +43,8 @@ public class NiciraExtensionCodecRegistratorImpl implements NiciraExtensionCodec
 
     private static final Map<NiciraActionDeserializerKey, OFDeserializer<Action>> ACTION_DESERIALIZERS =
             new ConcurrentHashMap<>();
+    // Dispatch table mirroring ACTION_DESERIALIZERS, keyed by packed version and subtype
+    private static final LongKeyedTable<OFDeserializer<Action>> ACTION_DESERIALIZER_TABLE = new LongKeyedTable<>();
 
     private final List<SwitchConnectionProvider> providers;
 
@@ -71,6 +74,7 @@ public class NiciraExtensionCodecRegistratorImpl implements NiciraExtensionCodec
     @Override
     public void registerActionDeserializer(NiciraActionDeserializerKey key, OFDeserializer<Action> deserializer) {
         ACTION_DESERIALIZERS.put(key, deserializer);
+        ACTION_DESERIALIZER_TABLE.put(toLong(key.getVersion(), key.getSubtype()), deserializer);
     }
 
     private void registerActionSerializer(ActionSerializerKey<?> key, OFGeneralSerializer serializer) {
@@ -116,10 +120,26 @@ public class NiciraExtensionCodecRegistratorImpl implements NiciraExtensionCodec
     @Override
     public void unregisterActionDeserializer(NiciraActionDeserializerKey key) {
         ACTION_DESERIALIZERS.remove(key);
+        ACTION_DESERIALIZER_TABLE.remove(toLong(key.getVersion(), key.getSubtype()));
     }
 
     public static OFDeserializer<Action> getActionDeserializer(NiciraActionDeserializerKey key) {
-        return ACTION_DESERIALIZERS.get(key);
+        return getActionDeserializer(key.getVersion(), key.getSubtype());
+    }
+
+    /**
+     * Looks up an action deserializer without creating a key.
+     *
+     * @param version protocol wire version
+     * @param subtype nx_action_subtype
+     * @return deserializer, or null if there is none registered
+     */
+    public static OFDeserializer<Action> getActionDeserializer(short version, int subtype) {
+        return ACTION_DESERIALIZER_TABLE.get(toLong(version, subtype));
+    }
+
+    private static long toLong(short version, int subtype) {
+        return (long) (version & 0xff) << 16 | subtype & 0xffff;
     }
 
     /*
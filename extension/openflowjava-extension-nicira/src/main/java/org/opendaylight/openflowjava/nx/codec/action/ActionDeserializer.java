@@ -51,10 +51,10 @@ public class ActionDeserializer implements OFDeserializer<Action> {
             throw new IllegalStateException("Experimenter ID is not Nicira vendor id but is " + experimenterId);
         }
         int subtype = message.readUnsignedShort();
-        NiciraActionDeserializerKey key = new NiciraActionDeserializerKey(version, subtype);
-        OFDeserializer<Action> actionDeserializer = NiciraExtensionCodecRegistratorImpl.getActionDeserializer(key);
+        OFDeserializer<Action> actionDeserializer = NiciraExtensionCodecRegistratorImpl.getActionDeserializer(
+                version, subtype);
         if (actionDeserializer == null) {
-            LOG.info("No deserializer was found for key {}", key);
+            LOG.info("No deserializer was found for key {}", new NiciraActionDeserializerKey(version, subtype));
             return null;
         }
 
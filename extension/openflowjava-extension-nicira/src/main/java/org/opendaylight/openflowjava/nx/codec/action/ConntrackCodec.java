@@ -8,14 +8,13 @@
 
 package org.opendaylight.openflowjava.nx.codec.action;
 
-import com.google.common.net.InetAddresses;
 import io.netty.buffer.ByteBuf;
-import java.net.InetAddress;
 import java.util.ArrayList;
 import java.util.List;
 import org.opendaylight.openflowjava.nx.api.NiciraActionDeserializerKey;
 import org.opendaylight.openflowjava.nx.api.NiciraActionSerializerKey;
 import org.opendaylight.openflowjava.protocol.api.util.EncodeConstants;
+import org.opendaylight.openflowjava.util.ByteBufUtils;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IetfInetUtil;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpAddress;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.action.rev150203.actions.grouping.Action;
@@ -23,9 +22,11 @@ import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.action.rev1
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.NxActionNatRangePresent;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.action.container.action.choice.ActionConntrack;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.action.container.action.choice.ActionConntrackBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.ofj.nx.action.conntrack.grouping.NxActionConntrack;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.ofj.nx.action.conntrack.grouping.NxActionConntrackBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.ofj.nx.action.conntrack.grouping.nx.action.conntrack.CtActions;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.ofj.nx.action.conntrack.grouping.nx.action.conntrack.CtActionsBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.ofpact.actions.OfpactActions;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.ofpact.actions.ofpact.actions.NxActionCtMarkCase;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.ofpact.actions.ofpact.actions.NxActionCtMarkCaseBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.ofpact.actions.ofpact.actions.NxActionNatCase;
@@ -63,38 +64,18 @@ public class ConntrackCodec extends AbstractActionCodec {
     @Override
     public void serialize(final Action input, final ByteBuf outBuffer) {
         LOG.trace("serialize :conntrack");
-        ActionConntrack action = (ActionConntrack) input.getActionChoice();
-        int length = getActionLength(action);
-        int pad = length % 8;
-        serializeHeader(length + pad + CT_LENGTH, NXAST_CONNTRACK_SUBTYPE, outBuffer);
+        NxActionConntrack action = ((ActionConntrack) input.getActionChoice()).getNxActionConntrack();
+        // The nested actions are written in a single pass, the action length is filled in afterwards
+        final int startIndex = outBuffer.writerIndex();
+        serializeHeader(EncodeConstants.EMPTY_LENGTH, NXAST_CONNTRACK_SUBTYPE, outBuffer);
 
-        outBuffer.writeShort(action.getNxActionConntrack().getFlags().shortValue());
-        outBuffer.writeInt(action.getNxActionConntrack().getZoneSrc().intValue());
-        outBuffer.writeShort(action.getNxActionConntrack().getConntrackZone().shortValue());
-        outBuffer.writeByte(action.getNxActionConntrack().getRecircTable().byteValue());
+        outBuffer.writeShort(action.getFlags().shortValue());
+        outBuffer.writeInt(action.getZoneSrc().intValue());
+        outBuffer.writeShort(action.getConntrackZone().shortValue());
+        outBuffer.writeByte(action.getRecircTable().byteValue());
         outBuffer.writeZero(5);
-        serializeCtAction(outBuffer,action);
-    }
-
-    private int getActionLength(final ActionConntrack action) {
-        int length = 0;
-        List<CtActions> ctActionsList = action.getNxActionConntrack().getCtActions();
-        if (ctActionsList == null) {
-            return length;
-        }
-        for (CtActions ctActions : ctActionsList) {
-            if (ctActions.getOfpactActions() instanceof NxActionNatCase) {
-                NxActionNatCase nxActionNatCase = (NxActionNatCase)ctActions.getOfpactActions();
-                NxActionNat natAction = nxActionNatCase.getNxActionNat();
-                int natLength = getNatActionLength(natAction);
-                int pad = 8 - natLength % 8;
-                length += natLength + pad;
-            } else if (ctActions.getOfpactActions() instanceof NxActionCtMarkCase) {
-                length += SET_FIELD_LENGTH;
-            }
-        }
-        LOG.trace("ActionLength :conntrack: length {}",length);
-        return length;
+        serializeCtAction(outBuffer, action);
+        outBuffer.setShort(startIndex + EncodeConstants.SIZE_OF_SHORT_IN_BYTES, outBuffer.writerIndex() - startIndex);
     }
 
     private int getNatActionLength(final NxActionNat natAction) {
@@ -116,65 +97,71 @@ public class ConntrackCodec extends AbstractActionCodec {
 
     }
 
-    private void serializeCtAction(final ByteBuf outBuffer, final ActionConntrack action) {
-        List<CtActions> ctActionsList = action.getNxActionConntrack().getCtActions();
-        if (ctActionsList != null) {
-            for (CtActions ctActions : ctActionsList) {
-                if (ctActions.getOfpactActions() instanceof NxActionNatCase) {
-                    NxActionNatCase nxActionNatCase = (NxActionNatCase)ctActions.getOfpactActions();
-                    NxActionNat natAction = nxActionNatCase.getNxActionNat();
-                    int natLength = getNatActionLength(natAction);
-                    int pad = 8 - natLength % 8;
-                    serializeHeader(natLength + pad, NXAST_NAT_SUBTYPE, outBuffer);
-                    outBuffer.writeZero(2);
-                    outBuffer.writeShort(natAction.getFlags().shortValue());
-                    short rangePresent = natAction.getRangePresent().shortValue();
-                    outBuffer.writeShort(rangePresent);
-                    if (0 != (rangePresent & NxActionNatRangePresent.NXNATRANGEIPV4MIN.getIntValue())) {
-                        if (null != natAction.getIpAddressMin()) {
-                            outBuffer.writeBytes(IetfInetUtil.INSTANCE.ipv4AddressBytes(natAction
-                                    .getIpAddressMin().getIpv4Address()));
-                        }
-                    }
-                    if (0 != (rangePresent & NxActionNatRangePresent.NXNATRANGEIPV4MAX.getIntValue())) {
-                        if (null != natAction.getIpAddressMax()) {
-                            outBuffer.writeBytes(IetfInetUtil.INSTANCE.ipv4AddressBytes(natAction
-                                    .getIpAddressMax().getIpv4Address()));
-                        }
-                    }
-                    if (0 != (rangePresent & NxActionNatRangePresent.NXNATRANGEPROTOMIN.getIntValue())) {
-                        outBuffer.writeShort(natAction.getPortMin());
-                    }
-                    if (0 != (rangePresent & NxActionNatRangePresent.NXNATRANGEPROTOMAX.getIntValue())) {
-                        outBuffer.writeShort(natAction.getPortMax());
-                    }
-                    outBuffer.writeZero(pad);
-                } else if (ctActions.getOfpactActions() instanceof NxActionCtMarkCase) {
-                    NxActionCtMarkCase nxActionCtMarkCase = (NxActionCtMarkCase)ctActions.getOfpactActions();
-                    NxActionCtMark ctMarkAction = nxActionCtMarkCase.getNxActionCtMark();
+    private void serializeCtAction(final ByteBuf outBuffer, final NxActionConntrack action) {
+        List<CtActions> ctActionsList = action.getCtActions();
+        if (ctActionsList == null) {
+            return;
+        }
+        for (int i = 0; i < ctActionsList.size(); i++) {
+            final OfpactActions ofpactActions = ctActionsList.get(i).getOfpactActions();
+            if (ofpactActions instanceof NxActionNatCase) {
+                serializeNatAction(outBuffer, ((NxActionNatCase) ofpactActions).getNxActionNat());
+            } else if (ofpactActions instanceof NxActionCtMarkCase) {
+                NxActionCtMark ctMarkAction = ((NxActionCtMarkCase) ofpactActions).getNxActionCtMark();
 
-                    // structure:
-                    // 00 19 - set field code
-                    // 00 10 - set field length
-                    // 00 01 d6 04
-                    // xx xx xx xx FIELD VALUE (4 bytes)
-                    // xx xx xx xx PADDING (4 bytes)
+                // structure:
+                // 00 19 - set field code
+                // 00 10 - set field length
+                // 00 01 d6 04
+                // xx xx xx xx FIELD VALUE (4 bytes)
+                // xx xx xx xx PADDING (4 bytes)
 
-                    outBuffer.writeShort(SET_FIELD_CODE);
-                    outBuffer.writeShort(SET_FIELD_LENGTH);
-                    outBuffer.writeZero(1);
-                    outBuffer.writeByte(NXM_FIELD_CODE);
-                    outBuffer.writeByte(NXM_CT_MARK_FIELD_CODE << 1);
-                    outBuffer.writeByte(INT_LENGTH);
-                    outBuffer.writeInt(ctMarkAction.getCtMark().intValue());
-                    outBuffer.writeZero(INT_LENGTH);
+                outBuffer.writeShort(SET_FIELD_CODE);
+                outBuffer.writeShort(SET_FIELD_LENGTH);
+                outBuffer.writeZero(1);
+                outBuffer.writeByte(NXM_FIELD_CODE);
+                outBuffer.writeByte(NXM_CT_MARK_FIELD_CODE << 1);
+                outBuffer.writeByte(INT_LENGTH);
+                outBuffer.writeInt(ctMarkAction.getCtMark().intValue());
+                outBuffer.writeZero(INT_LENGTH);
 
-                    // TODO: ct_mark mask is not supported yet
-                }
+                // TODO: ct_mark mask is not supported yet
             }
         }
     }
 
+    private void serializeNatAction(final ByteBuf outBuffer, final NxActionNat natAction) {
+        int natLength = getNatActionLength(natAction);
+        int pad = 8 - natLength % 8;
+        serializeHeader(natLength + pad, NXAST_NAT_SUBTYPE, outBuffer);
+        outBuffer.writeZero(2);
+        outBuffer.writeShort(natAction.getFlags().shortValue());
+        short rangePresent = natAction.getRangePresent().shortValue();
+        outBuffer.writeShort(rangePresent);
+        // Addresses are accounted for in the length by the range flags alone, keep the layout if one is missing
+        if (0 != (rangePresent & NxActionNatRangePresent.NXNATRANGEIPV4MIN.getIntValue())) {
+            writeIpv4Address(outBuffer, natAction.getIpAddressMin());
+        }
+        if (0 != (rangePresent & NxActionNatRangePresent.NXNATRANGEIPV4MAX.getIntValue())) {
+            writeIpv4Address(outBuffer, natAction.getIpAddressMax());
+        }
+        if (0 != (rangePresent & NxActionNatRangePresent.NXNATRANGEPROTOMIN.getIntValue())) {
+            outBuffer.writeShort(natAction.getPortMin());
+        }
+        if (0 != (rangePresent & NxActionNatRangePresent.NXNATRANGEPROTOMAX.getIntValue())) {
+            outBuffer.writeShort(natAction.getPortMax());
+        }
+        outBuffer.writeZero(pad);
+    }
+
+    private static void writeIpv4Address(final ByteBuf outBuffer, final IpAddress address) {
+        if (address != null) {
+            outBuffer.writeBytes(IetfInetUtil.INSTANCE.ipv4AddressBytes(address.getIpv4Address()));
+        } else {
+            outBuffer.writeZero(INT_LENGTH);
+        }
+    }
+
     @Override
     public Action deserialize(final ByteBuf message) {
         final short length = deserializeCtHeader(message);
@@ -220,12 +207,10 @@ public class ConntrackCodec extends AbstractActionCodec {
                 int rangePresent = message.readUnsignedShort();
                 nxActionNatBuilder.setRangePresent(rangePresent);
                 if (0 != (rangePresent & NxActionNatRangePresent.NXNATRANGEIPV4MIN.getIntValue())) {
-                    InetAddress address = InetAddresses.fromInteger((int)message.readUnsignedInt());
-                    nxActionNatBuilder.setIpAddressMin(new IpAddress(address.getHostAddress().toCharArray()));
+                    nxActionNatBuilder.setIpAddressMin(new IpAddress(ByteBufUtils.readIetfIpv4Address(message)));
                 }
                 if (0 != (rangePresent & NxActionNatRangePresent.NXNATRANGEIPV4MAX.getIntValue())) {
-                    InetAddress address = InetAddresses.fromInteger((int)message.readUnsignedInt());
-                    nxActionNatBuilder.setIpAddressMax(new IpAddress(address.getHostAddress().toCharArray()));
+                    nxActionNatBuilder.setIpAddressMax(new IpAddress(ByteBufUtils.readIetfIpv4Address(message)));
                 }
                 if (0 != (rangePresent & NxActionNatRangePresent.NXNATRANGEPROTOMIN.getIntValue())) {
                     nxActionNatBuilder.setPortMin(message.readUnsignedShort());
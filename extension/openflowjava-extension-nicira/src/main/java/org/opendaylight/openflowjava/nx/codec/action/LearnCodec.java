@@ -18,6 +18,7 @@ import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.action.rev1
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.types.rev130731.ExperimenterId;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.action.container.action.choice.ActionLearn;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.action.container.action.choice.ActionLearnBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.ofj.nx.action.learn.grouping.NxActionLearn;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.ofj.nx.action.learn.grouping.NxActionLearnBuilder;
 
 /**
@@ -35,22 +36,22 @@ public class LearnCodec extends AbstractActionCodec {
 
     @Override
     public void serialize(final Action input, final ByteBuf outBuffer) {
-        ActionLearn action = (ActionLearn) input.getActionChoice();
-        int length = LearnCodecUtil.calcLength(action);
-        int lengthMod = length % MUL_LENGTH;
-        if (lengthMod != 0) {
-            lengthMod = MUL_LENGTH - lengthMod;
-        }
-        serializeHeader(length + lengthMod, NXAST_LEARN_SUBTYPE, outBuffer);
+        NxActionLearn learn = ((ActionLearn) input.getActionChoice()).getNxActionLearn();
+        // The specs are written in a single pass, the action length is filled in afterwards
+        final int startIndex = outBuffer.writerIndex();
+        serializeHeader(EncodeConstants.EMPTY_LENGTH, NXAST_LEARN_SUBTYPE, outBuffer);
 
-        LearnCodecUtil.serializeLearnHeader(outBuffer, action);
-        LearnCodecUtil.serializeFlowMods(outBuffer, action);
+        LearnCodecUtil.serializeLearnHeader(outBuffer, learn);
+        LearnCodecUtil.serializeFlowMods(outBuffer, learn);
 
+        int length = outBuffer.writerIndex() - startIndex;
+        int lengthMod = length % MUL_LENGTH;
         //pad with zeros for the length to be multiplication by 8
         if (lengthMod != 0) {
+            lengthMod = MUL_LENGTH - lengthMod;
             outBuffer.writeZero(lengthMod);
         }
-
+        outBuffer.setShort(startIndex + EncodeConstants.SIZE_OF_SHORT_IN_BYTES, length + lengthMod);
     }
 
     @Override
@@ -12,7 +12,7 @@ import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.List;
 import org.opendaylight.openflowjava.protocol.api.util.EncodeConstants;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.action.container.action.choice.ActionLearn;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.flow.mod.spec.FlowModSpec;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.flow.mod.spec.flow.mod.spec.FlowModAddMatchFromFieldCase;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.flow.mod.spec.flow.mod.spec.FlowModAddMatchFromFieldCaseBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.flow.mod.spec.flow.mod.spec.FlowModAddMatchFromValueCase;
@@ -33,6 +33,7 @@ import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev1
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.flow.mod.spec.flow.mod.spec.flow.mod.copy.value.into.field._case.FlowModCopyValueIntoFieldBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.flow.mod.spec.flow.mod.spec.flow.mod.output.to.port._case.FlowModOutputToPort;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.flow.mod.spec.flow.mod.spec.flow.mod.output.to.port._case.FlowModOutputToPortBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.ofj.nx.action.learn.grouping.NxActionLearn;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.ofj.nx.action.learn.grouping.NxActionLearnBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.ofj.nx.action.learn.grouping.nx.action.learn.FlowMods;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.ofj.nx.action.learn.grouping.nx.action.learn.FlowModsBuilder;
@@ -48,11 +49,7 @@ public final class LearnCodecUtil {
     private static final short NUM_BITS_MASK = 0x07FF;
     private static final int SRC_POS = 13;
     private static final int DST_POS = 11;
-    private static final int FROM_FIELD_LENGTH = 14;
-    private static final int FROM_VALUE_LENGTH = 10;
-    private static final int TO_PORT_LENGTH = 8;
     private static final int EMPTY_FLOW_MOD_LENGTH = 2;
-    private static short length;
 
     private LearnCodecUtil() {
     }
@@ -73,61 +70,63 @@ public final class LearnCodecUtil {
      *                                 SERIALIZATION
     */
 
-    static void serializeLearnHeader(final ByteBuf outBuffer, ActionLearn action) {
-        outBuffer.writeShort(action.getNxActionLearn().getIdleTimeout().shortValue());
-        outBuffer.writeShort(action.getNxActionLearn().getHardTimeout().shortValue());
-        outBuffer.writeShort(action.getNxActionLearn().getPriority().shortValue());
-        outBuffer.writeLong(action.getNxActionLearn().getCookie().longValue());
-        outBuffer.writeShort(action.getNxActionLearn().getFlags().shortValue());
-        outBuffer.writeByte(action.getNxActionLearn().getTableId().byteValue());
+    static void serializeLearnHeader(final ByteBuf outBuffer, NxActionLearn learn) {
+        outBuffer.writeShort(learn.getIdleTimeout().shortValue());
+        outBuffer.writeShort(learn.getHardTimeout().shortValue());
+        outBuffer.writeShort(learn.getPriority().shortValue());
+        outBuffer.writeLong(learn.getCookie().longValue());
+        outBuffer.writeShort(learn.getFlags().shortValue());
+        outBuffer.writeByte(learn.getTableId().byteValue());
         outBuffer.writeZero(1);
-        outBuffer.writeShort(action.getNxActionLearn().getFinIdleTimeout().shortValue());
-        outBuffer.writeShort(action.getNxActionLearn().getFinHardTimeout().shortValue());
+        outBuffer.writeShort(learn.getFinIdleTimeout().shortValue());
+        outBuffer.writeShort(learn.getFinHardTimeout().shortValue());
     }
 
-    static void serializeFlowMods(final ByteBuf outBuffer, ActionLearn action) {
-        if (action.getNxActionLearn().getFlowMods() != null) {
-            for (FlowMods flowMod : action.getNxActionLearn().getFlowMods()) {
-                if (flowMod.getFlowModSpec() instanceof FlowModAddMatchFromFieldCase) {
-                    FlowModAddMatchFromField flowModSpecFromField = ((FlowModAddMatchFromFieldCase) flowMod
-                            .getFlowModSpec()).getFlowModAddMatchFromField();
-                    toFlowModSpecHeader(flowModSpecFromField, outBuffer);
-                    outBuffer.writeInt(flowModSpecFromField.getSrcField().intValue());
-                    outBuffer.writeShort(flowModSpecFromField.getSrcOfs().shortValue());
-                    outBuffer.writeInt(flowModSpecFromField.getDstField().intValue());
-                    outBuffer.writeShort(flowModSpecFromField.getDstOfs().shortValue());
-                } else if (flowMod.getFlowModSpec() instanceof FlowModAddMatchFromValueCase) {
-                    FlowModAddMatchFromValue flowModSpec = ((FlowModAddMatchFromValueCase) flowMod.getFlowModSpec())
-                            .getFlowModAddMatchFromValue();
-                    toFlowModSpecHeader(flowModSpec, outBuffer);
-                    outBuffer.writeShort(flowModSpec.getValue().shortValue());
-                    outBuffer.writeInt(flowModSpec.getSrcField().intValue());
-                    outBuffer.writeShort(flowModSpec.getSrcOfs().shortValue());
-
-                } else if (flowMod.getFlowModSpec() instanceof FlowModCopyFieldIntoFieldCase) {
-                    FlowModCopyFieldIntoField flowModSpec = ((FlowModCopyFieldIntoFieldCase) flowMod.getFlowModSpec())
-                            .getFlowModCopyFieldIntoField();
-                    toFlowModSpecHeader(flowModSpec, outBuffer);
-                    outBuffer.writeInt(flowModSpec.getSrcField().intValue());
-                    outBuffer.writeShort(flowModSpec.getSrcOfs().shortValue());
-                    outBuffer.writeInt(flowModSpec.getDstField().intValue());
-                    outBuffer.writeShort(flowModSpec.getDstOfs().shortValue());
-
-                } else if (flowMod.getFlowModSpec() instanceof FlowModCopyValueIntoFieldCase) {
-                    FlowModCopyValueIntoField flowModSpec = ((FlowModCopyValueIntoFieldCase) flowMod.getFlowModSpec())
-                            .getFlowModCopyValueIntoField();
-                    toFlowModSpecHeader(flowModSpec, outBuffer);
-                    outBuffer.writeShort(flowModSpec.getValue().shortValue());
-                    outBuffer.writeInt(flowModSpec.getDstField().intValue());
-                    outBuffer.writeShort(flowModSpec.getDstOfs().shortValue());
-
-                } else if (flowMod.getFlowModSpec() instanceof FlowModOutputToPortCase) {
-                    FlowModOutputToPort flowModSpec = ((FlowModOutputToPortCase) flowMod.getFlowModSpec())
-                            .getFlowModOutputToPort();
-                    toFlowModSpecHeader(flowModSpec, outBuffer);
-                    outBuffer.writeInt(flowModSpec.getSrcField().intValue());
-                    outBuffer.writeShort(flowModSpec.getSrcOfs().shortValue());
-                }
+    static void serializeFlowMods(final ByteBuf outBuffer, NxActionLearn learn) {
+        final List<FlowMods> flowMods = learn.getFlowMods();
+        if (flowMods == null) {
+            return;
+        }
+        for (int i = 0; i < flowMods.size(); i++) {
+            final FlowModSpec spec = flowMods.get(i).getFlowModSpec();
+            if (spec instanceof FlowModAddMatchFromFieldCase) {
+                FlowModAddMatchFromField flowModSpecFromField = ((FlowModAddMatchFromFieldCase) spec)
+                        .getFlowModAddMatchFromField();
+                toFlowModSpecHeader(flowModSpecFromField, outBuffer);
+                outBuffer.writeInt(flowModSpecFromField.getSrcField().intValue());
+                outBuffer.writeShort(flowModSpecFromField.getSrcOfs().shortValue());
+                outBuffer.writeInt(flowModSpecFromField.getDstField().intValue());
+                outBuffer.writeShort(flowModSpecFromField.getDstOfs().shortValue());
+            } else if (spec instanceof FlowModAddMatchFromValueCase) {
+                FlowModAddMatchFromValue flowModSpec = ((FlowModAddMatchFromValueCase) spec)
+                        .getFlowModAddMatchFromValue();
+                toFlowModSpecHeader(flowModSpec, outBuffer);
+                outBuffer.writeShort(flowModSpec.getValue().shortValue());
+                outBuffer.writeInt(flowModSpec.getSrcField().intValue());
+                outBuffer.writeShort(flowModSpec.getSrcOfs().shortValue());
+
+            } else if (spec instanceof FlowModCopyFieldIntoFieldCase) {
+                FlowModCopyFieldIntoField flowModSpec = ((FlowModCopyFieldIntoFieldCase) spec)
+                        .getFlowModCopyFieldIntoField();
+                toFlowModSpecHeader(flowModSpec, outBuffer);
+                outBuffer.writeInt(flowModSpec.getSrcField().intValue());
+                outBuffer.writeShort(flowModSpec.getSrcOfs().shortValue());
+                outBuffer.writeInt(flowModSpec.getDstField().intValue());
+                outBuffer.writeShort(flowModSpec.getDstOfs().shortValue());
+
+            } else if (spec instanceof FlowModCopyValueIntoFieldCase) {
+                FlowModCopyValueIntoField flowModSpec = ((FlowModCopyValueIntoFieldCase) spec)
+                        .getFlowModCopyValueIntoField();
+                toFlowModSpecHeader(flowModSpec, outBuffer);
+                outBuffer.writeShort(flowModSpec.getValue().shortValue());
+                outBuffer.writeInt(flowModSpec.getDstField().intValue());
+                outBuffer.writeShort(flowModSpec.getDstOfs().shortValue());
+
+            } else if (spec instanceof FlowModOutputToPortCase) {
+                FlowModOutputToPort flowModSpec = ((FlowModOutputToPortCase) spec).getFlowModOutputToPort();
+                toFlowModSpecHeader(flowModSpec, outBuffer);
+                outBuffer.writeInt(flowModSpec.getSrcField().intValue());
+                outBuffer.writeShort(flowModSpec.getSrcOfs().shortValue());
             }
         }
     }
@@ -160,28 +159,6 @@ public final class LearnCodecUtil {
         outBuffer.writeShort(value);
     }
 
-    static int calcLength(ActionLearn action) {
-        int actionLength = HEADER_LENGTH;
-        if (action.getNxActionLearn().getFlowMods() == null) {
-            return actionLength;
-        }
-        for (FlowMods flowMod : action.getNxActionLearn().getFlowMods()) {
-            if (flowMod.getFlowModSpec() instanceof FlowModAddMatchFromFieldCase) {
-                actionLength += FROM_FIELD_LENGTH;
-            } else if (flowMod.getFlowModSpec() instanceof FlowModAddMatchFromValueCase) {
-                actionLength += FROM_VALUE_LENGTH;
-            } else if (flowMod.getFlowModSpec() instanceof FlowModCopyFieldIntoFieldCase) {
-                actionLength += FROM_FIELD_LENGTH;
-            } else if (flowMod.getFlowModSpec() instanceof FlowModCopyValueIntoFieldCase) {
-                actionLength += FROM_VALUE_LENGTH;
-            } else if (flowMod.getFlowModSpec() instanceof FlowModOutputToPortCase) {
-                actionLength += TO_PORT_LENGTH;
-            }
-        }
-
-        return actionLength;
-    }
-
     /*
      *                                 DESERIALIZATION
     */
@@ -198,12 +175,13 @@ public final class LearnCodecUtil {
         nxActionLearnBuilder.setFinHardTimeout(message.readUnsignedShort());
     }
 
-    static synchronized void buildFlowModSpecs(NxActionLearnBuilder nxActionLearnBuilder, ByteBuf message,
+    static void buildFlowModSpecs(NxActionLearnBuilder nxActionLearnBuilder, ByteBuf message,
             short messageLength) {
-        LearnCodecUtil.length = messageLength;
+        // The remaining length follows from the reader index, the specs are variable length
+        final int endIndex = message.readerIndex() + messageLength;
         List<FlowMods> flowModeList = new ArrayList<>();
 
-        while (LearnCodecUtil.length > 0) {
+        while (message.readerIndex() < endIndex) {
             FlowMods flowMod = readFlowMod(message);
 
             if (flowMod != null) {
@@ -213,16 +191,15 @@ public final class LearnCodecUtil {
             }
         }
 
-        if (LearnCodecUtil.length != 0) {
-            LOG.error("Learn Codec read " + Math.abs(messageLength)
-                    + " bytes more than needed from stream. Packet might be corrupted");
+        if (message.readerIndex() != endIndex) {
+            LOG.error("Learn Codec read {} bytes more than needed from stream. Packet might be corrupted",
+                    message.readerIndex() - endIndex);
         }
         nxActionLearnBuilder.setFlowMods(flowModeList);
     }
 
     private static FlowMods readFlowMod(ByteBuf message) {
         short header = message.readShort();
-        length -= EncodeConstants.SIZE_OF_SHORT_IN_BYTES;
         if (header == 0) {
             return null;
         }
@@ -235,7 +212,6 @@ public final class LearnCodecUtil {
             return readFlowModAddMatchFromField(message, numBits);
         } else if (src == 0 && dst == 0) {
             message.skipBytes(EMPTY_FLOW_MOD_LENGTH);
-            length -= EMPTY_FLOW_MOD_LENGTH;
         } else if (src == 1 && dst == 0) {
             return readFlowModAddMatchFromValue(message, numBits);
         } else if (src == 0 && dst == 1) {
@@ -248,8 +224,6 @@ public final class LearnCodecUtil {
         return null;
     }
 
-
-
     private static FlowMods readFlowModAddMatchFromField(ByteBuf message, short numBits) {
         FlowModAddMatchFromFieldBuilder builder = new FlowModAddMatchFromFieldBuilder();
         builder.setSrcField((long) message.readInt());
@@ -257,7 +231,6 @@ public final class LearnCodecUtil {
         builder.setDstField((long) message.readInt());
         builder.setDstOfs((int) message.readShort());
         builder.setFlowModNumBits((int) numBits);
-        length -= FROM_FIELD_LENGTH - EncodeConstants.SIZE_OF_SHORT_IN_BYTES;
 
         FlowModsBuilder flowModsBuilder = new FlowModsBuilder();
         FlowModAddMatchFromFieldCaseBuilder caseBuilder = new FlowModAddMatchFromFieldCaseBuilder();
@@ -272,7 +245,6 @@ public final class LearnCodecUtil {
         builder.setSrcField((long) message.readInt());
         builder.setSrcOfs((int) message.readShort());
         builder.setFlowModNumBits((int) numBits);
-        length -= FROM_VALUE_LENGTH - EncodeConstants.SIZE_OF_SHORT_IN_BYTES;
 
         FlowModsBuilder flowModsBuilder = new FlowModsBuilder();
         FlowModAddMatchFromValueCaseBuilder caseBuilder = new FlowModAddMatchFromValueCaseBuilder();
@@ -288,7 +260,6 @@ public final class LearnCodecUtil {
         builder.setDstField((long) message.readInt());
         builder.setDstOfs((int) message.readShort());
         builder.setFlowModNumBits((int) numBits);
-        length -= FROM_FIELD_LENGTH - EncodeConstants.SIZE_OF_SHORT_IN_BYTES;
 
         FlowModsBuilder flowModsBuilder = new FlowModsBuilder();
         FlowModCopyFieldIntoFieldCaseBuilder caseBuilder = new FlowModCopyFieldIntoFieldCaseBuilder();
@@ -303,7 +274,6 @@ public final class LearnCodecUtil {
         builder.setDstField((long) message.readInt());
         builder.setDstOfs((int) message.readShort());
         builder.setFlowModNumBits((int) numBits);
-        length -= FROM_VALUE_LENGTH - EncodeConstants.SIZE_OF_SHORT_IN_BYTES;
 
         FlowModsBuilder flowModsBuilder = new FlowModsBuilder();
         FlowModCopyValueIntoFieldCaseBuilder caseBuilder = new FlowModCopyValueIntoFieldCaseBuilder();
@@ -317,7 +287,6 @@ public final class LearnCodecUtil {
         builder.setSrcField((long) message.readInt());
         builder.setSrcOfs((int) message.readShort());
         builder.setFlowModNumBits((int) numBits);
-        length -= TO_PORT_LENGTH - EncodeConstants.SIZE_OF_SHORT_IN_BYTES;
 
         FlowModsBuilder flowModsBuilder = new FlowModsBuilder();
         FlowModOutputToPortCaseBuilder caseBuilder = new FlowModOutputToPortCaseBuilder();
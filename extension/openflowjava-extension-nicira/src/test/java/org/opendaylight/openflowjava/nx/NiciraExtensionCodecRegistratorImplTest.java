@@ -9,6 +9,8 @@
 package org.opendaylight.openflowjava.nx;
 
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.util.LinkedList;
@@ -109,6 +111,8 @@ public class NiciraExtensionCodecRegistratorImplTest {
         assertTrue(niciraExtensionCodecRegistrator.isEmptyActionDeserializers());
         niciraExtensionCodecRegistrator.registerActionDeserializer(actionDeserializerKey, actionDeserializer);
         assertFalse(niciraExtensionCodecRegistrator.isEmptyActionDeserializers());
+        assertSame(actionDeserializer, NiciraExtensionCodecRegistratorImpl.getActionDeserializer(VERSION, 10));
+        assertNull(NiciraExtensionCodecRegistratorImpl.getActionDeserializer(VERSION, 11));
     }
 
     @Test
@@ -117,6 +121,7 @@ public class NiciraExtensionCodecRegistratorImplTest {
         assertFalse(niciraExtensionCodecRegistrator.isEmptyActionDeserializers());
         niciraExtensionCodecRegistrator.unregisterActionDeserializer(actionDeserializerKey);
         assertTrue(niciraExtensionCodecRegistrator.isEmptyActionDeserializers());
+        assertNull(NiciraExtensionCodecRegistratorImpl.getActionDeserializer(actionDeserializerKey));
     }
 
     @Test
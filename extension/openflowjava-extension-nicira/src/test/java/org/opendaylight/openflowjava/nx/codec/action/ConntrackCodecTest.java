@@ -124,6 +124,39 @@ public class ConntrackCodecTest {
         buffer.skipBytes(5);
     }
 
+    @Test
+    public void serializeTestWithMissingAddress() {
+        NxActionNatBuilder nxActionNatBuilder = new NxActionNatBuilder();
+        nxActionNatBuilder.setFlags(5);
+        nxActionNatBuilder.setRangePresent(0x21);
+        nxActionNatBuilder.setPortMax(4000);
+        List<CtActions> ctActionsList = new ArrayList<>();
+        ctActionsList.add(new CtActionsBuilder().setOfpactActions(
+                new NxActionNatCaseBuilder().setNxActionNat(nxActionNatBuilder.build()).build()).build());
+        NxActionConntrackBuilder nxActionConntrackBuilder = new NxActionConntrackBuilder();
+        nxActionConntrackBuilder.setFlags(1);
+        nxActionConntrackBuilder.setZoneSrc((long) 2);
+        nxActionConntrackBuilder.setConntrackZone(3);
+        nxActionConntrackBuilder.setRecircTable((short) 4);
+        nxActionConntrackBuilder.setCtActions(ctActionsList);
+        action = new ActionBuilder().setExperimenterId(new ExperimenterId(NiciraConstants.NX_VENDOR_ID))
+                .setActionChoice(new ActionConntrackBuilder()
+                        .setNxActionConntrack(nxActionConntrackBuilder.build()).build()).build();
+
+        conntrackCodec.serialize(action, buffer);
+
+        // The address is declared by the range flags, so its place is kept
+        Assert.assertEquals(length + nxNatLengthAction2, buffer.readableBytes());
+        buffer.skipBytes(EncodeConstants.SIZE_OF_SHORT_IN_BYTES);
+        Assert.assertEquals(length + nxNatLengthAction2, buffer.readUnsignedShort());
+        buffer.skipBytes(length - 2 * EncodeConstants.SIZE_OF_SHORT_IN_BYTES);
+        buffer.skipBytes(EncodeConstants.SIZE_OF_SHORT_IN_BYTES);
+        Assert.assertEquals(nxNatLengthAction2, buffer.readUnsignedShort());
+        buffer.skipBytes(12);
+        Assert.assertEquals(0, buffer.readUnsignedInt());
+        Assert.assertEquals(4000, buffer.readUnsignedShort());
+    }
+
     @Test
     public void deserializeTest() {
         createBuffer(buffer);
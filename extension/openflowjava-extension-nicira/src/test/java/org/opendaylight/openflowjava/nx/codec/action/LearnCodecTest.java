@@ -77,6 +77,18 @@ public class LearnCodecTest {
         assertFlowMods();
     }
 
+    @Test
+    public void serializeAfterOtherActionTest() {
+        action = createAction();
+        buffer.writeZero(8);
+        learnCodec.serialize(action, buffer);
+
+        Assert.assertEquals(8 + LEARN_HEADER_LEN + 56, buffer.readableBytes());
+        buffer.skipBytes(8);
+        Assert.assertEquals(EncodeConstants.EXPERIMENTER_VALUE, buffer.readUnsignedShort());
+        Assert.assertEquals(LEARN_HEADER_LEN + 56, buffer.readUnsignedShort());
+    }
+
     @Test
     public void deserializeTest() {
         createBufer(buffer);
@@ -8,6 +8,7 @@
 package org.opendaylight.openflowjava.protocol.api.connection;
 
 import com.google.common.annotations.Beta;
+import java.math.BigInteger;
 import java.net.InetSocketAddress;
 import java.util.concurrent.Future;
 import org.opendaylight.openflowjava.protocol.api.extensibility.AlienMessageListener;
@@ -115,4 +116,14 @@ public interface ConnectionAdapter extends OpenflowProtocolService {
      */
     @Beta
     void setPacketInFiltering(boolean enabled);
+
+    /**
+     * Set the datapath ID of the connected switch, once it is known. It is used to label statistics
+     * of this connection.
+     * @param datapathId datapath ID reported by the switch
+     */
+    @Beta
+    default void setDatapathId(BigInteger datapathId) {
+        // Not tracked by default
+    }
 }
@@ -67,6 +67,13 @@ public interface ConnectionConfiguration {
      */
     ThreadConfiguration getThreadConfiguration();
 
+    /**
+     * Returns the outbound queue flush configuration.
+     *
+     * @return flush configuration, or null if messages should be flushed immediately
+     */
+    FlushConfiguration getFlushConfiguration();
+
     /**
      * Determines if a barrier shoild be used.
      *
@@ -86,4 +93,35 @@ public interface ConnectionConfiguration {
      * @return Configurable queue size
      */
     int getChannelOutboundQueueSize();
+
+    /**
+     * Checks if OF 1.3 PacketIn messages should be delivered as {@link ZeroCopyPacketInMessage}s, keeping
+     * the payload in the inbound buffer instead of copying it.
+     *
+     * @return true if zero-copy PacketIn is enabled
+     */
+    boolean isZeroCopyPacketInEnabled();
+
+    /**
+     * Checks if TCP channels should split, version check and decode inbound messages in a single
+     * pipeline handler.
+     *
+     * @return true if the fused inbound decoder is enabled
+     */
+    boolean isFusedInboundDecoderEnabled();
+
+    /**
+     * Checks if TCP channels should encode all messages of an outbound queue flush into a single buffer.
+     *
+     * @return true if the batched outbound encoder is enabled
+     */
+    boolean isBatchedOutboundEncoderEnabled();
+
+    /**
+     * Checks if UDP transport should bind one channel per worker thread on the same port
+     * using SO_REUSEPORT. Has no effect unless the Epoll native transport is available.
+     *
+     * @return true if UDP channels should share the port
+     */
+    boolean isUdpReusePortEnabled();
 }
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2018 OpenDaylight and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowjava.protocol.api.connection;
+
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.config.rev140630.FlushPolicy;
+
+/**
+ * Outbound queue flush configuration.
+ */
+public interface FlushConfiguration {
+
+    /**
+     * Returns the strategy of flushing outbound messages.
+     *
+     * @return flush policy
+     */
+    FlushPolicy getFlushPolicy();
+
+    /**
+     * Returns the maximum time a queued message waits for a flush.
+     *
+     * @return maximum delay in microseconds
+     */
+    long getMaxDelay();
+
+    /**
+     * Returns the number of queued messages which triggers a flush regardless of the delay.
+     *
+     * @return maximum number of messages per flush
+     */
+    int getMaxMessages();
+}
@@ -34,4 +34,15 @@ public interface OutboundQueueHandler {
      *              is no longer available.
      */
     void onConnectionQueueChanged(OutboundQueue queue);
+
+    /**
+     * Invoked whenever the channel underlying the queue changes its writability. While the channel is not
+     * writable, committed entries are held in the queue instead of being written out, so users may want
+     * to delay submitting more work.
+     *
+     * @param writable true if the channel accepts writes, false if it is congested
+     */
+    default void onWritabilityChanged(boolean writable) {
+        // No-op by default
+    }
 }
@@ -8,6 +8,10 @@
 
 package org.opendaylight.openflowjava.protocol.api.connection;
 
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.Map;
+
 /**
  * Threading configuration.
  *
@@ -28,4 +32,13 @@ public interface ThreadConfiguration {
      * @return desired number of bossThreads registering incoming Openflow connections
      */
     int getBossThreadCount();
+
+    /**
+     * Returns the worker threads dedicated to particular switches.
+     *
+     * @return index of the worker thread keyed by datapath ID of the switch
+     */
+    default Map<BigInteger, Integer> getWorkerAffinity() {
+        return Collections.emptyMap();
+    }
 }
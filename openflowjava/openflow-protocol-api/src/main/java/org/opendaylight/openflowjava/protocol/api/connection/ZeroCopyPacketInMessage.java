@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2018 OpenDaylight and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowjava.protocol.api.connection;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.util.ReferenceCounted;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.PacketInMessage;
+
+/**
+ * PacketIn message whose payload is a slice of the inbound frame buffer rather than a copy. It is
+ * produced only when zero-copy PacketIn is enabled in the {@link ConnectionConfiguration}.
+ *
+ * <p>
+ * The message holds one reference to the underlying buffer, which the listener receiving the message
+ * owns and must give up by calling {@link #release()} once it is done with the payload. Failing to do so
+ * leaks pooled memory. {@link #getData()} still works, but it returns a fresh copy of the payload on
+ * every call.
+ */
+public interface ZeroCopyPacketInMessage extends PacketInMessage, ReferenceCounted {
+
+    /**
+     * Returns the packet payload. The returned buffer is a read-only view which shares content with
+     * the inbound frame and is valid only until the message is released.
+     *
+     * @return payload buffer
+     */
+    ByteBuf getPayload();
+}
@@ -7,7 +7,13 @@
  */
 package org.opendaylight.openflowjava.protocol.api.extensibility;
 
+import org.opendaylight.openflowjava.protocol.api.keys.ActionDeserializerKey;
+import org.opendaylight.openflowjava.protocol.api.keys.ExperimenterActionDeserializerKey;
+import org.opendaylight.openflowjava.protocol.api.keys.ExperimenterInstructionDeserializerKey;
+import org.opendaylight.openflowjava.protocol.api.keys.InstructionDeserializerKey;
+import org.opendaylight.openflowjava.protocol.api.keys.MatchEntryDeserializerKey;
 import org.opendaylight.openflowjava.protocol.api.keys.MessageCodeKey;
+import org.opendaylight.openflowjava.protocol.api.util.EncodeConstants;
 
 /**
  * Registry for deserializers.
@@ -31,6 +37,61 @@ public interface DeserializerRegistry {
     <T extends OFGeneralDeserializer>
             T getDeserializer(MessageCodeKey key);
 
+    /**
+     * Gets the match entry deserializer for the given oxm header, as read from the wire. Equivalent to looking up
+     * a {@link MatchEntryDeserializerKey}, implementations may avoid creating the key.
+     *
+     * @param <T> type of particular deserializer
+     * @param version protocol wire version
+     * @param oxmClass oxm_class (see specification)
+     * @param oxmField oxm_field (see specification)
+     * @param experimenterId experimenter / vendor ID, ignored unless oxmClass is the experimenter class
+     * @return deserializer found
+     */
+    default <T extends OFGeneralDeserializer> T getMatchEntryDeserializer(short version, int oxmClass,
+            int oxmField, long experimenterId) {
+        MatchEntryDeserializerKey key = new MatchEntryDeserializerKey(version, oxmClass, oxmField);
+        if (oxmClass == EncodeConstants.EXPERIMENTER_VALUE) {
+            key.setExperimenterId(experimenterId);
+        }
+        return getDeserializer(key);
+    }
+
+    /**
+     * Gets the action deserializer for the given action header, as read from the wire. Equivalent to looking up
+     * an {@link ActionDeserializerKey}, implementations may avoid creating the key.
+     *
+     * @param <T> type of particular deserializer
+     * @param version protocol wire version
+     * @param type action type
+     * @param experimenterId experimenter / vendor ID, ignored unless type is the experimenter type
+     * @return deserializer found
+     */
+    default <T extends OFGeneralDeserializer> T getActionDeserializer(short version, int type, long experimenterId) {
+        if (type == EncodeConstants.EXPERIMENTER_VALUE) {
+            return getDeserializer(new ExperimenterActionDeserializerKey(version, experimenterId));
+        }
+        return getDeserializer(new ActionDeserializerKey(version, type, null));
+    }
+
+    /**
+     * Gets the instruction deserializer for the given instruction header, as read from the wire. Equivalent
+     * to looking up an {@link InstructionDeserializerKey}, implementations may avoid creating the key.
+     *
+     * @param <T> type of particular deserializer
+     * @param version protocol wire version
+     * @param type instruction type
+     * @param experimenterId experimenter / vendor ID, ignored unless type is the experimenter type
+     * @return deserializer found
+     */
+    default <T extends OFGeneralDeserializer> T getInstructionDeserializer(short version, int type,
+            long experimenterId) {
+        if (type == EncodeConstants.EXPERIMENTER_VALUE) {
+            return getDeserializer(new ExperimenterInstructionDeserializerKey(version, experimenterId));
+        }
+        return getDeserializer(new InstructionDeserializerKey(version, type, null));
+    }
+
     /**
      * Registers a deserializer.
      * Throws IllegalStateException when there is
@@ -31,6 +31,21 @@ public interface SerializerRegistry {
      */
     <K, S extends OFGeneralSerializer> S getSerializer(MessageTypeKey<K> msgTypeKey);
 
+    /**
+     * Gets the serializer registered under plain {@link MessageTypeKey} made of given version and type.
+     * Implementations may resolve this without allocating the key.
+     *
+     * @param <K> input key type
+     * @param <S> type of resulting serializer
+     * @param version protocol version
+     * @param type class of serialized object
+     * @return serializer
+     * @throws IllegalStateException if no serializer was found
+     */
+    default <K, S extends OFGeneralSerializer> S getSerializer(short version, Class<? extends K> type) {
+        return getSerializer(new MessageTypeKey<K>(version, type));
+    }
+
     /**
      * Registers a serializer.
      *
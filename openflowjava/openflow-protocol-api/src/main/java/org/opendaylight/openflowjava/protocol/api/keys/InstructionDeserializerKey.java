@@ -31,6 +31,27 @@ public class InstructionDeserializerKey extends MessageCodeKey {
         this.experimenterId = experimenterId;
     }
 
+    /**
+     * Packs an instruction deserializer key into a long, see {@link PackedTypeKeys#toLong(short, int, long)}.
+     *
+     * @param version protocol wire version
+     * @param type instruction type
+     * @param experimenterId experimenter / vendor ID, ignored unless type is the experimenter type
+     * @return packed key
+     */
+    public static long toLong(short version, int type, long experimenterId) {
+        return PackedTypeKeys.toLong(version, type, experimenterId);
+    }
+
+    /**
+     * Packs this key into a long, see {@link PackedTypeKeys#toLong(short, int, Long)}.
+     *
+     * @return packed key, or null if this key has no packed form
+     */
+    public Long toLong() {
+        return PackedTypeKeys.toLong(getVersion(), getMsgType(), experimenterId);
+    }
+
     @Override
     public int hashCode() {
         final int prime = 31;
@@ -8,6 +8,7 @@
 
 package org.opendaylight.openflowjava.protocol.api.keys;
 
+import org.opendaylight.openflowjava.protocol.api.util.EncodeConstants;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.match.entries.grouping.MatchEntry;
 
 /**
@@ -43,6 +44,46 @@ public final class MatchEntryDeserializerKey extends MessageCodeKey
         this.experimenterId = experimenterId;
     }
 
+    public int getOxmField() {
+        return oxmField;
+    }
+
+    public Long getExperimenterId() {
+        return experimenterId;
+    }
+
+    /**
+     * Packs a match entry deserializer key into a long, so that deserializers can be looked up
+     * without creating key instances. The experimenter id is only part of the key for the experimenter oxm_class.
+     *
+     * @param version protocol wire version
+     * @param oxmClass oxm_class (see specification)
+     * @param oxmField oxm_field (see specification)
+     * @param experimenterId experimenter / vendor ID, ignored unless oxmClass is the experimenter class
+     * @return packed key
+     */
+    public static long toLong(short version, int oxmClass, int oxmField, long experimenterId) {
+        long key = (long) (version & 0xff) << 56 | (long) (oxmClass & 0xffff) << 40 | (long) (oxmField & 0xff) << 32;
+        if (oxmClass == EncodeConstants.EXPERIMENTER_VALUE) {
+            key |= experimenterId & 0xffffffffL;
+        }
+        return key;
+    }
+
+    /**
+     * Packs this key into a long, see {@link #toLong(short, int, int, long)}. Keys which carry an experimenter id
+     * without the experimenter oxm_class, or lack one with it, can never be built from wire data and have no
+     * packed form.
+     *
+     * @return packed key, or null if this key has no packed form
+     */
+    public Long toLong() {
+        if (getMsgType() == EncodeConstants.EXPERIMENTER_VALUE ? experimenterId == null : experimenterId != null) {
+            return null;
+        }
+        return toLong(getVersion(), getMsgType(), oxmField, experimenterId == null ? 0 : experimenterId);
+    }
+
     @Override
     public int hashCode() {
         final int prime = 31;
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2018 OpenDaylight and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowjava.protocol.api.keys;
+
+import org.opendaylight.openflowjava.protocol.api.util.EncodeConstants;
+
+/**
+ * Packs deserializer keys made of a version, a type and an experimenter id, like action and instruction keys,
+ * into a long, so that deserializers can be looked up without creating key instances.
+ */
+final class PackedTypeKeys {
+
+    private PackedTypeKeys() {
+        //not called
+    }
+
+    /**
+     * Packs a key. The experimenter id is only part of the key for the experimenter type.
+     *
+     * @param version protocol wire version
+     * @param type action or instruction type
+     * @param experimenterId experimenter / vendor ID, ignored unless type is the experimenter type
+     * @return packed key
+     */
+    static long toLong(final short version, final int type, final long experimenterId) {
+        long key = (long) (version & 0xff) << 48 | (long) (type & 0xffff) << 32;
+        if (type == EncodeConstants.EXPERIMENTER_VALUE) {
+            key |= experimenterId & 0xffffffffL;
+        }
+        return key;
+    }
+
+    /**
+     * Packs the components of a key instance. Keys which carry an experimenter id without the experimenter type,
+     * or lack one with it, can never be built from wire data and have no packed form.
+     *
+     * @param version protocol wire version
+     * @param type action or instruction type
+     * @param experimenterId experimenter / vendor ID, may be null
+     * @return packed key, or null if the key has no packed form
+     */
+    static Long toLong(final short version, final int type, final Long experimenterId) {
+        if (type == EncodeConstants.EXPERIMENTER_VALUE ? experimenterId == null : experimenterId != null) {
+            return null;
+        }
+        return toLong(version, type, experimenterId == null ? 0 : experimenterId);
+    }
+}
@@ -28,6 +28,14 @@ public class TypeToClassKey {
         this.type = type;
     }
 
+    public short getVersion() {
+        return version;
+    }
+
+    public int getType() {
+        return type;
+    }
+
     @Override
     public int hashCode() {
         final int prime = 31;
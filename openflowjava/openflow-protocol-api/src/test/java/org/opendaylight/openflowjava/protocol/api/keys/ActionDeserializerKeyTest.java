@@ -68,4 +68,27 @@ public class ActionDeserializerKeyTest {
                 + ".opendaylight.openflow.common.action.rev150203.actions.grouping.Action msgType: 11"
                 + " experimenterID: null", key1.toString());
     }
+
+    /**
+     * Test ActionDeserializerKey packing.
+     */
+    @Test
+    public void testToLong() {
+        ActionDeserializerKey key1 = new ActionDeserializerKey(EncodeConstants.OF13_VERSION_ID, 11, null);
+        Assert.assertEquals("Wrong packed key",
+                Long.valueOf(ActionDeserializerKey.toLong(EncodeConstants.OF13_VERSION_ID, 11, 42L)), key1.toLong());
+        Assert.assertNotEquals("Wrong packed key",
+                ActionDeserializerKey.toLong(EncodeConstants.OF10_VERSION_ID, 11, 0), key1.toLong().longValue());
+        Assert.assertNull("Packed key without experimenter type",
+                new ActionDeserializerKey(EncodeConstants.OF13_VERSION_ID, 11, 42L).toLong());
+
+        ActionDeserializerKey key2 = new ExperimenterActionDeserializerKey(EncodeConstants.OF13_VERSION_ID,
+                0xFFFFFFFFL);
+        Assert.assertEquals("Wrong packed key", Long.valueOf(ActionDeserializerKey.toLong(
+                EncodeConstants.OF13_VERSION_ID, EncodeConstants.EXPERIMENTER_VALUE, 0xFFFFFFFFL)), key2.toLong());
+        Assert.assertNotEquals("Wrong packed key", ActionDeserializerKey.toLong(
+                EncodeConstants.OF13_VERSION_ID, EncodeConstants.EXPERIMENTER_VALUE, 42L), key2.toLong().longValue());
+        Assert.assertNull("Packed key without experimenter id", new ActionDeserializerKey(
+                EncodeConstants.OF13_VERSION_ID, EncodeConstants.EXPERIMENTER_VALUE, null).toLong());
+    }
 }
@@ -69,4 +69,28 @@ public class InstructionDeserializerKeyTest {
                 + ".openflow.common.instruction.rev130731.instructions.grouping.Instruction msgType: 11"
                 + " experimenterID: null", key1.toString());
     }
+
+    /**
+     * Test InstructionDeserializerKey packing.
+     */
+    @Test
+    public void testToLong() {
+        InstructionDeserializerKey key1 =
+                new InstructionDeserializerKey(EncodeConstants.OF13_VERSION_ID, 11, null);
+        Assert.assertEquals("Wrong packed key",
+                Long.valueOf(InstructionDeserializerKey.toLong(EncodeConstants.OF13_VERSION_ID, 11, 42L)), key1.toLong());
+        Assert.assertNotEquals("Wrong packed key",
+                InstructionDeserializerKey.toLong(EncodeConstants.OF10_VERSION_ID, 11, 0), key1.toLong().longValue());
+        Assert.assertNull("Packed key without experimenter type",
+                new InstructionDeserializerKey(EncodeConstants.OF13_VERSION_ID, 11, 42L).toLong());
+
+        InstructionDeserializerKey key2 = new ExperimenterInstructionDeserializerKey(EncodeConstants.OF13_VERSION_ID,
+                0xFFFFFFFFL);
+        Assert.assertEquals("Wrong packed key", Long.valueOf(InstructionDeserializerKey.toLong(
+                EncodeConstants.OF13_VERSION_ID, EncodeConstants.EXPERIMENTER_VALUE, 0xFFFFFFFFL)), key2.toLong());
+        Assert.assertNotEquals("Wrong packed key", InstructionDeserializerKey.toLong(
+                EncodeConstants.OF13_VERSION_ID, EncodeConstants.EXPERIMENTER_VALUE, 42L), key2.toLong().longValue());
+        Assert.assertNull("Packed key without experimenter id", new InstructionDeserializerKey(
+                EncodeConstants.OF13_VERSION_ID, EncodeConstants.EXPERIMENTER_VALUE, null).toLong());
+    }
 }
@@ -71,6 +71,30 @@ public class MatchEntryDeserializerKeyTest {
         Assert.assertFalse("Wrong equals with different object class", key1.equals(key2));
     }
 
+    /**
+     * Test MatchEntryDeserializerKey packing into long.
+     */
+    @Test
+    public void testToLong() {
+        MatchEntryDeserializerKey key1 = new MatchEntryDeserializerKey(EncodeConstants.OF13_VERSION_ID, 0x8000, 42);
+        Assert.assertEquals("Wrong packed key", Long.valueOf(MatchEntryDeserializerKey.toLong(
+                EncodeConstants.OF13_VERSION_ID, 0x8000, 42, 158L)), key1.toLong());
+        Assert.assertNotEquals("Wrong packed key", MatchEntryDeserializerKey.toLong(
+                EncodeConstants.OF10_VERSION_ID, 0x8000, 42, 0), key1.toLong().longValue());
+        key1.setExperimenterId(158L);
+        Assert.assertNull("Packed key without experimenter class", key1.toLong());
+
+        MatchEntryDeserializerKey key2 = new MatchEntryDeserializerKey(EncodeConstants.OF13_VERSION_ID,
+                EncodeConstants.EXPERIMENTER_VALUE, 42);
+        Assert.assertNull("Packed key without experimenter id", key2.toLong());
+        key2.setExperimenterId(0xFFFFFFFFL);
+        Assert.assertEquals("Wrong packed key", Long.valueOf(MatchEntryDeserializerKey.toLong(
+                EncodeConstants.OF13_VERSION_ID, EncodeConstants.EXPERIMENTER_VALUE, 42, 0xFFFFFFFFL)), key2.toLong());
+        Assert.assertNotEquals("Wrong packed key", MatchEntryDeserializerKey.toLong(
+                EncodeConstants.OF13_VERSION_ID, EncodeConstants.EXPERIMENTER_VALUE, 42, 158L),
+                key2.toLong().longValue());
+    }
+
     /**
      * Test MatchEntryDeserializerKey toString().
      */
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2018 OpenDaylight and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowjava.protocol.bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmark jar. Runs the selected benchmarks (all by default) with the GC
+ * profiler attached, so that every result reports both ns/op and gc.alloc.rate.norm (bytes/op),
+ * and stores the results as JSON for comparison with the checked-in baseline.
+ */
+public final class CodecBenchmarkRunner {
+
+    private static final String DEFAULT_RESULT_FILE = "target/jmh-result.json";
+
+    private CodecBenchmarkRunner() {
+        throw new UnsupportedOperationException("Utility class shouldn't be instantiated");
+    }
+
+    public static void main(final String[] args) throws RunnerException, CommandLineOptionException {
+        final CommandLineOptions commandLine = new CommandLineOptions(args);
+        final OptionsBuilder builder = new OptionsBuilder();
+        if (commandLine.getIncludes().isEmpty()) {
+            // Also picks up benchmarks which need to live in the package of the code they measure
+            builder.include("org\\.opendaylight\\.openflowjava\\.protocol\\..*Benchmark");
+        }
+        if (!commandLine.getResult().hasValue()) {
+            builder.result(DEFAULT_RESULT_FILE);
+        }
+        final Options options = builder
+                .parent(commandLine)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .build();
+        new Runner(options).run();
+    }
+}
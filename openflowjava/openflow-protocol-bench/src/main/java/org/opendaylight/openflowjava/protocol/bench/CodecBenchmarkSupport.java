@@ -0,0 +1,440 @@
+/*
+ * Copyright (c) 2018 OpenDaylight and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowjava.protocol.bench;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.opendaylight.openflowjava.nx.codec.match.CtStateCodec;
+import org.opendaylight.openflowjava.nx.codec.match.CtZoneCodec;
+import org.opendaylight.openflowjava.nx.codec.match.NiciraMatchCodecs;
+import org.opendaylight.openflowjava.nx.codec.match.Reg0Codec;
+import org.opendaylight.openflowjava.nx.codec.match.Reg6Codec;
+import org.opendaylight.openflowjava.nx.codec.match.TunIdCodec;
+import org.opendaylight.openflowjava.protocol.api.extensibility.DeserializerRegistry;
+import org.opendaylight.openflowjava.protocol.api.extensibility.SerializerRegistry;
+import org.opendaylight.openflowjava.protocol.api.util.EncodeConstants;
+import org.opendaylight.openflowjava.protocol.impl.deserialization.DeserializationFactory;
+import org.opendaylight.openflowjava.protocol.impl.deserialization.DeserializerRegistryImpl;
+import org.opendaylight.openflowjava.protocol.impl.serialization.SerializationFactory;
+import org.opendaylight.openflowjava.protocol.impl.serialization.SerializerRegistryImpl;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.action.rev150203.action.grouping.action.choice.OutputActionCaseBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.action.rev150203.action.grouping.action.choice.SetNwTtlCaseBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.action.rev150203.action.grouping.action.choice.output.action._case.OutputActionBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.action.rev150203.action.grouping.action.choice.set.nw.ttl._case.SetNwTtlActionBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.action.rev150203.actions.grouping.Action;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.action.rev150203.actions.grouping.ActionBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.instruction.rev130731.instruction.grouping.instruction.choice.ApplyActionsCaseBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.instruction.rev130731.instruction.grouping.instruction.choice.GotoTableCaseBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.instruction.rev130731.instruction.grouping.instruction.choice.WriteMetadataCaseBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.instruction.rev130731.instruction.grouping.instruction.choice._goto.table._case.GotoTableBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.instruction.rev130731.instruction.grouping.instruction.choice.apply.actions._case.ApplyActionsBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.instruction.rev130731.instruction.grouping.instruction.choice.write.metadata._case.WriteMetadataBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.instruction.rev130731.instructions.grouping.Instruction;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.instruction.rev130731.instructions.grouping.InstructionBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.types.rev130731.FlowModCommand;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.types.rev130731.FlowModFlags;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.types.rev130731.MultipartRequestFlags;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.types.rev130731.MultipartType;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.types.rev130731.PacketInReason;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.types.rev130731.PortNumber;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.types.rev130731.TableId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.InPort;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.IpEcn;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.Nxm1Class;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.OpenflowBasicClass;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.OxmMatchType;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.match.entries.grouping.MatchEntry;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.match.entries.grouping.MatchEntryBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.match.entry.value.grouping.match.entry.value.InPortCaseBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.match.entry.value.grouping.match.entry.value.IpEcnCaseBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.match.entry.value.grouping.match.entry.value.in.port._case.InPortBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.match.entry.value.grouping.match.entry.value.ip.ecn._case.IpEcnBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.match.grouping.Match;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.match.grouping.MatchBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.FlowModInput;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.FlowModInputBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.MultipartReplyMessage;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.MultipartReplyMessageBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.PacketInMessage;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.PacketInMessageBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.multipart.reply.multipart.reply.body.MultipartReplyFlowCaseBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.multipart.reply.multipart.reply.body.MultipartReplyPortStatsCaseBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.multipart.reply.multipart.reply.body.multipart.reply.flow._case.MultipartReplyFlowBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.multipart.reply.multipart.reply.body.multipart.reply.flow._case.multipart.reply.flow.FlowStats;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.multipart.reply.multipart.reply.body.multipart.reply.flow._case.multipart.reply.flow.FlowStatsBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.multipart.reply.multipart.reply.body.multipart.reply.port.stats._case.MultipartReplyPortStatsBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.multipart.reply.multipart.reply.body.multipart.reply.port.stats._case.multipart.reply.port.stats.PortStats;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.multipart.reply.multipart.reply.body.multipart.reply.port.stats._case.multipart.reply.port.stats.PortStatsBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.match.rev140421.NxmNxCtState;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.match.rev140421.NxmNxCtZone;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.match.rev140421.NxmNxReg0;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.match.rev140421.NxmNxReg6;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.match.rev140421.NxmNxTunId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.match.rev140421.ofj.nxm.nx.match.ct.state.grouping.CtStateValuesBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.match.rev140421.ofj.nxm.nx.match.ct.zone.grouping.CtZoneValuesBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.match.rev140421.ofj.nxm.nx.match.reg.grouping.RegValuesBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.match.rev140421.ofj.nxm.nx.match.tun.id.grouping.TunIdValuesBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.match.rev140421.oxm.container.match.entry.value.CtStateCaseValueBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.match.rev140421.oxm.container.match.entry.value.CtZoneCaseValueBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.match.rev140421.oxm.container.match.entry.value.RegCaseValueBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.match.rev140421.oxm.container.match.entry.value.TunIdCaseValueBuilder;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+
+/**
+ * Shared fixtures for codec benchmarks: registries wired the same way as in
+ * {@code SwitchConnectionProviderImpl} and representative messages.
+ */
+public final class CodecBenchmarkSupport {
+
+    /** Largest OpenFlow frame, the length field in ofp_header is 16 bit. */
+    static final int MAX_FRAME_LENGTH = 0xFFFF;
+    static final short VERSION = EncodeConstants.OF13_VERSION_ID;
+    private static final long XID = 42L;
+
+    private CodecBenchmarkSupport() {
+        throw new UnsupportedOperationException("Utility class shouldn't be instantiated");
+    }
+
+    /**
+     * Creates initialized serializer registry.
+     *
+     * @param withNicira true if Nicira match codecs should be registered as well
+     * @return serializer registry
+     */
+    public static SerializerRegistry createSerializerRegistry(final boolean withNicira) {
+        final SerializerRegistry registry = new SerializerRegistryImpl();
+        registry.init();
+        if (withNicira) {
+            registry.registerSerializer(Reg0Codec.SERIALIZER_KEY, NiciraMatchCodecs.REG0_CODEC);
+            registry.registerSerializer(Reg6Codec.SERIALIZER_KEY, NiciraMatchCodecs.REG6_CODEC);
+            registry.registerSerializer(TunIdCodec.SERIALIZER_KEY, NiciraMatchCodecs.TUN_ID_CODEC);
+            registry.registerSerializer(CtStateCodec.SERIALIZER_KEY, NiciraMatchCodecs.CT_ST_CODEC);
+            registry.registerSerializer(CtZoneCodec.SERIALIZER_KEY, NiciraMatchCodecs.CT_ZONE_CODEC);
+        }
+        return registry;
+    }
+
+    /**
+     * Creates initialized deserializer registry.
+     *
+     * @param withNicira true if Nicira match codecs should be registered as well
+     * @return deserializer registry
+     */
+    public static DeserializerRegistry createDeserializerRegistry(final boolean withNicira) {
+        final DeserializerRegistry registry = new DeserializerRegistryImpl();
+        registry.init();
+        if (withNicira) {
+            registry.registerDeserializer(Reg0Codec.DESERIALIZER_KEY, NiciraMatchCodecs.REG0_CODEC);
+            registry.registerDeserializer(Reg6Codec.DESERIALIZER_KEY, NiciraMatchCodecs.REG6_CODEC);
+            registry.registerDeserializer(TunIdCodec.DESERIALIZER_KEY, NiciraMatchCodecs.TUN_ID_CODEC);
+            registry.registerDeserializer(CtStateCodec.DESERIALIZER_KEY, NiciraMatchCodecs.CT_ST_CODEC);
+            registry.registerDeserializer(CtZoneCodec.DESERIALIZER_KEY, NiciraMatchCodecs.CT_ZONE_CODEC);
+        }
+        return registry;
+    }
+
+    public static SerializationFactory createSerializationFactory(final boolean withNicira) {
+        return new SerializationFactory(createSerializerRegistry(withNicira));
+    }
+
+    public static DeserializationFactory createDeserializationFactory(final boolean withNicira) {
+        return new DeserializationFactory(createDeserializerRegistry(withNicira));
+    }
+
+    /**
+     * Serializes message into a standalone wire frame.
+     *
+     * @param factory serialization factory
+     * @param message message to be serialized
+     * @return frame bytes including ofp_header
+     */
+    public static byte[] encode(final SerializationFactory factory, final DataObject message) {
+        final ByteBuf out = Unpooled.buffer();
+        try {
+            factory.messageToBuffer(VERSION, out, message);
+            if (out.readableBytes() > MAX_FRAME_LENGTH) {
+                throw new IllegalArgumentException("Message does not fit into one frame: " + out.readableBytes());
+            }
+            final byte[] frame = new byte[out.readableBytes()];
+            out.readBytes(frame);
+            return frame;
+        } finally {
+            out.release();
+        }
+    }
+
+    /**
+     * Wraps a frame so that it is positioned the same way as the buffer handed to
+     * {@link DeserializationFactory#deserialize(ByteBuf, short)} by {@code OFDecoder},
+     * i.e. right after the version byte. Use {@link #rewind(ByteBuf)} before reuse.
+     *
+     * @param frame frame bytes including ofp_header
+     * @return buffer ready for deserialization
+     */
+    public static ByteBuf wrapForDecode(final byte[] frame) {
+        return rewind(Unpooled.wrappedBuffer(frame));
+    }
+
+    public static ByteBuf rewind(final ByteBuf buffer) {
+        return buffer.readerIndex(EncodeConstants.SIZE_OF_BYTE_IN_BYTES);
+    }
+
+    public static FlowModInput createFlowModInput(final boolean withNicira) {
+        final FlowModInputBuilder builder = new FlowModInputBuilder();
+        builder.setVersion(VERSION);
+        builder.setXid(XID);
+        builder.setCookie(BigInteger.valueOf(0x8000000L));
+        builder.setCookieMask(BigInteger.ZERO);
+        builder.setTableId(new TableId(17L));
+        builder.setCommand(FlowModCommand.OFPFCADD);
+        builder.setIdleTimeout(0);
+        builder.setHardTimeout(0);
+        builder.setPriority(1000);
+        builder.setBufferId(0xFFFFFFFFL);
+        builder.setOutPort(new PortNumber(0xFFFFFFFFL));
+        builder.setOutGroup(0xFFFFFFFFL);
+        builder.setFlags(new FlowModFlags(false, false, false, false, true));
+        builder.setMatch(createMatch(withNicira, 1));
+        builder.setInstruction(createInstructions());
+        return builder.build();
+    }
+
+    public static PacketInMessage createPacketIn(final int payloadSize) {
+        final PacketInMessageBuilder builder = new PacketInMessageBuilder();
+        builder.setVersion(VERSION);
+        builder.setXid(XID);
+        builder.setBufferId(0xFFFFFFFFL);
+        builder.setTotalLen(payloadSize);
+        builder.setReason(PacketInReason.OFPRACTION);
+        builder.setTableId(new TableId(0L));
+        builder.setCookie(BigInteger.ZERO);
+        builder.setMatch(createMatch(false, 1));
+        final byte[] data = new byte[payloadSize];
+        Arrays.fill(data, (byte) 0x5A);
+        builder.setData(data);
+        return builder.build();
+    }
+
+    /**
+     * Creates a flow statistics reply split into as many fragments as needed to keep
+     * every frame under the ofp_header length limit.
+     *
+     * @param factory serialization factory used to size the fragments
+     * @param entries total number of flow statistics entries
+     * @param withNicira true if every flow should carry Nicira match fields
+     * @return encoded fragments, all but the last one have the REQ_MORE flag set
+     */
+    public static List<byte[]> encodeFlowStatsReply(final SerializationFactory factory, final int entries,
+            final boolean withNicira) {
+        final List<FlowStats> stats = new ArrayList<>(entries);
+        for (int i = 0; i < entries; i++) {
+            stats.add(createFlowStats(withNicira, i));
+        }
+        final int perFragment = entriesPerFragment(
+            encode(factory, createFlowStatsReply(stats.subList(0, 1), false)).length);
+        final List<byte[]> fragments = new ArrayList<>();
+        for (int from = 0; from < entries; from += perFragment) {
+            final int to = Math.min(entries, from + perFragment);
+            fragments.add(encode(factory, createFlowStatsReply(stats.subList(from, to), to < entries)));
+        }
+        return fragments;
+    }
+
+    /**
+     * Creates a port statistics reply split the same way as
+     * {@link #encodeFlowStatsReply(SerializationFactory, int, boolean)}.
+     *
+     * @param factory serialization factory used to size the fragments
+     * @param entries total number of port statistics entries
+     * @return encoded fragments
+     */
+    public static List<byte[]> encodePortStatsReply(final SerializationFactory factory, final int entries) {
+        final List<PortStats> stats = new ArrayList<>(entries);
+        for (int i = 0; i < entries; i++) {
+            stats.add(createPortStats(i));
+        }
+        final int perFragment = entriesPerFragment(
+            encode(factory, createPortStatsReply(stats.subList(0, 1), false)).length);
+        final List<byte[]> fragments = new ArrayList<>();
+        for (int from = 0; from < entries; from += perFragment) {
+            final int to = Math.min(entries, from + perFragment);
+            fragments.add(encode(factory, createPortStatsReply(stats.subList(from, to), to < entries)));
+        }
+        return fragments;
+    }
+
+    private static int entriesPerFragment(final int singleEntryFrameLength) {
+        final int header = EncodeConstants.OFHEADER_SIZE + EncodeConstants.SIZE_OF_LONG_IN_BYTES;
+        return Math.max(1, (MAX_FRAME_LENGTH - header) / (singleEntryFrameLength - header));
+    }
+
+    private static MultipartReplyMessage createFlowStatsReply(final List<FlowStats> stats, final boolean more) {
+        final MultipartReplyMessageBuilder builder = new MultipartReplyMessageBuilder();
+        builder.setVersion(VERSION);
+        builder.setXid(XID);
+        builder.setType(MultipartType.OFPMPFLOW);
+        builder.setFlags(new MultipartRequestFlags(more));
+        builder.setMultipartReplyBody(new MultipartReplyFlowCaseBuilder()
+            .setMultipartReplyFlow(new MultipartReplyFlowBuilder().setFlowStats(stats).build())
+            .build());
+        return builder.build();
+    }
+
+    private static MultipartReplyMessage createPortStatsReply(final List<PortStats> stats, final boolean more) {
+        final MultipartReplyMessageBuilder builder = new MultipartReplyMessageBuilder();
+        builder.setVersion(VERSION);
+        builder.setXid(XID);
+        builder.setType(MultipartType.OFPMPPORTSTATS);
+        builder.setFlags(new MultipartRequestFlags(more));
+        builder.setMultipartReplyBody(new MultipartReplyPortStatsCaseBuilder()
+            .setMultipartReplyPortStats(new MultipartReplyPortStatsBuilder().setPortStats(stats).build())
+            .build());
+        return builder.build();
+    }
+
+    private static FlowStats createFlowStats(final boolean withNicira, final int seed) {
+        final FlowStatsBuilder builder = new FlowStatsBuilder();
+        builder.setTableId((short) (seed % 50));
+        builder.setDurationSec(3600L);
+        builder.setDurationNsec(1000L);
+        builder.setPriority(1000);
+        builder.setIdleTimeout(0);
+        builder.setHardTimeout(0);
+        builder.setFlags(new FlowModFlags(false, false, false, false, true));
+        builder.setCookie(BigInteger.valueOf(0x8000000L + seed));
+        builder.setPacketCount(BigInteger.valueOf(seed * 17L));
+        builder.setByteCount(BigInteger.valueOf(seed * 1500L));
+        builder.setMatch(createMatch(withNicira, seed));
+        builder.setInstruction(createInstructions());
+        return builder.build();
+    }
+
+    private static PortStats createPortStats(final int seed) {
+        final BigInteger counter = BigInteger.valueOf(seed * 1000L);
+        final PortStatsBuilder builder = new PortStatsBuilder();
+        builder.setPortNo((long) seed + 1);
+        builder.setRxPackets(counter);
+        builder.setTxPackets(counter);
+        builder.setRxBytes(counter);
+        builder.setTxBytes(counter);
+        builder.setRxDropped(counter);
+        builder.setTxDropped(counter);
+        builder.setRxErrors(counter);
+        builder.setTxErrors(counter);
+        builder.setRxFrameErr(counter);
+        builder.setRxOverErr(counter);
+        builder.setRxCrcErr(counter);
+        builder.setCollisions(counter);
+        builder.setDurationSec(3600L);
+        builder.setDurationNsec(1000L);
+        return builder.build();
+    }
+
+    private static Match createMatch(final boolean withNicira, final int seed) {
+        final List<MatchEntry> entries = new ArrayList<>();
+        entries.add(new MatchEntryBuilder()
+            .setOxmClass(OpenflowBasicClass.class)
+            .setOxmMatchField(InPort.class)
+            .setHasMask(false)
+            .setMatchEntryValue(new InPortCaseBuilder()
+                .setInPort(new InPortBuilder().setPortNumber(new PortNumber((long) seed % 48 + 1)).build())
+                .build())
+            .build());
+        entries.add(new MatchEntryBuilder()
+            .setOxmClass(OpenflowBasicClass.class)
+            .setOxmMatchField(IpEcn.class)
+            .setHasMask(false)
+            .setMatchEntryValue(new IpEcnCaseBuilder()
+                .setIpEcn(new IpEcnBuilder().setEcn((short) 1).build())
+                .build())
+            .build());
+        if (withNicira) {
+            entries.add(new MatchEntryBuilder()
+                .setOxmClass(Nxm1Class.class)
+                .setOxmMatchField(NxmNxReg0.class)
+                .setHasMask(false)
+                .setMatchEntryValue(new RegCaseValueBuilder()
+                    .setRegValues(new RegValuesBuilder().setValue((long) seed).build())
+                    .build())
+                .build());
+            entries.add(new MatchEntryBuilder()
+                .setOxmClass(Nxm1Class.class)
+                .setOxmMatchField(NxmNxReg6.class)
+                .setHasMask(false)
+                .setMatchEntryValue(new RegCaseValueBuilder()
+                    .setRegValues(new RegValuesBuilder().setValue(0x1000L).build())
+                    .build())
+                .build());
+            entries.add(new MatchEntryBuilder()
+                .setOxmClass(Nxm1Class.class)
+                .setOxmMatchField(NxmNxTunId.class)
+                .setHasMask(false)
+                .setMatchEntryValue(new TunIdCaseValueBuilder()
+                    .setTunIdValues(new TunIdValuesBuilder().setValue(BigInteger.valueOf(seed)).build())
+                    .build())
+                .build());
+            entries.add(new MatchEntryBuilder()
+                .setOxmClass(Nxm1Class.class)
+                .setOxmMatchField(NxmNxCtState.class)
+                .setHasMask(true)
+                .setMatchEntryValue(new CtStateCaseValueBuilder()
+                    .setCtStateValues(new CtStateValuesBuilder().setCtState(0x21L).setMask(0x21L).build())
+                    .build())
+                .build());
+            entries.add(new MatchEntryBuilder()
+                .setOxmClass(Nxm1Class.class)
+                .setOxmMatchField(NxmNxCtZone.class)
+                .setHasMask(false)
+                .setMatchEntryValue(new CtZoneCaseValueBuilder()
+                    .setCtZoneValues(new CtZoneValuesBuilder().setCtZone(5000).build())
+                    .build())
+                .build());
+        }
+        return new MatchBuilder().setType(OxmMatchType.class).setMatchEntry(entries).build();
+    }
+
+    private static List<Instruction> createInstructions() {
+        final List<Action> actions = new ArrayList<>();
+        actions.add(new ActionBuilder()
+            .setActionChoice(new SetNwTtlCaseBuilder()
+                .setSetNwTtlAction(new SetNwTtlActionBuilder().setNwTtl((short) 64).build())
+                .build())
+            .build());
+        actions.add(new ActionBuilder()
+            .setActionChoice(new OutputActionCaseBuilder()
+                .setOutputAction(new OutputActionBuilder().setPort(new PortNumber(2L)).setMaxLength(0xFFFF).build())
+                .build())
+            .build());
+
+        final List<Instruction> instructions = new ArrayList<>();
+        instructions.add(new InstructionBuilder()
+            .setInstructionChoice(new ApplyActionsCaseBuilder()
+                .setApplyActions(new ApplyActionsBuilder().setAction(actions).build())
+                .build())
+            .build());
+        instructions.add(new InstructionBuilder()
+            .setInstructionChoice(new WriteMetadataCaseBuilder()
+                .setWriteMetadata(new WriteMetadataBuilder()
+                    .setMetadata(new byte[] {0, 0, 0, 0, 0, 0, 0x13, 0x37})
+                    .setMetadataMask(new byte[] {0, 0, 0, 0, 0, 0, (byte) 0xFF, (byte) 0xFF})
+                    .build())
+                .build())
+            .build());
+        instructions.add(new InstructionBuilder()
+            .setInstructionChoice(new GotoTableCaseBuilder()
+                .setGotoTable(new GotoTableBuilder().setTableId((short) 50).build())
+                .build())
+            .build());
+        return instructions;
+    }
+}
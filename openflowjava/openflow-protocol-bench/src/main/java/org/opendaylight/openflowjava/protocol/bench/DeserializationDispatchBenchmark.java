@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2018 OpenDaylight and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowjava.protocol.bench;
+
+import io.netty.buffer.ByteBuf;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opendaylight.openflowjava.protocol.api.util.EncodeConstants;
+import org.opendaylight.openflowjava.protocol.impl.deserialization.DeserializationFactory;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+
+/**
+ * Measures message dispatch in {@link DeserializationFactory} on a header-only barrier reply,
+ * where the deserializer itself does next to nothing. With the [version][type] dispatch table
+ * gc.alloc.rate.norm should only account for the resulting BarrierOutput.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class DeserializationDispatchBenchmark {
+
+    private static final byte OFPT_BARRIER_REPLY = 21;
+
+    private DeserializationFactory factory;
+    private ByteBuf frame;
+
+    @Setup
+    public void setup() {
+        factory = CodecBenchmarkSupport.createDeserializationFactory(false);
+        frame = CodecBenchmarkSupport.wrapForDecode(new byte[] {
+            EncodeConstants.OF13_VERSION_ID, OFPT_BARRIER_REPLY, 0, EncodeConstants.OFHEADER_SIZE, 0, 0, 0, 42
+        });
+    }
+
+    @Benchmark
+    public DataObject deserializeBarrierReply() {
+        return factory.deserialize(CodecBenchmarkSupport.rewind(frame), CodecBenchmarkSupport.VERSION);
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2018 OpenDaylight and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowjava.protocol.bench;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opendaylight.openflowjava.protocol.impl.serialization.SerializationFactory;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.FlowModInput;
+
+/**
+ * Measures {@link SerializationFactory#messageToBuffer(short, ByteBuf, org.opendaylight.yangtools.yang.binding.DataObject)}
+ * for a typical flow-mod, optionally carrying Nicira match fields.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class FlowModInputSerializationBenchmark {
+
+    @Param({"false", "true"})
+    public boolean nicira;
+
+    private SerializationFactory factory;
+    private FlowModInput message;
+    private ByteBuf out;
+
+    @Setup
+    public void setup() {
+        factory = CodecBenchmarkSupport.createSerializationFactory(nicira);
+        message = CodecBenchmarkSupport.createFlowModInput(nicira);
+        out = PooledByteBufAllocator.DEFAULT.directBuffer(CodecBenchmarkSupport.MAX_FRAME_LENGTH);
+    }
+
+    @TearDown
+    public void tearDown() {
+        out.release();
+    }
+
+    @Benchmark
+    public ByteBuf serializeFlowMod() {
+        out.clear();
+        factory.messageToBuffer(CodecBenchmarkSupport.VERSION, out, message);
+        return out;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2018 OpenDaylight and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowjava.protocol.bench;
+
+import io.netty.buffer.ByteBuf;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.opendaylight.openflowjava.protocol.impl.deserialization.DeserializationFactory;
+import org.opendaylight.openflowjava.protocol.impl.serialization.SerializationFactory;
+
+/**
+ * Measures decoding of a whole flow or port statistics reply. Replies which do not fit
+ * into one frame are split into REQ_MORE fragments the same way a switch would send them,
+ * one operation decodes all of them.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class MultipartReplyDeserializationBenchmark {
+
+    public enum ReplyType {
+        FLOW,
+        FLOW_NICIRA,
+        PORT
+    }
+
+    @Param({"FLOW", "FLOW_NICIRA", "PORT"})
+    public ReplyType type;
+
+    @Param({"1", "100", "10000"})
+    public int entries;
+
+    private DeserializationFactory factory;
+    private List<ByteBuf> fragments;
+
+    @Setup
+    public void setup() {
+        final boolean nicira = type == ReplyType.FLOW_NICIRA;
+        final SerializationFactory serializationFactory = CodecBenchmarkSupport.createSerializationFactory(nicira);
+        final List<byte[]> frames = type == ReplyType.PORT
+                ? CodecBenchmarkSupport.encodePortStatsReply(serializationFactory, entries)
+                : CodecBenchmarkSupport.encodeFlowStatsReply(serializationFactory, entries, nicira);
+
+        factory = CodecBenchmarkSupport.createDeserializationFactory(nicira);
+        fragments = frames.stream().map(CodecBenchmarkSupport::wrapForDecode).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public void deserializeReply(final Blackhole blackhole) {
+        for (ByteBuf fragment : fragments) {
+            blackhole.consume(factory.deserialize(CodecBenchmarkSupport.rewind(fragment),
+                    CodecBenchmarkSupport.VERSION));
+        }
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2018 OpenDaylight and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowjava.protocol.bench;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opendaylight.openflowjava.nx.api.NiciraConstants;
+import org.opendaylight.openflowjava.nx.codec.action.ConntrackCodec;
+import org.opendaylight.openflowjava.nx.codec.action.LearnCodec;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpAddress;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv4Address;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.action.rev150203.actions.grouping.Action;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.action.rev150203.actions.grouping.ActionBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.types.rev130731.ExperimenterId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.action.container.action.choice.ActionConntrackBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.action.container.action.choice.ActionLearnBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.flow.mod.spec.FlowModSpec;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.flow.mod.spec.flow.mod.spec.FlowModAddMatchFromFieldCaseBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.flow.mod.spec.flow.mod.spec.FlowModAddMatchFromValueCaseBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.flow.mod.spec.flow.mod.spec.FlowModCopyFieldIntoFieldCaseBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.flow.mod.spec.flow.mod.spec.FlowModCopyValueIntoFieldCaseBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.flow.mod.spec.flow.mod.spec.flow.mod.add.match.from.field._case.FlowModAddMatchFromFieldBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.flow.mod.spec.flow.mod.spec.flow.mod.add.match.from.value._case.FlowModAddMatchFromValueBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.flow.mod.spec.flow.mod.spec.flow.mod.copy.field.into.field._case.FlowModCopyFieldIntoFieldBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.flow.mod.spec.flow.mod.spec.flow.mod.copy.value.into.field._case.FlowModCopyValueIntoFieldBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.ofj.nx.action.conntrack.grouping.NxActionConntrackBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.ofj.nx.action.conntrack.grouping.nx.action.conntrack.CtActions;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.ofj.nx.action.conntrack.grouping.nx.action.conntrack.CtActionsBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.ofj.nx.action.learn.grouping.NxActionLearnBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.ofj.nx.action.learn.grouping.nx.action.learn.FlowMods;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.ofj.nx.action.learn.grouping.nx.action.learn.FlowModsBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.ofpact.actions.ofpact.actions.NxActionCtMarkCaseBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.ofpact.actions.ofpact.actions.NxActionNatCaseBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.ofpact.actions.ofpact.actions.nx.action.ct.mark._case.NxActionCtMarkBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.action.rev140421.ofpact.actions.ofpact.actions.nx.action.nat._case.NxActionNatBuilder;
+
+/**
+ * Measures encode and decode of the Nicira learn and conntrack actions, shaped like the ones installed by
+ * security group pipelines: a learn action with several specs and a committing conntrack action with nested
+ * SNAT and ct_mark actions.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class NiciraActionCodecBenchmark {
+
+    // NXM headers of the fields used by the learn specs
+    private static final long NXM_OF_ETH_TYPE = 0x00000a02L;
+    private static final long NXM_OF_IP_PROTO = 0x00000c01L;
+    private static final long NXM_OF_IP_SRC = 0x00000e04L;
+    private static final long NXM_OF_IP_DST = 0x00001004L;
+    private static final long NXM_OF_TCP_SRC = 0x00001202L;
+    private static final long NXM_OF_TCP_DST = 0x00001402L;
+    private static final long NXM_NX_REG6 = 0x00010c04L;
+
+    /** Number of specs in the learn action. */
+    @Param({"4", "8"})
+    public int specs;
+
+    private final LearnCodec learnCodec = new LearnCodec();
+    private final ConntrackCodec conntrackCodec = new ConntrackCodec();
+    private Action learn;
+    private Action conntrack;
+    private ByteBuf learnWire;
+    private ByteBuf conntrackWire;
+    private ByteBuf out;
+
+    @Setup
+    public void setup() {
+        learn = createLearn(specs);
+        conntrack = createConntrack();
+        out = PooledByteBufAllocator.DEFAULT.directBuffer(CodecBenchmarkSupport.MAX_FRAME_LENGTH);
+        learnWire = PooledByteBufAllocator.DEFAULT.directBuffer();
+        learnCodec.serialize(learn, learnWire);
+        conntrackWire = PooledByteBufAllocator.DEFAULT.directBuffer();
+        conntrackCodec.serialize(conntrack, conntrackWire);
+    }
+
+    @TearDown
+    public void tearDown() {
+        out.release();
+        learnWire.release();
+        conntrackWire.release();
+    }
+
+    @Benchmark
+    public ByteBuf serializeLearn() {
+        out.clear();
+        learnCodec.serialize(learn, out);
+        return out;
+    }
+
+    @Benchmark
+    public Action deserializeLearn() {
+        return learnCodec.deserialize(learnWire.readerIndex(0));
+    }
+
+    @Benchmark
+    public ByteBuf serializeConntrack() {
+        out.clear();
+        conntrackCodec.serialize(conntrack, out);
+        return out;
+    }
+
+    @Benchmark
+    public Action deserializeConntrack() {
+        return conntrackCodec.deserialize(conntrackWire.readerIndex(0));
+    }
+
+    private static Action createLearn(final int specs) {
+        final List<FlowMods> flowMods = new ArrayList<>(specs);
+        for (int i = 0; i < specs; i++) {
+            flowMods.add(new FlowModsBuilder().setFlowModSpec(createSpec(i)).build());
+        }
+
+        final NxActionLearnBuilder builder = new NxActionLearnBuilder();
+        builder.setIdleTimeout(60);
+        builder.setHardTimeout(0);
+        builder.setPriority(61010);
+        builder.setCookie(BigInteger.valueOf(0x6900000L));
+        builder.setFlags(0);
+        builder.setTableId((short) 245);
+        builder.setFinIdleTimeout(0);
+        builder.setFinHardTimeout(0);
+        builder.setFlowMods(flowMods);
+        return new ActionBuilder()
+            .setExperimenterId(new ExperimenterId(NiciraConstants.NX_VENDOR_ID))
+            .setActionChoice(new ActionLearnBuilder().setNxActionLearn(builder.build()).build())
+            .build();
+    }
+
+    private static FlowModSpec createSpec(final int index) {
+        switch (index % 4) {
+            case 0:
+                // eth_type=0x0800
+                return new FlowModAddMatchFromValueCaseBuilder()
+                    .setFlowModAddMatchFromValue(new FlowModAddMatchFromValueBuilder()
+                        .setFlowModNumBits(16).setValue(0x0800).setSrcField(NXM_OF_ETH_TYPE).setSrcOfs(0).build())
+                    .build();
+            case 1:
+                // ip_dst=ip_src of the learned packet
+                return new FlowModAddMatchFromFieldCaseBuilder()
+                    .setFlowModAddMatchFromField(new FlowModAddMatchFromFieldBuilder()
+                        .setFlowModNumBits(32).setSrcField(NXM_OF_IP_SRC).setSrcOfs(0)
+                        .setDstField(NXM_OF_IP_DST).setDstOfs(0).build())
+                    .build();
+            case 2:
+                // tcp_dst=tcp_src of the learned packet, the second round copies ip_proto instead
+                return index < 4
+                    ? new FlowModAddMatchFromFieldCaseBuilder()
+                        .setFlowModAddMatchFromField(new FlowModAddMatchFromFieldBuilder()
+                            .setFlowModNumBits(16).setSrcField(NXM_OF_TCP_SRC).setSrcOfs(0)
+                            .setDstField(NXM_OF_TCP_DST).setDstOfs(0).build())
+                        .build()
+                    : new FlowModCopyFieldIntoFieldCaseBuilder()
+                        .setFlowModCopyFieldIntoField(new FlowModCopyFieldIntoFieldBuilder()
+                            .setFlowModNumBits(8).setSrcField(NXM_OF_IP_PROTO).setSrcOfs(0)
+                            .setDstField(NXM_OF_IP_PROTO).setDstOfs(0).build())
+                        .build();
+            default:
+                // reg6 marks the learned flow
+                return new FlowModCopyValueIntoFieldCaseBuilder()
+                    .setFlowModCopyValueIntoField(new FlowModCopyValueIntoFieldBuilder()
+                        .setFlowModNumBits(16).setValue(0x1000 + index).setDstField(NXM_NX_REG6).setDstOfs(0)
+                        .build())
+                    .build();
+        }
+    }
+
+    private static Action createConntrack() {
+        final List<CtActions> ctActions = new ArrayList<>();
+        ctActions.add(new CtActionsBuilder()
+            .setOfpactActions(new NxActionNatCaseBuilder()
+                .setNxActionNat(new NxActionNatBuilder()
+                    // src, range ipv4 min/max and proto min/max
+                    .setFlags(1)
+                    .setRangePresent(0x33)
+                    .setIpAddressMin(new IpAddress(new Ipv4Address("10.0.0.10")))
+                    .setIpAddressMax(new IpAddress(new Ipv4Address("10.0.0.20")))
+                    .setPortMin(1024)
+                    .setPortMax(65535)
+                    .build())
+                .build())
+            .build());
+        ctActions.add(new CtActionsBuilder()
+            .setOfpactActions(new NxActionCtMarkCaseBuilder()
+                .setNxActionCtMark(new NxActionCtMarkBuilder().setCtMark(0x1001L).build())
+                .build())
+            .build());
+
+        final NxActionConntrackBuilder builder = new NxActionConntrackBuilder();
+        // commit
+        builder.setFlags(1);
+        builder.setZoneSrc(0L);
+        builder.setConntrackZone(5000);
+        builder.setRecircTable((short) 0xFF);
+        builder.setCtActions(ctActions);
+        return new ActionBuilder()
+            .setExperimenterId(new ExperimenterId(NiciraConstants.NX_VENDOR_ID))
+            .setActionChoice(new ActionConntrackBuilder().setNxActionConntrack(builder.build()).build())
+            .build();
+    }
+}
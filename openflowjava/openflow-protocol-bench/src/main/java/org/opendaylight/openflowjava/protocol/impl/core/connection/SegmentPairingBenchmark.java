@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2018 OpenDaylight and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowjava.protocol.impl.core.connection;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how the segment owning a response XID is found in the stacked outbound queue, depending on the
+ * number of uncompleted segments. {@code linearWalk} is the former walk over the uncompleted segment list,
+ * {@code segmentRing} the {@link SegmentRing} lookup, which should stay flat as {@code segments} grows.
+ * The response always belongs to the newest segment, which is the common case with a slow switch.
+ *
+ * <p>Lives in the queue package, as the segment classes are package-private.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class SegmentPairingBenchmark {
+
+    @Param({"1", "16", "256", "4096"})
+    public int segments;
+
+    private final List<StackedSegment> segmentList = new ArrayList<>();
+    private final SegmentRing segmentRing = new SegmentRing();
+    private long xid;
+
+    @Setup
+    public void setup() {
+        // Entries are not touched by the lookup, so all segments can share them
+        final OutboundQueueEntry[] entries = new OutboundQueueEntry[StackedSegment.MAX_SEGMENT_SIZE];
+        for (int i = 0; i < entries.length; ++i) {
+            entries[i] = new OutboundQueueEntry();
+        }
+
+        for (int i = 0; i < segments; ++i) {
+            final StackedSegment segment = new StackedSegment((long) StackedSegment.MAX_SEGMENT_SIZE * i, entries);
+            segmentList.add(segment);
+            segmentRing.add(segment);
+        }
+        xid = (long) StackedSegment.MAX_SEGMENT_SIZE * segments - StackedSegment.MAX_SEGMENT_SIZE / 2;
+    }
+
+    @Benchmark
+    public OutboundQueueEntry linearWalk() {
+        for (final StackedSegment segment : segmentList) {
+            final OutboundQueueEntry entry = segment.findEntry(xid);
+            if (entry != null) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    @Benchmark
+    public OutboundQueueEntry segmentRing() {
+        final StackedSegment segment = segmentRing.find(xid);
+        return segment == null ? null : segment.findEntry(xid);
+    }
+}
@@ -8,6 +8,7 @@
 
 package org.opendaylight.openflowjava.protocol.impl.core;
 
+import org.opendaylight.openflowjava.protocol.api.connection.FlushConfiguration;
 import org.opendaylight.openflowjava.protocol.api.connection.SwitchConnectionHandler;
 import org.opendaylight.openflowjava.protocol.api.connection.TlsConfiguration;
 import org.opendaylight.openflowjava.protocol.impl.deserialization.DeserializationFactory;
@@ -27,6 +28,9 @@ public class ChannelInitializerFactory {
     private SwitchConnectionHandler switchConnectionHandler;
     private boolean useBarrier;
     private int channelOutboundQueueSize;
+    private FlushConfiguration flushConfig;
+    private boolean useFusedInboundDecoder;
+    private boolean useBatchedOutboundEncoder;
 
     /**
      * Creates a TCP publishing channel initializer.
@@ -42,6 +46,9 @@ public class ChannelInitializerFactory {
         initializer.setSwitchConnectionHandler(switchConnectionHandler);
         initializer.setUseBarrier(useBarrier);
         initializer.setChannelOutboundQueueSize(channelOutboundQueueSize);
+        initializer.setFlushConfiguration(flushConfig);
+        initializer.setUseFusedInboundDecoder(useFusedInboundDecoder);
+        initializer.setUseBatchedOutboundEncoder(useBatchedOutboundEncoder);
         return initializer;
     }
 
@@ -119,4 +126,31 @@ public class ChannelInitializerFactory {
     public void setChannelOutboundQueueSize(final int channelOutboundQueueSize) {
         this.channelOutboundQueueSize = channelOutboundQueueSize;
     }
+
+    /**
+     * Sets the FlushConfiguration.
+     *
+     * @param flushConfig the FlushConfiguration
+     */
+    public void setFlushConfiguration(final FlushConfiguration flushConfig) {
+        this.flushConfig = flushConfig;
+    }
+
+    /**
+     * Sets whether TCP channels should use the fused {@link OFInboundDecoder}.
+     *
+     * @param useFusedInboundDecoder true to use {@link OFInboundDecoder}
+     */
+    public void setUseFusedInboundDecoder(final boolean useFusedInboundDecoder) {
+        this.useFusedInboundDecoder = useFusedInboundDecoder;
+    }
+
+    /**
+     * Sets whether TCP channels should encode outbound queue flushes with {@link OFBatchEncoder}.
+     *
+     * @param useBatchedOutboundEncoder true to use {@link OFBatchEncoder}
+     */
+    public void setUseBatchedOutboundEncoder(final boolean useBatchedOutboundEncoder) {
+        this.useBatchedOutboundEncoder = useBatchedOutboundEncoder;
+    }
 }
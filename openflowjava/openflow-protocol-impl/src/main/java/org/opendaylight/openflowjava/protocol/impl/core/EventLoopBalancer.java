@@ -0,0 +1,290 @@
+/*
+ * Copyright (c) 2018 OpenDaylight and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowjava.protocol.impl.core;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoop;
+import io.netty.channel.EventLoopGroup;
+import io.netty.util.AttributeKey;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.SingleThreadEventExecutor;
+import java.lang.management.ManagementFactory;
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.MBeanRegistrationException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.NotCompliantMBeanException;
+import javax.management.ObjectName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Assigns switch connections to the event loops of a worker group. A new connection goes to the event loop
+ * serving the fewest connections, skipping event loops which are found saturated. A switch whose datapath ID
+ * is configured with a worker affinity is pinned to that worker once its datapath ID has been learned, which
+ * takes effect when it reconnects, as a registered channel cannot be moved between event loops safely. Pins are
+ * keyed by the remote IP address of the switch, as a reconnecting switch uses a new source port, and are used by
+ * the next connection from that address. There is at most one pin per datapath ID and it expires unless the switch
+ * reconnects in time.
+ */
+public final class EventLoopBalancer implements EventLoopBalancerMXBean, AutoCloseable {
+
+    /**
+     * Datapath ID of the switch connected over a channel, set once the handshake has completed.
+     */
+    public static final AttributeKey<BigInteger> DATAPATH_ID = AttributeKey.valueOf(EventLoopBalancer.class,
+            "datapathId");
+
+    /**
+     * Period of the probe measuring scheduling lag of event loops.
+     */
+    static final long PROBE_PERIOD_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    /**
+     * Scheduling lag above which an event loop is considered saturated.
+     */
+    static final long SATURATION_LAG_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+
+    /**
+     * Time a pin waits for its switch to reconnect.
+     */
+    static final long PIN_TIMEOUT_NANOS = TimeUnit.MINUTES.toNanos(5);
+
+    private static final Logger LOG = LoggerFactory.getLogger(EventLoopBalancer.class);
+
+    private final EventLoop[] loops;
+    private final AtomicIntegerArray connections;
+    private final AtomicLongArray lags;
+    private final Map<BigInteger, Integer> affinity;
+    private final ConcurrentMap<InetAddress, Pin> pinned = new ConcurrentHashMap<>();
+    private final long pinTimeoutNanos;
+    private volatile String objectName;
+
+    /**
+     * Creates a balancer over the event loops of a group and starts probing them.
+     *
+     * @param group worker group
+     * @param affinity worker index keyed by datapath ID
+     */
+    EventLoopBalancer(final EventLoopGroup group, final Map<BigInteger, Integer> affinity) {
+        this(group, affinity, PIN_TIMEOUT_NANOS);
+    }
+
+    /**
+     * Creates a balancer over the event loops of a group and starts probing them.
+     *
+     * @param group worker group
+     * @param affinity worker index keyed by datapath ID
+     * @param pinTimeoutNanos time a pin waits for its switch to reconnect
+     */
+    EventLoopBalancer(final EventLoopGroup group, final Map<BigInteger, Integer> affinity,
+            final long pinTimeoutNanos) {
+        final List<EventLoop> list = new ArrayList<>();
+        for (EventExecutor executor : group) {
+            list.add((EventLoop) executor);
+        }
+        Preconditions.checkArgument(!list.isEmpty(), "Group %s has no event loops", group);
+
+        loops = list.toArray(new EventLoop[list.size()]);
+        connections = new AtomicIntegerArray(loops.length);
+        lags = new AtomicLongArray(loops.length);
+        this.affinity = ImmutableMap.copyOf(affinity);
+        this.pinTimeoutNanos = pinTimeoutNanos;
+        for (int i = 0; i < loops.length; ++i) {
+            scheduleProbe(i);
+        }
+    }
+
+    /**
+     * Selects the event loop a channel should be registered with and tracks the channel until it is closed.
+     *
+     * @param channel channel to be registered
+     * @return event loop for the channel
+     */
+    EventLoop select(final Channel channel) {
+        final SocketAddress remoteAddress = channel.remoteAddress();
+        final InetAddress address = remoteAddress instanceof InetSocketAddress
+                ? ((InetSocketAddress) remoteAddress).getAddress() : null;
+
+        // A pin is used up by the first connection from its address
+        final Pin pin = address == null ? null : pinned.remove(address);
+        final boolean usePin = pin != null && !pin.isExpired(System.nanoTime());
+        final int index = usePin ? pin.index : leastLoaded();
+        connections.incrementAndGet(index);
+        channel.closeFuture().addListener(future -> release(channel, address, index));
+
+        LOG.debug("Channel {} assigned to worker {}{}", channel, index, usePin ? " (pinned)" : "");
+        return loops[index];
+    }
+
+    @Override
+    public int[] getConnectionCounts() {
+        final int[] ret = new int[loops.length];
+        for (int i = 0; i < ret.length; ++i) {
+            ret[i] = connections.get(i);
+        }
+        return ret;
+    }
+
+    @Override
+    public int[] getPendingTasks() {
+        final int[] ret = new int[loops.length];
+        for (int i = 0; i < ret.length; ++i) {
+            ret[i] = loops[i] instanceof SingleThreadEventExecutor
+                    ? ((SingleThreadEventExecutor) loops[i]).pendingTasks() : -1;
+        }
+        return ret;
+    }
+
+    @Override
+    public long[] getSchedulingLag() {
+        final long[] ret = new long[loops.length];
+        for (int i = 0; i < ret.length; ++i) {
+            ret[i] = TimeUnit.NANOSECONDS.toMicros(lags.get(i));
+        }
+        return ret;
+    }
+
+    @Override
+    public Map<String, Integer> getPinnedAddresses() {
+        final Map<String, Integer> ret = new HashMap<>();
+        pinned.forEach((address, pin) -> ret.put(address.getHostAddress(), pin.index));
+        return ret;
+    }
+
+    /**
+     * Registers the balancer with the platform MBean server.
+     *
+     * @param port listening port distinguishing the balancers of multiple servers
+     */
+    void registerMXBean(final int port) {
+        final String name = String.format("%s:type=%s,port=%d", EventLoopBalancer.class.getPackage().getName(),
+                EventLoopBalancer.class.getSimpleName(), port);
+        final MBeanServer mbs = ManagementFactory.getPlatformMBeanServer();
+
+        try {
+            mbs.registerMBean(this, new ObjectName(name));
+            objectName = name;
+        } catch (MalformedObjectNameException
+                | NotCompliantMBeanException
+                | MBeanRegistrationException
+                | InstanceAlreadyExistsException e) {
+            LOG.warn("Error registering MBean {}", name, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        final String name = objectName;
+        if (name == null) {
+            return;
+        }
+
+        objectName = null;
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(new ObjectName(name));
+        } catch (InstanceNotFoundException
+                | MBeanRegistrationException
+                | MalformedObjectNameException e) {
+            LOG.warn("Error unregistering MBean {}", name, e);
+        }
+    }
+
+    private int leastLoaded() {
+        int best = 0;
+        for (int i = 1; i < loops.length; ++i) {
+            if (isLessLoaded(i, best)) {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    private boolean isLessLoaded(final int index, final int other) {
+        final long lag = lags.get(index);
+        final long otherLag = lags.get(other);
+        final boolean saturated = lag > SATURATION_LAG_NANOS;
+        if (saturated != otherLag > SATURATION_LAG_NANOS) {
+            return !saturated;
+        }
+
+        final int count = connections.get(index);
+        final int otherCount = connections.get(other);
+        return count < otherCount || count == otherCount && lag < otherLag;
+    }
+
+    private void release(final Channel channel, final InetAddress address, final int index) {
+        connections.decrementAndGet(index);
+
+        // Pins are bounded by the number of configured datapath IDs, so sweeping them is cheap
+        final long now = System.nanoTime();
+        pinned.values().removeIf(pin -> pin.isExpired(now));
+        if (address == null) {
+            return;
+        }
+
+        final BigInteger datapathId = channel.attr(DATAPATH_ID).get();
+        final Integer worker = datapathId == null ? null : affinity.get(datapathId);
+        if (worker != null) {
+            final int target = worker % loops.length;
+            pinned.values().removeIf(pin -> datapathId.equals(pin.datapathId));
+            pinned.put(address, new Pin(datapathId, target, now + pinTimeoutNanos));
+            LOG.debug("Switch {} at {} pinned to worker {}", datapathId, address, target);
+        }
+    }
+
+    private void scheduleProbe(final int index) {
+        final long deadline = System.nanoTime() + PROBE_PERIOD_NANOS;
+        try {
+            loops[index].schedule(() -> {
+                lags.set(index, Math.max(System.nanoTime() - deadline, 0));
+                if (!loops[index].isShuttingDown()) {
+                    scheduleProbe(index);
+                }
+            }, PROBE_PERIOD_NANOS, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            LOG.debug("Worker {} is shutting down, not probing it", index, e);
+        }
+    }
+
+    /**
+     * Worker assignment of a switch, used by its connections until the deadline passes.
+     */
+    private static final class Pin {
+        final BigInteger datapathId;
+        final int index;
+        final long deadline;
+
+        Pin(final BigInteger datapathId, final int index, final long deadline) {
+            this.datapathId = datapathId;
+            this.index = index;
+            this.deadline = deadline;
+        }
+
+        boolean isExpired(final long now) {
+            return now - deadline >= 0;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2018 OpenDaylight and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowjava.protocol.impl.core;
+
+import java.util.Map;
+
+/**
+ * Management interface of {@link EventLoopBalancer}. Arrays are indexed by worker thread.
+ */
+public interface EventLoopBalancerMXBean {
+
+    /**
+     * Returns the number of connections served by each worker thread.
+     *
+     * @return connection counts
+     */
+    int[] getConnectionCounts();
+
+    /**
+     * Returns the number of tasks waiting in the queue of each worker thread.
+     *
+     * @return pending task counts
+     */
+    int[] getPendingTasks();
+
+    /**
+     * Returns how late a periodic probe task last ran on each worker thread. A worker which keeps up with its
+     * connections runs the probe on time, a saturated one only after it has finished processing I/O.
+     *
+     * @return scheduling lag in microseconds
+     */
+    long[] getSchedulingLag();
+
+    /**
+     * Returns the switch addresses which are pinned to a worker thread.
+     *
+     * @return worker thread index keyed by switch address and port
+     */
+    Map<String, Integer> getPinnedAddresses();
+}
@@ -9,42 +9,114 @@
 package org.opendaylight.openflowjava.protocol.impl.core;
 
 import io.netty.channel.ChannelHandlerContext;
-import io.netty.handler.timeout.ReadTimeoutHandler;
+import io.netty.channel.ChannelInboundHandlerAdapter;
 import java.util.concurrent.TimeUnit;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.system.rev130927.SwitchIdleEventBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Detects idle state of switch and informs upper layers.
+ * Detects idle state of switch and informs upper layers. Timeouts are tracked by the {@link LivenessTracker}
+ * of the channel's event loop, a read only records its time.
  *
  * @author michal.polkorab
  */
-public class IdleHandler extends ReadTimeoutHandler {
+public class IdleHandler extends ChannelInboundHandlerAdapter {
 
     private static final Logger LOG = LoggerFactory.getLogger(IdleHandler.class);
+    private final long timeoutNanos;
+    private ChannelHandlerContext ctx;
+    private LivenessTracker tracker;
+    private long lastRead;
+    private boolean removed;
     private boolean first = true;
 
     /**
      * Constructor.
      */
     public IdleHandler(final long readerIdleTime, final TimeUnit unit) {
-        super(readerIdleTime, unit);
+        timeoutNanos = Math.max(unit.toNanos(readerIdleTime), LivenessTracker.TICK_NANOS);
     }
 
     @Override
-    public void channelRead(final ChannelHandlerContext ctx, final Object msg) throws Exception {
-        super.channelRead(ctx, msg);
-        first = true;
+    public void handlerAdded(final ChannelHandlerContext context) throws Exception {
+        if (context.channel().isActive() && context.channel().isRegistered()) {
+            initialize(context);
+        }
+    }
+
+    @Override
+    public void handlerRemoved(final ChannelHandlerContext context) throws Exception {
+        destroy();
+    }
+
+    @Override
+    public void channelActive(final ChannelHandlerContext context) throws Exception {
+        initialize(context);
+        super.channelActive(context);
     }
 
     @Override
-    protected void readTimedOut(final ChannelHandlerContext ctx) throws Exception {
+    public void channelInactive(final ChannelHandlerContext context) throws Exception {
+        destroy();
+        super.channelInactive(context);
+    }
+
+    @Override
+    public void channelRead(final ChannelHandlerContext context, final Object msg) throws Exception {
+        if (tracker != null) {
+            lastRead = tracker.now();
+        }
+        first = true;
+        context.fireChannelRead(msg);
+    }
+
+    private void initialize(final ChannelHandlerContext context) {
+        if (tracker != null || removed) {
+            return;
+        }
+        ctx = context;
+        tracker = LivenessTracker.forEventLoop(context.channel().eventLoop());
+        lastRead = System.nanoTime();
+        tracker.register(this);
+    }
+
+    private void destroy() {
+        if (!removed) {
+            removed = true;
+            if (tracker != null) {
+                tracker.unregister(this);
+            }
+        }
+    }
+
+    long getTimeout() {
+        return timeoutNanos;
+    }
+
+    long getDeadline() {
+        return lastRead + timeoutNanos;
+    }
+
+    boolean isRemoved() {
+        return removed;
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    void onIdle() {
+        try {
+            readTimedOut(ctx);
+        } catch (Exception e) {
+            ctx.fireExceptionCaught(e);
+        }
+    }
+
+    protected void readTimedOut(final ChannelHandlerContext context) throws Exception {
         if (first) {
             LOG.debug("Switch idle");
             SwitchIdleEventBuilder builder = new SwitchIdleEventBuilder();
             builder.setInfo("Switch idle");
-            ctx.fireChannelRead(builder.build());
+            context.fireChannelRead(builder.build());
             first = false;
         }
     }
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2018 OpenDaylight and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowjava.protocol.impl.core;
+
+import com.google.common.base.Preconditions;
+import io.netty.channel.EventLoop;
+import io.netty.util.concurrent.FastThreadLocal;
+import io.netty.util.concurrent.ScheduledFuture;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Hashed timing wheel tracking read liveness of all channels served by one event loop. A single periodic task
+ * replaces one scheduled timeout per channel, and reads only update a timestamp in {@link IdleHandler}.
+ *
+ * <p>
+ * Handlers are placed into the bucket of the tick at which they may expire at the earliest. When a bucket is
+ * processed, handlers which have been read from in the meantime are moved to the bucket of their new deadline,
+ * the others are reported idle together once the bucket has been processed. Deadlines beyond one revolution of
+ * the wheel are simply revisited once per revolution.
+ *
+ * <p>
+ * Instances are confined to their event loop and are not thread-safe.
+ */
+final class LivenessTracker implements Runnable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LivenessTracker.class);
+
+    static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final int WHEEL_SIZE = 512;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+    private static final FastThreadLocal<LivenessTracker> TRACKERS = new FastThreadLocal<>();
+
+    private final EventLoop eventLoop;
+    private final long startNanos;
+    private final List<List<IdleHandler>> wheel = new ArrayList<>(WHEEL_SIZE);
+    private final List<IdleHandler> expired = new ArrayList<>();
+    private List<IdleHandler> spare = new ArrayList<>();
+    private ScheduledFuture<?> task;
+    private long now;
+    private long lastTick;
+    private int size;
+
+    private LivenessTracker(final EventLoop eventLoop) {
+        this.eventLoop = eventLoop;
+        startNanos = System.nanoTime();
+        now = startNanos;
+        for (int i = 0; i < WHEEL_SIZE; ++i) {
+            wheel.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Returns the tracker of the given event loop. Must be invoked from the event loop.
+     *
+     * @param eventLoop event loop of the calling thread
+     * @return tracker of the event loop
+     */
+    static LivenessTracker forEventLoop(final EventLoop eventLoop) {
+        Preconditions.checkState(eventLoop.inEventLoop(), "Tracker must be obtained from its event loop");
+        LivenessTracker tracker = TRACKERS.get();
+        if (tracker == null || tracker.eventLoop != eventLoop) {
+            tracker = new LivenessTracker(eventLoop);
+            TRACKERS.set(tracker);
+        }
+        return tracker;
+    }
+
+    /**
+     * Returns the time of the current tick, which is precise enough to timestamp reads.
+     *
+     * @return current time in nanoseconds, as of the last tick
+     */
+    long now() {
+        return now;
+    }
+
+    /**
+     * Returns the number of tracked handlers.
+     *
+     * @return number of tracked handlers
+     */
+    int size() {
+        return size;
+    }
+
+    void register(final IdleHandler handler) {
+        now = System.nanoTime();
+        schedule(handler, handler.getDeadline());
+        if (size++ == 0) {
+            task = eventLoop.scheduleAtFixedRate(this, TICK_NANOS, TICK_NANOS, TimeUnit.NANOSECONDS);
+            LOG.debug("Liveness tracking started on {}", eventLoop);
+        }
+    }
+
+    void unregister(final IdleHandler handler) {
+        // The handler is dropped from its bucket lazily, once the bucket is processed
+        if (--size == 0) {
+            task.cancel(false);
+            task = null;
+            wheel.forEach(List::clear);
+            LOG.debug("Liveness tracking stopped on {}", eventLoop);
+        }
+    }
+
+    @Override
+    public void run() {
+        now = System.nanoTime();
+        final long currentTick = (now - startNanos) / TICK_NANOS;
+        // Visiting every bucket once is enough to catch up after a stall
+        lastTick = Math.max(lastTick, currentTick - WHEEL_SIZE);
+
+        while (lastTick < currentTick) {
+            final int index = (int) (++lastTick & WHEEL_MASK);
+            final List<IdleHandler> bucket = wheel.get(index);
+            if (bucket.isEmpty()) {
+                continue;
+            }
+
+            // Handlers rescheduled into this bucket go to the spare list
+            wheel.set(index, spare);
+            for (IdleHandler handler : bucket) {
+                if (handler.isRemoved()) {
+                    continue;
+                }
+                final long deadline = handler.getDeadline();
+                if (deadline - now <= 0) {
+                    expired.add(handler);
+                    schedule(handler, now + handler.getTimeout());
+                } else {
+                    schedule(handler, deadline);
+                }
+            }
+            bucket.clear();
+            spare = bucket;
+        }
+
+        if (!expired.isEmpty()) {
+            LOG.debug("{} channels idle on {}", expired.size(), eventLoop);
+            for (IdleHandler handler : expired) {
+                handler.onIdle();
+            }
+            expired.clear();
+        }
+    }
+
+    private void schedule(final IdleHandler handler, final long deadline) {
+        // Round up, so that a handler is never visited before its deadline
+        final long dueTick = Math.max((deadline - startNanos + TICK_NANOS - 1) / TICK_NANOS, lastTick + 1);
+        wheel.get((int) (dueTick & WHEEL_MASK)).add(handler);
+    }
+}
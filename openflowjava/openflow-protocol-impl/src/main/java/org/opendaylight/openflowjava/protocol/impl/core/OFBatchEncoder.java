@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2018 OpenDaylight and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowjava.protocol.impl.core;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.MessageToByteEncoder;
+import org.opendaylight.openflowjava.protocol.impl.core.connection.OutboundMessageBatch;
+import org.opendaylight.openflowjava.protocol.impl.serialization.SerializationFactory;
+import org.opendaylight.openflowjava.statistics.CounterEventTypes;
+import org.opendaylight.openflowjava.statistics.StatisticsCounters;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.FlowModInput;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.OfHeader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Serializes all messages of an {@link OutboundMessageBatch} into a single buffer, so that a queue flush
+ * results in one channel write instead of one per message. The buffer is sized from the average message
+ * length seen so far, which keeps reallocations rare during bulk programming.
+ */
+public class OFBatchEncoder extends MessageToByteEncoder<OutboundMessageBatch> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(OFBatchEncoder.class);
+    private static final int INITIAL_MESSAGE_SIZE_ESTIMATE = 128;
+    private static final int MAX_INITIAL_BUFFER_SIZE = 1024 * 1024;
+
+    private final StatisticsCounters statisticsCounters;
+    private SerializationFactory serializationFactory;
+    private int messageSizeEstimate = INITIAL_MESSAGE_SIZE_ESTIMATE;
+
+    public OFBatchEncoder() {
+        statisticsCounters = StatisticsCounters.getInstance();
+        LOG.trace("Creating OFBatchEncoder");
+    }
+
+    @Override
+    protected ByteBuf allocateBuffer(final ChannelHandlerContext ctx, final OutboundMessageBatch batch,
+            final boolean preferDirect) {
+        final int capacity = Math.min(batch.size() * messageSizeEstimate, MAX_INITIAL_BUFFER_SIZE);
+        return preferDirect ? ctx.alloc().ioBuffer(capacity) : ctx.alloc().heapBuffer(capacity);
+    }
+
+    @Override
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    protected void encode(final ChannelHandlerContext ctx, final OutboundMessageBatch batch, final ByteBuf out) {
+        LOG.trace("Encoding batch of {} messages", batch.size());
+        int encoded = 0;
+        for (final OfHeader message : batch.getMessages()) {
+            final int writerIndex = out.writerIndex();
+            try {
+                serializationFactory.messageToBuffer(message.getVersion(), out, message);
+                if (message instanceof FlowModInput) {
+                    statisticsCounters.incrementCounter(CounterEventTypes.DS_FLOW_MODS_SENT);
+                }
+                statisticsCounters.incrementCounter(CounterEventTypes.DS_ENCODE_SUCCESS);
+                encoded++;
+            } catch (RuntimeException e) {
+                LOG.warn("Message serialization failed ", e);
+                statisticsCounters.incrementCounter(CounterEventTypes.DS_ENCODE_FAIL);
+                out.writerIndex(writerIndex);
+            }
+        }
+
+        if (encoded > 0) {
+            // Track the average message size, weighting the last batch by half
+            messageSizeEstimate = (messageSizeEstimate + out.readableBytes() / encoded + 1) / 2;
+        }
+    }
+
+    public void setSerializationFactory(final SerializationFactory serializationFactory) {
+        this.serializationFactory = serializationFactory;
+    }
+}
@@ -25,8 +25,18 @@ import org.slf4j.LoggerFactory;
 public class OFDatagramPacketDecoder extends SimpleChannelInboundHandler<VersionMessageUdpWrapper> {
 
     private static final Logger LOG = LoggerFactory.getLogger(OFDatagramPacketDecoder.class);
+    private final UdpConnectionMap connectionMap;
     private DeserializationFactory deserializationFactory;
 
+    /**
+     * Constructor.
+     *
+     * @param connectionMap connections of the channel this decoder belongs to
+     */
+    public OFDatagramPacketDecoder(final UdpConnectionMap connectionMap) {
+        this.connectionMap = connectionMap;
+    }
+
     @Override
     @SuppressWarnings("checkstyle:IllegalCatch")
     public void channelRead0(final ChannelHandlerContext ctx, final VersionMessageUdpWrapper msg)
@@ -41,7 +51,7 @@ public class OFDatagramPacketDecoder extends SimpleChannelInboundHandler<Version
             if (dataObject == null) {
                 LOG.warn("Translated POJO is null");
             } else {
-                MessageConsumer consumer = UdpConnectionMap.getMessageConsumer(msg.getAddress());
+                MessageConsumer consumer = connectionMap.getMessageConsumer(msg.getAddress());
                 consumer.consume(dataObject);
             }
         } catch (RuntimeException e) {
@@ -37,6 +37,7 @@ public class OFDatagramPacketHandler extends MessageToMessageDecoder<DatagramPac
     private static final byte LENGTH_INDEX_IN_HEADER = 2;
     private final ConnectionAdapterFactory adapterFactory = new ConnectionAdapterFactoryImpl();
     private final SwitchConnectionHandler connectionHandler;
+    private final UdpConnectionMap connectionMap;
     private int channelOutboundQueueSize;
 
     /**
@@ -44,11 +45,14 @@ public class OFDatagramPacketHandler extends MessageToMessageDecoder<DatagramPac
      *
      * @param sch the switchConnectionHandler that decides what to do with incomming message / channel
      * @param channelOutboundQueueSize the queue size is made configurable
+     * @param connectionMap connections of the channel this handler belongs to
      */
 
-    public OFDatagramPacketHandler(SwitchConnectionHandler sch, int channelOutboundQueueSize) {
+    public OFDatagramPacketHandler(SwitchConnectionHandler sch, int channelOutboundQueueSize,
+            UdpConnectionMap connectionMap) {
         this.connectionHandler = sch;
         this.channelOutboundQueueSize = channelOutboundQueueSize;
+        this.connectionMap = connectionMap;
     }
 
     @Override
@@ -62,14 +66,14 @@ public class OFDatagramPacketHandler extends MessageToMessageDecoder<DatagramPac
     protected void decode(ChannelHandlerContext ctx, DatagramPacket msg,
            List<Object> out) throws Exception {
         LOG.debug("OFDatagramPacketFramer");
-        MessageConsumer consumer = UdpConnectionMap.getMessageConsumer(msg.sender());
+        MessageConsumer consumer = connectionMap.getMessageConsumer(msg.sender());
         if (consumer == null) {
             ConnectionFacade connectionFacade =
                     adapterFactory.createConnectionFacade(ctx.channel(), msg.sender(), false,
-                            channelOutboundQueueSize);
+                            channelOutboundQueueSize, null);
             connectionHandler.onSwitchConnected(connectionFacade);
             connectionFacade.checkListeners();
-            UdpConnectionMap.addConnection(msg.sender(), connectionFacade);
+            connectionMap.addConnection(msg.sender(), connectionFacade);
         }
         ByteBuf bb = msg.content();
         int readableBytes = bb.readableBytes();
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2018 OpenDaylight and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowjava.protocol.impl.core;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import java.util.ArrayList;
+import java.util.List;
+import org.opendaylight.openflowjava.protocol.api.util.EncodeConstants;
+import org.opendaylight.openflowjava.protocol.impl.core.connection.ConnectionFacade;
+import org.opendaylight.openflowjava.protocol.impl.deserialization.DeserializationFactory;
+import org.opendaylight.openflowjava.statistics.CounterEventTypes;
+import org.opendaylight.openflowjava.statistics.StatisticsCounters;
+import org.opendaylight.openflowjava.util.ByteBufUtils;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Replaces {@link OFFrameDecoder}, {@link OFVersionDetector} and {@link OFDecoder} with a single pass.
+ * All complete frames available in the cumulation buffer are split, version checked and deserialized
+ * in place, without intermediate slices or {@link VersionMessageWrapper}s. The decoded messages are passed
+ * downstream as one {@link List} per read, which {@link DelegatingInboundHandler} hands to the consumer.
+ */
+public class OFInboundDecoder extends ByteToMessageDecoder implements PacketInFilter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(OFInboundDecoder.class);
+    private static final byte LENGTH_INDEX_IN_HEADER = 2;
+    private static final byte TYPE_INDEX_IN_HEADER = 1;
+
+    private final ConnectionFacade connectionFacade;
+    private final DeserializationFactory deserializationFactory;
+    private final StatisticsCounters statisticsCounters;
+    private volatile boolean filterPacketIns;
+    private boolean firstTlsPass;
+
+    /**
+     * Constructor of class.
+     * @param connectionFacade ConnectionFacade that will be notified
+     *                         with ConnectionReadyNotification after TLS has been successfully set up.
+     * @param tlsPresent true is TLS is required, false otherwise
+     * @param deserializationFactory factory used to translate frames into POJOs
+     */
+    public OFInboundDecoder(final ConnectionFacade connectionFacade, final boolean tlsPresent,
+            final DeserializationFactory deserializationFactory) {
+        LOG.trace("Creating OFInboundDecoder");
+        this.connectionFacade = connectionFacade;
+        this.deserializationFactory = deserializationFactory;
+        firstTlsPass = tlsPresent;
+        statisticsCounters = StatisticsCounters.getInstance();
+    }
+
+    @Override
+    public void setFilterPacketIns(final boolean enabled) {
+        filterPacketIns = enabled;
+    }
+
+    @Override
+    public void exceptionCaught(final ChannelHandlerContext ctx, final Throwable cause) throws Exception {
+        if (cause instanceof io.netty.handler.ssl.NotSslRecordException) {
+            LOG.warn("Not an TLS record exception - please verify TLS configuration.");
+        } else {
+            LOG.warn("Unexpected exception from downstream.", cause);
+        }
+        LOG.warn("Closing connection.");
+        ctx.close();
+    }
+
+    @Override
+    protected void decode(final ChannelHandlerContext ctx, final ByteBuf in, final List<Object> out) {
+        if (firstTlsPass) {
+            connectionFacade.fireConnectionReadyNotification();
+            firstTlsPass = false;
+        }
+
+        List<DataObject> batch = null;
+        while (in.readableBytes() >= OFFrameDecoder.LENGTH_OF_HEADER) {
+            final int frameStart = in.readerIndex();
+            final int length = in.getUnsignedShort(frameStart + LENGTH_INDEX_IN_HEADER);
+            if (length < OFFrameDecoder.LENGTH_OF_HEADER) {
+                LOG.warn("Invalid message length {}, closing connection", length);
+                in.skipBytes(in.readableBytes());
+                ctx.close();
+                break;
+            }
+            if (in.readableBytes() < length) {
+                LOG.debug("skipping bytebuf - too few bytes for msg: {} < {}", in.readableBytes(), length);
+                break;
+            }
+
+            final DataObject message = decodeFrame(in, frameStart, length);
+            in.readerIndex(frameStart + length);
+            if (message != null) {
+                if (batch == null) {
+                    batch = new ArrayList<>();
+                }
+                batch.add(message);
+            }
+        }
+
+        if (batch != null) {
+            out.add(batch);
+        }
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private DataObject decodeFrame(final ByteBuf in, final int frameStart, final int length) {
+        final byte version = in.getByte(frameStart);
+        final short messageType = in.getUnsignedByte(frameStart + TYPE_INDEX_IN_HEADER);
+        if (messageType != EncodeConstants.OF_HELLO_MESSAGE_TYPE_VALUE
+                && version != EncodeConstants.OF13_VERSION_ID && version != EncodeConstants.OF10_VERSION_ID) {
+            LOG.warn("detected version: {} - currently not supported", version);
+            return null;
+        }
+        if (filterPacketIns && EncodeConstants.OF_PACKETIN_MESSAGE_TYPE_VALUE == messageType) {
+            LOG.debug("dropped packetin");
+            statisticsCounters.incrementCounter(CounterEventTypes.US_DROPPED_PACKET_IN);
+            return null;
+        }
+
+        statisticsCounters.incrementCounter(CounterEventTypes.US_RECEIVED_IN_OFJAVA);
+        // Deserializers expect the buffer positioned right after the version byte
+        in.readerIndex(frameStart + 1);
+        final int writerIndex = in.writerIndex();
+        in.writerIndex(frameStart + length);
+        try {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("<< {}", ByteBufUtils.byteBufToHexString(in));
+            }
+            final DataObject dataObject = deserializationFactory.deserialize(in, version);
+            if (dataObject == null) {
+                LOG.warn("Translated POJO is null");
+                statisticsCounters.incrementCounter(CounterEventTypes.US_DECODE_FAIL);
+            } else {
+                statisticsCounters.incrementCounter(CounterEventTypes.US_DECODE_SUCCESS);
+            }
+            return dataObject;
+        } catch (RuntimeException e) {
+            LOG.warn("Message deserialization failed", e);
+            statisticsCounters.incrementCounter(CounterEventTypes.US_DECODE_FAIL);
+            return null;
+        } finally {
+            in.writerIndex(writerIndex);
+        }
+    }
+}
@@ -25,7 +25,7 @@ import org.slf4j.LoggerFactory;
  *
  * @author michal.polkorab
  */
-public class OFVersionDetector extends ByteToMessageDecoder {
+public class OFVersionDetector extends ByteToMessageDecoder implements PacketInFilter {
 
     private static final Logger LOG = LoggerFactory.getLogger(OFVersionDetector.class);
     /** IDs of accepted OpenFlow protocol versions. */
@@ -41,6 +41,7 @@ public class OFVersionDetector extends ByteToMessageDecoder {
         statisticsCounters = StatisticsCounters.getInstance();
     }
 
+    @Override
     public void setFilterPacketIns(final boolean enabled) {
         filterPacketIns = enabled;
     }
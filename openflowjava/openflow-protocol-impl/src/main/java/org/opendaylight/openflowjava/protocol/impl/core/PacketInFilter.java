@@ -0,0 +1,22 @@
+/*
+ * Copyright (c) 2018 OpenDaylight and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowjava.protocol.impl.core;
+
+/**
+ * Inbound pipeline handler which is able to drop PacketIn messages before they are deserialized.
+ */
+public interface PacketInFilter {
+
+    /**
+     * Enables or disables dropping of incoming PacketIn messages.
+     *
+     * @param enabled true if PacketIn messages should be dropped
+     */
+    void setFilterPacketIns(boolean enabled);
+}
@@ -40,11 +40,22 @@ public enum PipelineHandlers {
      */
     OF_DECODER,
 
+    /**
+     * Splits frames, detects version and transforms OpenFlow Protocol byte messages into POJOs in a single
+     * handler. Used instead of {@link #OF_FRAME_DECODER}, {@link #OF_VERSION_DETECTOR} and {@link #OF_DECODER}.
+     */
+    OF_INBOUND_DECODER,
+
     /**
      * Transforms POJOs into OpenFlow Protocol byte messages.
      */
     OF_ENCODER,
 
+    /**
+     * Transforms batches of POJOs taken from the outbound queue into a single OpenFlow Protocol byte buffer.
+     */
+    OF_BATCH_ENCODER,
+
     /**
      * Delegates translated POJOs into MessageConsumer.
      */
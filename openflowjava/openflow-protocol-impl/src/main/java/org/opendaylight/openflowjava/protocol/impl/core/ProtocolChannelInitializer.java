@@ -10,6 +10,7 @@ package org.opendaylight.openflowjava.protocol.impl.core;
 
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelInitializer;
+import org.opendaylight.openflowjava.protocol.api.connection.FlushConfiguration;
 import org.opendaylight.openflowjava.protocol.api.connection.SwitchConnectionHandler;
 import org.opendaylight.openflowjava.protocol.api.connection.TlsConfiguration;
 import org.opendaylight.openflowjava.protocol.impl.deserialization.DeserializationFactory;
@@ -31,6 +32,9 @@ public abstract class ProtocolChannelInitializer<C extends Channel>
     private TlsConfiguration tlsConfiguration;
     private boolean useBarrier;
     private int channelOutboundQueueSize;
+    private FlushConfiguration flushConfiguration;
+    private boolean useFusedInboundDecoder;
+    private boolean useBatchedOutboundEncoder;
 
     /**
      * Sets the SwitchConnectionHandler.
@@ -107,4 +111,48 @@ public abstract class ProtocolChannelInitializer<C extends Channel>
     public int getChannelOutboundQueueSize()  {
         return channelOutboundQueueSize;
     }
+
+    /**
+     * Sets the outbound queue flush configuration.
+     *
+     * @param flushConfiguration the flushConfiguration, null to flush immediately
+     */
+    public void setFlushConfiguration(final FlushConfiguration flushConfiguration) {
+        this.flushConfiguration = flushConfiguration;
+    }
+
+    /**
+     * Returns the outbound queue flush configuration.
+     *
+     * @return flushConfiguration
+     */
+    public FlushConfiguration getFlushConfiguration() {
+        return flushConfiguration;
+    }
+
+    /**
+     * Sets whether inbound messages should be decoded by the single {@link OFInboundDecoder}.
+     *
+     * @param useFusedInboundDecoder true to use {@link OFInboundDecoder}
+     */
+    public void setUseFusedInboundDecoder(final boolean useFusedInboundDecoder) {
+        this.useFusedInboundDecoder = useFusedInboundDecoder;
+    }
+
+    public boolean useFusedInboundDecoder() {
+        return useFusedInboundDecoder;
+    }
+
+    /**
+     * Sets whether outbound queue flushes should be encoded into a single buffer by {@link OFBatchEncoder}.
+     *
+     * @param useBatchedOutboundEncoder true to use {@link OFBatchEncoder}
+     */
+    public void setUseBatchedOutboundEncoder(final boolean useBatchedOutboundEncoder) {
+        this.useBatchedOutboundEncoder = useBatchedOutboundEncoder;
+    }
+
+    public boolean useBatchedOutboundEncoder() {
+        return useBatchedOutboundEncoder;
+    }
 }
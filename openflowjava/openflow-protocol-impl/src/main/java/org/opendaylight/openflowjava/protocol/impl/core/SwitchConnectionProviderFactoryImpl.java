@@ -8,21 +8,28 @@
 package org.opendaylight.openflowjava.protocol.impl.core;
 
 import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.math.BigInteger;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.util.List;
+import java.util.Map;
 import org.opendaylight.openflowjava.protocol.api.connection.ConnectionConfiguration;
+import org.opendaylight.openflowjava.protocol.api.connection.FlushConfiguration;
 import org.opendaylight.openflowjava.protocol.api.connection.ThreadConfiguration;
 import org.opendaylight.openflowjava.protocol.api.connection.TlsConfiguration;
 import org.opendaylight.openflowjava.protocol.spi.connection.SwitchConnectionProvider;
 import org.opendaylight.openflowjava.protocol.spi.connection.SwitchConnectionProviderFactory;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpAddress;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.config.rev140630.FlushPolicy;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.config.rev140630.KeystoreType;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.config.rev140630.TransportProtocol;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.openflow._switch.connection.config.rev160506.SwitchConnectionConfig;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.openflow._switch.connection.config.rev160506._switch.connection.config.Flush;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.openflow._switch.connection.config.rev160506._switch.connection.config.Threads;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.openflow._switch.connection.config.rev160506._switch.connection.config.Tls;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.openflow._switch.connection.config.rev160506._switch.connection.config.threads.WorkerAffinity;
 
 /**
  * Implementation of the SwitchConnectionProviderFactory interface.
@@ -31,6 +38,9 @@ import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.openflow
  */
 public class SwitchConnectionProviderFactoryImpl implements SwitchConnectionProviderFactory {
 
+    private static final Long DEFAULT_FLUSH_MAX_DELAY = 200L;
+    private static final Integer DEFAULT_FLUSH_MAX_MESSAGES = 256;
+
     @Override
     public SwitchConnectionProvider newInstance(SwitchConnectionConfig config) {
         SwitchConnectionProviderImpl switchConnectionProviderImpl =
@@ -184,6 +194,45 @@ public class SwitchConnectionProviderFactoryImpl implements SwitchConnectionProv
                 public int getBossThreadCount() {
                     return threads.getBossThreads();
                 }
+
+                @Override
+                public Map<BigInteger, Integer> getWorkerAffinity() {
+                    final List<WorkerAffinity> affinity = threads.getWorkerAffinity();
+                    if (affinity == null) {
+                        return ImmutableMap.of();
+                    }
+
+                    final ImmutableMap.Builder<BigInteger, Integer> builder = ImmutableMap.builder();
+                    for (WorkerAffinity entry : affinity) {
+                        builder.put(entry.getDatapathId(), entry.getWorker());
+                    }
+                    return builder.build();
+                }
+            };
+        }
+
+        @Override
+        public FlushConfiguration getFlushConfiguration() {
+            final Flush flush = config.getFlush();
+            if (flush == null) {
+                return null;
+            }
+
+            return new FlushConfiguration() {
+                @Override
+                public FlushPolicy getFlushPolicy() {
+                    return MoreObjects.firstNonNull(flush.getPolicy(), FlushPolicy.IMMEDIATE);
+                }
+
+                @Override
+                public long getMaxDelay() {
+                    return MoreObjects.firstNonNull(flush.getMaxDelay(), DEFAULT_FLUSH_MAX_DELAY);
+                }
+
+                @Override
+                public int getMaxMessages() {
+                    return MoreObjects.firstNonNull(flush.getMaxMessages(), DEFAULT_FLUSH_MAX_MESSAGES);
+                }
             };
         }
 
@@ -196,5 +245,25 @@ public class SwitchConnectionProviderFactoryImpl implements SwitchConnectionProv
         public boolean isGroupAddModEnabled() {
             return config.isGroupAddModEnabled();
         }
+
+        @Override
+        public boolean isZeroCopyPacketInEnabled() {
+            return Boolean.TRUE.equals(config.isZeroCopyPacketInEnabled());
+        }
+
+        @Override
+        public boolean isFusedInboundDecoderEnabled() {
+            return Boolean.TRUE.equals(config.isFusedInboundDecoderEnabled());
+        }
+
+        @Override
+        public boolean isBatchedOutboundEncoderEnabled() {
+            return Boolean.TRUE.equals(config.isBatchedOutboundEncoderEnabled());
+        }
+
+        @Override
+        public boolean isUdpReusePortEnabled() {
+            return Boolean.TRUE.equals(config.isUdpReusePortEnabled());
+        }
     }
 }
@@ -35,8 +35,10 @@ import org.opendaylight.openflowjava.protocol.api.keys.MatchEntrySerializerKey;
 import org.opendaylight.openflowjava.protocol.api.keys.MessageCodeKey;
 import org.opendaylight.openflowjava.protocol.api.keys.MessageTypeKey;
 import org.opendaylight.openflowjava.protocol.api.keys.TypeToClassKey;
+import org.opendaylight.openflowjava.protocol.api.util.EncodeConstants;
 import org.opendaylight.openflowjava.protocol.impl.deserialization.DeserializationFactory;
 import org.opendaylight.openflowjava.protocol.impl.deserialization.DeserializerRegistryImpl;
+import org.opendaylight.openflowjava.protocol.impl.deserialization.factories.PacketInMessageFactory;
 import org.opendaylight.openflowjava.protocol.impl.serialization.SerializationFactory;
 import org.opendaylight.openflowjava.protocol.impl.serialization.SerializerRegistryImpl;
 import org.opendaylight.openflowjava.protocol.spi.connection.SwitchConnectionProvider;
@@ -44,6 +46,7 @@ import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.config.rev140630.T
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.MatchField;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.OxmClassBase;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.ErrorMessage;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.PacketInMessage;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.experimenter.core.ExperimenterDataOfChoice;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.meter.band.header.meter.band.MeterBandExperimenterCase;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.queue.property.header.QueueProperty;
@@ -62,6 +65,7 @@ public class SwitchConnectionProviderImpl implements SwitchConnectionProvider, C
 
     private static final Logger LOG = LoggerFactory
             .getLogger(SwitchConnectionProviderImpl.class);
+    private static final short PACKET_IN_MESSAGE_TYPE = 10;
     private SwitchConnectionHandler switchConnectionHandler;
     private ServerFacade serverFacade;
     private final ConnectionConfiguration connConfig;
@@ -81,6 +85,11 @@ public class SwitchConnectionProviderImpl implements SwitchConnectionProvider, C
         serializationFactory = new SerializationFactory(serializerRegistry);
         deserializerRegistry = new DeserializerRegistryImpl();
         deserializerRegistry.init();
+        if (connConfig != null && connConfig.isZeroCopyPacketInEnabled()) {
+            LOG.info("Zero-copy PacketIn payload enabled");
+            deserializerRegistry.registerDeserializer(new MessageCodeKey(EncodeConstants.OF13_VERSION_ID,
+                    PACKET_IN_MESSAGE_TYPE, PacketInMessage.class), new PacketInMessageFactory(true));
+        }
         deserializationFactory = new DeserializationFactory(deserializerRegistry);
     }
 
@@ -131,6 +140,9 @@ public class SwitchConnectionProviderImpl implements SwitchConnectionProvider, C
         factory.setDeserializationFactory(deserializationFactory);
         factory.setUseBarrier(connConfig.useBarrier());
         factory.setChannelOutboundQueueSize(connConfig.getChannelOutboundQueueSize());
+        factory.setFlushConfiguration(connConfig.getFlushConfiguration());
+        factory.setUseFusedInboundDecoder(connConfig.isFusedInboundDecoderEnabled());
+        factory.setUseBatchedOutboundEncoder(connConfig.isBatchedOutboundEncoderEnabled());
         final TransportProtocol transportProtocol = (TransportProtocol) connConfig.getTransferProtocol();
 
         // Check if Epoll native transport is available.
@@ -149,6 +161,7 @@ public class SwitchConnectionProviderImpl implements SwitchConnectionProvider, C
             connectionInitializer.run();
         } else if (TransportProtocol.UDP.equals(transportProtocol)) {
             server = new UdpHandler(connConfig.getAddress(), connConfig.getPort());
+            ((UdpHandler) server).setReusePort(connConfig.isUdpReusePortEnabled());
             ((UdpHandler) server).initiateEventLoopGroups(connConfig.getThreadConfiguration(), isEpollEnabled);
             ((UdpHandler) server).setChannelInitializer(factory.createUdpChannelInitializer());
         } else {
@@ -164,6 +177,7 @@ public class SwitchConnectionProviderImpl implements SwitchConnectionProvider, C
 
     @Override
     public void close() throws Exception {
+        deserializationFactory.close();
         shutdown();
     }
 
@@ -71,7 +71,7 @@ public class TcpChannelInitializer extends ProtocolChannelInitializer<SocketChan
         allChannels.add(ch);
         ConnectionFacade connectionFacade = null;
         connectionFacade = connectionAdapterFactory.createConnectionFacade(ch, null, useBarrier(),
-                getChannelOutboundQueueSize());
+                getChannelOutboundQueueSize(), getFlushConfiguration());
         try {
             LOG.debug("Calling OF plugin: {}", getSwitchConnectionHandler());
             getSwitchConnectionHandler().onSwitchConnected(connectionFacade);
@@ -101,15 +101,25 @@ public class TcpChannelInitializer extends ProtocolChannelInitializer<SocketChan
                 handshakeFuture.addListener(future -> finalConnectionFacade.fireConnectionReadyNotification());
                 ch.pipeline().addLast(PipelineHandlers.SSL_HANDLER.name(), ssl);
             }
-            ch.pipeline().addLast(PipelineHandlers.OF_FRAME_DECODER.name(),
-                    new OFFrameDecoder(connectionFacade, tlsPresent));
-            ch.pipeline().addLast(PipelineHandlers.OF_VERSION_DETECTOR.name(), new OFVersionDetector());
-            final OFDecoder ofDecoder = new OFDecoder();
-            ofDecoder.setDeserializationFactory(getDeserializationFactory());
-            ch.pipeline().addLast(PipelineHandlers.OF_DECODER.name(), ofDecoder);
+            if (useFusedInboundDecoder()) {
+                ch.pipeline().addLast(PipelineHandlers.OF_INBOUND_DECODER.name(),
+                        new OFInboundDecoder(connectionFacade, tlsPresent, getDeserializationFactory()));
+            } else {
+                ch.pipeline().addLast(PipelineHandlers.OF_FRAME_DECODER.name(),
+                        new OFFrameDecoder(connectionFacade, tlsPresent));
+                ch.pipeline().addLast(PipelineHandlers.OF_VERSION_DETECTOR.name(), new OFVersionDetector());
+                final OFDecoder ofDecoder = new OFDecoder();
+                ofDecoder.setDeserializationFactory(getDeserializationFactory());
+                ch.pipeline().addLast(PipelineHandlers.OF_DECODER.name(), ofDecoder);
+            }
             final OFEncoder ofEncoder = new OFEncoder();
             ofEncoder.setSerializationFactory(getSerializationFactory());
             ch.pipeline().addLast(PipelineHandlers.OF_ENCODER.name(), ofEncoder);
+            if (useBatchedOutboundEncoder()) {
+                final OFBatchEncoder ofBatchEncoder = new OFBatchEncoder();
+                ofBatchEncoder.setSerializationFactory(getSerializationFactory());
+                ch.pipeline().addLast(PipelineHandlers.OF_BATCH_ENCODER.name(), ofBatchEncoder);
+            }
             ch.pipeline().addLast(PipelineHandlers.DELEGATING_INBOUND_HANDLER.name(),
                     new DelegatingInboundHandler(connectionFacade));
             if (!tlsPresent) {
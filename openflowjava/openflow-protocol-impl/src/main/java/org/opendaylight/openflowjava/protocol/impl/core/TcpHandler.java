@@ -12,8 +12,10 @@ import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.SettableFuture;
 import io.netty.bootstrap.ServerBootstrap;
 import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelOption;
+import io.netty.channel.ChannelPromise;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.WriteBufferWaterMark;
 import io.netty.channel.epoll.EpollEventLoopGroup;
@@ -23,8 +25,11 @@ import io.netty.channel.socket.ServerSocketChannel;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.netty.handler.logging.LogLevel;
 import io.netty.handler.logging.LoggingHandler;
+import java.math.BigInteger;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
+import java.util.Collections;
+import java.util.Map;
 import org.opendaylight.openflowjava.protocol.api.connection.ThreadConfiguration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -53,6 +58,7 @@ public class TcpHandler implements ServerFacade {
     private final InetAddress startupAddress;
     private EventLoopGroup workerGroup;
     private EventLoopGroup bossGroup;
+    private EventLoopBalancer balancer;
     private final SettableFuture<Boolean> isOnlineFuture;
     private ThreadConfiguration threadConfig;
 
@@ -129,6 +135,7 @@ public class TcpHandler implements ServerFacade {
             this.port = isa.getPort();
 
             LOG.debug("address from tcphandler: {}", address);
+            balancer.registerMXBean(port);
             isOnlineFuture.set(true);
             LOG.info("Switch listener started and ready to accept incoming tcp/tls connections on port: {}", port);
             f.channel().closeFuture().sync();
@@ -145,6 +152,7 @@ public class TcpHandler implements ServerFacade {
     @Override
     public ListenableFuture<Boolean> shutdown() {
         final SettableFuture<Boolean> result = SettableFuture.create();
+        balancer.close();
         workerGroup.shutdownGracefully();
         // boss will shutdown as soon, as worker is down
         bossGroup.shutdownGracefully().addListener(downResult -> {
@@ -208,14 +216,18 @@ public class TcpHandler implements ServerFacade {
      */
     public void initiateNioEventLoopGroups(ThreadConfiguration threadConfiguration) {
         socketChannelClass = NioServerSocketChannel.class;
+        final BalancedNioEventLoopGroup balancedGroup;
         if (threadConfiguration != null) {
             bossGroup = new NioEventLoopGroup(threadConfiguration.getBossThreadCount());
-            workerGroup = new NioEventLoopGroup(threadConfiguration.getWorkerThreadCount());
+            balancedGroup = new BalancedNioEventLoopGroup(threadConfiguration.getWorkerThreadCount(),
+                    threadConfiguration.getWorkerAffinity());
         } else {
             bossGroup = new NioEventLoopGroup();
-            workerGroup = new NioEventLoopGroup();
+            balancedGroup = new BalancedNioEventLoopGroup(0, Collections.emptyMap());
         }
-        ((NioEventLoopGroup)workerGroup).setIoRatio(100);
+        balancedGroup.setIoRatio(100);
+        workerGroup = balancedGroup;
+        balancer = balancedGroup.balancer;
     }
 
     /**
@@ -227,14 +239,18 @@ public class TcpHandler implements ServerFacade {
     protected void initiateEpollEventLoopGroups(ThreadConfiguration threadConfiguration) {
         try {
             socketChannelClass = EpollServerSocketChannel.class;
+            final BalancedEpollEventLoopGroup balancedGroup;
             if (threadConfiguration != null) {
                 bossGroup = new EpollEventLoopGroup(threadConfiguration.getBossThreadCount());
-                workerGroup = new EpollEventLoopGroup(threadConfiguration.getWorkerThreadCount());
+                balancedGroup = new BalancedEpollEventLoopGroup(threadConfiguration.getWorkerThreadCount(),
+                        threadConfiguration.getWorkerAffinity());
             } else {
                 bossGroup = new EpollEventLoopGroup();
-                workerGroup = new EpollEventLoopGroup();
+                balancedGroup = new BalancedEpollEventLoopGroup(0, Collections.emptyMap());
             }
-            ((EpollEventLoopGroup)workerGroup).setIoRatio(100);
+            balancedGroup.setIoRatio(100);
+            workerGroup = balancedGroup;
+            balancer = balancedGroup.balancer;
             return;
         } catch (RuntimeException ex) {
             LOG.debug("Epoll initiation failed");
@@ -247,4 +263,52 @@ public class TcpHandler implements ServerFacade {
     public EventLoopGroup getWorkerGroup() {
         return workerGroup;
     }
+
+    public EventLoopBalancer getEventLoopBalancer() {
+        return balancer;
+    }
+
+    /**
+     * NIO worker group registering channels with the event loop selected by {@link EventLoopBalancer}.
+     */
+    private static final class BalancedNioEventLoopGroup extends NioEventLoopGroup {
+        private final EventLoopBalancer balancer;
+
+        BalancedNioEventLoopGroup(final int threadCount, final Map<BigInteger, Integer> affinity) {
+            super(threadCount);
+            balancer = new EventLoopBalancer(this, affinity);
+        }
+
+        @Override
+        public ChannelFuture register(final Channel channel) {
+            return balancer.select(channel).register(channel);
+        }
+
+        @Override
+        public ChannelFuture register(final ChannelPromise promise) {
+            return balancer.select(promise.channel()).register(promise);
+        }
+    }
+
+    /**
+     * Epoll worker group registering channels with the event loop selected by {@link EventLoopBalancer}.
+     */
+    private static final class BalancedEpollEventLoopGroup extends EpollEventLoopGroup {
+        private final EventLoopBalancer balancer;
+
+        BalancedEpollEventLoopGroup(final int threadCount, final Map<BigInteger, Integer> affinity) {
+            super(threadCount);
+            balancer = new EventLoopBalancer(this, affinity);
+        }
+
+        @Override
+        public ChannelFuture register(final Channel channel) {
+            return balancer.select(channel).register(channel);
+        }
+
+        @Override
+        public ChannelFuture register(final ChannelPromise promise) {
+            return balancer.select(promise.channel()).register(promise);
+        }
+    }
 }
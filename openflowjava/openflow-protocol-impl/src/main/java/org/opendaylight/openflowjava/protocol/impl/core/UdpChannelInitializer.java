@@ -19,9 +19,11 @@ public class UdpChannelInitializer extends ProtocolChannelInitializer<DatagramCh
 
     @Override
     protected void initChannel(DatagramChannel ch) throws Exception {
+        final UdpConnectionMap connectionMap = new UdpConnectionMap();
         ch.pipeline().addLast(PipelineHandlers.OF_DATAGRAMPACKET_HANDLER.name(),
-                new OFDatagramPacketHandler(getSwitchConnectionHandler(), getChannelOutboundQueueSize()));
-        OFDatagramPacketDecoder ofDatagramPacketDecoder = new OFDatagramPacketDecoder();
+                new OFDatagramPacketHandler(getSwitchConnectionHandler(), getChannelOutboundQueueSize(),
+                        connectionMap));
+        OFDatagramPacketDecoder ofDatagramPacketDecoder = new OFDatagramPacketDecoder(connectionMap);
         ofDatagramPacketDecoder.setDeserializationFactory(getDeserializationFactory());
         ch.pipeline().addLast(PipelineHandlers.OF_DATAGRAMPACKET_DECODER.name(),
                 ofDatagramPacketDecoder);
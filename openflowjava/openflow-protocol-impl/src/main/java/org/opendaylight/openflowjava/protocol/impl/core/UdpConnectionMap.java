@@ -14,18 +14,16 @@ import java.util.concurrent.ConcurrentHashMap;
 import org.opendaylight.openflowjava.protocol.impl.core.connection.MessageConsumer;
 
 /**
- * As UDP communication is handled only by one channel, it is needed
- * to store MessageConsumers, so that we know which consumer handles which channel.
+ * As UDP communication of many switches is handled by one channel, it is needed
+ * to store MessageConsumers, so that we know which consumer handles which switch.
+ * Each datagram channel owns its map, as a switch is always served by the same
+ * channel, even when several channels share the port.
 
  * @author michal.polkorab
  */
 public final class UdpConnectionMap {
 
-    private static Map<InetSocketAddress, MessageConsumer> connectionMap = new ConcurrentHashMap<>();
-
-    private UdpConnectionMap() {
-        throw new UnsupportedOperationException("Utility class shouldn't be instantiated");
-    }
+    private final Map<InetSocketAddress, MessageConsumer> connectionMap = new ConcurrentHashMap<>();
 
     /**
      * Gets the MessageConsumer for the given address.
@@ -33,7 +31,7 @@ public final class UdpConnectionMap {
      * @param address sender's address
      * @return corresponding MessageConsumer
      */
-    public static MessageConsumer getMessageConsumer(InetSocketAddress address) {
+    public MessageConsumer getMessageConsumer(InetSocketAddress address) {
         if (address == null) {
             throw new IllegalArgumentException("Address can not be null");
         }
@@ -46,7 +44,7 @@ public final class UdpConnectionMap {
      * @param address sender's address
      * @param consumer MessageConsumer to be added / paired with specified address
      */
-    public static void addConnection(InetSocketAddress address, MessageConsumer consumer) {
+    public void addConnection(InetSocketAddress address, MessageConsumer consumer) {
         if (address == null) {
             throw new IllegalArgumentException("Address can not be null");
         }
@@ -58,7 +56,7 @@ public final class UdpConnectionMap {
      *
      * @param address sender's address
      */
-    public static void removeConnection(InetSocketAddress address) {
+    public void removeConnection(InetSocketAddress address) {
         if (address == null) {
             throw new IllegalArgumentException("Address can not be null");
         }
@@ -11,9 +11,10 @@ package org.opendaylight.openflowjava.protocol.impl.core;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.SettableFuture;
 import io.netty.bootstrap.Bootstrap;
-import io.netty.channel.ChannelFuture;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.EpollChannelOption;
 import io.netty.channel.epoll.EpollDatagramChannel;
 import io.netty.channel.epoll.EpollEventLoopGroup;
 import io.netty.channel.nio.NioEventLoopGroup;
@@ -21,6 +22,8 @@ import io.netty.channel.socket.DatagramChannel;
 import io.netty.channel.socket.nio.NioDatagramChannel;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
 import org.opendaylight.openflowjava.protocol.api.connection.ThreadConfiguration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -41,6 +44,7 @@ public final class UdpHandler implements ServerFacade {
     private UdpChannelInitializer channelInitializer;
     private ThreadConfiguration threadConfig;
     private Class<? extends DatagramChannel> datagramChannelClass;
+    private boolean reusePort;
 
     /**
      * Constructor of UdpHandler that listens on selected port.
@@ -64,33 +68,42 @@ public final class UdpHandler implements ServerFacade {
 
     @Override
     public void run() {
-        final ChannelFuture f;
+        final int channelCount = getChannelCount();
+        final List<Channel> channels = new ArrayList<>(channelCount);
         try {
             Bootstrap bootstrap = new Bootstrap();
             bootstrap.group(group).channel(datagramChannelClass).option(ChannelOption.SO_BROADCAST, false)
                 .handler(channelInitializer);
+            if (channelCount > 1) {
+                bootstrap.option(EpollChannelOption.SO_REUSEPORT, true);
+            }
 
-            if (startupAddress != null) {
-                f = bootstrap.bind(startupAddress.getHostAddress(), port).sync();
-            } else {
-                f = bootstrap.bind(port).sync();
+            // Bind the first channel alone, as the port may have been specified as 0
+            final Channel first = bind(bootstrap, port);
+            channels.add(first);
+            this.port = ((InetSocketAddress) first.localAddress()).getPort();
+
+            // Every channel is registered with the next event loop of the group, so each worker serves one channel
+            for (int i = 1; i < channelCount; i++) {
+                channels.add(bind(bootstrap, port));
             }
         } catch (InterruptedException e) {
             LOG.error("Interrupted while binding port {}", port, e);
+            channels.forEach(Channel::close);
             return;
         }
 
         try {
-            InetSocketAddress isa = (InetSocketAddress) f.channel().localAddress();
+            InetSocketAddress isa = (InetSocketAddress) channels.get(0).localAddress();
             String address = isa.getHostString();
 
-            // Update port, as it may have been specified as 0
-            this.port = isa.getPort();
-
             LOG.debug("Address from udpHandler: {}", address);
             isOnlineFuture.set(true);
-            LOG.info("Switch listener started and ready to accept incoming udp connections on port: {}", port);
-            f.channel().closeFuture().sync();
+            LOG.info("Switch listener started and ready to accept incoming udp connections on port: {} ({} channels)",
+                    port, channelCount);
+            for (Channel channel : channels) {
+                channel.closeFuture().sync();
+            }
         } catch (InterruptedException e) {
             LOG.error("Interrupted while waiting for port {} shutdown", port, e);
         } finally {
@@ -98,6 +111,26 @@ public final class UdpHandler implements ServerFacade {
         }
     }
 
+    private Channel bind(final Bootstrap bootstrap, final int bindPort) throws InterruptedException {
+        if (startupAddress != null) {
+            return bootstrap.bind(startupAddress.getHostAddress(), bindPort).sync().channel();
+        }
+        return bootstrap.bind(bindPort).sync().channel();
+    }
+
+    /**
+     * Returns the number of channels bound to the port. Channels share the port only with SO_REUSEPORT
+     * on the Epoll native transport, otherwise a single channel is used.
+     *
+     * @return number of channels
+     */
+    public int getChannelCount() {
+        if (reusePort && group instanceof EpollEventLoopGroup) {
+            return Math.max(1, ((EpollEventLoopGroup) group).executorCount());
+        }
+        return 1;
+    }
+
     @Override
     public ListenableFuture<Boolean> shutdown() {
         final SettableFuture<Boolean> result = SettableFuture.create();
@@ -123,6 +156,15 @@ public final class UdpHandler implements ServerFacade {
         this.channelInitializer = channelInitializer;
     }
 
+    /**
+     * Enables binding one channel per worker thread on the same port.
+     *
+     * @param reusePort true to share the port using SO_REUSEPORT
+     */
+    public void setReusePort(final boolean reusePort) {
+        this.reusePort = reusePort;
+    }
+
     @Override
     public void setThreadConfig(ThreadConfiguration threadConfig) {
         this.threadConfig = threadConfig;
@@ -10,10 +10,6 @@ package org.opendaylight.openflowjava.protocol.impl.core.connection;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.RemovalCause;
-import com.google.common.cache.RemovalListener;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.SettableFuture;
 import io.netty.channel.Channel;
@@ -71,20 +67,13 @@ abstract class AbstractConnectionAdapter implements ConnectionAdapter {
 
     private static final Exception QUEUE_FULL_EXCEPTION = new RejectedExecutionException("Output queue is full");
 
-    protected static final RemovalListener<RpcResponseKey, ResponseExpectedRpcListener<?>> REMOVAL_LISTENER =
-        notification -> {
-            if (!notification.getCause().equals(RemovalCause.EXPLICIT)) {
-                notification.getValue().discard();
-            }
-        };
-
     protected final Channel channel;
     protected final InetSocketAddress address;
     protected boolean disconnectOccured = false;
     protected final ChannelOutboundQueue output;
 
-    /** expiring cache for future rpcResponses. */
-    protected Cache<RpcResponseKey, ResponseExpectedRpcListener<?>> responseCache;
+    /** expiring table of future rpcResponses. */
+    protected ResponseTable responseTable;
 
 
     AbstractConnectionAdapter(@Nonnull final Channel channel, @Nullable final InetSocketAddress address,
@@ -92,8 +81,7 @@ abstract class AbstractConnectionAdapter implements ConnectionAdapter {
         this.channel = Preconditions.checkNotNull(channel);
         this.address = address;
 
-        responseCache = CacheBuilder.newBuilder().concurrencyLevel(1)
-                .expireAfterWrite(RPC_RESPONSE_EXPIRATION, TimeUnit.MINUTES).removalListener(REMOVAL_LISTENER).build();
+        responseTable = new ResponseTable(channel.eventLoop(), RPC_RESPONSE_EXPIRATION, TimeUnit.MINUTES);
         LOG.info("The channel outbound queue size:{}", channelOutboundQueueSize);
         this.output = new ChannelOutboundQueue(channel, channelOutboundQueueSize, address);
         channel.pipeline().addLast(output);
@@ -102,7 +90,7 @@ abstract class AbstractConnectionAdapter implements ConnectionAdapter {
     @Override
     public Future<Boolean> disconnect() {
         final ChannelFuture disconnectResult = channel.disconnect();
-        responseCache.invalidateAll();
+        responseTable.clear();
         disconnectOccured = true;
 
         return handleTransportChannelFuture(disconnectResult);
@@ -114,7 +102,7 @@ abstract class AbstractConnectionAdapter implements ConnectionAdapter {
     }
 
     @Override
-    public Future<RpcResult<EchoOutput>> echo(final EchoInput input) {
+    public ListenableFuture<RpcResult<EchoOutput>> echo(final EchoInput input) {
         return sendToSwitchExpectRpcResultFuture(input, EchoOutput.class, "echo-input sending failed");
     }
 
@@ -228,18 +216,18 @@ abstract class AbstractConnectionAdapter implements ConnectionAdapter {
     /**
      * Used only for testing purposes.
      *
-     * @param cache replacement
+     * @param table replacement
      */
     @VisibleForTesting
-    void setResponseCache(final Cache<RpcResponseKey, ResponseExpectedRpcListener<?>> cache) {
-        this.responseCache = cache;
+    void setResponseTable(final ResponseTable table) {
+        this.responseTable = table;
     }
 
     /**
-     * Return cached RpcListener or {@code null} if not cached.
+     * Remove and return the RpcListener waiting for a response or {@code null} if there is none.
      */
-    protected ResponseExpectedRpcListener<?> findRpcResponse(final RpcResponseKey key) {
-        return responseCache.getIfPresent(key);
+    protected ResponseExpectedRpcListener<?> takeRpcResponse(final long xid, final String outputClazz) {
+        return responseTable.remove(xid, outputClazz);
     }
 
     /**
@@ -251,12 +239,12 @@ abstract class AbstractConnectionAdapter implements ConnectionAdapter {
      * @return future object,
      *         <ul>
      *         <li>if send fails, {@link RpcResult} will contain errors and failed status</li>
-     *         <li>else {@link RpcResult} will be stored in responseCache and wait for particular timeout (
+     *         <li>else {@link RpcResult} will be stored in responseTable and wait for particular timeout (
      *         {@link ConnectionAdapterImpl#RPC_RESPONSE_EXPIRATION}),
      *         <ul>
      *         <li>either switch will manage to answer and then corresponding response message will be set into returned
      *         future</li>
-     *         <li>or response in cache will expire and returned future will be cancelled</li>
+     *         <li>or response in table will expire and returned future will be cancelled</li>
      *         </ul>
      *         </li>
      *         </ul>
@@ -264,9 +252,8 @@ abstract class AbstractConnectionAdapter implements ConnectionAdapter {
     protected <I extends OfHeader, O extends OfHeader> ListenableFuture<RpcResult<O>>
             sendToSwitchExpectRpcResultFuture(final I input, final Class<O> responseClazz,
                     final String failureInfo) {
-        final RpcResponseKey key = new RpcResponseKey(input.getXid(), responseClazz.getName());
         final ResponseExpectedRpcListener<O> listener = new ResponseExpectedRpcListener<>(input, failureInfo,
-                responseCache, key);
+                responseTable, input.getXid(), responseClazz.getName());
         return enqueueMessage(listener);
     }
 
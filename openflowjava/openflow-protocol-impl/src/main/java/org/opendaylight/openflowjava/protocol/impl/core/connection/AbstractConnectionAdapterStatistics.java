@@ -8,12 +8,19 @@
 
 package org.opendaylight.openflowjava.protocol.impl.core.connection;
 
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import io.netty.channel.Channel;
+import java.math.BigInteger;
 import java.net.InetSocketAddress;
 import java.util.concurrent.Future;
+import org.opendaylight.openflowjava.statistics.ConnectionStatistics;
 import org.opendaylight.openflowjava.statistics.CounterEventTypes;
 import org.opendaylight.openflowjava.statistics.StatisticsCounters;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.EchoInput;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.EchoOutput;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.FlowModInput;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.OfHeader;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.system.rev130927.DisconnectEvent;
@@ -29,40 +36,78 @@ import org.opendaylight.yangtools.yang.common.RpcResult;
 abstract class AbstractConnectionAdapterStatistics extends AbstractConnectionAdapter implements MessageConsumer {
 
     private final StatisticsCounters statisticsCounters;
+    private final ConnectionStatistics connectionStatistics;
 
     AbstractConnectionAdapterStatistics(final Channel channel, final InetSocketAddress address,
                                         final int channelOutboundQueueSize) {
         super(channel, address, channelOutboundQueueSize);
         statisticsCounters = StatisticsCounters.getInstance();
+        connectionStatistics = statisticsCounters.registerConnection(
+                address != null ? address : channel.remoteAddress());
     }
 
     @Override
     public Future<RpcResult<Void>> flowMod(final FlowModInput input) {
-        statisticsCounters.incrementCounter(CounterEventTypes.DS_FLOW_MODS_ENTERED);
+        statisticsCounters.incrementCounter(CounterEventTypes.DS_FLOW_MODS_ENTERED, connectionStatistics);
         return super.flowMod(input);
     }
 
+    @Override
+    public ListenableFuture<RpcResult<EchoOutput>> echo(final EchoInput input) {
+        final long sentNanos = System.nanoTime();
+        final ListenableFuture<RpcResult<EchoOutput>> result = super.echo(input);
+        Futures.addCallback(result, new FutureCallback<RpcResult<EchoOutput>>() {
+            @Override
+            public void onSuccess(final RpcResult<EchoOutput> echoResult) {
+                if (echoResult.isSuccessful()) {
+                    connectionStatistics.recordEchoRtt(System.nanoTime() - sentNanos);
+                }
+            }
+
+            @Override
+            public void onFailure(final Throwable throwable) {
+                // Nothing to measure
+            }
+        }, MoreExecutors.directExecutor());
+        return result;
+    }
+
     @Override
     protected <I extends OfHeader, O extends OfHeader> ListenableFuture<RpcResult<O>> sendToSwitchExpectRpcResultFuture(
             final I input, final Class<O> responseClazz, final String failureInfo) {
-        statisticsCounters.incrementCounter(CounterEventTypes.DS_ENTERED_OFJAVA);
+        statisticsCounters.incrementCounter(CounterEventTypes.DS_ENTERED_OFJAVA, connectionStatistics);
         return super.sendToSwitchExpectRpcResultFuture(input, responseClazz, failureInfo);
     }
 
     @Override
     protected ListenableFuture<RpcResult<Void>> sendToSwitchFuture(final DataObject input, final String failureInfo) {
-        statisticsCounters.incrementCounter(CounterEventTypes.DS_ENTERED_OFJAVA);
+        statisticsCounters.incrementCounter(CounterEventTypes.DS_ENTERED_OFJAVA, connectionStatistics);
         return super.sendToSwitchFuture(input, failureInfo);
     }
 
+    @Override
+    public Future<Boolean> disconnect() {
+        statisticsCounters.unregisterConnection(connectionStatistics);
+        return super.disconnect();
+    }
+
+    @Override
+    public void setDatapathId(final BigInteger datapathId) {
+        connectionStatistics.setDatapathId(datapathId);
+    }
+
     @Override
     public void consume(final DataObject message) {
         if (Notification.class.isInstance(message)) {
-            if (!(DisconnectEvent.class.isInstance(message) || SwitchIdleEvent.class.isInstance(message))) {
-                statisticsCounters.incrementCounter(CounterEventTypes.US_MESSAGE_PASS);
+            if (DisconnectEvent.class.isInstance(message)) {
+                statisticsCounters.unregisterConnection(connectionStatistics);
+            } else if (SwitchIdleEvent.class.isInstance(message)) {
+                connectionStatistics.recordIdle();
+            } else {
+                statisticsCounters.incrementCounter(CounterEventTypes.US_MESSAGE_PASS, connectionStatistics);
             }
         } else if (OfHeader.class.isInstance(message)) {
-            statisticsCounters.incrementCounter(CounterEventTypes.US_MESSAGE_PASS);
+            statisticsCounters.incrementCounter(CounterEventTypes.US_MESSAGE_PASS, connectionStatistics);
         }
         consumeDeviceMessage(message);
     }
@@ -13,11 +13,13 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.GenericFutureListener;
+import io.netty.util.concurrent.ScheduledFuture;
 import java.net.InetSocketAddress;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import javax.annotation.Nonnull;
 import org.opendaylight.openflowjava.protocol.api.connection.OutboundQueueHandler;
+import org.opendaylight.openflowjava.protocol.impl.core.PipelineHandlers;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.EchoReplyInput;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.EchoReplyInputBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.EchoRequestMessage;
@@ -65,7 +67,15 @@ abstract class AbstractOutboundQueueManager<T extends OutboundQueueHandler, O ex
      */
     private static final int DEFAULT_HIGH_WATERMARK = DEFAULT_LOW_WATERMARK * 2;
 
+    /**
+     * Maximum number of messages encoded into a single buffer. Keeps the size of a single write
+     * well below the write watermarks, so that channel writability is still honored during a flush.
+     */
+    private static final int MAX_BATCH_SIZE = 256;
+
     private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final AtomicBoolean expediteScheduled = new AtomicBoolean();
+    private final FlushStrategy flushStrategy;
     protected final ConnectionAdapterImpl parent;
     protected final InetSocketAddress address;
     protected final O currentQueue;
@@ -73,18 +83,28 @@ abstract class AbstractOutboundQueueManager<T extends OutboundQueueHandler, O ex
 
     // Accessed concurrently
     private volatile PipelineState state = PipelineState.IDLE;
+    // Set while the scheduled flush waits for a delay
+    private volatile boolean flushDelayed;
+    // Last flush scheduled with a delay, it is canceled when expedited
+    private volatile ScheduledFuture<?> delayedFlush;
 
     // Updated from netty only
     private boolean alreadyReading;
     protected boolean shuttingDown;
+    private boolean batchingEnabled;
+    private OutboundMessageBatch batch;
 
     // Passed to executor to request triggering of flush
     protected final Runnable flushRunnable = () -> flush();
 
+    // Passed to executor to flush ahead of a delayed flush
+    private final Runnable expediteRunnable = () -> expedite();
+
     AbstractOutboundQueueManager(final ConnectionAdapterImpl parent, final InetSocketAddress address, final T handler) {
         this.parent = Preconditions.checkNotNull(parent);
         this.handler = Preconditions.checkNotNull(handler);
         this.address = address;
+        flushStrategy = FlushStrategy.create(parent.getFlushConfiguration());
         /* Note: don't wish to use reflection here */
         currentQueue = initializeStackedOutboudnqueue();
         LOG.debug("Queue manager instantiated with queue {}", currentQueue);
@@ -106,7 +126,8 @@ abstract class AbstractOutboundQueueManager<T extends OutboundQueueHandler, O ex
 
     @Override
     public String toString() {
-        return String.format("Channel %s queue [flushing=%s]", parent.getChannel(), flushScheduled.get());
+        return String.format("Channel %s queue [flushing=%s, strategy=%s]", parent.getChannel(), flushScheduled.get(),
+                flushStrategy);
     }
 
     @Override
@@ -120,6 +141,10 @@ abstract class AbstractOutboundQueueManager<T extends OutboundQueueHandler, O ex
         ctx.channel().config().setWriteBufferHighWaterMark(DEFAULT_HIGH_WATERMARK);
         ctx.channel().config().setWriteBufferLowWaterMark(DEFAULT_LOW_WATERMARK);
 
+        // Messages are encoded in batches only if the pipeline is able to handle them
+        batchingEnabled = address == null && ctx.pipeline().get(PipelineHandlers.OF_BATCH_ENCODER.name()) != null;
+        LOG.debug("Channel {} batched encoding {}abled", ctx.channel(), batchingEnabled ? "en" : "dis");
+
         super.handlerAdded(ctx);
     }
 
@@ -148,6 +173,7 @@ abstract class AbstractOutboundQueueManager<T extends OutboundQueueHandler, O ex
     @Override
     public void channelWritabilityChanged(final ChannelHandlerContext ctx) throws Exception {
         super.channelWritabilityChanged(ctx);
+        handler.onWritabilityChanged(ctx.channel().isWritable());
 
         // The channel is writable again. There may be a flush task on the way, but let's
         // steal its work, potentially decreasing latency. Since there is a window between
@@ -208,6 +234,8 @@ abstract class AbstractOutboundQueueManager<T extends OutboundQueueHandler, O ex
     }
 
     void ensureFlushing() {
+        final long delayNanos = flushStrategy.onCommit();
+
         // If the channel is not writable, there's no point in waking up,
         // once we become writable, we will run a full flush
         if (!parent.getChannel().isWritable()) {
@@ -227,7 +255,7 @@ abstract class AbstractOutboundQueueManager<T extends OutboundQueueHandler, O ex
             case IDLE:
             default:
                 // We cannot rely on the change being flushed, schedule a request
-                scheduleFlush();
+                scheduleFlush(delayNanos);
         }
     }
 
@@ -248,10 +276,31 @@ abstract class AbstractOutboundQueueManager<T extends OutboundQueueHandler, O ex
      * selected by communication pipeline.
      */
     void writeMessage(final OfHeader message, final long now) {
+        if (batchingEnabled) {
+            if (batch == null) {
+                batch = new OutboundMessageBatch(MAX_BATCH_SIZE);
+            }
+            batch.add(message);
+            if (batch.size() >= MAX_BATCH_SIZE) {
+                writeBatch();
+            }
+            return;
+        }
+
         final Object wrapper = makeMessageListenerWrapper(message);
         parent.getChannel().write(wrapper);
     }
 
+    /**
+     * Writes out messages collected by {@link #writeMessage(OfHeader, long)} since the last call.
+     */
+    private void writeBatch() {
+        if (batch != null) {
+            parent.getChannel().write(batch, parent.getChannel().voidPromise());
+            batch = null;
+        }
+    }
+
     /**
      * Wraps outgoing message and includes listener attached to this message
      * which is send to OFEncoder for serialization. Correct wrapper is
@@ -278,6 +327,8 @@ abstract class AbstractOutboundQueueManager<T extends OutboundQueueHandler, O ex
      * syntetic accessors for private fields. Otherwise it could be moved into {@link #flushRunnable}.
      */
     protected void flush() {
+        flushDelayed = false;
+
         // If the channel is gone, just flush whatever is not completed
         if (!shuttingDown) {
             LOG.trace("Dequeuing messages to channel {}", parent.getChannel());
@@ -295,20 +346,56 @@ abstract class AbstractOutboundQueueManager<T extends OutboundQueueHandler, O ex
     }
 
     private void scheduleFlush() {
+        scheduleFlush(0);
+    }
+
+    private void scheduleFlush(final long delayNanos) {
         if (flushScheduled.compareAndSet(false, true)) {
-            LOG.trace("Scheduling flush task on channel {}", parent.getChannel());
-            parent.getChannel().eventLoop().execute(flushRunnable);
+            if (delayNanos > 0 && !shuttingDown) {
+                LOG.trace("Scheduling flush task on channel {} in {}ns", parent.getChannel(), delayNanos);
+                flushDelayed = true;
+                delayedFlush = parent.getChannel().eventLoop().schedule(flushRunnable, delayNanos,
+                        TimeUnit.NANOSECONDS);
+            } else {
+                LOG.trace("Scheduling flush task on channel {}", parent.getChannel());
+                parent.getChannel().eventLoop().execute(flushRunnable);
+            }
+        } else if (delayNanos == 0 && flushDelayed && expediteScheduled.compareAndSet(false, true)) {
+            // The scheduled flush is waiting, but enough messages have accumulated already. Flush them from
+            // the event loop, which also cancels the delayed flush.
+            LOG.trace("Expediting delayed flush on channel {}", parent.getChannel());
+            parent.getChannel().eventLoop().execute(expediteRunnable);
         } else {
             LOG.trace("Flush task is already present on channel {}", parent.getChannel());
         }
     }
 
+    private void expedite() {
+        expediteScheduled.set(false);
+        if (shuttingDown) {
+            return;
+        }
+
+        final ScheduledFuture<?> delayed = delayedFlush;
+        if (flushDelayed && delayed != null && delayed.cancel(false)) {
+            // The delayed flush will not run, take over its duties
+            LOG.trace("Canceled delayed flush on channel {}", parent.getChannel());
+            delayedFlush = null;
+            flush();
+        } else {
+            // The delayed flush is already running or not yet published, steal its work
+            writeAndFlush();
+        }
+    }
+
     private void writeAndFlush() {
         state = PipelineState.WRITING;
 
         final long start = System.nanoTime();
 
         final int entries = currentQueue.writeEntries(parent.getChannel(), start);
+        writeBatch();
+        flushStrategy.onFlushed(entries);
         if (entries > 0) {
             LOG.trace("Flushing channel {}", parent.getChannel());
             parent.getChannel().flush();
@@ -346,7 +433,7 @@ abstract class AbstractOutboundQueueManager<T extends OutboundQueueHandler, O ex
     private void conditionalFlush() {
         if (currentQueue.needsFlush()) {
             if (shuttingDown || parent.getChannel().isWritable()) {
-                scheduleFlush();
+                scheduleFlush(flushStrategy.flushDelay());
             } else {
                 LOG.debug("Channel {} is not I/O ready, not scheduling a flush", parent.getChannel());
             }
@@ -35,7 +35,7 @@ abstract class AbstractStackedOutboundQueue implements OutboundQueue {
     @GuardedBy("unflushedSegments")
     protected final List<StackedSegment> unflushedSegments = new ArrayList<>(2);
     @GuardedBy("unflushedSegments")
-    protected final List<StackedSegment> uncompletedSegments = new ArrayList<>(2);
+    protected final SegmentRing uncompletedSegments = new SegmentRing();
 
     private volatile long lastXid = -1;
     private volatile long allocatedXid = -1;
@@ -43,6 +43,10 @@ abstract class AbstractStackedOutboundQueue implements OutboundQueue {
     @GuardedBy("unflushedSegments")
     protected Integer shutdownOffset;
 
+    // Size of newly allocated segments, adjusted to the number of requests in flight
+    @GuardedBy("unflushedSegments")
+    private int segmentSize = StackedSegment.MIN_SEGMENT_SIZE;
+
     // Accessed from Netty only
     protected int flushOffset;
 
@@ -50,7 +54,7 @@ abstract class AbstractStackedOutboundQueue implements OutboundQueue {
 
     AbstractStackedOutboundQueue(final AbstractOutboundQueueManager<?, ?> manager) {
         this.manager = Preconditions.checkNotNull(manager);
-        firstSegment = StackedSegment.create(0L);
+        firstSegment = StackedSegment.create(0L, segmentSize);
         uncompletedSegments.add(firstSegment);
         unflushedSegments.add(firstSegment);
     }
@@ -62,18 +66,46 @@ abstract class AbstractStackedOutboundQueue implements OutboundQueue {
 
     @GuardedBy("unflushedSegments")
     protected void ensureSegment(final StackedSegment first, final int offset) {
-        final int segmentOffset = offset / StackedSegment.SEGMENT_SIZE;
-        LOG.debug("Queue {} slow offset {} maps to {} segments {}", this, offset, segmentOffset,
+        final long xid = first.getBaseXid() + offset;
+        LOG.debug("Queue {} slow offset {} maps to XID {} segments {}", this, offset, xid,
                 unflushedSegments.size());
 
-        for (int i = unflushedSegments.size(); i <= segmentOffset; ++i) {
-            final StackedSegment newSegment = StackedSegment.create(first.getBaseXid()
-                    + StackedSegment.SEGMENT_SIZE * (long)i);
-            LOG.debug("Adding segment {}", newSegment);
-            unflushedSegments.add(newSegment);
+        StackedSegment last = unflushedSegments.get(unflushedSegments.size() - 1);
+        while (xid >= last.getEndXid()) {
+            last = StackedSegment.create(last.getEndXid(), segmentSize);
+            LOG.debug("Adding segment {}", last);
+            unflushedSegments.add(last);
         }
 
-        allocatedXid = unflushedSegments.get(unflushedSegments.size() - 1).getEndXid();
+        allocatedXid = last.getEndXid();
+    }
+
+    /**
+     * Adjusts the size of segments allocated from now on to the number of requests in flight, so that busy
+     * connections do not cross segment boundaries too often, while idle ones do not hold on to large segments.
+     * The size grows right away and shrinks gradually. Guaranteed to run in the corresponding EventLoop.
+     *
+     * @param current segment currently being flushed
+     */
+    @GuardedBy("unflushedSegments")
+    protected void adjustSegmentSize(final StackedSegment current) {
+        final StackedSegment oldest = uncompletedSegments.first();
+        final long inFlight = lastXid - (oldest != null ? oldest : current).getBaseXid() + 1;
+
+        final int newSize;
+        if (inFlight > segmentSize) {
+            newSize = (int) Math.min(Long.highestOneBit(inFlight - 1) << 1, StackedSegment.MAX_SEGMENT_SIZE);
+        } else if (inFlight < segmentSize / 4) {
+            newSize = Math.max(segmentSize / 2, StackedSegment.MIN_SEGMENT_SIZE);
+        } else {
+            return;
+        }
+
+        if (newSize != segmentSize) {
+            LOG.debug("Queue {} changing segment size from {} to {} with {} requests in flight", this, segmentSize,
+                    newSize, inFlight);
+            segmentSize = newSize;
+        }
     }
 
     /*
@@ -84,7 +116,7 @@ abstract class AbstractStackedOutboundQueue implements OutboundQueue {
         final long xid = LAST_XID_OFFSET_UPDATER.incrementAndGet(this);
         final StackedSegment fastSegment = firstSegment;
 
-        if (xid >= fastSegment.getBaseXid() + StackedSegment.SEGMENT_SIZE) {
+        if (xid >= fastSegment.getEndXid()) {
             if (xid >= allocatedXid) {
                 // Multiple segments, this a slow path
                 LOG.debug("Queue {} falling back to slow reservation for XID {}", this, xid);
@@ -149,7 +181,7 @@ abstract class AbstractStackedOutboundQueue implements OutboundQueue {
                 entry.complete(null);
             }
 
-            if (flushOffset >= StackedSegment.SEGMENT_SIZE) {
+            if (flushOffset >= segment.size()) {
                 /*
                  * Slow path: purge the current segment unless it's the last one.
                  * If it is, we leave it for replacement when a new reservation
@@ -162,12 +194,12 @@ abstract class AbstractStackedOutboundQueue implements OutboundQueue {
                     LOG.debug("Flush offset {} unflushed segments {}", flushOffset, unflushedSegments.size());
 
                     // We may have raced ahead of reservation code and need to allocate a segment
+                    adjustSegmentSize(segment);
                     ensureSegment(segment, flushOffset);
 
                     // Remove the segment, update the firstSegment and reset flushOffset
                     final StackedSegment oldSegment = unflushedSegments.remove(0);
-                    if (oldSegment.isComplete()) {
-                        uncompletedSegments.remove(oldSegment);
+                    if (oldSegment.isComplete() && uncompletedSegments.remove(oldSegment)) {
                         oldSegment.recycle();
                     }
 
@@ -177,7 +209,7 @@ abstract class AbstractStackedOutboundQueue implements OutboundQueue {
 
                     // Update the shutdown offset
                     if (shutdownOffset != null) {
-                        shutdownOffset -= StackedSegment.SEGMENT_SIZE;
+                        shutdownOffset -= oldSegment.size();
                     }
 
                     // Allow reservations back on the fast path by publishing the new first segment
@@ -193,49 +225,46 @@ abstract class AbstractStackedOutboundQueue implements OutboundQueue {
     }
 
     boolean pairRequest(final OfHeader message) {
-        Iterator<StackedSegment> it = uncompletedSegments.iterator();
-        while (it.hasNext()) {
-            final StackedSegment queue = it.next();
-            final OutboundQueueEntry entry = queue.pairRequest(message);
-            if (entry == null) {
-                continue;
-            }
+        // Explicitly 'long' to force unboxing before performing operations
+        final long xid = message.getXid();
+        final StackedSegment queue = uncompletedSegments.find(xid);
+        final OutboundQueueEntry entry = queue == null ? null : queue.pairRequest(message);
+        if (entry == null) {
+            LOG.debug("Failed to find completion for message {}", message);
+            return false;
+        }
 
-            LOG.trace("Queue {} accepted response {}", queue, message);
-
-            // This has been a barrier request, we need to flush all
-            // previous queues
-            if (entry.isBarrier() && uncompletedSegments.size() > 1) {
-                LOG.trace("Queue {} indicated request was a barrier", queue);
-
-                it = uncompletedSegments.iterator();
-                while (it.hasNext()) {
-                    final StackedSegment q = it.next();
-
-                    // We want to complete all queues before the current one, we will
-                    // complete the current queue below
-                    if (!queue.equals(q)) {
-                        LOG.trace("Queue {} is implied finished", q);
-                        q.completeAll();
-                        it.remove();
-                        q.recycle();
-                    } else {
-                        break;
-                    }
+        LOG.trace("Queue {} accepted response {}", queue, message);
+
+        // This has been a barrier request, we need to flush all
+        // previous queues
+        if (entry.isBarrier() && uncompletedSegments.size() > 1) {
+            LOG.trace("Queue {} indicated request was a barrier", queue);
+
+            final Iterator<StackedSegment> it = uncompletedSegments.iterator();
+            while (it.hasNext()) {
+                final StackedSegment q = it.next();
+
+                // We want to complete all queues before the current one, we will
+                // complete the current queue below
+                if (!queue.equals(q)) {
+                    LOG.trace("Queue {} is implied finished", q);
+                    q.completeAll();
+                    it.remove();
+                    q.recycle();
+                } else {
+                    break;
                 }
             }
+        }
 
-            if (queue.isComplete()) {
-                LOG.trace("Queue {} is finished", queue);
-                it.remove();
-                queue.recycle();
-            }
-
-            return true;
+        if (queue.isComplete()) {
+            LOG.trace("Queue {} is finished", queue);
+            uncompletedSegments.remove(queue);
+            queue.recycle();
         }
 
-        LOG.debug("Failed to find completion for message {}", message);
-        return false;
+        return true;
     }
 
     boolean needsFlush() {
@@ -265,8 +294,8 @@ abstract class AbstractStackedOutboundQueue implements OutboundQueue {
             // Increment the offset by the segment size, preventing fast path allocations,
             // since we are holding the slow path lock, any reservations will see the queue
             // in shutdown and fail accordingly.
-            final long xid = LAST_XID_OFFSET_UPDATER.addAndGet(this, StackedSegment.SEGMENT_SIZE);
-            shutdownOffset = (int) (xid - firstSegment.getBaseXid() - StackedSegment.SEGMENT_SIZE);
+            final long xid = LAST_XID_OFFSET_UPDATER.addAndGet(this, StackedSegment.MAX_SEGMENT_SIZE);
+            shutdownOffset = (int) (xid - firstSegment.getBaseXid() - StackedSegment.MAX_SEGMENT_SIZE);
 
             // Fails all uncompleted entries, because they will never be completed due to disconnected channel.
             return lockedFailSegments(uncompletedSegments.iterator());
@@ -306,10 +335,10 @@ abstract class AbstractStackedOutboundQueue implements OutboundQueue {
         Verify.verify(calcOffset <= Integer.MAX_VALUE);
         final int fastOffset = (int) calcOffset;
 
-        if (fastOffset >= StackedSegment.SEGMENT_SIZE) {
+        if (fastOffset >= fastSegment.size()) {
             LOG.debug("Queue {} falling back to slow commit of XID {} at offset {}", this, xid, fastOffset);
 
-            final StackedSegment segment;
+            StackedSegment segment = null;
             final int slowOffset;
             synchronized (unflushedSegments) {
                 final StackedSegment slowSegment = firstSegment;
@@ -318,10 +347,17 @@ abstract class AbstractStackedOutboundQueue implements OutboundQueue {
                 slowOffset = (int) slowCalcOffset;
 
                 LOG.debug("Queue {} recalculated offset of XID {} to {}", this, xid, slowOffset);
-                segment = unflushedSegments.get(slowOffset / StackedSegment.SEGMENT_SIZE);
+                for (final StackedSegment unflushed : unflushedSegments) {
+                    if (xid < unflushed.getEndXid()) {
+                        segment = unflushed;
+                        break;
+                    }
+                }
             }
 
-            final int segOffset = slowOffset % StackedSegment.SEGMENT_SIZE;
+            Preconditions.checkArgument(segment != null, "Commit of XID %s does not match up with reserved XIDs",
+                    xid);
+            final int segOffset = (int) (xid - segment.getBaseXid());
             LOG.debug("Queue {} slow commit of XID {} completed at offset {} (segment {} offset {})", this,
                     xid, slowOffset, segment, segOffset);
             return segment.getEntry(segOffset);
@@ -11,6 +11,7 @@ package org.opendaylight.openflowjava.protocol.impl.core.connection;
 
 import io.netty.channel.Channel;
 import java.net.InetSocketAddress;
+import org.opendaylight.openflowjava.protocol.api.connection.FlushConfiguration;
 
 /**
  * Factory for creating ConnectionFacade instances.
@@ -27,9 +28,10 @@ public interface ConnectionAdapterFactory {
      * @param address {@link InetSocketAddress}
      * @param useBarrier true to use a barrier, false otherwise
      * @param channelOutboundQueueSize configurable queue size
+     * @param flushConfig outbound queue flush configuration, null to flush immediately
      * @return connection adapter tcp-implementation
      */
     ConnectionFacade createConnectionFacade(Channel ch, InetSocketAddress address, boolean useBarrier,
-                                            int channelOutboundQueueSize);
+                                            int channelOutboundQueueSize, FlushConfiguration flushConfig);
 
 }
@@ -11,6 +11,7 @@ package org.opendaylight.openflowjava.protocol.impl.core.connection;
 
 import io.netty.channel.Channel;
 import java.net.InetSocketAddress;
+import org.opendaylight.openflowjava.protocol.api.connection.FlushConfiguration;
 
 /**
  * Implementation of ConnectionAdapterFactory.
@@ -22,7 +23,8 @@ public class ConnectionAdapterFactoryImpl implements ConnectionAdapterFactory {
 
     @Override
     public ConnectionFacade createConnectionFacade(final Channel ch, final InetSocketAddress address,
-                                                   final boolean useBarrier, final int channelOutboundQueueSize) {
-        return new ConnectionAdapterImpl(ch, address, useBarrier, channelOutboundQueueSize);
+                                                   final boolean useBarrier, final int channelOutboundQueueSize,
+                                                   final FlushConfiguration flushConfig) {
+        return new ConnectionAdapterImpl(ch, address, useBarrier, channelOutboundQueueSize, flushConfig);
     }
 }
@@ -11,12 +11,17 @@ package org.opendaylight.openflowjava.protocol.impl.core.connection;
 
 import com.google.common.base.Preconditions;
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandler;
+import io.netty.util.ReferenceCountUtil;
+import java.math.BigInteger;
 import java.net.InetSocketAddress;
 import org.opendaylight.openflowjava.protocol.api.connection.ConnectionReadyListener;
+import org.opendaylight.openflowjava.protocol.api.connection.FlushConfiguration;
 import org.opendaylight.openflowjava.protocol.api.connection.OutboundQueueHandler;
 import org.opendaylight.openflowjava.protocol.api.connection.OutboundQueueHandlerRegistration;
 import org.opendaylight.openflowjava.protocol.api.extensibility.AlienMessageListener;
-import org.opendaylight.openflowjava.protocol.impl.core.OFVersionDetector;
+import org.opendaylight.openflowjava.protocol.impl.core.EventLoopBalancer;
+import org.opendaylight.openflowjava.protocol.impl.core.PacketInFilter;
 import org.opendaylight.openflowjava.protocol.impl.core.PipelineHandlers;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.EchoOutput;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.EchoRequestMessage;
@@ -51,9 +56,10 @@ public class ConnectionAdapterImpl extends AbstractConnectionAdapterStatistics i
     private SystemNotificationsListener systemListener;
     private AlienMessageListener alienMessageListener;
     private AbstractOutboundQueueManager<?, ?> outputManager;
-    private OFVersionDetector versionDetector;
+    private PacketInFilter packetInFilter;
 
     private final boolean useBarrier;
+    private final FlushConfiguration flushConfig;
 
     /**
      * Default constructor.
@@ -64,8 +70,22 @@ public class ConnectionAdapterImpl extends AbstractConnectionAdapterStatistics i
      */
     public ConnectionAdapterImpl(final Channel channel, final InetSocketAddress address, final boolean useBarrier,
                                  final int channelOutboundQueueSize) {
+        this(channel, address, useBarrier, channelOutboundQueueSize, null);
+    }
+
+    /**
+     * Creates an adapter which flushes its outbound queue according to the specified configuration.
+     * @param channel the channel to be set - used for communication
+     * @param address client address (used only in case of UDP communication,
+     *                as there is no need to store address over tcp (stable channel))
+     * @param useBarrier value is configurable by configSubsytem
+     * @param flushConfig outbound queue flush configuration, null to flush immediately
+     */
+    public ConnectionAdapterImpl(final Channel channel, final InetSocketAddress address, final boolean useBarrier,
+                                 final int channelOutboundQueueSize, final FlushConfiguration flushConfig) {
         super(channel, address, channelOutboundQueueSize);
         this.useBarrier = useBarrier;
+        this.flushConfig = flushConfig;
         LOG.debug("ConnectionAdapter created");
     }
 
@@ -93,6 +113,7 @@ public class ConnectionAdapterImpl extends AbstractConnectionAdapterStatistics i
     public void consumeDeviceMessage(final DataObject message) {
         LOG.debug("ConsumeIntern msg on {}", channel);
         if (disconnectOccured) {
+            ReferenceCountUtil.release(message);
             return;
         }
         if (message instanceof Notification) {
@@ -100,7 +121,7 @@ public class ConnectionAdapterImpl extends AbstractConnectionAdapterStatistics i
             // System events
             if (message instanceof DisconnectEvent) {
                 systemListener.onDisconnectEvent((DisconnectEvent) message);
-                responseCache.invalidateAll();
+                responseTable.clear();
                 disconnectOccured = true;
             } else if (message instanceof SwitchIdleEvent) {
                 systemListener.onSwitchIdleEvent((SwitchIdleEvent) message);
@@ -145,13 +166,12 @@ public class ConnectionAdapterImpl extends AbstractConnectionAdapterStatistics i
                 LOG.debug("Alien message {} received", message.getImplementedInterface());
             } else if (outputManager == null || !outputManager.onMessage((OfHeader) message)
                     || message instanceof EchoOutput) {
-                final RpcResponseKey key = createRpcResponseKey((OfHeader) message);
-                final ResponseExpectedRpcListener<?> listener = findRpcResponse(key);
+                final ResponseExpectedRpcListener<?> listener = takeRpcResponse(((OfHeader) message).getXid(),
+                        message.getImplementedInterface().getName());
                 if (listener != null) {
                     LOG.debug("Corresponding rpcFuture found");
                     listener.completed((OfHeader) message);
                     LOG.debug("After setting rpcFuture");
-                    responseCache.invalidate(key);
                 }
             }
         } else {
@@ -159,10 +179,6 @@ public class ConnectionAdapterImpl extends AbstractConnectionAdapterStatistics i
         }
     }
 
-    private static RpcResponseKey createRpcResponseKey(final OfHeader message) {
-        return new RpcResponseKey(message.getXid(), message.getImplementedInterface().getName());
-    }
-
     @Override
     public void checkListeners() {
         final StringBuilder buffer =  new StringBuilder();
@@ -181,8 +197,12 @@ public class ConnectionAdapterImpl extends AbstractConnectionAdapterStatistics i
 
     @Override
     public void fireConnectionReadyNotification() {
-        versionDetector = (OFVersionDetector) channel.pipeline().get(PipelineHandlers.OF_VERSION_DETECTOR.name());
-        Preconditions.checkState(versionDetector != null);
+        ChannelHandler filter = channel.pipeline().get(PipelineHandlers.OF_VERSION_DETECTOR.name());
+        if (filter == null) {
+            filter = channel.pipeline().get(PipelineHandlers.OF_INBOUND_DECODER.name());
+        }
+        Preconditions.checkState(filter != null);
+        packetInFilter = (PacketInFilter) filter;
 
         new Thread(() -> connectionReadyListener.onConnectionReady()).start();
     }
@@ -223,9 +243,19 @@ public class ConnectionAdapterImpl extends AbstractConnectionAdapterStatistics i
         return channel;
     }
 
+    @Override
+    public void setDatapathId(final BigInteger datapathId) {
+        super.setDatapathId(datapathId);
+        channel.attr(EventLoopBalancer.DATAPATH_ID).set(datapathId);
+    }
+
+    FlushConfiguration getFlushConfiguration() {
+        return flushConfig;
+    }
+
     @Override
     public void setPacketInFiltering(final boolean enabled) {
-        versionDetector.setFilterPacketIns(enabled);
+        packetInFilter.setFilterPacketIns(enabled);
         LOG.debug("PacketIn filtering {}abled", enabled ? "en" : "dis");
     }
 }
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2018 OpenDaylight and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowjava.protocol.impl.core.connection;
+
+import com.google.common.base.Preconditions;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nullable;
+import org.opendaylight.openflowjava.protocol.api.connection.FlushConfiguration;
+
+/**
+ * Decides how long committed outbound messages may wait before the queue is flushed to the channel. Delaying
+ * a flush lets more messages share a single write and syscall, at the cost of latency of the first of them.
+ * Commits are reported from any thread, flushes are reported from the channel's event loop.
+ */
+abstract class FlushStrategy {
+
+    /**
+     * Flushes every commit as soon as possible.
+     */
+    static final FlushStrategy IMMEDIATE = new FlushStrategy() {
+        @Override
+        long onCommit() {
+            return 0;
+        }
+
+        @Override
+        long flushDelay() {
+            return 0;
+        }
+
+        @Override
+        void onFlushed(final int messages) {
+            // Nothing to track
+        }
+
+        @Override
+        public String toString() {
+            return "IMMEDIATE";
+        }
+    };
+
+    /**
+     * Creates the strategy described by a configuration.
+     *
+     * @param config flush configuration, null to flush immediately
+     * @return flush strategy
+     */
+    static FlushStrategy create(@Nullable final FlushConfiguration config) {
+        if (config == null || config.getFlushPolicy() == null || config.getMaxDelay() == 0) {
+            return IMMEDIATE;
+        }
+
+        final long maxDelayNanos = TimeUnit.MICROSECONDS.toNanos(config.getMaxDelay());
+        switch (config.getFlushPolicy()) {
+            case COALESCING:
+                return new Coalescing(maxDelayNanos, config.getMaxMessages());
+            case ADAPTIVE:
+                return new Adaptive(maxDelayNanos, config.getMaxMessages());
+            case IMMEDIATE:
+            default:
+                return IMMEDIATE;
+        }
+    }
+
+    /**
+     * Records a committed message.
+     *
+     * @return delay of the flush which picks up the message in nanoseconds, 0 to flush immediately
+     */
+    abstract long onCommit();
+
+    /**
+     * Returns the delay of a flush picking up messages already committed.
+     *
+     * @return delay in nanoseconds, 0 to flush immediately
+     */
+    abstract long flushDelay();
+
+    /**
+     * Records a completed flush.
+     *
+     * @param messages number of messages written by the flush
+     */
+    abstract void onFlushed(int messages);
+
+    /**
+     * Waits for a fixed delay unless enough messages are committed.
+     */
+    private static class Coalescing extends FlushStrategy {
+        private final AtomicInteger pending = new AtomicInteger();
+        private final long maxDelayNanos;
+        private final int maxMessages;
+
+        Coalescing(final long maxDelayNanos, final int maxMessages) {
+            Preconditions.checkArgument(maxDelayNanos > 0);
+            Preconditions.checkArgument(maxMessages > 0);
+            this.maxDelayNanos = maxDelayNanos;
+            this.maxMessages = maxMessages;
+        }
+
+        @Override
+        long onCommit() {
+            return delayFor(pending.incrementAndGet());
+        }
+
+        @Override
+        long flushDelay() {
+            return delayFor(pending.get());
+        }
+
+        @Override
+        void onFlushed(final int messages) {
+            pending.set(0);
+        }
+
+        long delayFor(final int pendingMessages) {
+            return pendingMessages >= maxMessages ? 0 : currentDelay();
+        }
+
+        long currentDelay() {
+            return maxDelayNanos;
+        }
+
+        final long getMaxDelayNanos() {
+            return maxDelayNanos;
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + "{maxDelay=" + maxDelayNanos + "ns, maxMessages=" + maxMessages
+                    + ", pending=" + pending.get() + "}";
+        }
+    }
+
+    /**
+     * Follows the backlog: the delay grows while flushes find more than one message waiting and shrinks back
+     * to zero while they find a single message, so that sporadic messages are not delayed at all.
+     */
+    private static final class Adaptive extends Coalescing {
+        /**
+         * Smallest non-zero delay, anything shorter is not worth a timer.
+         */
+        private static final long MIN_DELAY_NANOS = TimeUnit.MICROSECONDS.toNanos(10);
+
+        private volatile long delayNanos;
+
+        Adaptive(final long maxDelayNanos, final int maxMessages) {
+            super(maxDelayNanos, maxMessages);
+        }
+
+        @Override
+        long currentDelay() {
+            return delayNanos;
+        }
+
+        @Override
+        void onFlushed(final int messages) {
+            super.onFlushed(messages);
+            if (messages > 1) {
+                delayNanos = Math.min(Math.max(delayNanos << 1, MIN_DELAY_NANOS), getMaxDelayNanos());
+            } else if (messages == 1) {
+                final long halved = delayNanos >> 1;
+                delayNanos = halved < MIN_DELAY_NANOS ? 0 : halved;
+            }
+        }
+    }
+}
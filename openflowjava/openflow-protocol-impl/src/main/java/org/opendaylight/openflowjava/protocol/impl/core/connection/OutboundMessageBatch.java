@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2018 OpenDaylight and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowjava.protocol.impl.core.connection;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.OfHeader;
+
+/**
+ * Messages taken from the outbound queue during a single flush. The whole batch is written to the channel
+ * as one object and serialized by {@link org.opendaylight.openflowjava.protocol.impl.core.OFBatchEncoder}
+ * into a single buffer.
+ */
+public final class OutboundMessageBatch {
+
+    private final List<OfHeader> messages;
+
+    public OutboundMessageBatch(final int expectedSize) {
+        messages = new ArrayList<>(expectedSize);
+    }
+
+    /**
+     * Appends a message to the batch.
+     *
+     * @param message outgoing message
+     */
+    public void add(final OfHeader message) {
+        messages.add(message);
+    }
+
+    /**
+     * Returns the number of messages in the batch.
+     *
+     * @return number of messages
+     */
+    public int size() {
+        return messages.size();
+    }
+
+    /**
+     * Returns the batched messages in the order they were taken from the queue.
+     *
+     * @return outgoing messages
+     */
+    public List<OfHeader> getMessages() {
+        return messages;
+    }
+}
@@ -8,7 +8,6 @@
 package org.opendaylight.openflowjava.protocol.impl.core.connection;
 
 import com.google.common.base.Preconditions;
-import com.google.common.cache.Cache;
 import java.util.concurrent.TimeoutException;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.OfHeader;
 import org.slf4j.Logger;
@@ -16,18 +15,20 @@ import org.slf4j.LoggerFactory;
 
 final class ResponseExpectedRpcListener<T extends OfHeader> extends AbstractRpcListener<T> {
     private static final Logger LOG = LoggerFactory.getLogger(ResponseExpectedRpcListener.class);
-    private final Cache<RpcResponseKey, ResponseExpectedRpcListener<?>> cache;
-    private final RpcResponseKey key;
+    private final ResponseTable table;
+    private final long xid;
+    private final String outputClazz;
 
-    ResponseExpectedRpcListener(final Object message, final String failureInfo,
-            final Cache<RpcResponseKey, ResponseExpectedRpcListener<?>> cache, final RpcResponseKey key) {
+    ResponseExpectedRpcListener(final Object message, final String failureInfo, final ResponseTable table,
+            final long xid, final String outputClazz) {
         super(message, failureInfo);
-        this.cache = Preconditions.checkNotNull(cache);
-        this.key = Preconditions.checkNotNull(key);
+        this.table = Preconditions.checkNotNull(table);
+        this.xid = xid;
+        this.outputClazz = Preconditions.checkNotNull(outputClazz);
     }
 
     public void discard() {
-        LOG.warn("Request for {} did not receive a response", key);
+        LOG.warn("Request for {} with xid {} did not receive a response", outputClazz, xid);
         failedRpc(new TimeoutException("Request timed out"));
     }
 
@@ -38,7 +39,7 @@ final class ResponseExpectedRpcListener<T extends OfHeader> extends AbstractRpcL
 
     @Override
     protected void operationSuccessful() {
-        LOG.debug("Request for {} sent successfully", key);
-        cache.put(key, this);
+        LOG.debug("Request for {} with xid {} sent successfully", outputClazz, xid);
+        table.put(xid, outputClazz, this);
     }
 }
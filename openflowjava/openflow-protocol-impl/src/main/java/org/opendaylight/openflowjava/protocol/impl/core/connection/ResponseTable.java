@@ -0,0 +1,269 @@
+/*
+ * Copyright (c) 2018 OpenDaylight and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowjava.protocol.impl.core.connection;
+
+import com.google.common.base.Preconditions;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Listeners waiting for a response from the switch, keyed by XID and response type. Entries live in an
+ * open-addressing table with linear probing over primitive arrays, so neither a lookup nor an insertion
+ * allocates. Entries which do not receive a response within the expiration time are discarded by a sweep,
+ * which runs on the supplied executor every {@link #SWEEP_INTERVAL_NANOS} while the table is not empty.
+ * All operations are expected to come from the channel's event loop, hence the lock is uncontended.
+ */
+final class ResponseTable {
+
+    /**
+     * Granularity of expiration. An entry is discarded between the expiration time and the expiration time
+     * plus this interval after it has been inserted.
+     */
+    static final long SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    private static final Logger LOG = LoggerFactory.getLogger(ResponseTable.class);
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final ScheduledExecutorService executor;
+    private final long expirationNanos;
+
+    @GuardedBy("this")
+    private long[] xids = new long[INITIAL_CAPACITY];
+    @GuardedBy("this")
+    private String[] outputClazzes = new String[INITIAL_CAPACITY];
+    @GuardedBy("this")
+    private ResponseExpectedRpcListener<?>[] listeners = new ResponseExpectedRpcListener<?>[INITIAL_CAPACITY];
+    @GuardedBy("this")
+    private long[] deadlines = new long[INITIAL_CAPACITY];
+    @GuardedBy("this")
+    private int size;
+    @GuardedBy("this")
+    private ScheduledFuture<?> sweep;
+
+    /**
+     * Creates a new table.
+     *
+     * @param executor executor running the expiration sweep, or null if expiration is driven by the caller
+     * @param expiration time after which an entry without response is discarded
+     * @param unit unit of the expiration time
+     */
+    ResponseTable(@Nullable final ScheduledExecutorService executor, final long expiration, final TimeUnit unit) {
+        Preconditions.checkArgument(expiration > 0);
+        this.executor = executor;
+        this.expirationNanos = unit.toNanos(expiration);
+    }
+
+    /**
+     * Inserts a listener. A listener already registered under the same key is replaced and discarded.
+     *
+     * @param xid XID of the request
+     * @param outputClazz name of the expected response type
+     * @param listener listener to complete once the response arrives
+     */
+    void put(final long xid, final String outputClazz, final ResponseExpectedRpcListener<?> listener) {
+        Preconditions.checkNotNull(outputClazz);
+        Preconditions.checkNotNull(listener);
+
+        final ResponseExpectedRpcListener<?> replaced;
+        synchronized (this) {
+            if ((size + 1) * 4 > listeners.length * 3) {
+                resize(listeners.length << 1);
+            }
+
+            final int index = indexOf(xid, outputClazz);
+            if (listeners[index] == null) {
+                xids[index] = xid;
+                outputClazzes[index] = outputClazz;
+                size++;
+            }
+            replaced = listeners[index];
+            listeners[index] = listener;
+            deadlines[index] = System.nanoTime() + expirationNanos;
+
+            if (sweep == null && executor != null) {
+                sweep = executor.schedule(this::sweep, SWEEP_INTERVAL_NANOS, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        if (replaced != null) {
+            replaced.discard();
+        }
+    }
+
+    /**
+     * Removes the listener registered for a response.
+     *
+     * @param xid XID of the response
+     * @param outputClazz name of the response type
+     * @return removed listener, or null if there was none
+     */
+    synchronized ResponseExpectedRpcListener<?> remove(final long xid, final String outputClazz) {
+        final int index = indexOf(xid, outputClazz);
+        final ResponseExpectedRpcListener<?> listener = listeners[index];
+        if (listener != null) {
+            removeAt(index);
+        }
+        return listener;
+    }
+
+    /**
+     * Returns the listener registered for a response without removing it.
+     *
+     * @param xid XID of the response
+     * @param outputClazz name of the response type
+     * @return registered listener, or null if there is none
+     */
+    synchronized ResponseExpectedRpcListener<?> get(final long xid, final String outputClazz) {
+        return listeners[indexOf(xid, outputClazz)];
+    }
+
+    /**
+     * Removes all listeners without notifying them.
+     */
+    synchronized void clear() {
+        for (int i = 0; i < listeners.length; ++i) {
+            outputClazzes[i] = null;
+            listeners[i] = null;
+        }
+        size = 0;
+        cancelSweep();
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Discards all listeners whose expiration time has passed.
+     *
+     * @param now current {@link System#nanoTime()}
+     */
+    void expire(final long now) {
+        final List<ResponseExpectedRpcListener<?>> expired = new ArrayList<>();
+        synchronized (this) {
+            int index = 0;
+            while (index < listeners.length) {
+                // Removal may shift a following entry into this slot, in which case the slot is checked again
+                if (listeners[index] != null && deadlines[index] - now <= 0) {
+                    expired.add(listeners[index]);
+                    if (removeAt(index)) {
+                        continue;
+                    }
+                }
+                index++;
+            }
+        }
+
+        if (!expired.isEmpty()) {
+            LOG.debug("Discarding {} expired requests", expired.size());
+            expired.forEach(ResponseExpectedRpcListener::discard);
+        }
+    }
+
+    private void sweep() {
+        synchronized (this) {
+            sweep = null;
+        }
+        expire(System.nanoTime());
+        synchronized (this) {
+            // An insertion might have scheduled the next sweep already
+            if (size != 0 && sweep == null) {
+                sweep = executor.schedule(this::sweep, SWEEP_INTERVAL_NANOS, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    @GuardedBy("this")
+    private void cancelSweep() {
+        if (sweep != null) {
+            sweep.cancel(false);
+            sweep = null;
+        }
+    }
+
+    private static int hash(final long xid) {
+        final long mixed = xid * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ mixed >>> 32);
+    }
+
+    /**
+     * Returns the slot holding the key, or the empty slot terminating its probe sequence.
+     */
+    @GuardedBy("this")
+    private int indexOf(final long xid, final String outputClazz) {
+        final int mask = listeners.length - 1;
+        int index = hash(xid) & mask;
+        while (listeners[index] != null && (xids[index] != xid || !outputClazzes[index].equals(outputClazz))) {
+            index = index + 1 & mask;
+        }
+        return index;
+    }
+
+    /**
+     * Empties a slot and moves following entries of the probe sequence back, so that no tombstones are needed.
+     *
+     * @return true if an entry has been moved into the emptied slot
+     */
+    @GuardedBy("this")
+    private boolean removeAt(final int index) {
+        final int mask = listeners.length - 1;
+        boolean filled = false;
+        int hole = index;
+        int next = index + 1 & mask;
+        while (listeners[next] != null) {
+            final int home = hash(xids[next]) & mask;
+            // Move the entry if the hole lies cyclically between its home slot and its current slot
+            if ((next - home & mask) >= (next - hole & mask)) {
+                xids[hole] = xids[next];
+                outputClazzes[hole] = outputClazzes[next];
+                listeners[hole] = listeners[next];
+                deadlines[hole] = deadlines[next];
+                filled |= hole == index;
+                hole = next;
+            }
+            next = next + 1 & mask;
+        }
+
+        outputClazzes[hole] = null;
+        listeners[hole] = null;
+        size--;
+        if (size == 0) {
+            cancelSweep();
+        }
+        return filled;
+    }
+
+    @GuardedBy("this")
+    private void resize(final int capacity) {
+        final long[] oldXids = xids;
+        final String[] oldOutputClazzes = outputClazzes;
+        final ResponseExpectedRpcListener<?>[] oldListeners = listeners;
+        final long[] oldDeadlines = deadlines;
+
+        xids = new long[capacity];
+        outputClazzes = new String[capacity];
+        listeners = new ResponseExpectedRpcListener<?>[capacity];
+        deadlines = new long[capacity];
+        for (int i = 0; i < oldListeners.length; ++i) {
+            if (oldListeners[i] != null) {
+                final int index = indexOf(oldXids[i], oldOutputClazzes[i]);
+                xids[index] = oldXids[i];
+                outputClazzes[index] = oldOutputClazzes[i];
+                listeners[index] = oldListeners[i];
+                deadlines[index] = oldDeadlines[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2018 OpenDaylight and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowjava.protocol.impl.core.connection;
+
+import com.google.common.base.Preconditions;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded pool of {@link OutboundQueueEntry} arrays backing {@link StackedSegment}s, shared by all connections.
+ * Arrays are kept per power-of-two size class between {@link StackedSegment#MIN_SEGMENT_SIZE} and
+ * {@link StackedSegment#MAX_SEGMENT_SIZE}. Once the pool retains the configured number of entries, released
+ * arrays are left to the garbage collector.
+ */
+public final class SegmentPool implements SegmentPoolMXBean {
+
+    /**
+     * Default limit of pooled entries, which is 64 segments of the maximum size.
+     */
+    static final long DEFAULT_MAX_RETAINED_ENTRIES = 64L * StackedSegment.MAX_SEGMENT_SIZE;
+
+    /**
+     * Approximate footprint of a pooled entry including its array slot, assuming compressed oops.
+     */
+    static final int ENTRY_FOOTPRINT = 40;
+
+    private static final Logger LOG = LoggerFactory.getLogger(SegmentPool.class);
+    private static final int MIN_SIZE_SHIFT = Integer.numberOfTrailingZeros(StackedSegment.MIN_SEGMENT_SIZE);
+    private static final SegmentPool INSTANCE = new SegmentPool(DEFAULT_MAX_RETAINED_ENTRIES);
+
+    private final ConcurrentLinkedDeque<OutboundQueueEntry[]>[] freeArrays;
+    private final AtomicLong retainedEntries = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder discards = new LongAdder();
+    private final long maxRetainedEntries;
+
+    @SuppressWarnings("unchecked")
+    SegmentPool(final long maxRetainedEntries) {
+        Preconditions.checkArgument(maxRetainedEntries >= 0);
+        this.maxRetainedEntries = maxRetainedEntries;
+        freeArrays = new ConcurrentLinkedDeque[sizeClass(StackedSegment.MAX_SEGMENT_SIZE) + 1];
+        for (int i = 0; i < freeArrays.length; ++i) {
+            freeArrays[i] = new ConcurrentLinkedDeque<>();
+        }
+    }
+
+    /**
+     * Returns the pool shared by all connections.
+     *
+     * @return global segment pool
+     */
+    public static SegmentPool getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Takes an array of the specified size from the pool, or allocates a new one.
+     *
+     * @param size segment size, a power of two between minimum and maximum segment size
+     * @return array of reset entries
+     */
+    OutboundQueueEntry[] acquire(final int size) {
+        final OutboundQueueEntry[] cached = freeArrays[sizeClass(size)].pollLast();
+        if (cached != null) {
+            retainedEntries.addAndGet(-size);
+            hits.increment();
+            LOG.trace("Reusing array {} of size {}", cached, size);
+            return cached;
+        }
+
+        misses.increment();
+        final OutboundQueueEntry[] entries = new OutboundQueueEntry[size];
+        for (int i = 0; i < size; ++i) {
+            entries[i] = new OutboundQueueEntry();
+        }
+        LOG.trace("Allocated new array of size {}", size);
+        return entries;
+    }
+
+    /**
+     * Returns an array to the pool. The entries are expected to be reset already.
+     *
+     * @param entries array previously obtained from {@link #acquire(int)}
+     */
+    void release(final OutboundQueueEntry[] entries) {
+        if (retainedEntries.addAndGet(entries.length) > maxRetainedEntries) {
+            retainedEntries.addAndGet(-entries.length);
+            discards.increment();
+            LOG.trace("Pool is full, discarding array {}", entries);
+            return;
+        }
+
+        freeArrays[sizeClass(entries.length)].offerLast(entries);
+    }
+
+    /**
+     * Returns the number of arrays served from the pool.
+     *
+     * @return number of pool hits
+     */
+    @Override
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of arrays which had to be allocated, because the pool had none of the requested size.
+     *
+     * @return number of pool misses
+     */
+    @Override
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of released arrays dropped because the pool was full.
+     *
+     * @return number of discarded arrays
+     */
+    @Override
+    public long getDiscards() {
+        return discards.sum();
+    }
+
+    /**
+     * Returns the number of entries currently held by the pool.
+     *
+     * @return number of retained entries
+     */
+    @Override
+    public long getRetainedEntries() {
+        return retainedEntries.get();
+    }
+
+    /**
+     * Returns an estimate of the heap retained by the pool.
+     *
+     * @return approximate retained bytes
+     */
+    @Override
+    public long getRetainedBytes() {
+        return getRetainedEntries() * ENTRY_FOOTPRINT;
+    }
+
+    private static int sizeClass(final int size) {
+        Preconditions.checkArgument(Integer.bitCount(size) == 1 && size >= StackedSegment.MIN_SEGMENT_SIZE
+                && size <= StackedSegment.MAX_SEGMENT_SIZE, "Unsupported segment size %s", size);
+        return Integer.numberOfTrailingZeros(size) - MIN_SIZE_SHIFT;
+    }
+}
@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) 2018 OpenDaylight and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowjava.protocol.impl.core.connection;
+
+/**
+ * JMX view of the {@link SegmentPool} shared by all connections.
+ */
+public interface SegmentPoolMXBean {
+
+    long getHits();
+
+    long getMisses();
+
+    long getDiscards();
+
+    long getRetainedEntries();
+
+    long getRetainedBytes();
+}
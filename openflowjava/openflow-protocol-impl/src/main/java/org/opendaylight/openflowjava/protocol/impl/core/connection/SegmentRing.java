@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2018 OpenDaylight and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowjava.protocol.impl.core.connection;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Verify;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Ordered set of {@link StackedSegment}s indexed by XID. The ring is made of slots covering
+ * {@link StackedSegment#MIN_SEGMENT_SIZE} XIDs each, addressed by {@code (xid - base) / MIN_SEGMENT_SIZE}
+ * from the oldest segment, and a segment occupies all slots it covers. The segment owning a particular XID
+ * is therefore found in constant time regardless of how many segments are outstanding. Segments removed out
+ * of order leave holes, which are skipped by iteration and reclaimed once the oldest segment goes away.
+ */
+@NotThreadSafe
+final class SegmentRing implements Iterable<StackedSegment> {
+    private static final int INITIAL_CAPACITY = StackedSegment.MAX_SEGMENT_SIZE / StackedSegment.MIN_SEGMENT_SIZE;
+
+    private StackedSegment[] slots = new StackedSegment[INITIAL_CAPACITY];
+    // Slot of the oldest segment
+    private int head;
+    // Number of slots from the oldest to the end of the newest segment, including holes
+    private int span;
+    private int size;
+
+    /**
+     * Appends a segment. Segments have to be added in ascending XID order.
+     *
+     * @param segment segment to add
+     */
+    void add(final StackedSegment segment) {
+        final int index;
+        if (size == 0) {
+            head = 0;
+            index = 0;
+        } else {
+            final long distance = distanceOf(segment.getBaseXid());
+            Preconditions.checkArgument(distance >= span, "Segment %s does not follow segments in %s", segment,
+                    this);
+            Verify.verify(distance < Integer.MAX_VALUE);
+            index = (int) distance;
+        }
+
+        final int width = widthOf(segment);
+        ensureCapacity(index + width);
+        for (int i = index; i < index + width; ++i) {
+            slots[slot(i)] = segment;
+        }
+        span = index + width;
+        size++;
+    }
+
+    /**
+     * Returns the segment which covers the specified XID.
+     *
+     * @param xid XID to look up
+     * @return segment owning the XID, or null if no such segment is present
+     */
+    StackedSegment find(final long xid) {
+        if (size == 0) {
+            return null;
+        }
+        final long distance = distanceOf(xid);
+        return distance >= 0 && distance < span ? slots[slot((int) distance)] : null;
+    }
+
+    /**
+     * Removes a segment.
+     *
+     * @param segment segment to remove
+     * @return true if the segment was present
+     */
+    boolean remove(final StackedSegment segment) {
+        if (size == 0) {
+            return false;
+        }
+        final long distance = distanceOf(segment.getBaseXid());
+        if (distance < 0 || distance >= span || slots[slot((int) distance)] != segment) {
+            return false;
+        }
+
+        removeAt((int) distance);
+        return true;
+    }
+
+    /**
+     * Returns the oldest segment.
+     *
+     * @return oldest segment, or null if there are no segments
+     */
+    StackedSegment first() {
+        return size == 0 ? null : slots[head];
+    }
+
+    int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<StackedSegment> iterator() {
+        return new Iterator<StackedSegment>() {
+            private int cursor;
+            private int last = -1;
+
+            @Override
+            public boolean hasNext() {
+                while (cursor < span && slots[slot(cursor)] == null) {
+                    cursor++;
+                }
+                return cursor < span;
+            }
+
+            @Override
+            public StackedSegment next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                final StackedSegment segment = slots[slot(cursor)];
+                last = cursor;
+                cursor += widthOf(segment);
+                return segment;
+            }
+
+            @Override
+            public void remove() {
+                Preconditions.checkState(last >= 0, "No element to remove");
+                // Removing the oldest segment moves the head, which shifts all indices
+                cursor = Math.max(cursor - removeAt(last), 0);
+                last = -1;
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return "SegmentRing{size=" + size + ", span=" + span + ", capacity=" + slots.length + "}";
+    }
+
+    private static int widthOf(final StackedSegment segment) {
+        return segment.size() / StackedSegment.MIN_SEGMENT_SIZE;
+    }
+
+    private long distanceOf(final long xid) {
+        return Math.floorDiv(xid - slots[head].getBaseXid(), StackedSegment.MIN_SEGMENT_SIZE);
+    }
+
+    private int slot(final int index) {
+        return (head + index) & (slots.length - 1);
+    }
+
+    /**
+     * Clears the slots of the segment starting at the specified index and trims holes at both ends.
+     *
+     * @return number of slots the head has moved by
+     */
+    private int removeAt(final int index) {
+        final int width = widthOf(slots[slot(index)]);
+        for (int i = index; i < index + width; ++i) {
+            slots[slot(i)] = null;
+        }
+        size--;
+
+        if (size == 0) {
+            final int moved = span;
+            head = 0;
+            span = 0;
+            return moved;
+        }
+
+        int moved = 0;
+        if (index == 0) {
+            while (slots[head] == null) {
+                head = (head + 1) & (slots.length - 1);
+                span--;
+                moved++;
+            }
+        } else {
+            while (slots[slot(span - 1)] == null) {
+                span--;
+            }
+        }
+        return moved;
+    }
+
+    private void ensureCapacity(final int required) {
+        if (required <= slots.length) {
+            return;
+        }
+
+        int capacity = slots.length;
+        while (capacity < required) {
+            capacity <<= 1;
+        }
+
+        final StackedSegment[] newSlots = new StackedSegment[capacity];
+        for (int i = 0; i < span; ++i) {
+            newSlots[i] = slots[slot(i)];
+        }
+        slots = newSlots;
+        head = 0;
+    }
+}
@@ -73,7 +73,7 @@ public class StackedOutboundQueueNoBarrier extends AbstractStackedOutboundQueue
                 entry.complete(null);
             }
 
-            if (flushOffset >= StackedSegment.SEGMENT_SIZE) {
+            if (flushOffset >= segment.size()) {
                 /*
                  * Slow path: purge the current segment unless it's the last one.
                  * If it is, we leave it for replacement when a new reservation
@@ -85,13 +85,15 @@ public class StackedOutboundQueueNoBarrier extends AbstractStackedOutboundQueue
                     LOG.debug("Flush offset {} unflushed segments {}", flushOffset, unflushedSegments.size());
 
                     // We may have raced ahead of reservation code and need to allocate a segment
+                    adjustSegmentSize(segment);
                     ensureSegment(segment, flushOffset);
 
                     // Remove the segment, update the firstSegment and reset flushOffset
                     final StackedSegment oldSegment = unflushedSegments.remove(0);
                     oldSegment.completeAll();
-                    uncompletedSegments.remove(oldSegment);
-                    oldSegment.recycle();
+                    if (uncompletedSegments.remove(oldSegment)) {
+                        oldSegment.recycle();
+                    }
 
                     // Reset the first segment and add it to the uncompleted list
                     segment = unflushedSegments.get(0);
@@ -99,7 +101,7 @@ public class StackedOutboundQueueNoBarrier extends AbstractStackedOutboundQueue
 
                     // Update the shutdown offset
                     if (shutdownOffset != null) {
-                        shutdownOffset -= StackedSegment.SEGMENT_SIZE;
+                        shutdownOffset -= oldSegment.size();
                     }
 
                     // Allow reservations back on the fast path by publishing the new first segment
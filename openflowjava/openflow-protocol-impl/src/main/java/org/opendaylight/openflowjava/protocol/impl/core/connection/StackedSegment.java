@@ -7,13 +7,9 @@
  */
 package org.opendaylight.openflowjava.protocol.impl.core.connection;
 
-import com.google.common.base.FinalizableReferenceQueue;
-import com.google.common.base.FinalizableSoftReference;
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Verify;
-import java.lang.ref.Reference;
-import java.util.concurrent.ConcurrentLinkedDeque;
 import org.opendaylight.openflowjava.protocol.api.connection.DeviceRequestFailedException;
 import org.opendaylight.openflowjava.protocol.api.connection.OutboundQueueException;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.Error;
@@ -22,25 +18,18 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 final class StackedSegment {
-    private static final class QueueRef extends FinalizableSoftReference<OutboundQueueEntry[]> {
-        QueueRef(final FinalizableReferenceQueue queue, final OutboundQueueEntry[] referent) {
-            super(referent, queue);
-        }
-
-        @Override
-        public void finalizeReferent() {
-            CACHE.remove(this);
-        }
-    }
+    /**
+     * Size of the smallest segment. Segment sizes are powers of two, so all segment boundaries are aligned
+     * to this size.
+     */
+    static final int MIN_SEGMENT_SIZE = 256;
 
     /**
-     * Size of each individual segment.
+     * Size of the largest segment.
      */
-    static final int SEGMENT_SIZE = 4096;
+    static final int MAX_SEGMENT_SIZE = 4096;
 
     private static final Logger LOG = LoggerFactory.getLogger(StackedSegment.class);
-    private static final FinalizableReferenceQueue REF_QUEUE = new FinalizableReferenceQueue();
-    private static final ConcurrentLinkedDeque<QueueRef> CACHE = new ConcurrentLinkedDeque<>();
 
     private final OutboundQueueEntry[] entries;
     private final long baseXid;
@@ -51,34 +40,14 @@ final class StackedSegment {
     private int completeCount;
 
     StackedSegment(final long baseXid, final OutboundQueueEntry[] entries) {
-        this.baseXid = baseXid;
-        this.endXid = baseXid + SEGMENT_SIZE;
         this.entries = Preconditions.checkNotNull(entries);
+        this.baseXid = baseXid;
+        this.endXid = baseXid + entries.length;
     }
 
-    static StackedSegment create(final long baseXid) {
-        final StackedSegment ret;
-        for (;;) {
-            final Reference<OutboundQueueEntry[]> item = CACHE.pollLast();
-            if (item == null) {
-                break;
-            }
-
-            final OutboundQueueEntry[] cached = item.get();
-            if (cached != null) {
-                ret = new StackedSegment(baseXid, cached);
-                LOG.trace("Reusing array {} in segment {}", cached, ret);
-                return ret;
-            }
-        }
-
-        final OutboundQueueEntry[] entries = new OutboundQueueEntry[SEGMENT_SIZE];
-        for (int i = 0; i < SEGMENT_SIZE; ++i) {
-            entries[i] = new OutboundQueueEntry();
-        }
-
-        ret = new StackedSegment(baseXid, entries);
-        LOG.trace("Allocated new segment {}", ret);
+    static StackedSegment create(final long baseXid, final int size) {
+        final StackedSegment ret = new StackedSegment(baseXid, SegmentPool.getInstance().acquire(size));
+        LOG.trace("Created segment {}", ret);
         return ret;
     }
 
@@ -96,6 +65,10 @@ final class StackedSegment {
         return endXid;
     }
 
+    int size() {
+        return entries.length;
+    }
+
     OutboundQueueEntry getEntry(final int offset) {
         return entries[offset];
     }
@@ -200,6 +173,6 @@ final class StackedSegment {
             e.reset();
         }
 
-        CACHE.offer(new QueueRef(REF_QUEUE, entries));
+        SegmentPool.getInstance().release(entries);
     }
 }
@@ -9,8 +9,10 @@
 package org.opendaylight.openflowjava.protocol.impl.deserialization;
 
 import io.netty.buffer.ByteBuf;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import org.opendaylight.openflowjava.protocol.api.extensibility.DeserializerRegistry;
 import org.opendaylight.openflowjava.protocol.api.extensibility.OFDeserializer;
 import org.opendaylight.openflowjava.protocol.api.keys.MessageCodeKey;
@@ -25,10 +27,22 @@ import org.opendaylight.yangtools.yang.binding.DataObject;
  * @author timotej.kubas
  * @author giuseppex.petralia@intel.com
  */
-public class DeserializationFactory {
+public class DeserializationFactory implements AutoCloseable {
+
+    private static final int MESSAGE_TYPE_COUNT = 256;
 
     private final Map<TypeToClassKey, Class<?>> messageClassMap = new ConcurrentHashMap<>();
     private final DeserializerRegistry registry;
+    private final boolean dispatchTableEnabled;
+    // The registry references the listener weakly, so it lives exactly as long as this factory
+    private final Consumer<MessageCodeKey> changeListener = this::onDeserializerChanged;
+
+    /**
+     * Message deserializers indexed by [version][type]. A change of either the type to class mapping or
+     * a registered deserializer republishes a copy of the affected [version] row only. Missing entries
+     * fall back to the keyed registry lookup.
+     */
+    private volatile OFDeserializer<DataObject>[][] dispatchTable = newDispatchTable(0);
 
     public DeserializationFactory(final DeserializerRegistry registry) {
         this.registry = registry;
@@ -37,6 +51,24 @@ public class DeserializationFactory {
 
         // Register type to class map for additional deserializers
         TypeToClassMapInitializer.initializeAdditionalTypeToClassMap(messageClassMap);
+
+        // Only our own registry tells us about changes, anything else is always looked up
+        dispatchTableEnabled = registry instanceof DeserializerRegistryImpl;
+        if (dispatchTableEnabled) {
+            ((DeserializerRegistryImpl) registry).addChangeListener(changeListener);
+            rebuildDispatchTable();
+        }
+    }
+
+    /**
+     * Stops tracking changes of the deserializer registry. Factories which are not closed stop tracking them
+     * once they are garbage collected.
+     */
+    @Override
+    public void close() {
+        if (dispatchTableEnabled) {
+            ((DeserializerRegistryImpl) registry).removeChangeListener(changeListener);
+        }
     }
 
     /**
@@ -48,13 +80,22 @@ public class DeserializationFactory {
      * @return correct POJO as DataObject
      */
     public DataObject deserialize(final ByteBuf rawMessage, final short version) {
-        DataObject dataObject = null;
-        int type = rawMessage.readUnsignedByte();
-        Class<?> clazz = messageClassMap.get(new TypeToClassKey(version, type));
+        final int type = rawMessage.readUnsignedByte();
         rawMessage.skipBytes(EncodeConstants.SIZE_OF_SHORT_IN_BYTES);
-        OFDeserializer<DataObject> deserializer = registry.getDeserializer(new MessageCodeKey(version, type, clazz));
-        dataObject = deserializer.deserialize(rawMessage);
-        return dataObject;
+        return getDeserializer(version, type).deserialize(rawMessage);
+    }
+
+    private OFDeserializer<DataObject> getDeserializer(final short version, final int type) {
+        final OFDeserializer<DataObject>[][] table = dispatchTable;
+        if (version >= 0 && version < table.length) {
+            final OFDeserializer<DataObject>[] byType = table[version];
+            if (byType != null && byType[type] != null) {
+                return byType[type];
+            }
+        }
+
+        Class<?> clazz = messageClassMap.get(new TypeToClassKey(version, type));
+        return registry.getDeserializer(new MessageCodeKey(version, type, clazz));
     }
 
     /**
@@ -65,6 +106,7 @@ public class DeserializationFactory {
      */
     public void registerMapping(final TypeToClassKey key, final Class<?> clazz) {
         messageClassMap.put(key, clazz);
+        updateDispatchEntry(key.getVersion(), key.getType());
     }
 
     /**
@@ -78,6 +120,93 @@ public class DeserializationFactory {
             throw new IllegalArgumentException("TypeToClassKey is null");
         }
 
-        return messageClassMap.remove(key) != null;
+        final boolean removed = messageClassMap.remove(key) != null;
+        if (removed) {
+            updateDispatchEntry(key.getVersion(), key.getType());
+        }
+        return removed;
+    }
+
+    private void onDeserializerChanged(final MessageCodeKey key) {
+        if (key == null) {
+            // The whole registry was reinitialized
+            rebuildDispatchTable();
+        } else if (key.getClazz() != null
+                && key.getClazz().equals(messageClassMap.get(new TypeToClassKey(key.getVersion(), key.getMsgType())))) {
+            updateDispatchEntry(key.getVersion(), key.getMsgType());
+        }
+    }
+
+    private synchronized void rebuildDispatchTable() {
+        if (!dispatchTableEnabled) {
+            return;
+        }
+
+        int maxVersion = -1;
+        for (TypeToClassKey key : messageClassMap.keySet()) {
+            maxVersion = Math.max(maxVersion, key.getVersion());
+        }
+
+        final OFDeserializer<DataObject>[][] table = newDispatchTable(maxVersion + 1);
+        for (TypeToClassKey key : messageClassMap.keySet()) {
+            final short version = key.getVersion();
+            final int type = key.getType();
+            if (version < 0 || type < 0 || type >= MESSAGE_TYPE_COUNT) {
+                continue;
+            }
+
+            final OFDeserializer<DataObject> deserializer = lookupDeserializer(version, type);
+            if (deserializer != null) {
+                if (table[version] == null) {
+                    table[version] = newDeserializerArray();
+                }
+                table[version][type] = deserializer;
+            }
+        }
+        dispatchTable = table;
+    }
+
+    private synchronized void updateDispatchEntry(final short version, final int type) {
+        if (!dispatchTableEnabled || version < 0 || type < 0 || type >= MESSAGE_TYPE_COUNT) {
+            return;
+        }
+
+        final OFDeserializer<DataObject> deserializer = lookupDeserializer(version, type);
+        final OFDeserializer<DataObject>[][] current = dispatchTable;
+        final OFDeserializer<DataObject>[] currentByType = version < current.length ? current[version] : null;
+        if (currentByType == null ? deserializer == null : currentByType[type] == deserializer) {
+            return;
+        }
+
+        // Copy on write, readers never see a partially updated row
+        final OFDeserializer<DataObject>[][] table = Arrays.copyOf(current, Math.max(current.length, version + 1));
+        final OFDeserializer<DataObject>[] byType = currentByType == null ? newDeserializerArray()
+                : currentByType.clone();
+        byType[type] = deserializer;
+        table[version] = byType;
+        dispatchTable = table;
+    }
+
+    private OFDeserializer<DataObject> lookupDeserializer(final short version, final int type) {
+        final Class<?> clazz = messageClassMap.get(new TypeToClassKey(version, type));
+        if (clazz == null) {
+            return null;
+        }
+        try {
+            return registry.getDeserializer(new MessageCodeKey(version, type, clazz));
+        } catch (IllegalStateException e) {
+            // Mapping without deserializer, keep failing on the lookup path
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static OFDeserializer<DataObject>[][] newDispatchTable(final int versions) {
+        return new OFDeserializer[versions][];
+    }
+
+    @SuppressWarnings("unchecked")
+    private static OFDeserializer<DataObject>[] newDeserializerArray() {
+        return new OFDeserializer[MESSAGE_TYPE_COUNT];
     }
 }
@@ -8,15 +8,23 @@
 
 package org.opendaylight.openflowjava.protocol.impl.deserialization;
 
+import java.lang.ref.WeakReference;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 import org.opendaylight.openflowjava.protocol.api.extensibility.DeserializerRegistry;
 import org.opendaylight.openflowjava.protocol.api.extensibility.DeserializerRegistryInjector;
 import org.opendaylight.openflowjava.protocol.api.extensibility.OFGeneralDeserializer;
+import org.opendaylight.openflowjava.protocol.api.keys.ActionDeserializerKey;
+import org.opendaylight.openflowjava.protocol.api.keys.InstructionDeserializerKey;
+import org.opendaylight.openflowjava.protocol.api.keys.MatchEntryDeserializerKey;
 import org.opendaylight.openflowjava.protocol.api.keys.MessageCodeKey;
 import org.opendaylight.openflowjava.protocol.api.util.EncodeConstants;
 import org.opendaylight.openflowjava.protocol.impl.util.MatchDeserializer;
 import org.opendaylight.openflowjava.protocol.impl.util.OF10MatchDeserializer;
+import org.opendaylight.openflowjava.util.LongKeyedTable;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.match.grouping.Match;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.match.v10.grouping.MatchV10;
 import org.slf4j.Logger;
@@ -31,6 +39,12 @@ public class DeserializerRegistryImpl implements DeserializerRegistry {
 
     private static final Logger LOG = LoggerFactory.getLogger(DeserializerRegistryImpl.class);
     private Map<MessageCodeKey, OFGeneralDeserializer> registry;
+    // Held weakly, so that factories which are never closed do not leak
+    private final List<WeakReference<Consumer<MessageCodeKey>>> changeListeners = new CopyOnWriteArrayList<>();
+    // Match entry, action and instruction deserializers by packed key, updated whenever one of them is (un)registered
+    private LongKeyedTable<OFGeneralDeserializer> matchEntryTable;
+    private LongKeyedTable<OFGeneralDeserializer> actionTable;
+    private LongKeyedTable<OFGeneralDeserializer> instructionTable;
 
     /**
      * Decoder table provisioning.
@@ -38,6 +52,9 @@ public class DeserializerRegistryImpl implements DeserializerRegistry {
     @Override
     public void init() {
         registry = new HashMap<>();
+        matchEntryTable = new LongKeyedTable<>();
+        actionTable = new LongKeyedTable<>();
+        instructionTable = new LongKeyedTable<>();
 
         // register message deserializers
         MessageDeserializerInitializer.registerMessageDeserializers(this);
@@ -59,6 +76,7 @@ public class DeserializerRegistryImpl implements DeserializerRegistry {
         ActionDeserializerInitializer.registerDeserializers(this);
         // register instruction deserializers
         InstructionDeserializerInitializer.registerDeserializers(this);
+        notifyChangeListeners(null);
     }
 
     @Override
@@ -72,6 +90,42 @@ public class DeserializerRegistryImpl implements DeserializerRegistry {
         return (T) deserializer;
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends OFGeneralDeserializer> T getMatchEntryDeserializer(short version, int oxmClass,
+            int oxmField, long experimenterId) {
+        OFGeneralDeserializer deserializer = matchEntryTable.get(
+                MatchEntryDeserializerKey.toLong(version, oxmClass, oxmField, experimenterId));
+        if (deserializer != null) {
+            return (T) deserializer;
+        }
+        // Not found, let the keyed lookup report it
+        return DeserializerRegistry.super.getMatchEntryDeserializer(version, oxmClass, oxmField, experimenterId);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends OFGeneralDeserializer> T getActionDeserializer(short version, int type, long experimenterId) {
+        OFGeneralDeserializer deserializer = actionTable.get(
+                ActionDeserializerKey.toLong(version, type, experimenterId));
+        if (deserializer != null) {
+            return (T) deserializer;
+        }
+        return DeserializerRegistry.super.getActionDeserializer(version, type, experimenterId);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends OFGeneralDeserializer> T getInstructionDeserializer(short version, int type,
+            long experimenterId) {
+        OFGeneralDeserializer deserializer = instructionTable.get(
+                InstructionDeserializerKey.toLong(version, type, experimenterId));
+        if (deserializer != null) {
+            return (T) deserializer;
+        }
+        return DeserializerRegistry.super.getInstructionDeserializer(version, type, experimenterId);
+    }
+
     @Override
     public void registerDeserializer(MessageCodeKey key, OFGeneralDeserializer deserializer) {
         if (key == null || deserializer == null) {
@@ -85,6 +139,8 @@ public class DeserializerRegistryImpl implements DeserializerRegistry {
         if (deserializer instanceof DeserializerRegistryInjector) {
             ((DeserializerRegistryInjector) deserializer).injectDeserializerRegistry(this);
         }
+        updatePackedTables(key, deserializer);
+        notifyChangeListeners(key);
     }
 
     @Override
@@ -96,7 +152,78 @@ public class DeserializerRegistryImpl implements DeserializerRegistry {
         if (deserializer == null) {
             return false;
         }
+        updatePackedTables(key, null);
+        notifyChangeListeners(key);
         return true;
     }
 
+    /**
+     * Registers listener invoked after every change of registered deserializers,
+     * used by {@link DeserializationFactory} to keep its dispatch table in sync.
+     * The listener receives the changed key, or null if the whole registry was reinitialized.
+     * The listener is only weakly referenced, the caller has to keep it reachable for as long as
+     * it wants to be notified.
+     *
+     * @param listener listener to be notified
+     */
+    void addChangeListener(final Consumer<MessageCodeKey> listener) {
+        changeListeners.removeIf(reference -> reference.get() == null);
+        changeListeners.add(new WeakReference<>(listener));
+    }
+
+    /**
+     * Unregisters listener previously registered by {@link #addChangeListener(Consumer)}.
+     *
+     * @param listener listener to be removed
+     */
+    void removeChangeListener(final Consumer<MessageCodeKey> listener) {
+        changeListeners.removeIf(reference -> {
+            final Consumer<MessageCodeKey> registered = reference.get();
+            return registered == null || registered == listener;
+        });
+    }
+
+    /**
+     * Updates the packed table entry of the given key.
+     *
+     * @param key changed key
+     * @param deserializer registered deserializer, or null if the key was unregistered
+     */
+    private void updatePackedTables(MessageCodeKey key, OFGeneralDeserializer deserializer) {
+        if (key instanceof MatchEntryDeserializerKey) {
+            updatePacked(matchEntryTable, ((MatchEntryDeserializerKey) key).toLong(), deserializer);
+        } else if (key instanceof ActionDeserializerKey) {
+            updatePacked(actionTable, ((ActionDeserializerKey) key).toLong(), deserializer);
+        } else if (key instanceof InstructionDeserializerKey) {
+            updatePacked(instructionTable, ((InstructionDeserializerKey) key).toLong(), deserializer);
+        }
+    }
+
+    private static void updatePacked(LongKeyedTable<OFGeneralDeserializer> table, Long packedKey,
+            OFGeneralDeserializer deserializer) {
+        if (packedKey == null) {
+            return;
+        }
+        if (deserializer != null) {
+            table.put(packedKey, deserializer);
+        } else {
+            table.remove(packedKey);
+        }
+    }
+
+    private void notifyChangeListeners(final MessageCodeKey key) {
+        boolean cleared = false;
+        for (WeakReference<Consumer<MessageCodeKey>> reference : changeListeners) {
+            final Consumer<MessageCodeKey> listener = reference.get();
+            if (listener != null) {
+                listener.accept(key);
+            } else {
+                cleared = true;
+            }
+        }
+        if (cleared) {
+            changeListeners.removeIf(reference -> reference.get() == null);
+        }
+    }
+
 }
@@ -16,7 +16,6 @@ import java.util.Objects;
 import org.opendaylight.openflowjava.protocol.api.extensibility.DeserializerRegistry;
 import org.opendaylight.openflowjava.protocol.api.extensibility.DeserializerRegistryInjector;
 import org.opendaylight.openflowjava.protocol.api.extensibility.OFDeserializer;
-import org.opendaylight.openflowjava.protocol.api.keys.MatchEntryDeserializerKey;
 import org.opendaylight.openflowjava.protocol.api.util.EncodeConstants;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.action.rev150203.action.grouping.ActionChoice;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.action.rev150203.action.grouping.action.choice.SetFieldCaseBuilder;
@@ -50,14 +49,13 @@ public class OF13SetFieldActionDeserializer extends AbstractActionDeserializer
         // get oxm_field & hasMask byte and extract the field value
         int oxmField = input.getUnsignedByte(input.readerIndex()
                 + EncodeConstants.SIZE_OF_SHORT_IN_BYTES) >>> 1;
-        MatchEntryDeserializerKey key = new MatchEntryDeserializerKey(EncodeConstants.OF13_VERSION_ID,
-                oxmClass, oxmField);
+        long expId = 0;
         if (oxmClass == EncodeConstants.EXPERIMENTER_VALUE) {
-            long expId = input.getUnsignedInt(input.readerIndex() + EncodeConstants.SIZE_OF_SHORT_IN_BYTES
+            expId = input.getUnsignedInt(input.readerIndex() + EncodeConstants.SIZE_OF_SHORT_IN_BYTES
                     + 2 * EncodeConstants.SIZE_OF_BYTE_IN_BYTES);
-            key.setExperimenterId(expId);
         }
-        OFDeserializer<MatchEntry> matchDeserializer = registry.getDeserializer(key);
+        OFDeserializer<MatchEntry> matchDeserializer = registry.getMatchEntryDeserializer(
+                EncodeConstants.OF13_VERSION_ID, oxmClass, oxmField, expId);
         List<MatchEntry> entry = new ArrayList<>();
         entry.add(matchDeserializer.deserialize(input));
         actionBuilder.setMatchEntry(entry);
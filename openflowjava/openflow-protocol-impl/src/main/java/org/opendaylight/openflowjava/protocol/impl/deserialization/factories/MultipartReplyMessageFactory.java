@@ -179,6 +179,8 @@ public class MultipartReplyMessageFactory implements OFDeserializer<MultipartRep
     private static final byte PADDING_IN_BUCKETS_HEADER = 4;
     private static final byte GROUP_DESC_HEADER_LENGTH = 8;
     private static final byte BUCKETS_HEADER_LENGTH = 16;
+    private static final MessageCodeKey MATCH_KEY = new MessageCodeKey(
+            EncodeConstants.OF13_VERSION_ID, EncodeConstants.EMPTY_VALUE, Match.class);
     private DeserializerRegistry registry;
 
     @Override
@@ -297,8 +299,7 @@ public class MultipartReplyMessageFactory implements OFDeserializer<MultipartRep
             byte[] byteCount = new byte[EncodeConstants.SIZE_OF_LONG_IN_BYTES];
             subInput.readBytes(byteCount);
             flowStatsBuilder.setByteCount(new BigInteger(1, byteCount));
-            OFDeserializer<Match> matchDeserializer = registry.getDeserializer(new MessageCodeKey(
-                    EncodeConstants.OF13_VERSION_ID, EncodeConstants.EMPTY_VALUE, Match.class));
+            OFDeserializer<Match> matchDeserializer = registry.getDeserializer(MATCH_KEY);
             flowStatsBuilder.setMatch(matchDeserializer.deserialize(subInput));
             CodeKeyMaker keyMaker = CodeKeyMakerFactory
                     .createInstructionsKeyMaker(EncodeConstants.OF13_VERSION_ID);
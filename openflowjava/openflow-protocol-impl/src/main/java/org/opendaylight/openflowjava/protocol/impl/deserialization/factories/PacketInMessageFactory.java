@@ -12,6 +12,7 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.netty.buffer.ByteBuf;
 import java.math.BigInteger;
 import java.util.Objects;
+import org.opendaylight.openflowjava.protocol.api.connection.ZeroCopyPacketInMessage;
 import org.opendaylight.openflowjava.protocol.api.extensibility.DeserializerRegistry;
 import org.opendaylight.openflowjava.protocol.api.extensibility.DeserializerRegistryInjector;
 import org.opendaylight.openflowjava.protocol.api.extensibility.OFDeserializer;
@@ -35,8 +36,23 @@ public class PacketInMessageFactory implements OFDeserializer<PacketInMessage>,
     private static final byte PADDING_IN_PACKET_IN_HEADER = 2;
     private static final MessageCodeKey MATCH_KEY = new MessageCodeKey(
             EncodeConstants.OF13_VERSION_ID, EncodeConstants.EMPTY_VALUE, Match.class);
+    private final boolean zeroCopyPayload;
     private DeserializerRegistry registry;
 
+    public PacketInMessageFactory() {
+        this(false);
+    }
+
+    /**
+     * Creates PacketIn deserializer.
+     *
+     * @param zeroCopyPayload if true, {@link ZeroCopyPacketInMessage}s are produced which keep the payload
+     *                        in a retained slice of the inbound buffer instead of copying it
+     */
+    public PacketInMessageFactory(final boolean zeroCopyPayload) {
+        this.zeroCopyPayload = zeroCopyPayload;
+    }
+
     @Override
     @SuppressFBWarnings("UWF_FIELD_NOT_INITIALIZED_IN_CONSTRUCTOR") // FB doesn't recognize Objects.requireNonNull
     public PacketInMessage deserialize(final ByteBuf rawMessage) {
@@ -55,6 +71,10 @@ public class PacketInMessageFactory implements OFDeserializer<PacketInMessage>,
         OFDeserializer<Match> matchDeserializer = registry.getDeserializer(MATCH_KEY);
         builder.setMatch(matchDeserializer.deserialize(rawMessage));
         rawMessage.skipBytes(PADDING_IN_PACKET_IN_HEADER);
+        if (zeroCopyPayload) {
+            return new ZeroCopyPacketInMessageImpl(builder.build(),
+                    rawMessage.readRetainedSlice(rawMessage.readableBytes()));
+        }
         byte[] data = new byte[rawMessage.readableBytes()];
         rawMessage.readBytes(data);
         builder.setData(data);
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2018 OpenDaylight and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowjava.protocol.impl.deserialization.factories;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import io.netty.buffer.ByteBuf;
+import java.math.BigInteger;
+import org.opendaylight.openflowjava.protocol.api.connection.ZeroCopyPacketInMessage;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.types.rev130731.PacketInReason;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.types.rev130731.TableId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.match.grouping.Match;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.PacketInMessage;
+import org.opendaylight.yangtools.yang.binding.Augmentation;
+import org.opendaylight.yangtools.yang.binding.DataContainer;
+
+/**
+ * {@link ZeroCopyPacketInMessage} backed by a PacketIn message without data and a retained slice of
+ * the inbound frame holding the payload.
+ */
+final class ZeroCopyPacketInMessageImpl implements ZeroCopyPacketInMessage {
+
+    private final PacketInMessage header;
+    private final ByteBuf payload;
+
+    ZeroCopyPacketInMessageImpl(final PacketInMessage header, final ByteBuf payload) {
+        this.header = Preconditions.checkNotNull(header);
+        this.payload = Preconditions.checkNotNull(payload);
+    }
+
+    @Override
+    public ByteBuf getPayload() {
+        return payload.asReadOnly();
+    }
+
+    @Override
+    public byte[] getData() {
+        final byte[] data = new byte[payload.readableBytes()];
+        payload.getBytes(payload.readerIndex(), data);
+        return data;
+    }
+
+    @Override
+    public Short getVersion() {
+        return header.getVersion();
+    }
+
+    @Override
+    public Long getXid() {
+        return header.getXid();
+    }
+
+    @Override
+    public Long getBufferId() {
+        return header.getBufferId();
+    }
+
+    @Override
+    public Integer getTotalLen() {
+        return header.getTotalLen();
+    }
+
+    @Override
+    public PacketInReason getReason() {
+        return header.getReason();
+    }
+
+    @Override
+    public TableId getTableId() {
+        return header.getTableId();
+    }
+
+    @Override
+    public BigInteger getCookie() {
+        return header.getCookie();
+    }
+
+    @Override
+    public Match getMatch() {
+        return header.getMatch();
+    }
+
+    @Override
+    public Integer getInPort() {
+        return header.getInPort();
+    }
+
+    @Override
+    public <E extends Augmentation<PacketInMessage>> E getAugmentation(final Class<E> augmentationType) {
+        return header.getAugmentation(augmentationType);
+    }
+
+    @Override
+    public Class<? extends DataContainer> getImplementedInterface() {
+        return PacketInMessage.class;
+    }
+
+    @Override
+    public int refCnt() {
+        return payload.refCnt();
+    }
+
+    @Override
+    public ZeroCopyPacketInMessage retain() {
+        payload.retain();
+        return this;
+    }
+
+    @Override
+    public ZeroCopyPacketInMessage retain(final int increment) {
+        payload.retain(increment);
+        return this;
+    }
+
+    @Override
+    public ZeroCopyPacketInMessage touch() {
+        payload.touch();
+        return this;
+    }
+
+    @Override
+    public ZeroCopyPacketInMessage touch(final Object hint) {
+        payload.touch(hint);
+        return this;
+    }
+
+    @Override
+    public boolean release() {
+        return payload.release();
+    }
+
+    @Override
+    public boolean release(final int decrement) {
+        return payload.release(decrement);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("header", header).add("payloadLength", payload.readableBytes())
+                .toString();
+    }
+}
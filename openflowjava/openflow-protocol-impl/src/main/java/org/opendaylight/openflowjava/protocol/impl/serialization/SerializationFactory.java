@@ -11,7 +11,6 @@ package org.opendaylight.openflowjava.protocol.impl.serialization;
 import io.netty.buffer.ByteBuf;
 import org.opendaylight.openflowjava.protocol.api.extensibility.OFSerializer;
 import org.opendaylight.openflowjava.protocol.api.extensibility.SerializerRegistry;
-import org.opendaylight.openflowjava.protocol.api.keys.MessageTypeKey;
 import org.opendaylight.yangtools.yang.binding.DataObject;
 
 /**
@@ -36,8 +35,7 @@ public class SerializationFactory {
      * @param message POJO message
      */
     public void messageToBuffer(short version, ByteBuf out, DataObject message) {
-        OFSerializer<DataObject> serializer = registry.getSerializer(
-                new MessageTypeKey<>(version, message.getImplementedInterface()));
+        OFSerializer<DataObject> serializer = registry.getSerializer(version, message.getImplementedInterface());
         serializer.serialize(message, out);
     }
 }
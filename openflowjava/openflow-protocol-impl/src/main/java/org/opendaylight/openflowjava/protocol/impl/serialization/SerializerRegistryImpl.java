@@ -9,6 +9,7 @@
 package org.opendaylight.openflowjava.protocol.impl.serialization;
 
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Map;
 import org.opendaylight.openflowjava.protocol.api.extensibility.OFGeneralSerializer;
 import org.opendaylight.openflowjava.protocol.api.extensibility.SerializerRegistry;
@@ -39,11 +40,18 @@ public class SerializerRegistryImpl implements SerializerRegistry {
     private static final short OF13 = EncodeConstants.OF13_VERSION_ID;
     private Map<MessageTypeKey<?>, OFGeneralSerializer> registry;
 
+    /**
+     * Serializers registered under plain {@link MessageTypeKey}s indexed by version and class,
+     * lazily rebuilt after every registry change. Null means the cache has to be rebuilt.
+     */
+    private volatile Map<Class<?>, OFGeneralSerializer>[] resolutionCache;
+
     private boolean isGroupAddModEnabled = false;
 
     @Override
     public void init() {
         registry = new HashMap<>();
+        resolutionCache = null;
         // Openflow message type serializers
         MessageFactoryInitializer.registerMessageSerializers(this);
 
@@ -89,12 +97,70 @@ public class SerializerRegistryImpl implements SerializerRegistry {
         return (S) serializer;
     }
 
+    /**
+     * Gets the encoder for plain message type key made of given version and class, without
+     * allocating the key if the serializer is cached.
+     *
+     * @param version protocol version
+     * @param type class of serialized object
+     * @return encoder for current type of message
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <K, S extends OFGeneralSerializer> S getSerializer(short version, Class<? extends K> type) {
+        Map<Class<?>, OFGeneralSerializer>[] cache = resolutionCache;
+        if (cache == null) {
+            cache = rebuildResolutionCache();
+        }
+        if (version >= 0 && version < cache.length && cache[version] != null) {
+            final OFGeneralSerializer serializer = cache[version].get(type);
+            if (serializer != null) {
+                return (S) serializer;
+            }
+        }
+        return getSerializer(new MessageTypeKey<K>(version, type));
+    }
+
+    @SuppressWarnings("unchecked")
+    private synchronized Map<Class<?>, OFGeneralSerializer>[] rebuildResolutionCache() {
+        Map<Class<?>, OFGeneralSerializer>[] cache = resolutionCache;
+        if (cache != null) {
+            return cache;
+        }
+
+        int maxVersion = -1;
+        for (MessageTypeKey<?> key : registry.keySet()) {
+            if (key.getClass() == MessageTypeKey.class) {
+                maxVersion = Math.max(maxVersion, key.getMsgVersion());
+            }
+        }
+
+        cache = new Map[maxVersion + 1];
+        for (Map.Entry<MessageTypeKey<?>, OFGeneralSerializer> entry : registry.entrySet()) {
+            final MessageTypeKey<?> key = entry.getKey();
+            // Only plain keys are fully described by version and class
+            if (key.getClass() != MessageTypeKey.class || key.getMsgVersion() < 0) {
+                continue;
+            }
+            if (cache[key.getMsgVersion()] == null) {
+                cache[key.getMsgVersion()] = new IdentityHashMap<>();
+            }
+            cache[key.getMsgVersion()].put(key.getMsgType(), entry.getValue());
+        }
+        resolutionCache = cache;
+        return cache;
+    }
+
     @Override
     public <K> void registerSerializer(MessageTypeKey<K> msgTypeKey, OFGeneralSerializer serializer) {
         if (msgTypeKey == null || serializer == null) {
             throw new IllegalArgumentException("MessageTypeKey or Serializer is null");
         }
-        OFGeneralSerializer serInRegistry = registry.put(msgTypeKey, serializer);
+        OFGeneralSerializer serInRegistry;
+        synchronized (this) {
+            serInRegistry = registry.put(msgTypeKey, serializer);
+            resolutionCache = null;
+        }
         if (serInRegistry != null) {
             LOG.debug("Serializer for key {} overwritten. Old serializer: {}, new serializer: {}", msgTypeKey,
                     serInRegistry.getClass().getName(), serializer.getClass().getName());
@@ -109,7 +175,11 @@ public class SerializerRegistryImpl implements SerializerRegistry {
         if (msgTypeKey == null) {
             throw new IllegalArgumentException("MessageTypeKey is null");
         }
-        OFGeneralSerializer serializer = registry.remove(msgTypeKey);
+        OFGeneralSerializer serializer;
+        synchronized (this) {
+            serializer = registry.remove(msgTypeKey);
+            resolutionCache = null;
+        }
         if (serializer == null) {
             return false;
         }
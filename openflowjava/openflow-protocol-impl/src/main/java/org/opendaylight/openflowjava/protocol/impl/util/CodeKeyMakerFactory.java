@@ -9,6 +9,8 @@
 package org.opendaylight.openflowjava.protocol.impl.util;
 
 import io.netty.buffer.ByteBuf;
+import org.opendaylight.openflowjava.protocol.api.extensibility.DeserializerRegistry;
+import org.opendaylight.openflowjava.protocol.api.extensibility.OFGeneralDeserializer;
 import org.opendaylight.openflowjava.protocol.api.keys.ActionDeserializerKey;
 import org.opendaylight.openflowjava.protocol.api.keys.ExperimenterActionDeserializerKey;
 import org.opendaylight.openflowjava.protocol.api.keys.ExperimenterInstructionDeserializerKey;
@@ -18,65 +20,139 @@ import org.opendaylight.openflowjava.protocol.api.keys.MessageCodeKey;
 import org.opendaylight.openflowjava.protocol.api.util.EncodeConstants;
 
 /**
- * Factory for creating CodeKeyMaker instances.
+ * Factory for creating CodeKeyMaker instances. Key makers are stateless, the ones for the common protocol versions
+ * are shared. Besides making keys, they look deserializers up by the header fields read from the wire, so that
+ * deserializing lists of match entries, actions and instructions does not create a key for every item.
  *
  * @author michal.polkorab
  */
 public final class CodeKeyMakerFactory {
 
+    private static final CodeKeyMaker OF13_MATCH_ENTRIES_KEY_MAKER =
+            new MatchEntriesKeyMaker(EncodeConstants.OF13_VERSION_ID);
+    private static final CodeKeyMaker OF10_ACTIONS_KEY_MAKER = new ActionsKeyMaker(EncodeConstants.OF10_VERSION_ID);
+    private static final CodeKeyMaker OF13_ACTIONS_KEY_MAKER = new ActionsKeyMaker(EncodeConstants.OF13_VERSION_ID);
+    private static final CodeKeyMaker OF13_INSTRUCTIONS_KEY_MAKER =
+            new InstructionsKeyMaker(EncodeConstants.OF13_VERSION_ID);
+
     private CodeKeyMakerFactory() {
         //not called
     }
 
     public static CodeKeyMaker createMatchEntriesKeyMaker(short version) {
-        return new AbstractCodeKeyMaker(version) {
-            @Override
-            public MessageCodeKey make(ByteBuf input) {
-                int oxmClass = input.getUnsignedShort(input.readerIndex());
-                int oxmField = input.getUnsignedByte(input.readerIndex()
-                        + EncodeConstants.SIZE_OF_SHORT_IN_BYTES) >>> 1;
-                MatchEntryDeserializerKey key = new MatchEntryDeserializerKey(getVersion(),
-                        oxmClass, oxmField);
-                if (oxmClass == EncodeConstants.EXPERIMENTER_VALUE) {
-                    long expId = input.getUnsignedInt(input.readerIndex() + EncodeConstants.SIZE_OF_SHORT_IN_BYTES
-                            + 2 * EncodeConstants.SIZE_OF_BYTE_IN_BYTES);
-                    key.setExperimenterId(expId);
-                    return key;
-                }
-                key.setExperimenterId(null);
+        if (version == EncodeConstants.OF13_VERSION_ID) {
+            return OF13_MATCH_ENTRIES_KEY_MAKER;
+        }
+        return new MatchEntriesKeyMaker(version);
+    }
+
+    public static CodeKeyMaker createActionsKeyMaker(short version) {
+        if (version == EncodeConstants.OF13_VERSION_ID) {
+            return OF13_ACTIONS_KEY_MAKER;
+        }
+        if (version == EncodeConstants.OF10_VERSION_ID) {
+            return OF10_ACTIONS_KEY_MAKER;
+        }
+        return new ActionsKeyMaker(version);
+    }
+
+    public static CodeKeyMaker createInstructionsKeyMaker(short version) {
+        if (version == EncodeConstants.OF13_VERSION_ID) {
+            return OF13_INSTRUCTIONS_KEY_MAKER;
+        }
+        return new InstructionsKeyMaker(version);
+    }
+
+    private static final class MatchEntriesKeyMaker extends AbstractCodeKeyMaker {
+
+        MatchEntriesKeyMaker(short version) {
+            super(version);
+        }
+
+        @Override
+        public MessageCodeKey make(ByteBuf input) {
+            int oxmClass = input.getUnsignedShort(input.readerIndex());
+            int oxmField = input.getUnsignedByte(input.readerIndex()
+                    + EncodeConstants.SIZE_OF_SHORT_IN_BYTES) >>> 1;
+            MatchEntryDeserializerKey key = new MatchEntryDeserializerKey(getVersion(),
+                    oxmClass, oxmField);
+            if (oxmClass == EncodeConstants.EXPERIMENTER_VALUE) {
+                long expId = input.getUnsignedInt(input.readerIndex() + EncodeConstants.SIZE_OF_SHORT_IN_BYTES
+                        + 2 * EncodeConstants.SIZE_OF_BYTE_IN_BYTES);
+                key.setExperimenterId(expId);
                 return key;
             }
-        };
+            key.setExperimenterId(null);
+            return key;
+        }
+
+        @Override
+        public <T extends OFGeneralDeserializer> T getDeserializer(ByteBuf input, DeserializerRegistry registry) {
+            int oxmClass = input.getUnsignedShort(input.readerIndex());
+            int oxmField = input.getUnsignedByte(input.readerIndex()
+                    + EncodeConstants.SIZE_OF_SHORT_IN_BYTES) >>> 1;
+            long expId = 0;
+            if (oxmClass == EncodeConstants.EXPERIMENTER_VALUE) {
+                expId = input.getUnsignedInt(input.readerIndex() + EncodeConstants.SIZE_OF_SHORT_IN_BYTES
+                        + 2 * EncodeConstants.SIZE_OF_BYTE_IN_BYTES);
+            }
+            return registry.getMatchEntryDeserializer(getVersion(), oxmClass, oxmField, expId);
+        }
     }
 
-    public static CodeKeyMaker createActionsKeyMaker(short version) {
-        return new AbstractCodeKeyMaker(version) {
-            @Override
-            public MessageCodeKey make(ByteBuf input) {
-                int type = input.getUnsignedShort(input.readerIndex());
-                if (type == EncodeConstants.EXPERIMENTER_VALUE) {
-                    Long expId = input.getUnsignedInt(input.readerIndex()
-                            + 2 * EncodeConstants.SIZE_OF_SHORT_IN_BYTES);
-                    return new ExperimenterActionDeserializerKey(getVersion(), expId);
-                }
-                ActionDeserializerKey actionDeserializerKey = new ActionDeserializerKey(getVersion(), type, null);
-                return actionDeserializerKey;
+    private static final class ActionsKeyMaker extends AbstractCodeKeyMaker {
+
+        ActionsKeyMaker(short version) {
+            super(version);
+        }
+
+        @Override
+        public MessageCodeKey make(ByteBuf input) {
+            int type = input.getUnsignedShort(input.readerIndex());
+            if (type == EncodeConstants.EXPERIMENTER_VALUE) {
+                Long expId = input.getUnsignedInt(input.readerIndex()
+                        + 2 * EncodeConstants.SIZE_OF_SHORT_IN_BYTES);
+                return new ExperimenterActionDeserializerKey(getVersion(), expId);
+            }
+            return new ActionDeserializerKey(getVersion(), type, null);
+        }
+
+        @Override
+        public <T extends OFGeneralDeserializer> T getDeserializer(ByteBuf input, DeserializerRegistry registry) {
+            int type = input.getUnsignedShort(input.readerIndex());
+            long expId = 0;
+            if (type == EncodeConstants.EXPERIMENTER_VALUE) {
+                expId = input.getUnsignedInt(input.readerIndex() + 2 * EncodeConstants.SIZE_OF_SHORT_IN_BYTES);
             }
-        };
+            return registry.getActionDeserializer(getVersion(), type, expId);
+        }
     }
 
-    public static CodeKeyMaker createInstructionsKeyMaker(short version) {
-        return new AbstractCodeKeyMaker(version) {
-            @Override
-            public MessageCodeKey make(ByteBuf input) {
-                int type = input.getUnsignedShort(input.readerIndex());
-                if (type == EncodeConstants.EXPERIMENTER_VALUE) {
-                    Long expId = input.getUnsignedInt(input.readerIndex()
-                            + 2 * EncodeConstants.SIZE_OF_SHORT_IN_BYTES);
-                    return new ExperimenterInstructionDeserializerKey(getVersion(), expId);
-                }
-                return new InstructionDeserializerKey(getVersion(), type, null);
+    private static final class InstructionsKeyMaker extends AbstractCodeKeyMaker {
+
+        InstructionsKeyMaker(short version) {
+            super(version);
+        }
+
+        @Override
+        public MessageCodeKey make(ByteBuf input) {
+            int type = input.getUnsignedShort(input.readerIndex());
+            if (type == EncodeConstants.EXPERIMENTER_VALUE) {
+                Long expId = input.getUnsignedInt(input.readerIndex()
+                        + 2 * EncodeConstants.SIZE_OF_SHORT_IN_BYTES);
+                return new ExperimenterInstructionDeserializerKey(getVersion(), expId);
+            }
+            return new InstructionDeserializerKey(getVersion(), type, null);
+        }
+
+        @Override
+        public <T extends OFGeneralDeserializer> T getDeserializer(ByteBuf input, DeserializerRegistry registry) {
+            int type = input.getUnsignedShort(input.readerIndex());
+            long expId = 0;
+            if (type == EncodeConstants.EXPERIMENTER_VALUE) {
+                expId = input.getUnsignedInt(input.readerIndex() + 2 * EncodeConstants.SIZE_OF_SHORT_IN_BYTES);
             }
-        };
+            return registry.getInstructionDeserializer(getVersion(), type, expId);
+        }
     }
 }
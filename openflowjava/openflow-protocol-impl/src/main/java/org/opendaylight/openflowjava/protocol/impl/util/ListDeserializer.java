@@ -14,7 +14,6 @@ import java.util.List;
 import org.opendaylight.openflowjava.protocol.api.extensibility.DeserializerRegistry;
 import org.opendaylight.openflowjava.protocol.api.extensibility.HeaderDeserializer;
 import org.opendaylight.openflowjava.protocol.api.extensibility.OFDeserializer;
-import org.opendaylight.openflowjava.protocol.api.keys.MessageCodeKey;
 import org.opendaylight.openflowjava.protocol.api.util.EncodeConstants;
 import org.opendaylight.yangtools.yang.binding.DataObject;
 import org.slf4j.Logger;
@@ -49,7 +48,7 @@ public final class ListDeserializer {
             items = new ArrayList<>();
             int startIndex = input.readerIndex();
             while (input.readerIndex() - startIndex < length) {
-                OFDeserializer<E> deserializer = registry.getDeserializer(keyMaker.make(input));
+                OFDeserializer<E> deserializer = keyMaker.getDeserializer(input, registry);
                 E item = deserializer.deserialize(input);
                 items.add(item);
             }
@@ -76,9 +75,8 @@ public final class ListDeserializer {
             boolean exceptionLogged = false;
             while (input.readerIndex() - startIndex < length) {
                 HeaderDeserializer<E> deserializer;
-                MessageCodeKey key = keyMaker.make(input);
                 try {
-                    deserializer = registry.getDeserializer(key);
+                    deserializer = keyMaker.getDeserializer(input, registry);
                 } catch (ClassCastException | IllegalStateException e) {
                     // Following "if" is only hotfix to prevent log flooding. Log flooding is originally
                     // caused by using OVS 2.4 which directly uses / reports Nicira extensions. These extensions
@@ -87,7 +85,7 @@ public final class ListDeserializer {
                     if (!exceptionLogged) {
                         LOG.warn("Problem during reading table feature property. Skipping unknown feature property: {}."
                             + "If more information is needed, set org.opendaylight.openflowjava do DEBUG log level.",
-                            key, e.getMessage());
+                            keyMaker.make(input), e.getMessage());
                         if (LOG.isDebugEnabled()) {
                             LOG.debug("Detailed exception: {}", e);
                             LOG.debug("This exception is logged only once for each multipart reply (table features) to "
@@ -9,6 +9,7 @@
 package org.opendaylight.openflowjava.protocol.impl.util;
 
 import io.netty.buffer.ByteBuf;
+import java.util.ArrayList;
 import java.util.List;
 import org.opendaylight.openflowjava.protocol.api.extensibility.DeserializerRegistry;
 import org.opendaylight.openflowjava.protocol.api.extensibility.DeserializerRegistryInjector;
@@ -47,11 +48,7 @@ public class MatchDeserializer implements OFDeserializer<Match>,
                 default:
                     break;
             }
-            CodeKeyMaker keyMaker = CodeKeyMakerFactory
-                    .createMatchEntriesKeyMaker(EncodeConstants.OF13_VERSION_ID);
-            List<MatchEntry> entries = ListDeserializer.deserializeList(EncodeConstants.OF13_VERSION_ID,
-                    length - 2 * EncodeConstants.SIZE_OF_SHORT_IN_BYTES, input, keyMaker, registry);
-            builder.setMatchEntry(entries);
+            builder.setMatchEntry(deserializeEntries(length - 2 * EncodeConstants.SIZE_OF_SHORT_IN_BYTES, input));
             int paddingRemainder = length % EncodeConstants.PADDING;
             if (paddingRemainder != 0) {
                 input.skipBytes(EncodeConstants.PADDING - paddingRemainder);
@@ -61,6 +58,29 @@ public class MatchDeserializer implements OFDeserializer<Match>,
         return null;
     }
 
+    private List<MatchEntry> deserializeEntries(final int length, final ByteBuf input) {
+        if (input.readableBytes() <= 0) {
+            return null;
+        }
+        // Entries are looked up by their oxm header directly, match entry keys are not created per entry
+        List<MatchEntry> entries = new ArrayList<>();
+        int startIndex = input.readerIndex();
+        while (input.readerIndex() - startIndex < length) {
+            int oxmClass = input.getUnsignedShort(input.readerIndex());
+            int oxmField = input.getUnsignedByte(input.readerIndex()
+                    + EncodeConstants.SIZE_OF_SHORT_IN_BYTES) >>> 1;
+            long expId = 0;
+            if (oxmClass == EncodeConstants.EXPERIMENTER_VALUE) {
+                expId = input.getUnsignedInt(input.readerIndex() + EncodeConstants.SIZE_OF_SHORT_IN_BYTES
+                        + 2 * EncodeConstants.SIZE_OF_BYTE_IN_BYTES);
+            }
+            OFDeserializer<MatchEntry> deserializer = registry.getMatchEntryDeserializer(
+                    EncodeConstants.OF13_VERSION_ID, oxmClass, oxmField, expId);
+            entries.add(deserializer.deserialize(input));
+        }
+        return entries;
+    }
+
     @Override
     public void injectDeserializerRegistry(DeserializerRegistry deserializerRegistry) {
         this.registry = deserializerRegistry;
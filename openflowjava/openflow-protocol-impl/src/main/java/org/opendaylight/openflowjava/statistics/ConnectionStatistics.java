@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2018 OpenDaylight and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowjava.statistics;
+
+import java.math.BigInteger;
+import java.net.SocketAddress;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.Nullable;
+
+/**
+ * Counters of a single switch connection, indexed by {@link CounterEventTypes}. Instances are obtained from
+ * {@link StatisticsCounters#registerConnection(SocketAddress)} and are reported together with the global
+ * counters, labelled by the datapath ID once the handshake has finished.
+ */
+public final class ConnectionStatistics {
+
+    private final Counter[] counters = new Counter[CounterEventTypes.values().length];
+    private final String address;
+    private final LongAdder idleCount = new LongAdder();
+    private volatile BigInteger datapathId;
+    private volatile long echoRttNanos = -1;
+
+    ConnectionStatistics(@Nullable final SocketAddress address) {
+        this.address = String.valueOf(address);
+        for (int i = 0; i < counters.length; ++i) {
+            counters[i] = new Counter();
+        }
+    }
+
+    void incrementCounter(final CounterEventTypes counterEventKey) {
+        counters[counterEventKey.ordinal()].incrementCounter();
+    }
+
+    /**
+     * Returns the counter of given type.
+     *
+     * @param counterEventKey key to identify counter
+     * @return counter of this connection
+     */
+    public Counter getCounter(final CounterEventTypes counterEventKey) {
+        return counters[counterEventKey.ordinal()];
+    }
+
+    /**
+     * Returns the remote address of the connection.
+     */
+    public String getAddress() {
+        return address;
+    }
+
+    /**
+     * Returns the datapath ID of the switch, or null if the handshake has not finished yet.
+     */
+    @Nullable
+    public BigInteger getDatapathId() {
+        return datapathId;
+    }
+
+    /**
+     * Sets the datapath ID of the switch connected over this connection.
+     *
+     * @param datapathId datapath ID reported by the switch
+     */
+    public void setDatapathId(final BigInteger datapathId) {
+        this.datapathId = datapathId;
+    }
+
+    /**
+     * Returns a label identifying the connection, which is the datapath ID if known and the address otherwise.
+     */
+    public String getLabel() {
+        final BigInteger dpid = datapathId;
+        return dpid != null ? "dpid " + dpid + " (" + address + ")" : address;
+    }
+
+    /**
+     * Records that the switch has been reported idle.
+     */
+    public void recordIdle() {
+        idleCount.increment();
+    }
+
+    /**
+     * Returns how many times the switch has been reported idle.
+     */
+    public long getIdleCount() {
+        return idleCount.sum();
+    }
+
+    /**
+     * Records the round trip time of an echo request answered by the switch.
+     *
+     * @param rttNanos time between sending the request and receiving the reply
+     */
+    public void recordEchoRtt(final long rttNanos) {
+        echoRttNanos = rttNanos;
+    }
+
+    /**
+     * Returns the round trip time of the last echo request answered by the switch.
+     *
+     * @return round trip time in microseconds, or -1 if no echo request has been answered yet
+     */
+    public long getEchoRtt() {
+        final long rtt = echoRttNanos;
+        return rtt < 0 ? -1 : TimeUnit.NANOSECONDS.toMicros(rtt);
+    }
+
+    void sampleRates(final long periodMillis) {
+        for (Counter counter : counters) {
+            counter.sampleRate(periodMillis);
+        }
+    }
+
+    void reset() {
+        for (Counter counter : counters) {
+            counter.reset();
+        }
+    }
+}
@@ -9,22 +9,26 @@
 package org.opendaylight.openflowjava.statistics;
 
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
- * Counts statistics.
+ * Counts statistics. The value is striped across cells, so that event loop threads incrementing
+ * the same counter do not contend on a single memory location.
  *
  * @author madamjak
  */
 public class Counter {
 
-    private final AtomicLong counterValue;
+    private final LongAdder counterValue;
     private final AtomicLong counterLastReadValue;
+    private long lastSampledValue;
+    private volatile long rate;
 
     /**
      * Default constructor.
      */
     public Counter() {
-        counterValue = new AtomicLong(0L);
+        counterValue = new LongAdder();
         counterLastReadValue = new AtomicLong(0L);
     }
 
@@ -32,7 +36,7 @@ public class Counter {
      * Increment current counter value.
      */
     public void incrementCounter() {
-        counterValue.incrementAndGet();
+        counterValue.increment();
     }
 
     /**
@@ -62,18 +66,41 @@ public class Counter {
      * @return the current value of counter
      */
     public long getCounterValue(boolean modifyLastReadValue) {
+        final long value = counterValue.sum();
         if (modifyLastReadValue) {
-            counterLastReadValue.set(counterValue.get());
+            counterLastReadValue.set(value);
         }
-        return counterValue.get();
+        return value;
+    }
+
+    /**
+     * Returns the rate computed by the last call of {@link #sampleRate(long)}.
+     *
+     * @return events per second
+     */
+    public long getRate() {
+        return rate;
+    }
+
+    /**
+     * Computes the rate of events since the previous sample.
+     *
+     * @param periodMillis time elapsed since the previous sample (in milliseconds)
+     */
+    public synchronized void sampleRate(long periodMillis) {
+        final long value = counterValue.sum();
+        rate = Math.max(value - lastSampledValue, 0L) * 1000 / periodMillis;
+        lastSampledValue = value;
     }
 
     /**
      * Sets current counter value and CounterLastReadValue to 0 (zero).
      */
-    public void reset() {
-        counterValue.set(0L);
+    public synchronized void reset() {
+        counterValue.reset();
         counterLastReadValue.set(0L);
+        lastSampledValue = 0L;
+        rate = 0L;
     }
 
     /**
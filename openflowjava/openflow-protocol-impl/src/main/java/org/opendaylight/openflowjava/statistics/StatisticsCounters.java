@@ -7,20 +7,28 @@
  */
 package org.opendaylight.openflowjava.statistics;
 
+import java.net.SocketAddress;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.Timer;
 import java.util.TimerTask;
 import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.Nullable;
 import org.opendaylight.openflowjava.protocol.spi.statistics.StatisticsHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Singleton class to hold and process counters.
+ * Singleton class to hold and process counters. Counters are kept in an array indexed by
+ * {@link CounterEventTypes#ordinal()}, globally and for each registered connection.
  *
  * @author madamjak
  */
-public final class StatisticsCounters implements StatisticsHandler {
+public final class StatisticsCounters implements StatisticsHandler, StatisticsCountersMXBean {
 
     /**
      * Default delay between two writings into log (milliseconds).
@@ -32,14 +40,25 @@ public final class StatisticsCounters implements StatisticsHandler {
      */
     public static final int MINIMAL_LOG_REPORT_PERIOD = 500;
 
+    /**
+     * Period of rate computation (milliseconds).
+     */
+    public static final int RATE_SAMPLE_PERIOD = 5000;
+
     private static StatisticsCounters instanceHolder;
     private static final Logger LOG = LoggerFactory.getLogger(StatisticsCounters.class);
 
+    // counter types tracked for each connection
+    private static final CounterEventTypes[] CONNECTION_COUNTERS = { CounterEventTypes.DS_ENTERED_OFJAVA,
+        CounterEventTypes.DS_FLOW_MODS_ENTERED, CounterEventTypes.US_MESSAGE_PASS };
+
     private Timer logReporter;
+    private Timer rateSampler;
     private int logReportPeriod;
     private boolean runLogReport;
-    private final Map<CounterEventTypes, Counter> countersMap;
-    private boolean runCounting;
+    private final Counter[] counters;
+    private final Set<ConnectionStatistics> connections = ConcurrentHashMap.newKeySet();
+    private volatile boolean runCounting;
     // array to hold enabled counter types
     private final CounterEventTypes[] enabledCounters = { CounterEventTypes.DS_ENCODE_FAIL,
         CounterEventTypes.DS_ENCODE_SUCCESS, CounterEventTypes.DS_ENTERED_OFJAVA,
@@ -61,9 +80,9 @@ public final class StatisticsCounters implements StatisticsHandler {
     }
 
     private StatisticsCounters() {
-        countersMap = new ConcurrentHashMap<>();
+        counters = new Counter[CounterEventTypes.values().length];
         for (CounterEventTypes cet : enabledCounters) {
-            countersMap.put(cet, new Counter());
+            counters[cet.ordinal()] = new Counter();
         }
         runCounting = false;
         this.logReportPeriod = 0;
@@ -77,7 +96,8 @@ public final class StatisticsCounters implements StatisticsHandler {
      * @param reportToLogs - true = statistic counters will periodically log
      * @param logReportDelay - delay between two logs (in milliseconds)
      */
-    public void startCounting(boolean reportToLogs, int logReportDelay) {
+    @Override
+    public synchronized void startCounting(boolean reportToLogs, int logReportDelay) {
         if (runCounting) {
             return;
         }
@@ -86,15 +106,22 @@ public final class StatisticsCounters implements StatisticsHandler {
         if (reportToLogs) {
             startLogReport(logReportDelay);
         }
+        rateSampler = new Timer("SC_RateSampler", true);
+        rateSampler.schedule(new RateSamplerTask(this), RATE_SAMPLE_PERIOD, RATE_SAMPLE_PERIOD);
         runCounting = true;
     }
 
     /**
      * Stop counting, values in counters are untouched, log reporter is stopped.
      */
-    public void stopCounting() {
+    @Override
+    public synchronized void stopCounting() {
         runCounting = false;
         LOG.debug("Stop counting...");
+        if (rateSampler != null) {
+            rateSampler.cancel();
+            rateSampler = null;
+        }
         stopLogReport();
     }
 
@@ -103,6 +130,7 @@ public final class StatisticsCounters implements StatisticsHandler {
      *
      * @return true, if counting is running, otherwise false
      */
+    @Override
     public boolean isRunCounting() {
         return runCounting;
     }
@@ -166,12 +194,6 @@ public final class StatisticsCounters implements StatisticsHandler {
         return enabledCounters;
     }
 
-    /**
-     * Returns the countersMap.
-     */
-    protected Map<CounterEventTypes, Counter> getCountersMap() {
-        return countersMap;
-    }
 
     /**
      * Determines if the given counter is enabled.
@@ -183,7 +205,7 @@ public final class StatisticsCounters implements StatisticsHandler {
         if (counterEventKey == null) {
             return false;
         }
-        return countersMap.containsKey(counterEventKey);
+        return counters[counterEventKey.ordinal()] != null;
     }
 
     /**
@@ -197,7 +219,7 @@ public final class StatisticsCounters implements StatisticsHandler {
         if (counterEventKey == null) {
             throw new IllegalArgumentException("counterEventKey can not be null");
         }
-        return countersMap.get(counterEventKey);
+        return counters[counterEventKey.ordinal()];
     }
 
     /**
@@ -207,16 +229,57 @@ public final class StatisticsCounters implements StatisticsHandler {
      */
     public void incrementCounter(CounterEventTypes counterEventKey) {
         if (runCounting) {
-            if (isCounterEnabled(counterEventKey)) {
-                countersMap.get(counterEventKey).incrementCounter();
+            final Counter counter = counters[counterEventKey.ordinal()];
+            if (counter != null) {
+                counter.incrementCounter();
+            }
+        }
+    }
+
+    /**
+     * Increment value of given counter, both globally and for given connection.
+     *
+     * @param counterEventKey key to identify counter
+     * @param connection statistics of the connection the event belongs to
+     */
+    public void incrementCounter(CounterEventTypes counterEventKey, ConnectionStatistics connection) {
+        if (runCounting) {
+            final Counter counter = counters[counterEventKey.ordinal()];
+            if (counter != null) {
+                counter.incrementCounter();
+                connection.incrementCounter(counterEventKey);
             }
         }
     }
 
+    /**
+     * Creates counters for a new connection, which are reported until the connection is unregistered.
+     *
+     * @param address remote address of the connection
+     * @return statistics of the connection
+     */
+    public ConnectionStatistics registerConnection(@Nullable SocketAddress address) {
+        final ConnectionStatistics connection = new ConnectionStatistics(address);
+        connections.add(connection);
+        return connection;
+    }
+
+    /**
+     * Stops reporting counters of a closed connection.
+     *
+     * @param connection statistics of the connection
+     */
+    public void unregisterConnection(ConnectionStatistics connection) {
+        connections.remove(connection);
+    }
+
     @Override
     public void resetCounters() {
         for (CounterEventTypes cet : enabledCounters) {
-            countersMap.get(cet).reset();
+            counters[cet.ordinal()].reset();
+        }
+        for (ConnectionStatistics connection : connections) {
+            connection.reset();
         }
         LOG.debug("StaticsCounters has been reset");
     }
@@ -225,11 +288,60 @@ public final class StatisticsCounters implements StatisticsHandler {
     public String printStatistics() {
         StringBuilder strBuilder = new StringBuilder();
         for (CounterEventTypes cet : getEnabledCounters()) {
-            strBuilder.append(cet.name() + ": " + getCountersMap().get(cet).getStat() + "\n");
+            strBuilder.append(cet.name() + ": " + getCounter(cet).getStat() + "\n");
         }
         return strBuilder.toString();
     }
 
+    @Override
+    public Map<String, Long> getCounterValues() {
+        final Map<String, Long> values = new LinkedHashMap<>();
+        for (CounterEventTypes cet : enabledCounters) {
+            values.put(cet.name(), getCounter(cet).getCounterValue(false));
+        }
+        return values;
+    }
+
+    @Override
+    public Map<String, Long> getCounterRates() {
+        final Map<String, Long> rates = new LinkedHashMap<>();
+        for (CounterEventTypes cet : enabledCounters) {
+            rates.put(cet.name(), getCounter(cet).getRate());
+        }
+        return rates;
+    }
+
+    @Override
+    public List<String> getConnectionStatistics() {
+        final List<ConnectionStatistics> sorted = new ArrayList<>(connections);
+        // Busiest switches first
+        sorted.sort(Comparator.comparingLong((ConnectionStatistics connection) ->
+                connection.getCounter(CounterEventTypes.US_MESSAGE_PASS).getRate()).reversed());
+
+        final List<String> lines = new ArrayList<>(sorted.size());
+        for (ConnectionStatistics connection : sorted) {
+            final StringBuilder strBuilder = new StringBuilder(connection.getLabel());
+            for (CounterEventTypes cet : CONNECTION_COUNTERS) {
+                final Counter counter = connection.getCounter(cet);
+                strBuilder.append(String.format(" | %s: %d (%d/s)", cet.name(), counter.getCounterValue(false),
+                        counter.getRate()));
+            }
+            strBuilder.append(String.format(" | idle: %d | echo RTT: %d us", connection.getIdleCount(),
+                    connection.getEchoRtt()));
+            lines.add(strBuilder.toString());
+        }
+        return lines;
+    }
+
+    private void sampleRates() {
+        for (CounterEventTypes cet : enabledCounters) {
+            getCounter(cet).sampleRate(RATE_SAMPLE_PERIOD);
+        }
+        for (ConnectionStatistics connection : connections) {
+            connection.sampleRates(RATE_SAMPLE_PERIOD);
+        }
+    }
+
     /**
      * internal class to process logReporter.
      *
@@ -245,8 +357,24 @@ public final class StatisticsCounters implements StatisticsHandler {
         @Override
         public void run() {
             for (CounterEventTypes cet : sc.getEnabledCounters()) {
-                LOG.debug("{}: {}", cet.name(), sc.getCountersMap().get(cet).getStat());
+                LOG.debug("{}: {}", cet.name(), sc.getCounter(cet).getStat());
             }
         }
     }
+
+    /**
+     * internal class to compute rates of all counters.
+     */
+    private static class RateSamplerTask extends TimerTask {
+        private final StatisticsCounters sc;
+
+        RateSamplerTask(StatisticsCounters sc) {
+            this.sc = sc;
+        }
+
+        @Override
+        public void run() {
+            sc.sampleRates();
+        }
+    }
 }
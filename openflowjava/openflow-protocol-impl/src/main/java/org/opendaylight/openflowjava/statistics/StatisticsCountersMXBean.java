@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2018 OpenDaylight and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowjava.statistics;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JMX view of {@link StatisticsCounters}.
+ */
+public interface StatisticsCountersMXBean {
+
+    boolean isRunCounting();
+
+    void startCounting(boolean reportToLogs, int logReportDelay);
+
+    void stopCounting();
+
+    void resetCounters();
+
+    /**
+     * Returns current values of enabled counters.
+     *
+     * @return counter values keyed by counter name
+     */
+    Map<String, Long> getCounterValues();
+
+    /**
+     * Returns rates of enabled counters over the last {@link StatisticsCounters#RATE_SAMPLE_PERIOD}.
+     *
+     * @return events per second keyed by counter name
+     */
+    Map<String, Long> getCounterRates();
+
+    /**
+     * Returns counters of each connection, busiest connections first.
+     *
+     * @return one line per connection
+     */
+    List<String> getConnectionStatistics();
+}
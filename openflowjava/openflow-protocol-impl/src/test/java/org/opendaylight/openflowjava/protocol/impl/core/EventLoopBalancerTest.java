@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2018 OpenDaylight and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowjava.protocol.impl.core;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableMap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.DefaultChannelPromise;
+import io.netty.channel.EventLoop;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.util.DefaultAttributeMap;
+import io.netty.util.concurrent.ImmediateEventExecutor;
+import java.math.BigInteger;
+import java.net.InetSocketAddress;
+import java.util.Collections;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * {@link EventLoopBalancer} class test.
+ */
+public class EventLoopBalancerTest {
+
+    private static final BigInteger DATAPATH_ID = BigInteger.TEN;
+
+    private final NioEventLoopGroup group = new NioEventLoopGroup(2);
+
+    @After
+    public void tearDown() {
+        group.shutdownGracefully();
+    }
+
+    private static Channel createChannel(final String host) {
+        return createChannel(host, 6653);
+    }
+
+    private static Channel createChannel(final String host, final int port) {
+        final Channel channel = mock(Channel.class);
+        final ChannelPromise closeFuture = new DefaultChannelPromise(channel, ImmediateEventExecutor.INSTANCE);
+        final DefaultAttributeMap attributes = new DefaultAttributeMap();
+        when(channel.remoteAddress()).thenReturn(new InetSocketAddress(host, port));
+        when(channel.closeFuture()).thenReturn(closeFuture);
+        when(channel.attr(EventLoopBalancer.DATAPATH_ID)).thenReturn(attributes.attr(EventLoopBalancer.DATAPATH_ID));
+        return channel;
+    }
+
+    private static void close(final Channel channel) {
+        ((ChannelPromise) channel.closeFuture()).setSuccess();
+    }
+
+    /**
+     * Connections are spread over event loops and released once their channels close.
+     */
+    @Test
+    public void testLeastLoaded() {
+        final EventLoopBalancer balancer = new EventLoopBalancer(group, Collections.emptyMap());
+        final Channel first = createChannel("10.0.0.1");
+        final EventLoop firstLoop = balancer.select(first);
+        final EventLoop secondLoop = balancer.select(createChannel("10.0.0.2"));
+        assertTrue(firstLoop != secondLoop);
+        assertArrayEquals(new int[] {1, 1}, balancer.getConnectionCounts());
+
+        close(first);
+        assertSame(firstLoop, balancer.select(createChannel("10.0.0.3")));
+        assertEquals(2, balancer.getSchedulingLag().length);
+        assertEquals(2, balancer.getPendingTasks().length);
+    }
+
+    /**
+     * A switch with configured affinity returns to its worker after it reconnects from a new source port.
+     */
+    @Test
+    public void testAffinity() {
+        final EventLoopBalancer balancer = new EventLoopBalancer(group, ImmutableMap.of(DATAPATH_ID, 2));
+        final EventLoop busyLoop = balancer.select(createChannel("10.0.0.2"));
+
+        final Channel channel = createChannel("10.0.0.1", 40000);
+        assertTrue(busyLoop != balancer.select(channel));
+        channel.attr(EventLoopBalancer.DATAPATH_ID).set(DATAPATH_ID);
+        close(channel);
+        assertEquals(Collections.singletonMap("10.0.0.1", 0), balancer.getPinnedAddresses());
+
+        // Worker index is taken modulo the number of workers, the switch joins the busy worker and uses the pin up
+        assertSame(busyLoop, balancer.select(createChannel("10.0.0.1", 40001)));
+        assertArrayEquals(new int[] {2, 0}, balancer.getConnectionCounts());
+        assertTrue(balancer.getPinnedAddresses().isEmpty());
+    }
+
+    /**
+     * A switch keeps a single pin, keyed by the address it connected from last.
+     */
+    @Test
+    public void testPinReplaced() {
+        final EventLoopBalancer balancer = new EventLoopBalancer(group, ImmutableMap.of(DATAPATH_ID, 1));
+        final Channel channel = createChannel("10.0.0.1", 40000);
+        balancer.select(channel);
+        channel.attr(EventLoopBalancer.DATAPATH_ID).set(DATAPATH_ID);
+        close(channel);
+        assertEquals(Collections.singletonMap("10.0.0.1", 1), balancer.getPinnedAddresses());
+
+        // The same datapath connecting from another address replaces the pin
+        final Channel moved = createChannel("10.0.0.3", 40001);
+        balancer.select(moved);
+        moved.attr(EventLoopBalancer.DATAPATH_ID).set(DATAPATH_ID);
+        close(moved);
+        assertEquals(Collections.singletonMap("10.0.0.3", 1), balancer.getPinnedAddresses());
+    }
+
+    /**
+     * A pin expires unless the switch reconnects in time.
+     */
+    @Test
+    public void testPinExpiry() {
+        final EventLoopBalancer balancer = new EventLoopBalancer(group, ImmutableMap.of(DATAPATH_ID, 1), 0);
+        final Channel channel = createChannel("10.0.0.1", 40000);
+        final EventLoop firstLoop = balancer.select(channel);
+        channel.attr(EventLoopBalancer.DATAPATH_ID).set(DATAPATH_ID);
+        close(channel);
+        assertEquals(Collections.singletonMap("10.0.0.1", 1), balancer.getPinnedAddresses());
+
+        // The expired pin is not used, the reconnected switch goes to the least loaded worker
+        assertSame(firstLoop, balancer.select(createChannel("10.0.0.1", 40001)));
+        assertArrayEquals(new int[] {1, 0}, balancer.getConnectionCounts());
+        assertTrue(balancer.getPinnedAddresses().isEmpty());
+    }
+}
@@ -8,11 +8,15 @@
 
 package org.opendaylight.openflowjava.protocol.impl.core;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.embedded.EmbeddedChannel;
 import java.util.concurrent.TimeUnit;
 import org.junit.Before;
 import org.junit.Test;
@@ -88,4 +92,25 @@ public class IdleHandlerTest {
         idleHandler.readTimedOut(mockChHndlrCtx);
         verify(mockChHndlrCtx, times(3)).fireChannelRead(any(Object.class));
     }
+
+    /**
+     * Test idle detection by the liveness tracker of the channel's event loop.
+     */
+    @Test
+    public void testTrackedTimeout() throws Exception {
+        final EmbeddedChannel channel = new EmbeddedChannel(new IdleHandler(100L, TimeUnit.MILLISECONDS));
+
+        channel.writeInbound("read");
+        assertEquals("read", channel.readInbound());
+
+        // Deadlines are rounded up to the next tick
+        Thread.sleep(3 * TimeUnit.NANOSECONDS.toMillis(LivenessTracker.TICK_NANOS));
+        channel.runScheduledPendingTasks();
+        assertTrue(channel.readInbound() instanceof SwitchIdleEvent);
+        assertNull("Only one notification is expected", channel.readInbound());
+
+        channel.close();
+        channel.runScheduledPendingTasks();
+        assertNull(channel.readInbound());
+    }
 }
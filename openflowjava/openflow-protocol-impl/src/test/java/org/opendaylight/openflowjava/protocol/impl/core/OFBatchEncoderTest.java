@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2018 OpenDaylight and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowjava.protocol.impl.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyShort;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opendaylight.openflowjava.protocol.api.util.EncodeConstants;
+import org.opendaylight.openflowjava.protocol.impl.core.connection.OutboundMessageBatch;
+import org.opendaylight.openflowjava.protocol.impl.serialization.SerializationFactory;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.OfHeader;
+
+/**
+ * Unit tests for {@link OFBatchEncoder}.
+ */
+public class OFBatchEncoderTest {
+
+    @Mock
+    ChannelHandlerContext mockChHndlrCtx;
+    @Mock
+    SerializationFactory mockSerializationFactory;
+    @Mock
+    OfHeader mockMsg;
+    @Mock
+    OfHeader mockFailingMsg;
+
+    private OFBatchEncoder ofBatchEncoder;
+    private final ByteBuf out = Unpooled.buffer();
+
+    /**
+     * Sets up test environment.
+     */
+    @Before
+    public void setUp() {
+        MockitoAnnotations.initMocks(this);
+        ofBatchEncoder = new OFBatchEncoder();
+        ofBatchEncoder.setSerializationFactory(mockSerializationFactory);
+        when(mockMsg.getVersion()).thenReturn((short) EncodeConstants.OF13_VERSION_ID);
+        when(mockFailingMsg.getVersion()).thenReturn((short) EncodeConstants.OF13_VERSION_ID);
+        doAnswer(invocation -> {
+            ((ByteBuf) invocation.getArguments()[1]).writeZero(EncodeConstants.OFHEADER_SIZE);
+            return null;
+        }).when(mockSerializationFactory).messageToBuffer(anyShort(), any(ByteBuf.class), eq(mockMsg));
+    }
+
+    /**
+     * All messages of the batch end up in a single buffer.
+     */
+    @Test
+    public void testEncodeBatch() {
+        final OutboundMessageBatch batch = new OutboundMessageBatch(3);
+        batch.add(mockMsg);
+        batch.add(mockMsg);
+        batch.add(mockMsg);
+
+        ofBatchEncoder.encode(mockChHndlrCtx, batch, out);
+
+        assertEquals(3 * EncodeConstants.OFHEADER_SIZE, out.readableBytes());
+    }
+
+    /**
+     * Partially written output of a failed message is discarded, following messages are still encoded.
+     */
+    @Test
+    public void testEncodeSerializationException() {
+        doAnswer(invocation -> {
+            ((ByteBuf) invocation.getArguments()[1]).writeZero(3);
+            throw new IllegalArgumentException();
+        }).when(mockSerializationFactory).messageToBuffer(anyShort(), any(ByteBuf.class), eq(mockFailingMsg));
+        final OutboundMessageBatch batch = new OutboundMessageBatch(3);
+        batch.add(mockMsg);
+        batch.add(mockFailingMsg);
+        batch.add(mockMsg);
+
+        ofBatchEncoder.encode(mockChHndlrCtx, batch, out);
+
+        assertEquals(2 * EncodeConstants.OFHEADER_SIZE, out.readableBytes());
+    }
+}
@@ -39,7 +39,7 @@ public class OFDatagramPacketDecoderTest {
 
     @Test
     public void test() throws Exception {
-        OFDatagramPacketDecoder decoder = new OFDatagramPacketDecoder();
+        OFDatagramPacketDecoder decoder = new OFDatagramPacketDecoder(new UdpConnectionMap());
         decoder.setDeserializationFactory(deserializationFactory);
         msgWrapper = new VersionMessageUdpWrapper(EncodeConstants.OF13_VERSION_ID, messageBufferMock,
                 new InetSocketAddress("10.0.0.1", 6653));
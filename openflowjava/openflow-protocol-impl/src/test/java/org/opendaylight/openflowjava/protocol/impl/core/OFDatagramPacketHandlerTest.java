@@ -50,13 +50,15 @@ public class OFDatagramPacketHandlerTest {
      */
     @Test
     public void test() throws Exception {
-        OFDatagramPacketHandler handler = new OFDatagramPacketHandler(switchConnHandler, CHANNEL_OUTBOUND_QUEUE_SIZE);
+        UdpConnectionMap connectionMap = new UdpConnectionMap();
+        OFDatagramPacketHandler handler = new OFDatagramPacketHandler(switchConnHandler, CHANNEL_OUTBOUND_QUEUE_SIZE,
+                connectionMap);
         byte version = EncodeConstants.OF13_VERSION_ID;
         ByteBuf messageBuffer = ByteBufUtils.hexStringToByteBuf("04 02 00 08 01 02 03 04");
         InetSocketAddress recipientISA = InetSocketAddress.createUnresolved("localhost", 9876);
         InetSocketAddress senderISA = InetSocketAddress.createUnresolved("192.168.15.24", 21021);
         DatagramPacket datagramPacket = new DatagramPacket(messageBuffer, recipientISA, senderISA);
-        UdpConnectionMap.addConnection(datagramPacket.sender(), consumerMock);
+        connectionMap.addConnection(datagramPacket.sender(), consumerMock);
         List<Object> outList = new ArrayList<>();
 
         handler.decode(ctxMock, datagramPacket, outList);
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2018 OpenDaylight and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowjava.protocol.impl.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyShort;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opendaylight.openflowjava.protocol.impl.core.connection.ConnectionFacade;
+import org.opendaylight.openflowjava.protocol.impl.deserialization.DeserializationFactory;
+import org.opendaylight.openflowjava.util.ByteBufUtils;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+
+/**
+ * Unit tests for {@link OFInboundDecoder}.
+ */
+public class OFInboundDecoderTest {
+
+    @Mock
+    ChannelHandlerContext channelHandlerContext;
+    @Mock
+    ConnectionFacade connectionFacade;
+    @Mock
+    DeserializationFactory deserializationFactory;
+    @Mock
+    DataObject dataObject;
+
+    private OFInboundDecoder decoder;
+    private final List<Object> list = new ArrayList<>();
+
+    /**
+     * Sets up tests.
+     */
+    @Before
+    public void setUp() {
+        MockitoAnnotations.initMocks(this);
+        decoder = new OFInboundDecoder(connectionFacade, false, deserializationFactory);
+        when(deserializationFactory.deserialize(any(ByteBuf.class), anyShort())).thenAnswer(invocation -> {
+            final ByteBuf buffer = (ByteBuf) invocation.getArguments()[0];
+            // the buffer has to be bounded by the frame and positioned after the version byte
+            assertEquals(0, buffer.readableBytes() % 7);
+            buffer.skipBytes(buffer.readableBytes());
+            return dataObject;
+        });
+    }
+
+    /**
+     * All complete frames are decoded and passed on as one batch, the partial one is left in the buffer.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testDecodeBatch() {
+        final ByteBuf byteBuffer = ByteBufUtils.hexStringToByteBuf("04 00 00 08 00 00 00 01 04 02 00 08 00 00 00 02"
+                + " 04 00 00 08 00");
+
+        decoder.decode(channelHandlerContext, byteBuffer, list);
+
+        assertEquals(1, list.size());
+        final List<DataObject> batch = (List<DataObject>) list.get(0);
+        assertEquals(2, batch.size());
+        assertEquals(5, byteBuffer.readableBytes());
+        verify(deserializationFactory, times(2)).deserialize(any(ByteBuf.class), eq((short) 4));
+    }
+
+    /**
+     * Unsupported versions and filtered PacketIns are dropped without deserialization.
+     */
+    @Test
+    public void testDecodeDropped() {
+        decoder.setFilterPacketIns(true);
+        final ByteBuf byteBuffer = ByteBufUtils.hexStringToByteBuf("04 0a 00 08 00 00 00 01 07 02 00 08 00 00 00 02");
+
+        decoder.decode(channelHandlerContext, byteBuffer, list);
+
+        assertEquals(0, list.size());
+        assertEquals(0, byteBuffer.readableBytes());
+        verify(deserializationFactory, never()).deserialize(any(ByteBuf.class), anyShort());
+    }
+
+    /**
+     * Frame which fails to deserialize is skipped, following frames are still decoded.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testDecodeDeserializeException() {
+        when(deserializationFactory.deserialize(any(ByteBuf.class), anyShort()))
+                .thenThrow(new IllegalArgumentException()).thenReturn(dataObject);
+        final ByteBuf byteBuffer = ByteBufUtils.hexStringToByteBuf("04 02 00 08 00 00 00 01 04 02 00 08 00 00 00 02");
+
+        decoder.decode(channelHandlerContext, byteBuffer, list);
+
+        assertEquals(1, ((List<DataObject>) list.get(0)).size());
+        assertEquals(0, byteBuffer.readableBytes());
+    }
+}
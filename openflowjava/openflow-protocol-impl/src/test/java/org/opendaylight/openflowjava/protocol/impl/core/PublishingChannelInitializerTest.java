@@ -83,7 +83,7 @@ public class PublishingChannelInitializerTest {
 
         inetSockAddr = new InetSocketAddress(InetAddress.getLocalHost(), 8675);
 
-        when(mockConnAdaptorFactory.createConnectionFacade(mockSocketCh, null, true, CHANNEL_OUTBOUND_QUEUE_SIZE))
+        when(mockConnAdaptorFactory.createConnectionFacade(mockSocketCh, null, true, CHANNEL_OUTBOUND_QUEUE_SIZE, null))
                 .thenReturn(mockConnFacade);
         when(mockSocketCh.remoteAddress()).thenReturn(inetSockAddr) ;
         when(mockSocketCh.localAddress()).thenReturn(inetSockAddr) ;
@@ -119,6 +119,8 @@ public class PublishingChannelInitializerTest {
 
         verifyCommonHandlers();
         verify(mockChPipeline, times(0)).addLast(eq(PipelineHandlers.SSL_HANDLER.name()),any(SslHandler.class)) ;
+        verify(mockChPipeline, times(0)).addLast(eq(PipelineHandlers.OF_BATCH_ENCODER.name()),
+                any(OFBatchEncoder.class));
     }
 
     /**
@@ -132,6 +134,19 @@ public class PublishingChannelInitializerTest {
         verifyCommonHandlers();
     }
 
+    /**
+     * Test channel initialization with the batched outbound encoder enabled.
+     */
+    @Test
+    public void testinitChannelBatchedOutboundEncoder() {
+        pubChInitializer.setUseBatchedOutboundEncoder(true);
+        pubChInitializer.initChannel(mockSocketCh);
+
+        verifyCommonHandlers();
+        verify(mockChPipeline, times(1)).addLast(eq(PipelineHandlers.OF_BATCH_ENCODER.name()),
+                any(OFBatchEncoder.class));
+    }
+
     /**
      * Test disconnect on new connection rejected.
      */
@@ -26,6 +26,7 @@ public class UdpConnectionMapTest {
 
     @Mock MessageConsumer consumerMock;
     @Mock ByteBuf messageBuffer;
+    private final UdpConnectionMap connectionMap = new UdpConnectionMap();
 
     @Before
     public void startUp() {
@@ -40,12 +41,23 @@ public class UdpConnectionMapTest {
         InetSocketAddress recipientISA = InetSocketAddress.createUnresolved("localhost", 9876);
         InetSocketAddress senderISA = InetSocketAddress.createUnresolved("192.168.15.2", 21021);
         DatagramPacket datagramPacket = new DatagramPacket(messageBuffer, recipientISA, senderISA);
-        UdpConnectionMap.addConnection(datagramPacket.sender(), consumerMock);
+        connectionMap.addConnection(datagramPacket.sender(), consumerMock);
         Assert.assertEquals("Wrong - different object has been returned",
-                consumerMock, UdpConnectionMap.getMessageConsumer(datagramPacket.sender()));
-        UdpConnectionMap.removeConnection(datagramPacket.sender());
+                consumerMock, connectionMap.getMessageConsumer(datagramPacket.sender()));
+        connectionMap.removeConnection(datagramPacket.sender());
         Assert.assertNull("Wrong - object has been returned after remove key-value pair",
-                UdpConnectionMap.getMessageConsumer(datagramPacket.sender()));
+                connectionMap.getMessageConsumer(datagramPacket.sender()));
+    }
+
+    /**
+     * Test {@link UdpConnectionMap} - connections of different maps are independent.
+     */
+    @Test
+    public void testIndependentMaps() {
+        InetSocketAddress senderISA = InetSocketAddress.createUnresolved("192.168.15.3", 21021);
+        connectionMap.addConnection(senderISA, consumerMock);
+        Assert.assertNull("Wrong - connection leaked to another map",
+                new UdpConnectionMap().getMessageConsumer(senderISA));
     }
 
     /**
@@ -53,7 +65,7 @@ public class UdpConnectionMapTest {
      */
     @Test(expected = IllegalArgumentException.class)
     public void testWithoutSenderAddressOnAdd() {
-        UdpConnectionMap.addConnection(null, consumerMock);
+        connectionMap.addConnection(null, consumerMock);
     }
 
     /**
@@ -61,7 +73,7 @@ public class UdpConnectionMapTest {
      */
     @Test(expected = IllegalArgumentException.class)
     public void testWithoutSenderAddressOnGet() {
-        UdpConnectionMap.getMessageConsumer(null);
+        connectionMap.getMessageConsumer(null);
     }
 
     /**
@@ -69,6 +81,6 @@ public class UdpConnectionMapTest {
      */
     @Test(expected = IllegalArgumentException.class)
     public void testWithoutSenderAddressOnRemove() {
-        UdpConnectionMap.removeConnection(null);
+        connectionMap.removeConnection(null);
     }
 }
@@ -40,7 +40,7 @@ public class ConnectionAdapterFactoryImplTest {
     public void test() {
         final ConnectionAdapterFactoryImpl connAdapterFactory = new ConnectionAdapterFactoryImpl();
         final ConnectionFacade connFacade = connAdapterFactory.createConnectionFacade(channel, address, true,
-                CHANNEL_OUTBOUND_QUEUE_SIZE);
+                CHANNEL_OUTBOUND_QUEUE_SIZE, null);
         Assert.assertNotNull("Wrong - ConnectionFacade has not created.", connFacade);
         Assert.assertEquals("Wrong - diffrence between channel.isOpen() and ConnectionFacade.isAlive()",
                 channel.isOpen(), connFacade.isAlive());
@@ -7,9 +7,6 @@
  */
 package org.opendaylight.openflowjava.protocol.impl.core.connection;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.RemovalListener;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelOutboundHandlerAdapter;
 import io.netty.channel.ChannelPromise;
@@ -52,8 +49,6 @@ import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731
 public class ConnectionAdapterImpl02Test {
     private static final int RPC_RESPONSE_EXPIRATION = 1;
     private static final int CHANNEL_OUTBOUND_QUEUE_SIZE = 1024;
-    private static final RemovalListener<RpcResponseKey, ResponseExpectedRpcListener<?>> REMOVAL_LISTENER =
-        notification -> notification.getValue().discard();
 
     @Mock EchoInput echoInput;
     @Mock BarrierInput barrierInput;
@@ -75,7 +70,7 @@ public class ConnectionAdapterImpl02Test {
     @Mock GetAsyncInput getAsyncInput;
     @Mock SetAsyncInput setAsyncInput;
     private ConnectionAdapterImpl adapter;
-    private Cache<RpcResponseKey, ResponseExpectedRpcListener<?>> cache;
+    private ResponseTable responseTable;
     private OfHeader responseOfCall;
 
     /**
@@ -104,9 +99,8 @@ public class ConnectionAdapterImpl02Test {
         final EmbeddedChannel embChannel = new EmbeddedChannel(new EmbededChannelHandler());
         adapter = new ConnectionAdapterImpl(embChannel, InetSocketAddress.createUnresolved("localhost", 9876), true,
                 CHANNEL_OUTBOUND_QUEUE_SIZE);
-        cache = CacheBuilder.newBuilder().concurrencyLevel(1).expireAfterWrite(
-                RPC_RESPONSE_EXPIRATION, TimeUnit.MINUTES).removalListener(REMOVAL_LISTENER).build();
-        adapter.setResponseCache(cache);
+        responseTable = new ResponseTable(null, RPC_RESPONSE_EXPIRATION, TimeUnit.MINUTES);
+        adapter.setResponseTable(responseTable);
         // -- barrier
         adapter.barrier(barrierInput);
         embChannel.runPendingTasks();
@@ -9,9 +9,6 @@ package org.opendaylight.openflowjava.protocol.impl.core.connection;
 
 import static org.mockito.Mockito.when;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.RemovalListener;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelOutboundHandlerAdapter;
 import io.netty.channel.ChannelPipeline;
@@ -69,8 +66,6 @@ public class ConnectionAdapterImplStatisticsTest {
 
     private static final int RPC_RESPONSE_EXPIRATION = 1;
     private static final int CHANNEL_OUTBOUND_QUEUE_SIZE = 1024;
-    private static final RemovalListener<RpcResponseKey, ResponseExpectedRpcListener<?>> REMOVAL_LISTENER =
-        notification -> notification.getValue().discard();
 
     @Mock SystemNotificationsListener systemListener;
     @Mock ConnectionReadyListener readyListener;
@@ -99,7 +94,7 @@ public class ConnectionAdapterImplStatisticsTest {
     @Mock SetAsyncInput setAsyncInput;
 
     private ConnectionAdapterImpl adapter;
-    private Cache<RpcResponseKey, ResponseExpectedRpcListener<?>> cache;
+    private ResponseTable responseTable;
     private StatisticsCounters statCounters;
 
     /**
@@ -140,9 +135,8 @@ public class ConnectionAdapterImplStatisticsTest {
         final EmbeddedChannel embChannel = new EmbeddedChannel(new EmbededChannelHandler());
         adapter = new ConnectionAdapterImpl(embChannel, InetSocketAddress.createUnresolved("localhost", 9876), true,
                 CHANNEL_OUTBOUND_QUEUE_SIZE);
-        cache = CacheBuilder.newBuilder().concurrencyLevel(1)
-                .expireAfterWrite(RPC_RESPONSE_EXPIRATION, TimeUnit.MINUTES).removalListener(REMOVAL_LISTENER).build();
-        adapter.setResponseCache(cache);
+        responseTable = new ResponseTable(null, RPC_RESPONSE_EXPIRATION, TimeUnit.MINUTES);
+        adapter.setResponseTable(responseTable);
         adapter.barrier(barrierInput);
         embChannel.runPendingTasks();
         adapter.echo(echoInput);
@@ -202,9 +196,8 @@ public class ConnectionAdapterImplStatisticsTest {
         adapter.setMessageListener(messageListener);
         adapter.setSystemListener(systemListener);
         adapter.setConnectionReadyListener(readyListener);
-        cache = CacheBuilder.newBuilder().concurrencyLevel(1)
-                .expireAfterWrite(RPC_RESPONSE_EXPIRATION, TimeUnit.MINUTES).removalListener(REMOVAL_LISTENER).build();
-        adapter.setResponseCache(cache);
+        responseTable = new ResponseTable(null, RPC_RESPONSE_EXPIRATION, TimeUnit.MINUTES);
+        adapter.setResponseTable(responseTable);
         when(channel.disconnect()).thenReturn(channelFuture);
         DataObject message = new EchoRequestMessageBuilder().build();
         adapter.consume(message);
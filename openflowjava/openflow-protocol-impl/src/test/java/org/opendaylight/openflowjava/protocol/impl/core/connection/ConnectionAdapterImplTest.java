@@ -8,14 +8,10 @@
 
 package org.opendaylight.openflowjava.protocol.impl.core.connection;
 
-import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.RemovalListener;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelPipeline;
 import io.netty.channel.socket.SocketChannel;
@@ -67,19 +63,16 @@ public class ConnectionAdapterImplTest {
 
     private static final int RPC_RESPONSE_EXPIRATION = 1;
     private static final int CHANNEL_OUTBOUND_QUEUE_SIZE = 1024;
-    private static final RemovalListener<RpcResponseKey, ResponseExpectedRpcListener<?>> REMOVAL_LISTENER =
-        notification -> notification.getValue().discard();
 
     @Mock SocketChannel channel;
     @Mock ChannelPipeline pipeline;
     @Mock OpenflowProtocolListener messageListener;
     @Mock SystemNotificationsListener systemListener;
     @Mock ConnectionReadyListener readyListener;
-    @Mock Cache<RpcResponseKey, ResponseExpectedRpcListener<?>> mockCache;
     @Mock ChannelFuture channelFuture;
 
     private ConnectionAdapterImpl adapter;
-    private Cache<RpcResponseKey, ResponseExpectedRpcListener<?>> cache;
+    private ResponseTable responseTable;
 
     /**
      * Initializes ConnectionAdapter.
@@ -93,9 +86,8 @@ public class ConnectionAdapterImplTest {
         adapter.setMessageListener(messageListener);
         adapter.setSystemListener(systemListener);
         adapter.setConnectionReadyListener(readyListener);
-        cache = CacheBuilder.newBuilder().concurrencyLevel(1)
-                .expireAfterWrite(RPC_RESPONSE_EXPIRATION, TimeUnit.MINUTES).removalListener(REMOVAL_LISTENER).build();
-        adapter.setResponseCache(cache);
+        responseTable = new ResponseTable(null, RPC_RESPONSE_EXPIRATION, TimeUnit.MINUTES);
+        adapter.setResponseTable(responseTable);
         when(channel.disconnect()).thenReturn(channelFuture);
     }
 
@@ -144,12 +136,11 @@ public class ConnectionAdapterImplTest {
      */
     @Test
     public void testConsume2() {
-        adapter.setResponseCache(mockCache);
         final BarrierOutputBuilder barrierBuilder = new BarrierOutputBuilder();
         barrierBuilder.setXid(42L);
         final BarrierOutput barrier = barrierBuilder.build();
         adapter.consume(barrier);
-        verify(mockCache, times(1)).getIfPresent(any(RpcResponseKey.class));
+        Assert.assertEquals("Unexpected rpc registered", 0, responseTable.size());
     }
 
     /**
@@ -161,17 +152,18 @@ public class ConnectionAdapterImplTest {
         inputBuilder.setVersion((short) EncodeConstants.OF13_VERSION_ID);
         inputBuilder.setXid(42L);
         final BarrierInput barrierInput = inputBuilder.build();
-        final RpcResponseKey key = new RpcResponseKey(42L,
-                "org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.BarrierOutput");
+        final String outputClazz =
+                "org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.BarrierOutput";
         final ResponseExpectedRpcListener<OfHeader> listener = new ResponseExpectedRpcListener<>(barrierInput,
-                "failure", mockCache, key);
-        cache.put(key, listener);
+                "failure", responseTable, 42L, outputClazz);
+        responseTable.put(42L, outputClazz, listener);
         final BarrierOutputBuilder barrierBuilder = new BarrierOutputBuilder();
         barrierBuilder.setXid(42L);
         final BarrierOutput barrierOutput = barrierBuilder.build();
         adapter.consume(barrierOutput);
-        final ResponseExpectedRpcListener<?> ifPresent = cache.getIfPresent(key);
+        final ResponseExpectedRpcListener<?> ifPresent = responseTable.get(42L, outputClazz);
         Assert.assertNull("Listener was not discarded", ifPresent);
+        Assert.assertTrue("Listener was not completed", listener.getResult().isDone());
     }
 
     /**
@@ -10,6 +10,7 @@ package org.opendaylight.openflowjava.protocol.impl.core.connection;
 
 import java.net.InetAddress;
 import org.opendaylight.openflowjava.protocol.api.connection.ConnectionConfiguration;
+import org.opendaylight.openflowjava.protocol.api.connection.FlushConfiguration;
 import org.opendaylight.openflowjava.protocol.api.connection.ThreadConfiguration;
 import org.opendaylight.openflowjava.protocol.api.connection.TlsConfiguration;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.config.rev140630.TransportProtocol;
@@ -27,9 +28,14 @@ public class ConnectionConfigurationImpl implements ConnectionConfiguration {
     private final TlsConfiguration tlsConfig;
     private final long switchIdleTimeout;
     private ThreadConfiguration threadConfig;
+    private FlushConfiguration flushConfig;
     private final boolean useBarrier;
     private final boolean isGroupAddModEnabled;
     private final int channelOutboundQueueSize;
+    private boolean isZeroCopyPacketInEnabled;
+    private boolean isFusedInboundDecoderEnabled;
+    private boolean isBatchedOutboundEncoderEnabled;
+    private boolean isUdpReusePortEnabled;
 
     /**
      * Creates {@link ConnectionConfigurationImpl}.
@@ -103,6 +109,20 @@ public class ConnectionConfigurationImpl implements ConnectionConfiguration {
         this.threadConfig = config;
     }
 
+    @Override
+    public FlushConfiguration getFlushConfiguration() {
+        return flushConfig;
+    }
+
+    /**
+     * Sets the FlushConfiguration.
+     *
+     * @param config outbound queue flush configuration
+     */
+    public void setFlushConfiguration(final FlushConfiguration config) {
+        this.flushConfig = config;
+    }
+
     @Override
     public boolean useBarrier() {
         return useBarrier;
@@ -112,4 +132,40 @@ public class ConnectionConfigurationImpl implements ConnectionConfiguration {
     public boolean isGroupAddModEnabled() {
         return isGroupAddModEnabled;
     }
+
+    @Override
+    public boolean isZeroCopyPacketInEnabled() {
+        return isZeroCopyPacketInEnabled;
+    }
+
+    public void setZeroCopyPacketInEnabled(final boolean enabled) {
+        this.isZeroCopyPacketInEnabled = enabled;
+    }
+
+    @Override
+    public boolean isFusedInboundDecoderEnabled() {
+        return isFusedInboundDecoderEnabled;
+    }
+
+    public void setFusedInboundDecoderEnabled(final boolean enabled) {
+        this.isFusedInboundDecoderEnabled = enabled;
+    }
+
+    @Override
+    public boolean isBatchedOutboundEncoderEnabled() {
+        return isBatchedOutboundEncoderEnabled;
+    }
+
+    public void setBatchedOutboundEncoderEnabled(final boolean enabled) {
+        this.isBatchedOutboundEncoderEnabled = enabled;
+    }
+
+    @Override
+    public boolean isUdpReusePortEnabled() {
+        return isUdpReusePortEnabled;
+    }
+
+    public void setUdpReusePortEnabled(final boolean enabled) {
+        this.isUdpReusePortEnabled = enabled;
+    }
 }
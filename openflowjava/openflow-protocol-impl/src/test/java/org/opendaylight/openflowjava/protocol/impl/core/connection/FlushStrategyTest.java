@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2018 OpenDaylight and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowjava.protocol.impl.core.connection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import org.opendaylight.openflowjava.protocol.api.connection.FlushConfiguration;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.config.rev140630.FlushPolicy;
+
+/**
+ * {@link FlushStrategy} class test.
+ */
+public class FlushStrategyTest {
+
+    private static final long MAX_DELAY_MICROS = 200;
+    private static final long MAX_DELAY_NANOS = TimeUnit.MICROSECONDS.toNanos(MAX_DELAY_MICROS);
+    private static final int MAX_MESSAGES = 4;
+
+    private static FlushConfiguration createConfig(final FlushPolicy policy) {
+        final FlushConfiguration config = mock(FlushConfiguration.class);
+        doReturn(policy).when(config).getFlushPolicy();
+        doReturn(MAX_DELAY_MICROS).when(config).getMaxDelay();
+        doReturn(MAX_MESSAGES).when(config).getMaxMessages();
+        return config;
+    }
+
+    /**
+     * Missing configuration and IMMEDIATE policy never delay a flush.
+     */
+    @Test
+    public void testImmediate() {
+        assertSame(FlushStrategy.IMMEDIATE, FlushStrategy.create(null));
+        assertSame(FlushStrategy.IMMEDIATE, FlushStrategy.create(createConfig(FlushPolicy.IMMEDIATE)));
+        assertEquals(0, FlushStrategy.IMMEDIATE.onCommit());
+        assertEquals(0, FlushStrategy.IMMEDIATE.flushDelay());
+    }
+
+    /**
+     * COALESCING waits for the maximum delay until enough messages are committed.
+     */
+    @Test
+    public void testCoalescing() {
+        final FlushStrategy strategy = FlushStrategy.create(createConfig(FlushPolicy.COALESCING));
+        for (int i = 1; i < MAX_MESSAGES; ++i) {
+            assertEquals(MAX_DELAY_NANOS, strategy.onCommit());
+        }
+        assertEquals(0, strategy.onCommit());
+        assertEquals(0, strategy.flushDelay());
+
+        strategy.onFlushed(MAX_MESSAGES);
+        assertEquals(MAX_DELAY_NANOS, strategy.flushDelay());
+        assertEquals(MAX_DELAY_NANOS, strategy.onCommit());
+    }
+
+    /**
+     * ADAPTIVE starts without delay, grows it up to the maximum under backlog and drops it once traffic calms down.
+     */
+    @Test
+    public void testAdaptive() {
+        final FlushStrategy strategy = FlushStrategy.create(createConfig(FlushPolicy.ADAPTIVE));
+        assertEquals(0, strategy.onCommit());
+
+        long previous = 0;
+        for (int i = 0; i < 10; ++i) {
+            strategy.onFlushed(2);
+            final long delay = strategy.flushDelay();
+            assertTrue(delay > previous || delay == MAX_DELAY_NANOS);
+            previous = delay;
+        }
+        assertEquals(MAX_DELAY_NANOS, strategy.onCommit());
+
+        // Too many messages flush immediately regardless of the delay
+        for (int i = 1; i < MAX_MESSAGES; ++i) {
+            strategy.onCommit();
+        }
+        assertEquals(0, strategy.flushDelay());
+
+        for (int i = 0; i < 10; ++i) {
+            strategy.onFlushed(1);
+        }
+        assertEquals(0, strategy.onCommit());
+    }
+}
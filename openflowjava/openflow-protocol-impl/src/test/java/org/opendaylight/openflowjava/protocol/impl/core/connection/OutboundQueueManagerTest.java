@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2018 OpenDaylight and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowjava.protocol.impl.core.connection;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyShort;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opendaylight.openflowjava.protocol.api.connection.FlushConfiguration;
+import org.opendaylight.openflowjava.protocol.api.connection.OutboundQueue;
+import org.opendaylight.openflowjava.protocol.api.connection.OutboundQueueHandler;
+import org.opendaylight.openflowjava.protocol.impl.core.OFBatchEncoder;
+import org.opendaylight.openflowjava.protocol.impl.core.PipelineHandlers;
+import org.opendaylight.openflowjava.protocol.impl.serialization.SerializationFactory;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.config.rev140630.FlushPolicy;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.EchoInputBuilder;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+
+/**
+ * Unit tests for OutboundQueueManager.
+ */
+public class OutboundQueueManagerTest {
+
+    private static final int CHANNEL_OUTBOUND_QUEUE_SIZE = 1024;
+    private static final int MAX_NON_BARRIER_MESSAGES = 1000;
+    private static final long MAX_BARRIER_NANOS = TimeUnit.SECONDS.toNanos(5);
+    private static final int MESSAGE_LENGTH = 8;
+    private static final long FLUSH_WAIT_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    @Mock OutboundQueueHandler handler;
+    @Mock SerializationFactory serializationFactory;
+
+    private EmbeddedChannel channel;
+    private OutboundQueue queue;
+
+    /**
+     * Initializes mocks, every serialized message takes {@link #MESSAGE_LENGTH} bytes.
+     */
+    @Before
+    public void setUp() {
+        MockitoAnnotations.initMocks(this);
+        doAnswer(invocation -> {
+            ((ByteBuf) invocation.getArguments()[1]).writeZero(MESSAGE_LENGTH);
+            return null;
+        }).when(serializationFactory).messageToBuffer(anyShort(), any(ByteBuf.class), any(DataObject.class));
+    }
+
+    @After
+    public void tearDown() {
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+    /**
+     * Messages committed before a flush are encoded into a single buffer by the batch encoder.
+     */
+    @Test
+    public void testFlushBatched() {
+        createManager(true);
+        commitMessages(3);
+        channel.runPendingTasks();
+
+        final Object written = channel.readOutbound();
+        Assert.assertTrue("Batch not encoded", written instanceof ByteBuf);
+        Assert.assertEquals("Wrong batch length", 3 * MESSAGE_LENGTH, ((ByteBuf) written).readableBytes());
+        ((ByteBuf) written).release();
+        Assert.assertNull("Unexpected write", channel.readOutbound());
+    }
+
+    /**
+     * Without the batch encoder every message is written on its own.
+     */
+    @Test
+    public void testFlushUnbatched() {
+        createManager(false);
+        commitMessages(3);
+        channel.runPendingTasks();
+
+        for (int i = 0; i < 3; i++) {
+            Assert.assertTrue("Message not written", channel.readOutbound() instanceof MessageListenerWrapper);
+        }
+        Assert.assertNull("Unexpected write", channel.readOutbound());
+    }
+
+    /**
+     * A coalescing flush is scheduled with a delay and writes the messages once the delay elapses.
+     */
+    @Test
+    public void testFlushScheduled() throws Exception {
+        createManager(false, createFlushConfiguration(TimeUnit.MILLISECONDS.toMicros(200), 10));
+        commitMessages(3);
+        channel.runPendingTasks();
+        Assert.assertNull("Flushed before delay", channel.readOutbound());
+
+        final long deadline = System.nanoTime() + FLUSH_WAIT_NANOS;
+        Object written = channel.readOutbound();
+        while (written == null && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            channel.runPendingTasks();
+            written = channel.readOutbound();
+        }
+
+        Assert.assertTrue("Delayed flush not run", written instanceof MessageListenerWrapper);
+        for (int i = 1; i < 3; i++) {
+            Assert.assertTrue("Message not written", channel.readOutbound() instanceof MessageListenerWrapper);
+        }
+        Assert.assertNull("Unexpected write", channel.readOutbound());
+    }
+
+    /**
+     * Reaching the message limit expedites the flush and cancels the delayed one.
+     */
+    @Test
+    public void testFlushExpedited() {
+        final long flushDelayNanos = TimeUnit.SECONDS.toNanos(1);
+        createManager(false, createFlushConfiguration(TimeUnit.NANOSECONDS.toMicros(flushDelayNanos), 4));
+        commitMessages(2);
+        channel.runPendingTasks();
+        Assert.assertNull("Flushed before delay", channel.readOutbound());
+        final long scheduledDelay = channel.runScheduledPendingTasks();
+        Assert.assertTrue("Delayed flush not scheduled", scheduledDelay > 0 && scheduledDelay <= flushDelayNanos);
+
+        commitMessages(2);
+        channel.runPendingTasks();
+        for (int i = 0; i < 4; i++) {
+            Assert.assertTrue("Message not written", channel.readOutbound() instanceof MessageListenerWrapper);
+        }
+        Assert.assertNull("Unexpected write", channel.readOutbound());
+
+        // Only the barrier timer, scheduled by the writes, is left
+        Assert.assertTrue("Delayed flush not canceled", channel.runScheduledPendingTasks() > flushDelayNanos);
+    }
+
+    private void createManager(final boolean batched) {
+        createManager(batched, null);
+    }
+
+    private void createManager(final boolean batched, final FlushConfiguration flushConfig) {
+        channel = new EmbeddedChannel();
+        if (batched) {
+            final OFBatchEncoder batchEncoder = new OFBatchEncoder();
+            batchEncoder.setSerializationFactory(serializationFactory);
+            channel.pipeline().addLast(PipelineHandlers.OF_BATCH_ENCODER.name(), batchEncoder);
+        }
+
+        final ConnectionAdapterImpl adapter = new ConnectionAdapterImpl(channel, null, true,
+                CHANNEL_OUTBOUND_QUEUE_SIZE, flushConfig);
+        channel.pipeline().addLast(new OutboundQueueManager<>(adapter, null, handler, MAX_NON_BARRIER_MESSAGES,
+                MAX_BARRIER_NANOS));
+
+        final ArgumentCaptor<OutboundQueue> queueCaptor = ArgumentCaptor.forClass(OutboundQueue.class);
+        verify(handler).onConnectionQueueChanged(queueCaptor.capture());
+        queue = queueCaptor.getValue();
+    }
+
+    private static FlushConfiguration createFlushConfiguration(final long maxDelayMicros, final int maxMessages) {
+        final FlushConfiguration flushConfig = mock(FlushConfiguration.class);
+        when(flushConfig.getFlushPolicy()).thenReturn(FlushPolicy.COALESCING);
+        when(flushConfig.getMaxDelay()).thenReturn(maxDelayMicros);
+        when(flushConfig.getMaxMessages()).thenReturn(maxMessages);
+        return flushConfig;
+    }
+
+    private void commitMessages(final int count) {
+        for (int i = 0; i < count; i++) {
+            final Long xid = queue.reserveEntry();
+            queue.commitEntry(xid, new EchoInputBuilder().setVersion((short) 4).setXid(xid).build(), null);
+        }
+    }
+}
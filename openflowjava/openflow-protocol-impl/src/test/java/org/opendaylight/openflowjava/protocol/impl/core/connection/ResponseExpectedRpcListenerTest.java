@@ -10,9 +10,6 @@ package org.opendaylight.openflowjava.protocol.impl.core.connection;
 
 import static org.junit.Assert.fail;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.RemovalListener;
 import com.google.common.util.concurrent.SettableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -34,21 +31,16 @@ import org.opendaylight.yangtools.yang.common.RpcResultBuilder;
  */
 public class ResponseExpectedRpcListenerTest {
 
-    private static final RemovalListener<RpcResponseKey, ResponseExpectedRpcListener<?>> REMOVAL_LISTENER =
-        notification -> notification.getValue().discard();
     private static final int RPC_RESPONSE_EXPIRATION = 1;
-    private final Cache<RpcResponseKey, ResponseExpectedRpcListener<?>> responseCache  = CacheBuilder.newBuilder()
-            .concurrencyLevel(1)
-            .expireAfterWrite(RPC_RESPONSE_EXPIRATION, TimeUnit.MINUTES)
-            .removalListener(REMOVAL_LISTENER).build();
+    private static final String OUTPUT_CLAZZ = BarrierOutput.class.getName();
+    private final ResponseTable responseTable = new ResponseTable(null, RPC_RESPONSE_EXPIRATION, TimeUnit.MINUTES);
 
     /**
      * Test object creation.
      */
     @Test(expected = NullPointerException.class)
     public void testCreation() {
-        RpcResponseKey key = new RpcResponseKey(12345L, BarrierOutput.class.getName());
-        new ResponseExpectedRpcListener<>("MESSAGE", "Failed to send message", null, key);
+        new ResponseExpectedRpcListener<>("MESSAGE", "Failed to send message", null, 12345L, OUTPUT_CLAZZ);
     }
 
     /**
@@ -56,7 +48,7 @@ public class ResponseExpectedRpcListenerTest {
      */
     @Test(expected = NullPointerException.class)
     public void testCreation2() {
-        new ResponseExpectedRpcListener<>("MESSAGE", "Failed to send message", responseCache, null);
+        new ResponseExpectedRpcListener<>("MESSAGE", "Failed to send message", responseTable, 12345L, null);
     }
 
     /**
@@ -64,9 +56,8 @@ public class ResponseExpectedRpcListenerTest {
      */
     @Test
     public void testDiscard() {
-        RpcResponseKey key = new RpcResponseKey(12345L, BarrierOutput.class.getName());
-        ResponseExpectedRpcListener<OfHeader> listener =
-                new ResponseExpectedRpcListener<>("MESSAGE", "Failed to send message", responseCache, key);
+        ResponseExpectedRpcListener<OfHeader> listener = new ResponseExpectedRpcListener<>("MESSAGE",
+                "Failed to send message", responseTable, 12345L, OUTPUT_CLAZZ);
         listener.discard();
         RpcError rpcError = AbstractRpcListener.buildRpcError("Failed to send message",
                 "check switch connection", new TimeoutException("Request timed out"));
@@ -87,9 +78,8 @@ public class ResponseExpectedRpcListenerTest {
      */
     @Test
     public void testCompleted() {
-        RpcResponseKey key = new RpcResponseKey(12345L, BarrierOutput.class.getName());
-        ResponseExpectedRpcListener<OfHeader> listener =
-                new ResponseExpectedRpcListener<>("MESSAGE", "Failed to send message", responseCache, key);
+        ResponseExpectedRpcListener<OfHeader> listener = new ResponseExpectedRpcListener<>("MESSAGE",
+                "Failed to send message", responseTable, 12345L, OUTPUT_CLAZZ);
         BarrierInputBuilder barrierBuilder = new BarrierInputBuilder();
         BarrierInput barrierInput = barrierBuilder.build();
         listener.completed(barrierInput);
@@ -109,11 +99,10 @@ public class ResponseExpectedRpcListenerTest {
      */
     @Test
     public void testOperationSuccessful() {
-        RpcResponseKey key = new RpcResponseKey(12345L, BarrierOutput.class.getName());
-        ResponseExpectedRpcListener<OfHeader> listener =
-                new ResponseExpectedRpcListener<>("MESSAGE", "Failed to send message", responseCache, key);
+        ResponseExpectedRpcListener<OfHeader> listener = new ResponseExpectedRpcListener<>("MESSAGE",
+                "Failed to send message", responseTable, 12345L, OUTPUT_CLAZZ);
         listener.operationSuccessful();
-        ResponseExpectedRpcListener<?> present = responseCache.getIfPresent(key);
+        ResponseExpectedRpcListener<?> present = responseTable.get(12345L, OUTPUT_CLAZZ);
         Assert.assertEquals(present, listener);
     }
 }
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2018 OpenDaylight and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowjava.protocol.impl.core.connection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.google.common.util.concurrent.Futures;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.BarrierOutput;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.EchoOutput;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.OfHeader;
+
+/**
+ * {@link ResponseTable} class test.
+ */
+public class ResponseTableTest {
+
+    private static final String BARRIER = BarrierOutput.class.getName();
+    private static final String ECHO = EchoOutput.class.getName();
+
+    private final ResponseTable table = new ResponseTable(null, 1, TimeUnit.MINUTES);
+
+    private ResponseExpectedRpcListener<OfHeader> createListener(final long xid, final String outputClazz) {
+        return new ResponseExpectedRpcListener<>("MESSAGE", "Failed to send message", table, xid, outputClazz);
+    }
+
+    /**
+     * Listeners are keyed by both XID and response type, the table grows as needed.
+     */
+    @Test
+    public void testPutRemove() {
+        final int count = 1000;
+        final ResponseExpectedRpcListener<?>[] listeners = new ResponseExpectedRpcListener<?>[count];
+        for (int i = 0; i < count; ++i) {
+            listeners[i] = createListener(i, BARRIER);
+            table.put(i, BARRIER, listeners[i]);
+        }
+        assertEquals(count, table.size());
+        assertNull(table.get(0, ECHO));
+
+        for (int i = 0; i < count; i += 2) {
+            assertSame(listeners[i], table.remove(i, BARRIER));
+        }
+        assertNull(table.remove(0, BARRIER));
+        assertEquals(count / 2, table.size());
+        for (int i = 1; i < count; i += 2) {
+            assertSame(listeners[i], table.get(i, BARRIER));
+        }
+    }
+
+    /**
+     * Entries colliding on the same slot stay reachable after any of them is removed.
+     */
+    @Test
+    public void testCollisions() {
+        final ResponseExpectedRpcListener<?> barrier = createListener(42, BARRIER);
+        final ResponseExpectedRpcListener<?> echo = createListener(42, ECHO);
+        final ResponseExpectedRpcListener<?> other = createListener(43, BARRIER);
+        table.put(42, BARRIER, barrier);
+        table.put(42, ECHO, echo);
+        table.put(43, BARRIER, other);
+
+        assertSame(barrier, table.remove(42, BARRIER));
+        assertSame(echo, table.get(42, ECHO));
+        assertSame(other, table.get(43, BARRIER));
+    }
+
+    /**
+     * Replaced listener is discarded, cleared listeners are dropped without notification.
+     */
+    @Test
+    public void testReplaceClear() {
+        final ResponseExpectedRpcListener<?> first = createListener(1, BARRIER);
+        final ResponseExpectedRpcListener<?> second = createListener(1, BARRIER);
+        table.put(1, BARRIER, first);
+        table.put(1, BARRIER, second);
+
+        assertEquals(1, table.size());
+        assertTrue(first.getResult().isDone());
+        assertFalse(second.getResult().isDone());
+
+        table.clear();
+        assertEquals(0, table.size());
+        assertNull(table.get(1, BARRIER));
+        assertFalse(second.getResult().isDone());
+    }
+
+    /**
+     * Only listeners past their expiration time are discarded.
+     */
+    @Test
+    public void testExpire() {
+        final ResponseExpectedRpcListener<?> listener = createListener(1, BARRIER);
+        table.put(1, BARRIER, listener);
+
+        table.expire(System.nanoTime());
+        assertSame(listener, table.get(1, BARRIER));
+
+        table.expire(System.nanoTime() + TimeUnit.MINUTES.toNanos(1));
+        assertEquals(0, table.size());
+        assertTrue(listener.getResult().isDone());
+        assertFalse(Futures.getUnchecked(listener.getResult()).isSuccessful());
+    }
+
+    /**
+     * Sweep is scheduled once the first entry is inserted and cancelled when the table is empty.
+     */
+    @Test
+    public void testSweepScheduling() {
+        final ScheduledExecutorService executor = mock(ScheduledExecutorService.class);
+        final ScheduledFuture<?> future = mock(ScheduledFuture.class);
+        doReturn(future).when(executor).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+        final ResponseTable scheduled = new ResponseTable(executor, 1, TimeUnit.MINUTES);
+
+        scheduled.put(1, BARRIER, createListener(1, BARRIER));
+        scheduled.put(2, BARRIER, createListener(2, BARRIER));
+        verify(executor).schedule(any(Runnable.class), eq(ResponseTable.SWEEP_INTERVAL_NANOS),
+                eq(TimeUnit.NANOSECONDS));
+
+        scheduled.remove(1, BARRIER);
+        scheduled.remove(2, BARRIER);
+        verify(future).cancel(false);
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2018 OpenDaylight and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowjava.protocol.impl.core.connection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+/**
+ * {@link SegmentPool} class test.
+ */
+public class SegmentPoolTest {
+
+    private static final int SIZE = StackedSegment.MIN_SEGMENT_SIZE;
+
+    private final SegmentPool pool = new SegmentPool(2L * SIZE);
+
+    /**
+     * Released arrays are reused for the same size only.
+     */
+    @Test
+    public void testReuse() {
+        final OutboundQueueEntry[] entries = pool.acquire(SIZE);
+        assertEquals(SIZE, entries.length);
+        assertEquals(1, pool.getMisses());
+
+        pool.release(entries);
+        assertEquals(SIZE, pool.getRetainedEntries());
+        assertEquals(SIZE * SegmentPool.ENTRY_FOOTPRINT, pool.getRetainedBytes());
+
+        assertNotSame(entries, pool.acquire(SIZE * 2));
+        assertSame(entries, pool.acquire(SIZE));
+        assertEquals(1, pool.getHits());
+        assertEquals(2, pool.getMisses());
+        assertEquals(0, pool.getRetainedEntries());
+    }
+
+    /**
+     * Arrays released over the limit are discarded.
+     */
+    @Test
+    public void testLimit() {
+        final OutboundQueueEntry[] small = pool.acquire(SIZE);
+        final OutboundQueueEntry[] large = pool.acquire(SIZE * 2);
+
+        pool.release(small);
+        pool.release(large);
+        assertEquals(SIZE, pool.getRetainedEntries());
+        assertEquals(1, pool.getDiscards());
+    }
+
+    /**
+     * Sizes which are not a power of two within the segment size range are rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnsupportedSize() {
+        pool.acquire(SIZE + 1);
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2018 OpenDaylight and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowjava.protocol.impl.core.connection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.collect.Lists;
+import java.util.Arrays;
+import java.util.Iterator;
+import org.junit.Test;
+
+/**
+ * {@link SegmentRing} class test.
+ */
+public class SegmentRingTest {
+
+    private static final int SIZE = StackedSegment.MIN_SEGMENT_SIZE;
+
+    private final SegmentRing ring = new SegmentRing();
+
+    private StackedSegment[] addSegments(final int count) {
+        final StackedSegment[] segments = new StackedSegment[count];
+        for (int i = 0; i < count; ++i) {
+            segments[i] = new StackedSegment((long) SIZE * i, new OutboundQueueEntry[SIZE]);
+            ring.add(segments[i]);
+        }
+        return segments;
+    }
+
+    /**
+     * XIDs are mapped to the owning segment, growing the ring as needed.
+     */
+    @Test
+    public void testFind() {
+        final StackedSegment[] segments = addSegments(10);
+
+        assertEquals(10, ring.size());
+        assertSame(segments[0], ring.find(0));
+        assertSame(segments[0], ring.find(SIZE - 1));
+        assertSame(segments[1], ring.find(SIZE));
+        assertSame(segments[9], ring.find(SIZE * 10L - 1));
+        assertNull(ring.find(SIZE * 10L));
+        assertNull(ring.find(-1));
+    }
+
+    /**
+     * Out of order removal leaves holes, removal of the oldest segment moves the ring forward.
+     */
+    @Test
+    public void testRemove() {
+        final StackedSegment[] segments = addSegments(4);
+
+        assertTrue(ring.remove(segments[1]));
+        assertFalse(ring.remove(segments[1]));
+        assertNull(ring.find(SIZE));
+        assertEquals(Arrays.asList(segments[0], segments[2], segments[3]), Lists.newArrayList(ring));
+
+        assertTrue(ring.remove(segments[0]));
+        assertNull(ring.find(0));
+        assertSame(segments[2], ring.find(SIZE * 2));
+
+        // New segments are appended after the remaining ones
+        final StackedSegment next = new StackedSegment(SIZE * 4L, new OutboundQueueEntry[SIZE]);
+        ring.add(next);
+        assertSame(next, ring.find(SIZE * 4L));
+        assertEquals(Arrays.asList(segments[2], segments[3], next), Lists.newArrayList(ring));
+    }
+
+    /**
+     * Removal through the iterator, as done when a barrier completes preceding segments.
+     */
+    @Test
+    public void testIteratorRemove() {
+        final StackedSegment[] segments = addSegments(5);
+        ring.remove(segments[1]);
+
+        final Iterator<StackedSegment> it = ring.iterator();
+        assertSame(segments[0], it.next());
+        it.remove();
+        assertSame(segments[2], it.next());
+        it.remove();
+        assertSame(segments[3], it.next());
+
+        assertEquals(Arrays.asList(segments[3], segments[4]), Lists.newArrayList(ring));
+        assertSame(segments[3], ring.find(SIZE * 3));
+
+        ring.remove(segments[3]);
+        ring.remove(segments[4]);
+        assertEquals(0, ring.size());
+        assertFalse(ring.iterator().hasNext());
+    }
+
+    /**
+     * Larger segments cover multiple slots and are still found by any of their XIDs.
+     */
+    @Test
+    public void testVariableSize() {
+        final StackedSegment small = new StackedSegment(0, new OutboundQueueEntry[SIZE]);
+        final StackedSegment large = new StackedSegment(SIZE, new OutboundQueueEntry[SIZE * 4]);
+        final StackedSegment last = new StackedSegment(SIZE * 5L, new OutboundQueueEntry[SIZE * 2]);
+        ring.add(small);
+        ring.add(large);
+        ring.add(last);
+
+        assertSame(large, ring.find(SIZE));
+        assertSame(large, ring.find(SIZE * 5L - 1));
+        assertSame(last, ring.find(SIZE * 5L));
+        assertSame(last, ring.find(SIZE * 7L - 1));
+        assertNull(ring.find(SIZE * 7L));
+        assertEquals(Arrays.asList(small, large, last), Lists.newArrayList(ring));
+
+        assertTrue(ring.remove(large));
+        assertNull(ring.find(SIZE * 3L));
+        assertTrue(ring.remove(small));
+        assertSame(last, ring.first());
+        assertSame(last, ring.find(SIZE * 6L));
+    }
+}
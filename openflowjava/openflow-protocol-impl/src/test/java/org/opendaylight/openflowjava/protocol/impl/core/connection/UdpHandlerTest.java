@@ -8,6 +8,7 @@
 package org.opendaylight.openflowjava.protocol.impl.core.connection;
 
 import com.google.common.util.concurrent.ListenableFuture;
+import io.netty.channel.epoll.Epoll;
 import java.io.IOException;
 import java.net.InetAddress;
 import java.util.concurrent.ExecutionException;
@@ -114,6 +115,30 @@ public class UdpHandlerTest {
         shutdownServer();
     }
 
+    /**
+     * Test to create UdpHandler sharing the port among several channels on Epoll native transport.
+     */
+    @Test
+    public void testReusePortOnEpoll() throws Exception {
+        udpHandler = new UdpHandler(null, 0);
+        udpHandler.setChannelInitializer(udpChannelInitializerMock);
+        udpHandler.setReusePort(true);
+        Assert.assertTrue("Wrong - start server", startupServer(true));
+        try {
+            Assert.assertTrue(udpHandler.getIsOnlineFuture().get(1500, TimeUnit.MILLISECONDS));
+        } catch (TimeoutException e) {
+            Assert.fail("Wrong - getIsOnlineFuture timed out");
+        }
+        Assert.assertFalse("Wrong - port has been set to zero", udpHandler.getPort() == 0);
+        if (Epoll.isAvailable()) {
+            // Default Epoll group has twice as many workers as there are processors
+            Assert.assertTrue("Wrong - port is not shared", udpHandler.getChannelCount() > 1);
+        } else {
+            Assert.assertEquals("Wrong - port shared without Epoll", 1, udpHandler.getChannelCount());
+        }
+        shutdownServer();
+    }
+
     private Boolean startupServer(final boolean isEpollEnabled)
             throws InterruptedException, IOException, ExecutionException {
         ListenableFuture<Boolean> online = udpHandler.getIsOnlineFuture();
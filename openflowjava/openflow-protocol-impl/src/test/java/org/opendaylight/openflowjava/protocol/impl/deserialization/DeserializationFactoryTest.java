@@ -9,11 +9,22 @@
 package org.opendaylight.openflowjava.protocol.impl.deserialization;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.PooledByteBufAllocator;
 import org.junit.Test;
+import org.opendaylight.openflowjava.protocol.api.extensibility.OFDeserializer;
+import org.opendaylight.openflowjava.protocol.api.keys.MessageCodeKey;
+import org.opendaylight.openflowjava.protocol.api.keys.TypeToClassKey;
 import org.opendaylight.openflowjava.protocol.api.util.EncodeConstants;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.ExperimenterMessage;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.HelloMessage;
+import org.opendaylight.yangtools.yang.binding.DataObject;
 
 /**
  * Unit tests for DeserializationFactory.
@@ -52,4 +63,71 @@ public class DeserializationFactoryTest {
         buffer.writeInt(1234);
         factory.deserialize(buffer, (short) 0);
     }
+
+    /**
+     * Test that deserializers registered after factory creation are picked up.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testDeserializerReplacedAfterCreation() {
+        DeserializerRegistryImpl registry = new DeserializerRegistryImpl();
+        registry.init();
+        final DeserializationFactory factory = new DeserializationFactory(registry);
+        final OFDeserializer<DataObject> deserializer = mock(OFDeserializer.class);
+        final HelloMessage hello = mock(HelloMessage.class);
+        when(deserializer.deserialize(any(ByteBuf.class))).thenReturn(hello);
+
+        registry.registerDeserializer(new MessageCodeKey(EncodeConstants.OF13_VERSION_ID, 0, HelloMessage.class),
+                deserializer);
+        assertSame("Wrong deserializer used", hello, factory.deserialize(createHeader(0),
+                EncodeConstants.OF13_VERSION_ID));
+    }
+
+    /**
+     * Test that type to class mappings registered after factory creation are picked up.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testMappingRegisteredAfterCreation() {
+        DeserializerRegistryImpl registry = new DeserializerRegistryImpl();
+        registry.init();
+        final DeserializationFactory factory = new DeserializationFactory(registry);
+        final OFDeserializer<DataObject> deserializer = mock(OFDeserializer.class);
+        final ExperimenterMessage message = mock(ExperimenterMessage.class);
+        when(deserializer.deserialize(any(ByteBuf.class))).thenReturn(message);
+
+        registry.registerDeserializer(new MessageCodeKey(EncodeConstants.OF13_VERSION_ID, 200,
+                ExperimenterMessage.class), deserializer);
+        factory.registerMapping(new TypeToClassKey(EncodeConstants.OF13_VERSION_ID, 200), ExperimenterMessage.class);
+        assertSame("Wrong deserializer used", message, factory.deserialize(createHeader(200),
+                EncodeConstants.OF13_VERSION_ID));
+    }
+
+    /**
+     * Test that a closed factory no longer tracks registry changes.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testClose() {
+        DeserializerRegistryImpl registry = new DeserializerRegistryImpl();
+        registry.init();
+        final DeserializationFactory factory = new DeserializationFactory(registry);
+        final OFDeserializer<DataObject> deserializer = mock(OFDeserializer.class);
+        final HelloMessage hello = mock(HelloMessage.class);
+        when(deserializer.deserialize(any(ByteBuf.class))).thenReturn(hello);
+
+        factory.close();
+        registry.registerDeserializer(new MessageCodeKey(EncodeConstants.OF13_VERSION_ID, 0, HelloMessage.class),
+                deserializer);
+        assertNotSame("Change applied after close", hello, factory.deserialize(createHeader(0),
+                EncodeConstants.OF13_VERSION_ID));
+    }
+
+    private static ByteBuf createHeader(final int type) {
+        ByteBuf buffer = PooledByteBufAllocator.DEFAULT.buffer();
+        buffer.writeByte(type);
+        buffer.writeShort(EncodeConstants.OFHEADER_SIZE);
+        buffer.writeInt(1234);
+        return buffer;
+    }
 }
@@ -7,11 +7,23 @@
  */
 package org.opendaylight.openflowjava.protocol.impl.deserialization;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
 import org.junit.Assert;
 import org.junit.Test;
+import org.opendaylight.openflowjava.protocol.api.extensibility.OFDeserializer;
+import org.opendaylight.openflowjava.protocol.api.keys.ActionDeserializerKey;
+import org.opendaylight.openflowjava.protocol.api.keys.ExperimenterActionDeserializerKey;
+import org.opendaylight.openflowjava.protocol.api.keys.InstructionDeserializerKey;
+import org.opendaylight.openflowjava.protocol.api.keys.MatchEntryDeserializerKey;
 import org.opendaylight.openflowjava.protocol.api.keys.MessageCodeKey;
 import org.opendaylight.openflowjava.protocol.api.util.EncodeConstants;
 import org.opendaylight.openflowjava.protocol.impl.util.MatchDeserializer;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.action.rev150203.actions.grouping.Action;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.instruction.rev130731.instructions.grouping.Instruction;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.match.entries.grouping.MatchEntry;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.match.grouping.Match;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.match.v10.grouping.MatchV10;
 
@@ -86,4 +98,77 @@ public class DeserializerRegistryImplTest {
         registry.getDeserializer(new MessageCodeKey((short) 5000, EncodeConstants.EMPTY_VALUE, MatchV10.class));
         Assert.fail();
     }
+
+    /**
+     * Test - get match entry deserializer by oxm header.
+     */
+    @Test
+    public void testGetMatchEntryDeserializer() {
+        DeserializerRegistryImpl registry = new DeserializerRegistryImpl();
+        registry.init();
+        MatchEntryDeserializerKey key = new MatchEntryDeserializerKey(OF13, 0x8000, 1);
+        OFDeserializer<MatchEntry> expected = registry.getDeserializer(key);
+        Assert.assertSame("Wrong deserializer", expected, registry.getMatchEntryDeserializer(OF13, 0x8000, 1, 158L));
+
+        OFDeserializer<MatchEntry> experimenter = in -> null;
+        key = new MatchEntryDeserializerKey(OF13, EncodeConstants.EXPERIMENTER_VALUE, 1);
+        key.setExperimenterId(0x2320L);
+        registry.registerDeserializer(key, experimenter);
+        Assert.assertSame("Wrong deserializer", experimenter,
+                registry.getMatchEntryDeserializer(OF13, EncodeConstants.EXPERIMENTER_VALUE, 1, 0x2320L));
+
+        Assert.assertTrue("Wrong - unregister deserializer", registry.unregisterDeserializer(key));
+        try {
+            registry.getMatchEntryDeserializer(OF13, EncodeConstants.EXPERIMENTER_VALUE, 1, 0x2320L);
+            Assert.fail("Unregistered deserializer found");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Test lookup of action and instruction deserializers by header fields.
+     */
+    @Test
+    public void testGetActionAndInstructionDeserializer() {
+        DeserializerRegistryImpl registry = new DeserializerRegistryImpl();
+        registry.init();
+        OFDeserializer<Action> expected = registry.getDeserializer(new ActionDeserializerKey(OF13, 0, null));
+        Assert.assertSame("Wrong deserializer", expected, registry.getActionDeserializer(OF13, 0, 158L));
+        OFDeserializer<Instruction> expectedInstruction =
+                registry.getDeserializer(new InstructionDeserializerKey(OF13, 1, null));
+        Assert.assertSame("Wrong deserializer", expectedInstruction, registry.getInstructionDeserializer(OF13, 1, 0));
+
+        OFDeserializer<Action> experimenter = in -> null;
+        ActionDeserializerKey key = new ExperimenterActionDeserializerKey(OF13, 0x2320L);
+        registry.registerDeserializer(key, experimenter);
+        Assert.assertSame("Wrong deserializer", experimenter,
+                registry.getActionDeserializer(OF13, EncodeConstants.EXPERIMENTER_VALUE, 0x2320L));
+
+        Assert.assertTrue("Wrong - unregister deserializer", registry.unregisterDeserializer(key));
+        try {
+            registry.getActionDeserializer(OF13, EncodeConstants.EXPERIMENTER_VALUE, 0x2320L);
+            Assert.fail("Unregistered deserializer found");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Test notification of change listeners, which are held weakly.
+     */
+    @Test
+    public void testChangeListeners() {
+        DeserializerRegistryImpl registry = new DeserializerRegistryImpl();
+        registry.init();
+        final List<MessageCodeKey> changes = new ArrayList<>();
+        final Consumer<MessageCodeKey> listener = changes::add;
+        registry.addChangeListener(listener);
+
+XX, Collections.singletonList(key), changes);
+
+        registry.removeChangeListener(listener);
+        registry.unregisterDeserializer(key);
+        Assert.assertEquals("Listener notified after removal", 1, changes.size());
+    }
 }
@@ -12,6 +12,7 @@ import io.netty.buffer.ByteBuf;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
+import org.opendaylight.openflowjava.protocol.api.connection.ZeroCopyPacketInMessage;
 import org.opendaylight.openflowjava.protocol.api.extensibility.DeserializerRegistry;
 import org.opendaylight.openflowjava.protocol.api.extensibility.OFDeserializer;
 import org.opendaylight.openflowjava.protocol.api.keys.MessageCodeKey;
@@ -31,13 +32,14 @@ import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731
 public class PacketInMessageFactoryTest {
 
     private OFDeserializer<PacketInMessage> packetInFactory;
+    private DeserializerRegistry registry;
 
     /**
      * Initializes deserializer registry and lookups correct deserializer.
      */
     @Before
     public void startUp() {
-        DeserializerRegistry registry = new DeserializerRegistryImpl();
+        registry = new DeserializerRegistryImpl();
         registry.init();
         packetInFactory = registry.getDeserializer(
                 new MessageCodeKey(EncodeConstants.OF13_VERSION_ID, 10, PacketInMessage.class));
@@ -61,4 +63,30 @@ public class PacketInMessageFactoryTest {
         Assert.assertEquals("Wrong cookie", 0x0001020304050607L, builtByFactory.getCookie().longValue());
         Assert.assertArrayEquals("Wrong data", ByteBufUtils.hexStringToBytes("01 02 03 04"), builtByFactory.getData());
     }
+
+    /**
+     * Testing {@link PacketInMessageFactory} with zero-copy payload - data stays in the inbound buffer
+     * until the message is released.
+     */
+    @Test
+    public void testZeroCopyPayload() {
+        final PacketInMessageFactory zeroCopyFactory = new PacketInMessageFactory(true);
+        zeroCopyFactory.injectDeserializerRegistry(registry);
+        ByteBuf bb = BufferHelper.buildBuffer("00 01 02 03 01 02 01 04 00 01 02 03 04 05 06 07 00 01 00 0C"
+                + " 80 00 02 04 00 00 00 01 00 00 00 00 00 00 01 02 03 04");
+        PacketInMessage builtByFactory = BufferHelper.deserialize(zeroCopyFactory, bb);
+        bb.release();
+
+        Assert.assertTrue("Wrong message type", builtByFactory instanceof ZeroCopyPacketInMessage);
+        final ZeroCopyPacketInMessage zeroCopy = (ZeroCopyPacketInMessage) builtByFactory;
+        BufferHelper.checkHeaderV13(zeroCopy);
+        Assert.assertEquals("Wrong bufferID", 0x00010203L, zeroCopy.getBufferId().longValue());
+        Assert.assertEquals("Wrong implemented interface", PacketInMessage.class, zeroCopy.getImplementedInterface());
+        Assert.assertEquals("Buffer released too early", 1, zeroCopy.refCnt());
+        Assert.assertEquals("Wrong payload", 4, zeroCopy.getPayload().readableBytes());
+        Assert.assertArrayEquals("Wrong data", ByteBufUtils.hexStringToBytes("01 02 03 04"), zeroCopy.getData());
+
+        Assert.assertTrue("Buffer not released", zeroCopy.release());
+        Assert.assertEquals("Buffer not released", 0, bb.refCnt());
+    }
 }
@@ -9,6 +9,7 @@ package org.opendaylight.openflowjava.protocol.impl.serialization;
 
 import org.junit.Assert;
 import org.junit.Test;
+import org.opendaylight.openflowjava.protocol.api.extensibility.OFGeneralSerializer;
 import org.opendaylight.openflowjava.protocol.api.keys.MessageTypeKey;
 import org.opendaylight.openflowjava.protocol.api.util.EncodeConstants;
 import org.opendaylight.openflowjava.protocol.impl.util.OF13MatchSerializer;
@@ -60,4 +61,34 @@ public class SerializerRegistryImplTest {
         Assert.assertFalse("Wrong - unregister serializer",
                 serReg.unregisterSerializer(new MessageTypeKey<>(OF10, Match.class)));
     }
+
+    /**
+     * Test - serializer lookup by version and class follows registry changes.
+     */
+    @Test
+    public void testGetSerializerByClass() {
+        SerializerRegistryImpl serReg = new SerializerRegistryImpl();
+        serReg.init();
+        final OF13MatchSerializer first = new OF13MatchSerializer();
+        serReg.registerSerializer(new MessageTypeKey<>(OF13, Match.class), first);
+        Assert.assertSame("Wrong serializer", first, serReg.<Match, OFGeneralSerializer>getSerializer(OF13,
+                Match.class));
+
+        final OF13MatchSerializer second = new OF13MatchSerializer();
+        serReg.registerSerializer(new MessageTypeKey<>(OF13, Match.class), second);
+        Assert.assertSame("Wrong serializer", second, serReg.<Match, OFGeneralSerializer>getSerializer(OF13,
+                Match.class));
+    }
+
+    /**
+     * Test - unregistered serializer is not returned by lookup by version and class.
+     */
+    @Test(expected = IllegalStateException.class)
+    public void testGetUnregisteredSerializerByClass() {
+        SerializerRegistryImpl serReg = new SerializerRegistryImpl();
+        serReg.init();
+        serReg.<Match, OFGeneralSerializer>getSerializer(OF13, Match.class);
+        serReg.unregisterSerializer(new MessageTypeKey<>(OF13, Match.class));
+        serReg.<Match, OFGeneralSerializer>getSerializer(OF13, Match.class);
+    }
 }
@@ -11,11 +11,13 @@ package org.opendaylight.openflowjava.protocol.impl.util;
 import io.netty.buffer.ByteBuf;
 import org.junit.Assert;
 import org.junit.Test;
+import org.opendaylight.openflowjava.protocol.api.extensibility.DeserializerRegistry;
 import org.opendaylight.openflowjava.protocol.api.keys.ActionDeserializerKey;
 import org.opendaylight.openflowjava.protocol.api.keys.InstructionDeserializerKey;
 import org.opendaylight.openflowjava.protocol.api.keys.MatchEntryDeserializerKey;
 import org.opendaylight.openflowjava.protocol.api.keys.MessageCodeKey;
 import org.opendaylight.openflowjava.protocol.api.util.EncodeConstants;
+import org.opendaylight.openflowjava.protocol.impl.deserialization.DeserializerRegistryImpl;
 
 /**
  * Unit tests for CodeKeyMakerFactory.
@@ -133,4 +135,36 @@ public class CodeKeyMakerFactoryTest {
                         65535, 1L), codeKey);
         Assert.assertEquals("Buffer index modified", 8, buffer.readableBytes());
     }
+
+    /**
+     * Tests deserializer lookup by {@link CodeKeyMaker#getDeserializer(ByteBuf, DeserializerRegistry)}.
+     */
+    @Test
+    public void testDeserializerLookup() {
+        DeserializerRegistry registry = new DeserializerRegistryImpl();
+        registry.init();
+        CodeKeyMaker keyMaker = CodeKeyMakerFactory.createActionsKeyMaker(EncodeConstants.OF13_VERSION_ID);
+        Assert.assertSame("Key maker not shared", keyMaker,
+                CodeKeyMakerFactory.createActionsKeyMaker(EncodeConstants.OF13_VERSION_ID));
+
+        ByteBuf buffer = BufferHelper.buildBuffer("00 00 00 10 00 00 00 01 00 02 00 00 00 00 00 00");
+        buffer.skipBytes(4); // skip XID
+        Assert.assertSame("Wrong deserializer", registry.getDeserializer(keyMaker.make(buffer)),
+                keyMaker.getDeserializer(buffer, registry));
+        Assert.assertEquals("Buffer index modified", 16, buffer.readableBytes());
+
+        keyMaker = CodeKeyMakerFactory.createInstructionsKeyMaker(EncodeConstants.OF13_VERSION_ID);
+        buffer = BufferHelper.buildBuffer("00 01 00 08 05 00 00 00");
+        buffer.skipBytes(4); // skip XID
+        Assert.assertSame("Wrong deserializer", registry.getDeserializer(keyMaker.make(buffer)),
+                keyMaker.getDeserializer(buffer, registry));
+        Assert.assertEquals("Buffer index modified", 8, buffer.readableBytes());
+
+        keyMaker = CodeKeyMakerFactory.createMatchEntriesKeyMaker(EncodeConstants.OF13_VERSION_ID);
+        buffer = BufferHelper.buildBuffer("80 00 00 04 00 00 00 01");
+        buffer.skipBytes(4); // skip XID
+        Assert.assertSame("Wrong deserializer", registry.getDeserializer(keyMaker.make(buffer)),
+                keyMaker.getDeserializer(buffer, registry));
+        Assert.assertEquals("Buffer index modified", 8, buffer.readableBytes());
+    }
 }
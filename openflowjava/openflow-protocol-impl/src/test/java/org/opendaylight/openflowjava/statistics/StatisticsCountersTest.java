@@ -7,6 +7,9 @@
  */
 package org.opendaylight.openflowjava.statistics;
 
+import java.math.BigInteger;
+import java.net.InetSocketAddress;
+import java.util.List;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
@@ -135,6 +138,44 @@ public class StatisticsCountersTest {
         statCounters.getCounter(null);
     }
 
+    /**
+     * Test per connection counters, rates and their reporting.
+     */
+    @Test
+    public void testConnectionCounters() {
+        ConnectionStatistics quiet = statCounters.registerConnection(
+                InetSocketAddress.createUnresolved("10.0.0.1", 6653));
+        ConnectionStatistics busy = statCounters.registerConnection(
+                InetSocketAddress.createUnresolved("10.0.0.2", 6653));
+        busy.setDatapathId(BigInteger.TEN);
+        for (int i = 0; i < 4; i++) {
+            statCounters.incrementCounter(CounterEventTypes.US_MESSAGE_PASS, busy);
+        }
+        statCounters.incrementCounter(CounterEventTypes.US_MESSAGE_PASS, quiet);
+
+        Assert.assertEquals("Wrong - bad connection counter value", 4,
+                busy.getCounter(CounterEventTypes.US_MESSAGE_PASS).getCounterValue());
+        Assert.assertEquals("Wrong - bad global counter value", 5,
+                statCounters.getCounter(CounterEventTypes.US_MESSAGE_PASS).getCounterValue());
+        Assert.assertEquals("Wrong - bad global counter value", Long.valueOf(5),
+                statCounters.getCounterValues().get(CounterEventTypes.US_MESSAGE_PASS.name()));
+
+        busy.getCounter(CounterEventTypes.US_MESSAGE_PASS).sampleRate(1000);
+        quiet.getCounter(CounterEventTypes.US_MESSAGE_PASS).sampleRate(1000);
+        Assert.assertEquals("Wrong - bad rate", 4, busy.getCounter(CounterEventTypes.US_MESSAGE_PASS).getRate());
+
+        List<String> lines = statCounters.getConnectionStatistics();
+        Assert.assertEquals("Wrong - busiest connection is not first", busy.getLabel(),
+                lines.get(0).substring(0, busy.getLabel().length()));
+        Assert.assertTrue("Wrong - datapath ID is not shown", lines.get(0).startsWith("dpid 10"));
+
+        statCounters.unregisterConnection(busy);
+        statCounters.unregisterConnection(quiet);
+        for (String line : statCounters.getConnectionStatistics()) {
+            Assert.assertFalse("Wrong - unregistered connection is reported", line.startsWith(busy.getLabel()));
+        }
+    }
+
     private void incrementCounter(CounterEventTypes cet, int count) {
         if (!statCounters.isCounterEnabled(cet)) {
             return;
@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2018 OpenDaylight and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowjava.util;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * Open-addressing hash set of primitive longs with linear probing. Adding, removing and looking up a value neither
+ * allocates nor boxes. Removal shifts following entries back instead of leaving tombstones, so the set does not
+ * degrade under repeated add and remove cycles. The set is not thread-safe.
+ */
+public final class LongHashSet {
+
+    private static final int MIN_CAPACITY = 16;
+
+    // Zero marks a free slot, zero itself is tracked separately
+    private long[] keys;
+    private int mask;
+    private int size;
+    private boolean containsZero;
+
+    /**
+     * Creates an empty set.
+     */
+    public LongHashSet() {
+        allocate(MIN_CAPACITY);
+    }
+
+    /**
+     * Adds the given value.
+     *
+     * @param value value to add
+     * @return true if the set did not contain the value
+     */
+    public boolean add(final long value) {
+        if (value == 0) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            return true;
+        }
+
+        int index = index(value, mask);
+        while (keys[index] != 0) {
+            if (keys[index] == value) {
+                return false;
+            }
+            index = index + 1 & mask;
+        }
+
+        keys[index] = value;
+        // Keep the load factor at or below 0.5, so that probe sequences stay short
+        if (++size > keys.length >> 1) {
+            rehash(keys.length << 1);
+        }
+        return true;
+    }
+
+    /**
+     * Removes the given value.
+     *
+     * @param value value to remove
+     * @return true if the set contained the value
+     */
+    public boolean remove(final long value) {
+        if (value == 0) {
+            final boolean contained = containsZero;
+            containsZero = false;
+            return contained;
+        }
+
+        int index = index(value, mask);
+        while (keys[index] != value) {
+            if (keys[index] == 0) {
+                return false;
+            }
+            index = index + 1 & mask;
+        }
+
+        shiftBack(index);
+        size--;
+        return true;
+    }
+
+    /**
+     * Checks whether the set contains the given value.
+     *
+     * @param value value to look up
+     * @return true if the set contains the value
+     */
+    public boolean contains(final long value) {
+        if (value == 0) {
+            return containsZero;
+        }
+
+        int index = index(value, mask);
+        while (true) {
+            final long key = keys[index];
+            if (key == value) {
+                return true;
+            }
+            if (key == 0) {
+                return false;
+            }
+            index = index + 1 & mask;
+        }
+    }
+
+    /**
+     * Removes all values contained in the given set. Costs time linear in the size of the smaller of the two sets.
+     *
+     * @param other values to remove
+     */
+    public void removeAll(final LongHashSet other) {
+        if (other == this) {
+            clear();
+            return;
+        }
+
+        if (other.containsZero) {
+            containsZero = false;
+        }
+
+        if (other.size < size) {
+            for (long key : other.keys) {
+                if (key != 0) {
+                    remove(key);
+                }
+            }
+            return;
+        }
+
+        // Sweep this set, keeping only values the other set does not contain
+        final long[] oldKeys = keys;
+        keys = new long[oldKeys.length];
+        size = 0;
+        for (long key : oldKeys) {
+            if (key != 0 && !other.contains(key)) {
+                insert(key);
+                size++;
+            }
+        }
+    }
+
+    /**
+     * Performs the given action for each value of the set, in no particular order. The set must not be modified
+     * by the action.
+     *
+     * @param action action to perform
+     */
+    public void forEach(final LongConsumer action) {
+        if (containsZero) {
+            action.accept(0);
+        }
+        for (long key : keys) {
+            if (key != 0) {
+                action.accept(key);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of values.
+     *
+     * @return number of values
+     */
+    public int size() {
+        return containsZero ? size + 1 : size;
+    }
+
+    /**
+     * Checks whether the set is empty.
+     *
+     * @return true if the set contains no values
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Removes all values. The capacity of the set is kept, as sets are typically refilled to a similar size.
+     */
+    public void clear() {
+        if (size != 0) {
+            Arrays.fill(keys, 0);
+            size = 0;
+        }
+        containsZero = false;
+    }
+
+    private void allocate(final int capacity) {
+        keys = new long[capacity];
+        mask = capacity - 1;
+    }
+
+    private void rehash(final int capacity) {
+        final long[] oldKeys = keys;
+        allocate(capacity);
+        for (long key : oldKeys) {
+            if (key != 0) {
+                insert(key);
+            }
+        }
+    }
+
+    private void insert(final long value) {
+        int index = index(value, mask);
+        while (keys[index] != 0) {
+            index = index + 1 & mask;
+        }
+        keys[index] = value;
+    }
+
+    private void shiftBack(final int freed) {
+        // Move back entries of the probe sequence which would no longer be reachable across the freed slot
+        int hole = freed;
+        int index = hole + 1 & mask;
+        while (keys[index] != 0) {
+            final int home = index(keys[index], mask);
+            if ((index - home & mask) >= (index - hole & mask)) {
+                keys[hole] = keys[index];
+                hole = index;
+            }
+            index = index + 1 & mask;
+        }
+        keys[hole] = 0;
+    }
+
+    private static int index(final long key, final int mask) {
+        // Fibonacci hashing spreads sequential IDs over the whole table
+        return (int) (key * 0x9E3779B97F4A7C15L >>> 32) & mask;
+    }
+}
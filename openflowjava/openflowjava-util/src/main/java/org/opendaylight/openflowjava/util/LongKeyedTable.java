@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2018 OpenDaylight and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowjava.util;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Open-addressing table with primitive long keys, used as a dispatch table for codecs whose lookup key can be
+ * packed into a long. Lookups neither allocate nor box and do not lock, so they may run concurrently with
+ * updates. Updates are serialized and touch a single key. Removal leaves a tombstone behind instead of shifting
+ * entries, so that concurrent lookups never miss a key; tombstones are dropped when the table is rehashed.
+ *
+ * @param <V> type of values
+ */
+public final class LongKeyedTable<V> {
+
+    private static final int MIN_CAPACITY = 8;
+    private static final Object REMOVED = new Object();
+
+    private static final class Slots {
+        // A key is written before its slot's value is published, and never changes afterwards
+        final long[] keys;
+        final AtomicReferenceArray<Object> values;
+        final int mask;
+
+        Slots(final int capacity) {
+            keys = new long[capacity];
+            values = new AtomicReferenceArray<>(capacity);
+            mask = capacity - 1;
+        }
+    }
+
+    private volatile Slots slots = new Slots(MIN_CAPACITY);
+    // Guarded by this, used counts slots holding either a value or a tombstone
+    private int size;
+    private int used;
+
+    /**
+     * Looks up the value stored under the given key.
+     *
+     * @param key key to look up
+     * @return value, or null if the table does not contain the key
+     */
+    @SuppressWarnings("unchecked")
+    public V get(final long key) {
+        final Slots current = slots;
+        int index = index(key, current.mask);
+        while (true) {
+            // Read the value first, its publication makes the key visible
+            final Object value = current.values.get(index);
+            if (value == null) {
+                return null;
+            }
+            if (current.keys[index] == key) {
+                return value == REMOVED ? null : (V) value;
+            }
+            index = index + 1 & current.mask;
+        }
+    }
+
+    /**
+     * Stores the given value under the given key.
+     *
+     * @param key key of the entry
+     * @param value value of the entry, must not be null
+     * @return previous value, or null if the table did not contain the key
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized V put(final long key, final V value) {
+        Objects.requireNonNull(value);
+
+        Slots current = slots;
+        int index = index(key, current.mask);
+        while (true) {
+            final Object existing = current.values.get(index);
+            if (existing == null) {
+                break;
+            }
+            if (current.keys[index] == key) {
+                current.values.set(index, value);
+                if (existing == REMOVED) {
+                    size++;
+                    return null;
+                }
+                return (V) existing;
+            }
+            index = index + 1 & current.mask;
+        }
+
+        // Keep the load factor, tombstones included, at or below 0.5, so that probes always hit a free slot
+        if (used + 1 > current.keys.length >> 1) {
+            current = rehash(current, size + 1);
+            index = freeIndex(current, key);
+        }
+        current.keys[index] = key;
+        current.values.set(index, value);
+        used++;
+        size++;
+        return null;
+    }
+
+    /**
+     * Removes the entry stored under the given key.
+     *
+     * @param key key of the entry
+     * @return removed value, or null if the table did not contain the key
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized V remove(final long key) {
+        final Slots current = slots;
+        int index = index(key, current.mask);
+        while (true) {
+            final Object existing = current.values.get(index);
+            if (existing == null) {
+                return null;
+            }
+            if (current.keys[index] == key) {
+                if (existing == REMOVED) {
+                    return null;
+                }
+                current.values.set(index, REMOVED);
+                size--;
+                return (V) existing;
+            }
+            index = index + 1 & current.mask;
+        }
+    }
+
+    /**
+     * Returns the number of entries.
+     *
+     * @return number of entries
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    private Slots rehash(final Slots current, final int count) {
+        // Leave room for as many inserts as there are entries, so that rehashing stays amortized constant
+        int capacity = MIN_CAPACITY;
+        while (capacity < count * 4) {
+            capacity <<= 1;
+        }
+
+        // Fill the new slots completely before publishing them, lookups keep using the old ones until then
+        final Slots rehashed = new Slots(capacity);
+        used = 0;
+        for (int i = 0; i < current.keys.length; i++) {
+            final Object value = current.values.get(i);
+            if (value != null && value != REMOVED) {
+                final int index = freeIndex(rehashed, current.keys[i]);
+                rehashed.keys[index] = current.keys[i];
+                rehashed.values.lazySet(index, value);
+                used++;
+            }
+        }
+        slots = rehashed;
+        return rehashed;
+    }
+
+    private static int freeIndex(final Slots target, final long key) {
+        int index = index(key, target.mask);
+        while (target.values.get(index) != null) {
+            index = index + 1 & target.mask;
+        }
+        return index;
+    }
+
+    private static int index(final long key, final int mask) {
+        // Fibonacci hashing spreads keys which differ only in a few high bits, like packed codec keys
+        return (int) (key * 0x9E3779B97F4A7C15L >>> 32) & mask;
+    }
+}
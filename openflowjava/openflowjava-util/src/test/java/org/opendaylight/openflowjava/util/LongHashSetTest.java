@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2018 OpenDaylight and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowjava.util;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for LongHashSet.
+ */
+public class LongHashSetTest {
+
+    @Test
+    public void testAddRemove() {
+        final LongHashSet set = new LongHashSet();
+        Assert.assertTrue("Set not empty", set.isEmpty());
+
+        for (long i = 0; i < 1000; i++) {
+            Assert.assertTrue("Value not added", set.add(i));
+        }
+        Assert.assertFalse("Value added twice", set.add(0L));
+        Assert.assertFalse("Value added twice", set.add(999L));
+        Assert.assertEquals("Wrong size", 1000, set.size());
+
+        for (long i = 0; i < 1000; i += 2) {
+            Assert.assertTrue("Value not removed", set.remove(i));
+        }
+        Assert.assertFalse("Value removed twice", set.remove(0L));
+        Assert.assertEquals("Wrong size", 500, set.size());
+        for (long i = 0; i < 1000; i++) {
+            Assert.assertEquals("Wrong lookup result", i % 2 == 1, set.contains(i));
+        }
+
+        set.clear();
+        Assert.assertTrue("Set not empty", set.isEmpty());
+        Assert.assertFalse("Unexpected value", set.contains(1L));
+    }
+
+    @Test
+    public void testRemoveAll() {
+        final LongHashSet set = new LongHashSet();
+        final LongHashSet marks = new LongHashSet();
+        for (long i = 0; i < 100; i++) {
+            set.add(i);
+            if (i % 10 == 0) {
+                marks.add(i);
+            }
+        }
+
+        // Fewer marks than values
+        set.removeAll(marks);
+        Assert.assertEquals("Wrong size", 90, set.size());
+        Assert.assertFalse("Unexpected value", set.contains(0L));
+        Assert.assertTrue("Missing value", set.contains(1L));
+
+        // Everything marked
+        for (long i = 0; i < 200; i++) {
+            marks.add(i);
+        }
+        set.removeAll(marks);
+        Assert.assertTrue("Set not empty", set.isEmpty());
+    }
+
+    @Test
+    public void testAgainstHashSet() {
+        final Random random = new Random(42);
+        final LongHashSet set = new LongHashSet();
+        final Set<Long> expected = new HashSet<>();
+
+        for (int i = 0; i < 100000; i++) {
+            final long value = random.nextInt(5000);
+            if (random.nextBoolean()) {
+                Assert.assertEquals("Wrong add result", expected.add(value), set.add(value));
+            } else {
+                Assert.assertEquals("Wrong remove result", expected.remove(value), set.remove(value));
+            }
+        }
+
+        Assert.assertEquals("Wrong size", expected.size(), set.size());
+        final Set<Long> actual = new HashSet<>();
+        set.forEach(actual::add);
+        Assert.assertEquals("Wrong values", expected, actual);
+    }
+}
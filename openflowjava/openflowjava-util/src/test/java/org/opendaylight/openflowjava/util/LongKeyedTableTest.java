@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2018 OpenDaylight and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowjava.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for LongKeyedTable.
+ */
+public class LongKeyedTableTest {
+
+    @Test
+    public void testEmpty() {
+        final LongKeyedTable<String> table = new LongKeyedTable<>();
+        Assert.assertEquals("Wrong size", 0, table.size());
+        Assert.assertNull("Unexpected value", table.get(0L));
+        Assert.assertNull("Unexpected value", table.get(-1L));
+        Assert.assertNull("Unexpected value", table.remove(0L));
+    }
+
+    @Test
+    public void testLookup() {
+        final LongKeyedTable<String> table = new LongKeyedTable<>();
+        for (long i = 0; i < 100; i++) {
+            // Keys differing only in high bits, like packed codec keys
+            Assert.assertNull("Unexpected previous value", table.put(i << 40 | 0x2320L, "value" + i));
+        }
+
+        Assert.assertEquals("Wrong size", 100, table.size());
+        for (long i = 0; i < 100; i++) {
+            Assert.assertEquals("Wrong value", "value" + i, table.get(i << 40 | 0x2320L));
+        }
+        Assert.assertNull("Unexpected value", table.get(100L << 40 | 0x2320L));
+        Assert.assertNull("Unexpected value", table.get(0L));
+    }
+
+    @Test
+    public void testPutRemove() {
+        final LongKeyedTable<String> table = new LongKeyedTable<>();
+        table.put(1L, "first");
+        Assert.assertEquals("Wrong previous value", "first", table.put(1L, "second"));
+        Assert.assertEquals("Wrong value", "second", table.get(1L));
+        Assert.assertEquals("Wrong size", 1, table.size());
+
+        Assert.assertEquals("Wrong removed value", "second", table.remove(1L));
+        Assert.assertNull("Value removed twice", table.remove(1L));
+        Assert.assertNull("Unexpected value", table.get(1L));
+        Assert.assertEquals("Wrong size", 0, table.size());
+
+        // A removed key can be stored again
+        Assert.assertNull("Unexpected previous value", table.put(1L, "third"));
+        Assert.assertEquals("Wrong value", "third", table.get(1L));
+        Assert.assertEquals("Wrong size", 1, table.size());
+    }
+
+    @Test
+    public void testAgainstHashMap() {
+        final Random random = new Random(42);
+        final LongKeyedTable<Long> table = new LongKeyedTable<>();
+        final Map<Long, Long> expected = new HashMap<>();
+
+        for (int i = 0; i < 100000; i++) {
+            final long key = (long) random.nextInt(500) << 32;
+            if (random.nextBoolean()) {
+                Assert.assertEquals("Wrong put result", expected.put(key, (long) i), table.put(key, (long) i));
+            } else {
+                Assert.assertEquals("Wrong remove result", expected.remove(key), table.remove(key));
+            }
+        }
+
+        Assert.assertEquals("Wrong size", expected.size(), table.size());
+        for (long key = 0; key < 500; key++) {
+            Assert.assertEquals("Wrong value", expected.get(key << 32), table.get(key << 32));
+        }
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNullValue() {
+        new LongKeyedTable<String>().put(1L, null);
+    }
+}
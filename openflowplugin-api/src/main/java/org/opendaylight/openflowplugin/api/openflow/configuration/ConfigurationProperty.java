@@ -111,7 +111,23 @@ public enum ConfigurationProperty {
     /**
      * Enable or disable equal role functionality.
      */
-    ENABLE_EQUAL_ROLE;
+    ENABLE_EQUAL_ROLE,
+    /**
+     * Maximum number of concurrent handshakes property type.
+     */
+    MAX_CONCURRENT_HANDSHAKES,
+    /**
+     * Use compact flow registry keys property type.
+     */
+    USE_COMPACT_FLOW_REGISTRY_KEYS,
+    /**
+     * Flow registry snapshot directory property type.
+     */
+    FLOW_REGISTRY_SNAPSHOT_DIRECTORY,
+    /**
+     * Flow registry fill parallelism property type.
+     */
+    FLOW_REGISTRY_FILL_PARALLELISM;
 
     private static final Map<String, ConfigurationProperty> KEY_VALUE_MAP;
 
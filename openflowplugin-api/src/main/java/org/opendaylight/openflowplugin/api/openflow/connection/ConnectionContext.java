@@ -156,6 +156,12 @@ public interface ConnectionContext {
      */
     void handshakeSuccessful();
 
+    /**
+     * Notifies that initialization of the device connected over this connection has finished, either because
+     * the device works as master or slave, or because it is initialized by another cluster node.
+     */
+    void deviceInitializationFinished();
+
     /**
      * Handle received port status message.
      * @param portStatusMessage port status message
@@ -8,6 +8,7 @@
 
 package org.opendaylight.openflowplugin.api.openflow.connection;
 
+import com.google.common.util.concurrent.ListenableFuture;
 import org.opendaylight.openflowjava.protocol.api.connection.OutboundQueue;
 import org.opendaylight.openflowjava.protocol.api.connection.OutboundQueueHandler;
 
@@ -16,4 +17,31 @@ import org.opendaylight.openflowjava.protocol.api.connection.OutboundQueueHandle
  */
 public interface OutboundQueueProvider extends OutboundQueue, OutboundQueueHandler {
 
+    /**
+     * Reserve an entry in the outbound queue without blocking the caller. Unlike {@link #reserveEntry()}, which
+     * waits for the queue to be replaced when the current one refuses the reservation, the returned future is
+     * retried once the channel becomes writable again or the queue gets replaced, and completes when the reservation
+     * succeeds. Since the future may be completed from the I/O thread, dependent actions should be short.
+     *
+     * @return future XID of the reserved entry, completed with null if there is no queue to reserve from
+     */
+    ListenableFuture<Long> reserveEntryAsync();
+
+    /**
+     * Indicates whether reservations would block or fail. This is the case when there is no queue, or the queue
+     * refused a reservation and is waiting to be replaced, e.g. while the switch reconnects. Callers must not
+     * use {@link #reserveEntry()} while reservations are blocked, as it would park them.
+     *
+     * @return true if the queue does not accept reservations at the moment
+     */
+    boolean isReservationBlocked();
+
+    /**
+     * Indicates whether reservations are not blocked and the channel accepts writes. A non-writable queue still
+     * accepts entries, but holds them until the switch catches up, so callers should delay optional work.
+     *
+     * @return true if entries committed now are written out without delay
+     */
+    boolean isWritable();
+
 }
@@ -9,6 +9,7 @@
 package org.opendaylight.openflowplugin.api.openflow.device;
 
 import java.util.List;
+import java.util.function.Consumer;
 import org.opendaylight.controller.md.sal.binding.api.NotificationPublishService;
 import org.opendaylight.openflowplugin.api.openflow.OFPContext;
 import org.opendaylight.openflowplugin.api.openflow.connection.ConnectionContext;
@@ -84,6 +85,18 @@ public interface DeviceContext extends
      */
     <T extends OfHeader> MultiMsgCollector<T> getMultiMsgCollector(RequestContext<List<T>> requestContext);
 
+    /**
+     * Gets streaming multi msg collector. Every reply is passed to the consumer as soon as it is received
+     * instead of being collected, and the request context is completed with an empty list.
+     *
+     * @param <T>            the type parameter
+     * @param requestContext the request context
+     * @param replyConsumer  consumer of the received replies
+     * @return the multi msg collector
+     */
+    <T extends OfHeader> MultiMsgCollector<T> getMultiMsgCollector(RequestContext<List<T>> requestContext,
+                                                                   Consumer<? super T> replyConsumer);
+
     /**
      * Indicates that device context is fully published (e.g.: packetIn messages should be passed).
      */
@@ -18,4 +18,12 @@ public interface RequestContextStack {
      * @return A request context, or null if one cannot be created.
      */
     @Nullable <T> RequestContext<T> createRequestContext();
+
+    /**
+     * Method returns new request context for a request whose XID has already been reserved. If no context
+     * is returned, the caller remains responsible for committing the reserved entry.
+     * @param xid reserved XID
+     * @return A request context, or null if one cannot be created.
+     */
+    @Nullable <T> RequestContext<T> createRequestContext(Long xid);
 }
@@ -34,6 +34,11 @@ public interface ContextChain extends ClusterSingletonService, AutoCloseable, Re
      */
     void makeContextChainStateSlave();
 
+    /**
+     * Device is not going to be initialized by this node any further, e.g. because another cluster node owns it.
+     */
+    void initializationFinished();
+
     /**
      * Registers context chain into cluster singleton service.
      * @param clusterSingletonServiceProvider provider
@@ -15,6 +15,7 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opendaylight.openflowplugin.api.openflow.registry.CommonDeviceRegistry;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowCapableNode;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.Flow;
 
 /**
  * Registry for mapping composite-key of flow ({@link FlowRegistryKey}) from device view
@@ -24,6 +25,15 @@ public interface DeviceFlowRegistry extends CommonDeviceRegistry<FlowRegistryKey
 
     ListenableFuture<List<Optional<FlowCapableNode>>> fill();
 
+    /**
+     * Creates the key identifying the given flow in this registry.
+     *
+     * @param flow flow to identify
+     * @return flow registry key
+     */
+    @Nonnull
+    FlowRegistryKey createKey(@Nonnull Flow flow);
+
     void storeDescriptor(@Nonnull FlowRegistryKey flowRegistryKey, @Nonnull FlowDescriptor flowDescriptor);
 
     @Nullable
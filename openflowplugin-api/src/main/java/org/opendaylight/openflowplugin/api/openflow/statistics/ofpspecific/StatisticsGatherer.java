@@ -10,10 +10,22 @@ package org.opendaylight.openflowplugin.api.openflow.statistics.ofpspecific;
 
 import com.google.common.util.concurrent.ListenableFuture;
 import java.util.List;
+import java.util.function.Consumer;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.types.rev130731.MultipartType;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.OfHeader;
 import org.opendaylight.yangtools.yang.common.RpcResult;
 
 public interface StatisticsGatherer<T extends OfHeader> {
     ListenableFuture<RpcResult<List<T>>> getStatisticsOfType(EventIdentifier eventIdentifier, MultipartType type);
+
+    /**
+     * Get statistics of given type, handing every reply over to the consumer. Gatherers which support streaming
+     * do so as soon as a reply arrives and complete with an empty list, others once the request completes.
+     * @param eventIdentifier event identifier
+     * @param type multipart type
+     * @param consumer reply consumer
+     * @return result of the statistics request
+     */
+    ListenableFuture<RpcResult<List<T>>> getStatisticsOfType(EventIdentifier eventIdentifier, MultipartType type,
+                                                             Consumer<? super T> consumer);
 }
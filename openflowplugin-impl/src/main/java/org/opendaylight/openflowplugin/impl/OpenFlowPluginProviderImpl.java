@@ -41,7 +41,11 @@ import org.opendaylight.infrautils.ready.SystemReadyListener;
 import org.opendaylight.infrautils.ready.SystemReadyMonitor;
 import org.opendaylight.mdsal.eos.binding.api.EntityOwnershipService;
 import org.opendaylight.mdsal.singleton.common.api.ClusterSingletonServiceProvider;
+import org.opendaylight.openflowjava.protocol.impl.core.connection.SegmentPool;
+import org.opendaylight.openflowjava.protocol.impl.core.connection.SegmentPoolMXBean;
 import org.opendaylight.openflowjava.protocol.spi.connection.SwitchConnectionProvider;
+import org.opendaylight.openflowjava.statistics.StatisticsCounters;
+import org.opendaylight.openflowjava.statistics.StatisticsCountersMXBean;
 import org.opendaylight.openflowplugin.api.diagstatus.OpenflowPluginDiagStatusProvider;
 import org.opendaylight.openflowplugin.api.openflow.OpenFlowPluginProvider;
 import org.opendaylight.openflowplugin.api.openflow.configuration.ConfigurationService;
@@ -57,6 +61,7 @@ import org.opendaylight.openflowplugin.extension.api.ExtensionConverterRegistrat
 import org.opendaylight.openflowplugin.extension.api.OpenFlowPluginExtensionRegistratorProvider;
 import org.opendaylight.openflowplugin.extension.api.core.extension.ExtensionConverterManager;
 import org.opendaylight.openflowplugin.impl.configuration.OpenFlowProviderConfigImpl;
+import org.opendaylight.openflowplugin.impl.connection.AdmissionControllerMXBean;
 import org.opendaylight.openflowplugin.impl.connection.ConnectionManagerImpl;
 import org.opendaylight.openflowplugin.impl.device.DeviceManagerImpl;
 import org.opendaylight.openflowplugin.impl.device.initialization.DeviceInitializerProvider;
@@ -95,6 +100,18 @@ public class OpenFlowPluginProviderImpl implements
             .format("%s:type=%s",
                     MessageIntelligenceAgencyMXBean.class.getPackage().getName(),
                     MessageIntelligenceAgencyMXBean.class.getSimpleName());
+    private static final String STATISTICS_COUNTERS_MX_BEAN_NAME = String
+            .format("%s:type=%s",
+                    StatisticsCountersMXBean.class.getPackage().getName(),
+                    StatisticsCountersMXBean.class.getSimpleName());
+    private static final String SEGMENT_POOL_MX_BEAN_NAME = String
+            .format("%s:type=%s",
+                    SegmentPoolMXBean.class.getPackage().getName(),
+                    SegmentPoolMXBean.class.getSimpleName());
+    private static final String ADMISSION_CONTROLLER_MX_BEAN_NAME = String
+            .format("%s:type=%s",
+                    AdmissionControllerMXBean.class.getPackage().getName(),
+                    AdmissionControllerMXBean.class.getSimpleName());
 
     private final HashedWheelTimer hashedWheelTimer =
             new HashedWheelTimer(TICK_DURATION, TimeUnit.MILLISECONDS, TICKS_PER_WHEEL);
@@ -213,6 +230,8 @@ public class OpenFlowPluginProviderImpl implements
     @Override
     public void initialize() {
         registerMXBean(MESSAGE_INTELLIGENCE_AGENCY, MESSAGE_INTELLIGENCE_AGENCY_MX_BEAN_NAME);
+        registerMXBean(StatisticsCounters.getInstance(), STATISTICS_COUNTERS_MX_BEAN_NAME);
+        registerMXBean(SegmentPool.getInstance(), SEGMENT_POOL_MX_BEAN_NAME);
 
         // TODO: copied from OpenFlowPluginProvider (Helium) misusesing the old way of distributing extension converters
         // TODO: rewrite later!
@@ -265,9 +284,11 @@ public class OpenFlowPluginProviderImpl implements
         contextChainHolder.addManager(rpcManager);
         contextChainHolder.addManager(roleManager);
 
-        connectionManager = new ConnectionManagerImpl(config, executorService);
-        connectionManager.setDeviceConnectedHandler(contextChainHolder);
-        connectionManager.setDeviceDisconnectedHandler(contextChainHolder);
+        final ConnectionManagerImpl connectionManagerImpl = new ConnectionManagerImpl(config, executorService);
+        connectionManagerImpl.setDeviceConnectedHandler(contextChainHolder);
+        connectionManagerImpl.setDeviceDisconnectedHandler(contextChainHolder);
+        registerMXBean(connectionManagerImpl.getAdmissionController(), ADMISSION_CONTROLLER_MX_BEAN_NAME);
+        connectionManager = connectionManagerImpl;
 
         deviceManager.setContextChainHolder(contextChainHolder);
         deviceManager.initialize();
@@ -294,6 +315,9 @@ public class OpenFlowPluginProviderImpl implements
         gracefulShutdown(executorService);
         gracefulShutdown(hashedWheelTimer);
         unregisterMXBean(MESSAGE_INTELLIGENCE_AGENCY_MX_BEAN_NAME);
+        unregisterMXBean(STATISTICS_COUNTERS_MX_BEAN_NAME);
+        unregisterMXBean(SEGMENT_POOL_MX_BEAN_NAME);
+        unregisterMXBean(ADMISSION_CONTROLLER_MX_BEAN_NAME);
         openflowPluginStatusMonitor.reportStatus(ServiceState.UNREGISTERED, "service shutting down");
     }
 
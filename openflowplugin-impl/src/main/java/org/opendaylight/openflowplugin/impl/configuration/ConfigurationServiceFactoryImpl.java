@@ -94,6 +94,14 @@ public class ConfigurationServiceFactoryImpl implements ConfigurationServiceFact
                             providerConfig.getThreadPoolMaxThreads().getValue().toString())
                     .put(ConfigurationProperty.THREAD_POOL_TIMEOUT.toString(),
                             providerConfig.getThreadPoolTimeout().toString())
+                    .put(ConfigurationProperty.MAX_CONCURRENT_HANDSHAKES.toString(),
+                            providerConfig.getMaxConcurrentHandshakes().toString())
+                    .put(ConfigurationProperty.USE_COMPACT_FLOW_REGISTRY_KEYS.toString(),
+                            providerConfig.isUseCompactFlowRegistryKeys().toString())
+                    .put(ConfigurationProperty.FLOW_REGISTRY_SNAPSHOT_DIRECTORY.toString(),
+                            providerConfig.getFlowRegistrySnapshotDirectory())
+                    .put(ConfigurationProperty.FLOW_REGISTRY_FILL_PARALLELISM.toString(),
+                            providerConfig.getFlowRegistryFillParallelism().toString())
                     .build());
 
             LOG.info("Loading configuration from '{}' configuration file", OFConstants.CONFIG_FILE_ID);
@@ -144,6 +144,27 @@ public class OpenFlowProviderConfigImpl implements OpenflowProviderConfig {
         return service.getProperty(ConfigurationProperty.ENABLE_EQUAL_ROLE.toString(), Boolean::valueOf);
     }
 
+    @Override
+    public Integer getMaxConcurrentHandshakes() {
+        return service.getProperty(ConfigurationProperty.MAX_CONCURRENT_HANDSHAKES.toString(), Integer::valueOf);
+    }
+
+    @Override
+    public Boolean isUseCompactFlowRegistryKeys() {
+        return service.getProperty(ConfigurationProperty.USE_COMPACT_FLOW_REGISTRY_KEYS.toString(), Boolean::valueOf);
+    }
+
+    @Override
+    public String getFlowRegistrySnapshotDirectory() {
+        return service.getProperty(ConfigurationProperty.FLOW_REGISTRY_SNAPSHOT_DIRECTORY.toString(),
+                value -> value);
+    }
+
+    @Override
+    public Integer getFlowRegistryFillParallelism() {
+        return service.getProperty(ConfigurationProperty.FLOW_REGISTRY_FILL_PARALLELISM.toString(), Integer::valueOf);
+    }
+
     @Override
     public NonZeroUint32Type getBasicTimerDelay() {
         final Long property = service.getProperty(
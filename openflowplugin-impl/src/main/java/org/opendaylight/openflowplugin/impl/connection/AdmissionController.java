@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2018 OpenDaylight and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.connection;
+
+import com.google.common.base.Preconditions;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.concurrent.GuardedBy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounds the number of switches going through handshake and initial device connection at the same time.
+ * Switches which exceed the limit wait in a queue and are admitted in the order they have connected in,
+ * so that a reconnect storm is processed at a pace the node can sustain instead of timing out all switches.
+ */
+public final class AdmissionController implements AdmissionControllerMXBean {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AdmissionController.class);
+
+    private final int limit;
+    private final LongAdder admittedCount = new LongAdder();
+    private final LongAdder abandonedCount = new LongAdder();
+    private final LongAdder queueWaitNanos = new LongAdder();
+    private final LongAdder connectedCount = new LongAdder();
+    private final LongAdder connectedNanos = new LongAdder();
+    private final LongAccumulator maxConnectedNanos = new LongAccumulator(Long::max, 0);
+
+    @GuardedBy("this")
+    private final Deque<Ticket> queue = new ArrayDeque<>();
+    @GuardedBy("this")
+    private int inProgress;
+
+    /**
+     * Creates a new controller.
+     *
+     * @param limit maximum number of admitted switches, 0 for no limit
+     */
+    public AdmissionController(final int limit) {
+        Preconditions.checkArgument(limit >= 0, "Limit %s must not be negative", limit);
+        this.limit = limit;
+    }
+
+    /**
+     * Creates a ticket for a newly accepted connection. The ticket has to be enqueued once the connection is set up.
+     *
+     * @return new ticket
+     */
+    Ticket newTicket() {
+        return new Ticket();
+    }
+
+    @Override
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    public synchronized int getInProgress() {
+        return inProgress;
+    }
+
+    @Override
+    public synchronized int getQueueDepth() {
+        return queue.size();
+    }
+
+    @Override
+    public long getAdmittedCount() {
+        return admittedCount.sum();
+    }
+
+    @Override
+    public long getAbandonedCount() {
+        return abandonedCount.sum();
+    }
+
+    @Override
+    public long getAverageQueueWait() {
+        final long count = admittedCount.sum();
+        return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(queueWaitNanos.sum() / count);
+    }
+
+    @Override
+    public long getAverageTimeToConnected() {
+        final long count = connectedCount.sum();
+        return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(connectedNanos.sum() / count);
+    }
+
+    @Override
+    public long getMaxTimeToConnected() {
+        return TimeUnit.NANOSECONDS.toMillis(maxConnectedNanos.get());
+    }
+
+    private void enqueue(final Ticket ticket) {
+        synchronized (this) {
+            if (ticket.state != TicketState.NEW) {
+                return;
+            }
+            if (limit != 0 && inProgress >= limit) {
+                ticket.state = TicketState.QUEUED;
+                queue.addLast(ticket);
+                LOG.debug("Connection admission postponed, {} connections queued", queue.size());
+                return;
+            }
+            admit(ticket);
+        }
+
+        ticket.onAdmitted.run();
+    }
+
+    private boolean release(final Ticket ticket) {
+        final List<Ticket> admitted = new ArrayList<>();
+        final boolean wasAdmitted;
+        synchronized (this) {
+            wasAdmitted = ticket.state == TicketState.ADMITTED;
+            switch (ticket.state) {
+                case QUEUED:
+                    queue.remove(ticket);
+                    abandonedCount.increment();
+                    break;
+                case ADMITTED:
+                    inProgress--;
+                    while (!queue.isEmpty() && inProgress < limit) {
+                        final Ticket next = queue.removeFirst();
+                        admit(next);
+                        admitted.add(next);
+                    }
+                    break;
+                case NEW:
+                case RELEASED:
+                default:
+                    break;
+            }
+            ticket.state = TicketState.RELEASED;
+        }
+
+        admitted.forEach(next -> next.onAdmitted.run());
+        return wasAdmitted;
+    }
+
+    @GuardedBy("this")
+    private void admit(final Ticket ticket) {
+        ticket.state = TicketState.ADMITTED;
+        inProgress++;
+        admittedCount.increment();
+        queueWaitNanos.add(System.nanoTime() - ticket.created);
+    }
+
+    private enum TicketState {
+        NEW,
+        QUEUED,
+        ADMITTED,
+        RELEASED
+    }
+
+    /**
+     * Admission of a single connection. Releasing the ticket more than once has no effect.
+     */
+    final class Ticket {
+        private final long created = System.nanoTime();
+        private Runnable onAdmitted;
+        @GuardedBy("AdmissionController.this")
+        private TicketState state = TicketState.NEW;
+
+        private Ticket() {
+        }
+
+        /**
+         * Requests admission of the connection.
+         *
+         * @param callback invoked once the connection is admitted, possibly from the calling thread
+         */
+        void enqueue(final Runnable callback) {
+            onAdmitted = Preconditions.checkNotNull(callback);
+            AdmissionController.this.enqueue(this);
+        }
+
+        /**
+         * Records that the device has been initialized and releases the ticket.
+         */
+        void connected() {
+            final long elapsed = System.nanoTime() - created;
+            if (AdmissionController.this.release(this)) {
+                connectedCount.increment();
+                connectedNanos.add(elapsed);
+                maxConnectedNanos.accumulate(elapsed);
+            }
+        }
+
+        /**
+         * Releases the ticket, either because the connection is done connecting or because it went away.
+         */
+        void release() {
+            AdmissionController.this.release(this);
+        }
+    }
+}
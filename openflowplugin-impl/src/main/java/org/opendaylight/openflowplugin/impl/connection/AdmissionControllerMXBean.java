@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2018 OpenDaylight and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.connection;
+
+/**
+ * Management interface of {@link AdmissionController}.
+ */
+public interface AdmissionControllerMXBean {
+
+    /**
+     * Returns the maximum number of switches connecting at the same time.
+     *
+     * @return limit of admitted switches, 0 if unlimited
+     */
+    int getLimit();
+
+    /**
+     * Returns the number of switches which are handshaking or being initialized.
+     *
+     * @return number of admitted switches
+     */
+    int getInProgress();
+
+    /**
+     * Returns the number of switches waiting for admission.
+     *
+     * @return queue depth
+     */
+    int getQueueDepth();
+
+    /**
+     * Returns the number of switches admitted so far.
+     *
+     * @return admitted switch count
+     */
+    long getAdmittedCount();
+
+    /**
+     * Returns the number of switches which disconnected before they were admitted.
+     *
+     * @return abandoned switch count
+     */
+    long getAbandonedCount();
+
+    /**
+     * Returns the average time switches waited for admission.
+     *
+     * @return average queue wait in milliseconds
+     */
+    long getAverageQueueWait();
+
+    /**
+     * Returns the average time from accepting a connection until the device was initialized.
+     *
+     * @return average time-to-connected in milliseconds
+     */
+    long getAverageTimeToConnected();
+
+    /**
+     * Returns the longest time from accepting a connection until the device was initialized.
+     *
+     * @return maximum time-to-connected in milliseconds
+     */
+    long getMaxTimeToConnected();
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2018 OpenDaylight and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.connection;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import javax.annotation.concurrent.GuardedBy;
+import org.opendaylight.openflowjava.protocol.api.connection.ConnectionAdapter;
+import org.opendaylight.openflowplugin.api.openflow.md.core.HandshakeManager;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.HelloMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Handshake manager which defers handshake steps until the connection is admitted by {@link AdmissionController}.
+ * Deferred steps are replayed in their original order on the handshake pool.
+ */
+final class AdmittedHandshakeManager implements HandshakeManager {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AdmittedHandshakeManager.class);
+
+    private final HandshakeManager delegate;
+    private final ConnectionAdapter connectionAdapter;
+    private final Executor executor;
+
+    // Null once the connection is admitted and all deferred steps are replayed
+    @GuardedBy("this")
+    private List<HelloMessage> deferred = new ArrayList<>();
+
+    AdmittedHandshakeManager(final HandshakeManager delegate, final ConnectionAdapter connectionAdapter,
+                             final Executor executor) {
+        this.delegate = delegate;
+        this.connectionAdapter = connectionAdapter;
+        this.executor = executor;
+    }
+
+    @Override
+    public Short getVersion() {
+        return delegate.getVersion();
+    }
+
+    @Override
+    public void shake(final HelloMessage receivedHello) {
+        synchronized (this) {
+            if (deferred != null) {
+                LOG.debug("Handshake step of device {} deferred until admission",
+                        connectionAdapter.getRemoteAddress());
+                deferred.add(receivedHello);
+                return;
+            }
+        }
+        delegate.shake(receivedHello);
+    }
+
+    /**
+     * Invoked once the connection is admitted.
+     */
+    void admit() {
+        synchronized (this) {
+            if (deferred.isEmpty()) {
+                deferred = null;
+                return;
+            }
+        }
+        executor.execute(this::replay);
+    }
+
+    private void replay() {
+        while (true) {
+            final List<HelloMessage> steps;
+            synchronized (this) {
+                if (deferred.isEmpty()) {
+                    deferred = null;
+                    return;
+                }
+                steps = deferred;
+                deferred = new ArrayList<>();
+            }
+
+            for (HelloMessage hello : steps) {
+                if (connectionAdapter.isAlive()) {
+                    delegate.shake(hello);
+                } else {
+                    LOG.debug("connection is down - skipping deferred handshake step");
+                }
+            }
+        }
+    }
+}
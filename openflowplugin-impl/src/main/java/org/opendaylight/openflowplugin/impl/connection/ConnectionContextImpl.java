@@ -49,6 +49,7 @@ public class ConnectionContextImpl implements ConnectionContext {
     private HandshakeContext handshakeContext;
     private DeviceInfo deviceInfo;
     private final List<PortStatusMessage> portStatusMessages = new ArrayList<>();
+    private AdmissionController.Ticket admissionTicket;
 
     /**
      * Constructor.
@@ -105,6 +106,22 @@ public class ConnectionContextImpl implements ConnectionContext {
         this.featuresReply = newFeaturesReply;
     }
 
+    /**
+     * Sets the admission ticket which is released once the device is initialized or this connection goes down.
+     *
+     * @param admissionTicket - admission ticket of this connection
+     */
+    void setAdmissionTicket(final AdmissionController.Ticket admissionTicket) {
+        this.admissionTicket = admissionTicket;
+    }
+
+    @Override
+    public void deviceInitializationFinished() {
+        if (admissionTicket != null) {
+            admissionTicket.connected();
+        }
+    }
+
     @Override
     public void closeConnection(final boolean propagate) {
         disconnectDevice(propagate, true);
@@ -141,6 +158,10 @@ public class ConnectionContextImpl implements ConnectionContext {
 
         connectionState = ConnectionContext.CONNECTION_STATE.RIP;
 
+        if (admissionTicket != null) {
+            admissionTicket.release();
+        }
+
         SessionStatistics.countEvent(device, forced
                 ? SessionStatistics.ConnectionStatus.CONNECTION_DISCONNECTED_BY_OFP
                 : SessionStatistics.ConnectionStatus.CONNECTION_DISCONNECTED_BY_DEVICE);
@@ -249,6 +270,7 @@ public class ConnectionContextImpl implements ConnectionContext {
                 featuresReply.getVersion(),
                 featuresReply.getDatapathId(),
                 outboundQueueProvider);
+        connectionAdapter.setDatapathId(featuresReply.getDatapathId());
     }
 
     @Override
@@ -9,11 +9,11 @@
 package org.opendaylight.openflowplugin.impl.connection;
 
 import java.net.InetAddress;
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import org.opendaylight.openflowjava.protocol.api.connection.ConnectionAdapter;
 import org.opendaylight.openflowjava.protocol.api.connection.ConnectionReadyListener;
 import org.opendaylight.openflowplugin.api.OFConstants;
-import org.opendaylight.openflowplugin.api.openflow.connection.ConnectionContext;
 import org.opendaylight.openflowplugin.api.openflow.connection.ConnectionManager;
 import org.opendaylight.openflowplugin.api.openflow.connection.HandshakeContext;
 import org.opendaylight.openflowplugin.api.openflow.device.handlers.DeviceConnectedHandler;
@@ -38,20 +38,37 @@ public class ConnectionManagerImpl implements ConnectionManager {
     private final OpenflowProviderConfig config;
     private final ExecutorService executorService;
     private DeviceDisconnectedHandler deviceDisconnectedHandler;
+    private final AdmissionController admissionController;
 
     public ConnectionManagerImpl(final OpenflowProviderConfig config, final ExecutorService executorService) {
         this.config = config;
         this.executorService = executorService;
+        this.admissionController = new AdmissionController(
+                Optional.ofNullable(config.getMaxConcurrentHandshakes()).orElse(0));
     }
 
     @Override
     public void onSwitchConnected(final ConnectionAdapter connectionAdapter) {
         LOG.trace("prepare connection context");
-        final ConnectionContext connectionContext = new ConnectionContextImpl(connectionAdapter);
+        final ConnectionContextImpl connectionContext = new ConnectionContextImpl(connectionAdapter);
         connectionContext.setDeviceDisconnectedHandler(this.deviceDisconnectedHandler);
 
         HandshakeListener handshakeListener = new HandshakeListenerImpl(connectionContext, deviceConnectedHandler);
-        final HandshakeManager handshakeManager = createHandshakeManager(connectionAdapter, handshakeListener);
+        final AdmissionController.Ticket ticket;
+        final AdmittedHandshakeManager admittedHandshakeManager;
+        final HandshakeManager handshakeManager;
+        if (admissionController.getLimit() != 0) {
+            // The admission slot is held until the device is initialized or the connection goes down
+            ticket = admissionController.newTicket();
+            connectionContext.setAdmissionTicket(ticket);
+            admittedHandshakeManager = new AdmittedHandshakeManager(
+                    createHandshakeManager(connectionAdapter, handshakeListener), connectionAdapter, executorService);
+            handshakeManager = admittedHandshakeManager;
+        } else {
+            ticket = null;
+            admittedHandshakeManager = null;
+            handshakeManager = createHandshakeManager(connectionAdapter, handshakeListener);
+        }
 
         LOG.trace("prepare handshake context");
         HandshakeContext handshakeContext = new HandshakeContextImpl(executorService, handshakeManager);
@@ -71,6 +88,9 @@ public class ConnectionManagerImpl implements ConnectionManager {
                 connectionContext, config.getEchoReplyTimeout().getValue(), executorService);
         connectionAdapter.setSystemListener(systemListener);
 
+        if (ticket != null) {
+            ticket.enqueue(admittedHandshakeManager::admit);
+        }
         LOG.trace("connection ballet finished");
     }
 
@@ -83,6 +103,10 @@ public class ConnectionManagerImpl implements ConnectionManager {
         return handshakeManager;
     }
 
+    public AdmissionController getAdmissionController() {
+        return admissionController;
+    }
+
     @Override
     public boolean accept(final InetAddress switchAddress) {
         // TODO add connection accept logic based on address
@@ -9,8 +9,13 @@
 package org.opendaylight.openflowplugin.impl.connection;
 
 import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Function;
 import javax.annotation.Nonnull;
+import javax.annotation.concurrent.GuardedBy;
 import org.opendaylight.openflowjava.protocol.api.connection.OutboundQueue;
 import org.opendaylight.openflowplugin.api.openflow.connection.OutboundQueueProvider;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.BarrierInput;
@@ -23,6 +28,15 @@ public class OutboundQueueProviderImpl implements OutboundQueueProvider {
     private static final Logger LOG = LoggerFactory.getLogger(OutboundQueueProviderImpl.class);
     private final short ofVersion;
     private volatile OutboundQueue outboundQueue;
+    // Set when the current queue refused a reservation, cleared when it gets replaced or accepts one again
+    private volatile boolean queueBlocked;
+    private volatile boolean channelWritable = true;
+    // Reservations refused by the current queue, retried when it becomes writable or gets replaced
+    @GuardedBy("this")
+    private List<SettableFuture<Long>> pendingReservations = new ArrayList<>();
+    // Bumped whenever the channel becomes writable, so that a refused reservation does not miss the wakeup
+    @GuardedBy("this")
+    private long writableEpoch;
 
     public OutboundQueueProviderImpl(final short ofVersion) {
         this.ofVersion = ofVersion;
@@ -39,12 +53,48 @@ public class OutboundQueueProviderImpl implements OutboundQueueProvider {
     }
 
     @Override
-    public synchronized void onConnectionQueueChanged(final OutboundQueue queue) {
-        if (LOG.isDebugEnabled()) {
-            LOG.debug("Replacing queue {} with {}", outboundQueue, queue);
+    public void onConnectionQueueChanged(final OutboundQueue queue) {
+        final List<SettableFuture<Long>> reservations;
+        synchronized (this) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Replacing queue {} with {}", outboundQueue, queue);
+            }
+            outboundQueue = queue;
+            queueBlocked = false;
+            channelWritable = true;
+            notifyAll();
+            reservations = takePendingReservations();
+        }
+
+        retryReservations(reservations);
+    }
+
+    @Override
+    public void onWritabilityChanged(final boolean writable) {
+        LOG.debug("Queue {} writability changed to {}", outboundQueue, writable);
+        if (!writable) {
+            channelWritable = false;
+            return;
         }
-        outboundQueue = queue;
-        notifyAll();
+
+        final List<SettableFuture<Long>> reservations;
+        synchronized (this) {
+            channelWritable = true;
+            writableEpoch++;
+            reservations = takePendingReservations();
+        }
+
+        retryReservations(reservations);
+    }
+
+    @Override
+    public boolean isReservationBlocked() {
+        return outboundQueue == null || queueBlocked;
+    }
+
+    @Override
+    public boolean isWritable() {
+        return !isReservationBlocked() && channelWritable;
     }
 
     @Override
@@ -63,6 +113,9 @@ public class OutboundQueueProviderImpl implements OutboundQueueProvider {
 
             LOG.debug("Reservation failed, trying to recover");
             synchronized (this) {
+                if (queue.equals(outboundQueue)) {
+                    queueBlocked = true;
+                }
                 while (queue.equals(outboundQueue)) {
                     LOG.debug("Queue {} is not replaced yet, going to sleep", queue);
                     try {
@@ -76,6 +129,72 @@ public class OutboundQueueProviderImpl implements OutboundQueueProvider {
         }
     }
 
+    @Override
+    public ListenableFuture<Long> reserveEntryAsync() {
+        final SettableFuture<Long> reservation = SettableFuture.create();
+        completeReservation(reservation);
+        return reservation;
+    }
+
+    /**
+     * Attempts to reserve an entry for a reservation future. If the current queue refuses the reservation,
+     * the future is parked until the channel becomes writable or the queue is replaced, instead of blocking
+     * the caller.
+     */
+    private void completeReservation(final SettableFuture<Long> reservation) {
+        for (;;) {
+            final OutboundQueue queue = outboundQueue;
+            if (queue == null) {
+                LOG.error("No queue present, failing request");
+                reservation.set(null);
+                return;
+            }
+
+            final long epoch;
+            synchronized (this) {
+                epoch = writableEpoch;
+            }
+
+            final Long ret = queue.reserveEntry();
+            if (ret != null) {
+                if (queueBlocked) {
+                    synchronized (this) {
+                        // The queue accepts reservations again after becoming writable
+                        if (queue.equals(outboundQueue)) {
+                            queueBlocked = false;
+                        }
+                    }
+                }
+                reservation.set(ret);
+                return;
+            }
+
+            LOG.debug("Reservation failed, postponing it");
+            synchronized (this) {
+                if (queue.equals(outboundQueue) && epoch == writableEpoch) {
+                    LOG.debug("Queue {} is not writable or replaced yet, parking reservation", queue);
+                    queueBlocked = true;
+                    pendingReservations.add(reservation);
+                    return;
+                }
+            }
+        }
+    }
+
+    @GuardedBy("this")
+    private List<SettableFuture<Long>> takePendingReservations() {
+        final List<SettableFuture<Long>> ret = pendingReservations;
+        pendingReservations = new ArrayList<>();
+        return ret;
+    }
+
+    private void retryReservations(final List<SettableFuture<Long>> reservations) {
+        // Futures are completed outside of the lock, as their listeners may reserve further entries
+        for (final SettableFuture<Long> reservation : reservations) {
+            completeReservation(reservation);
+        }
+    }
+
     @Override
     public void commitEntry(final Long xid, final OfHeader message, final FutureCallback<OfHeader> callback) {
         outboundQueue.commitEntry(xid, message, callback);
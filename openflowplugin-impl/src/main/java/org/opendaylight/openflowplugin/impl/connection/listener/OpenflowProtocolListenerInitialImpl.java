@@ -8,6 +8,7 @@
 package org.opendaylight.openflowplugin.impl.connection.listener;
 
 import com.google.common.base.Objects;
+import io.netty.util.ReferenceCountUtil;
 import org.opendaylight.openflowplugin.api.openflow.connection.ConnectionContext;
 import org.opendaylight.openflowplugin.api.openflow.connection.HandshakeContext;
 import org.opendaylight.openflowplugin.impl.connection.HandshakeStepWrapper;
@@ -110,6 +111,7 @@ public class OpenflowProtocolListenerInitialImpl implements OpenflowProtocolList
     @Override
     public void onPacketInMessage(final PacketInMessage notification) {
         LOG.debug("NOOP: Packet-in message during handshake phase not supported: {}", notification);
+        ReferenceCountUtil.release(notification);
     }
 
     @Override
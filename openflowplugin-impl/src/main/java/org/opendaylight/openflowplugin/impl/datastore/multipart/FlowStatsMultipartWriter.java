@@ -13,7 +13,6 @@ import org.opendaylight.openflowplugin.api.openflow.device.DeviceRegistry;
 import org.opendaylight.openflowplugin.api.openflow.device.TxFacade;
 import org.opendaylight.openflowplugin.api.openflow.registry.flow.FlowDescriptor;
 import org.opendaylight.openflowplugin.api.openflow.registry.flow.FlowRegistryKey;
-import org.opendaylight.openflowplugin.impl.registry.flow.FlowRegistryKeyFactory;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowCapableNode;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.Table;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.TableKey;
@@ -30,15 +29,12 @@ import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 public class FlowStatsMultipartWriter extends AbstractMultipartWriter<FlowAndStatisticsMapList> {
 
     private final DeviceRegistry registry;
-    private final short version;
 
     public FlowStatsMultipartWriter(final TxFacade txFacade,
                                     final InstanceIdentifier<Node> instanceIdentifier,
-                                    final DeviceRegistry registry,
-                                    final short version) {
+                                    final DeviceRegistry registry) {
         super(txFacade, instanceIdentifier);
         this.registry = registry;
-        this.version = version;
     }
 
     @Override
@@ -57,7 +53,7 @@ public class FlowStatsMultipartWriter extends AbstractMultipartWriter<FlowAndSta
                             .setFlowStatistics(new FlowStatisticsBuilder(stat).build())
                             .build());
 
-                final FlowRegistryKey flowRegistryKey = FlowRegistryKeyFactory.create(version, flow.build());
+                final FlowRegistryKey flowRegistryKey = registry.getDeviceFlowRegistry().createKey(flow.build());
                 registry.getDeviceFlowRegistry().store(flowRegistryKey);
 
                 final FlowDescriptor flowDescriptor = registry
@@ -14,8 +14,8 @@ import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.MoreExecutors;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.netty.util.HashedWheelTimer;
+import io.netty.util.ReferenceCountUtil;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
@@ -25,6 +25,7 @@ import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opendaylight.controller.md.sal.binding.api.DataBroker;
@@ -67,6 +68,7 @@ import org.opendaylight.openflowplugin.impl.device.initialization.AbstractDevice
 import org.opendaylight.openflowplugin.impl.device.initialization.DeviceInitializerProvider;
 import org.opendaylight.openflowplugin.impl.device.listener.MultiMsgCollectorImpl;
 import org.opendaylight.openflowplugin.impl.registry.flow.DeviceFlowRegistryImpl;
+import org.opendaylight.openflowplugin.impl.registry.flow.FlowRegistryKeyFactory;
 import org.opendaylight.openflowplugin.impl.registry.group.DeviceGroupRegistryImpl;
 import org.opendaylight.openflowplugin.impl.registry.meter.DeviceMeterRegistryImpl;
 import org.opendaylight.openflowplugin.impl.rpc.AbstractRequestContext;
@@ -150,6 +152,9 @@ public class DeviceContextImpl implements DeviceContext, ExtensionConverterProvi
     private final AtomicBoolean hasState = new AtomicBoolean(false);
     private final AtomicBoolean isInitialTransactionSubmitted = new AtomicBoolean(false);
     private final ContextChainHolder contextChainHolder;
+    private final FlowRegistryKeyFactory flowRegistryKeyFactory;
+    private final int flowRegistryFillParallelism;
+    private final String flowRegistrySnapshotDirectory;
     private NotificationPublishService notificationPublishService;
     private TransactionChainManager transactionChainManager;
     private DeviceFlowRegistry deviceFlowRegistry;
@@ -169,7 +174,10 @@ public class DeviceContextImpl implements DeviceContext, ExtensionConverterProvi
                       final DeviceInitializerProvider deviceInitializerProvider,
                       final boolean isFlowRemovedNotificationOn,
                       final boolean switchFeaturesMandatory,
-                      final ContextChainHolder contextChainHolder) {
+                      final ContextChainHolder contextChainHolder,
+                      final FlowRegistryKeyFactory flowRegistryKeyFactory,
+                      final int flowRegistryFillParallelism,
+                      @Nullable final String flowRegistrySnapshotDirectory) {
 
         this.primaryConnectionContext = primaryConnectionContext;
         this.deviceInfo = primaryConnectionContext.getDeviceInfo();
@@ -181,6 +189,9 @@ public class DeviceContextImpl implements DeviceContext, ExtensionConverterProvi
         this.dataBroker = dataBroker;
         this.messageSpy = messageSpy;
         this.contextChainHolder = contextChainHolder;
+        this.flowRegistryKeyFactory = flowRegistryKeyFactory;
+        this.flowRegistryFillParallelism = flowRegistryFillParallelism;
+        this.flowRegistrySnapshotDirectory = flowRegistrySnapshotDirectory;
 
         this.packetInLimiter = new PacketInRateLimiter(primaryConnectionContext.getConnectionAdapter(),
                 /*initial*/ LOW_WATERMARK, /*initial*/HIGH_WATERMARK, this.messageSpy, REJECTED_DRAIN_FACTOR);
@@ -360,11 +371,19 @@ public class DeviceContextImpl implements DeviceContext, ExtensionConverterProvi
 
     @Override
     public void processPacketInMessage(final PacketInMessage packetInMessage) {
-        if (isMasterOfDevice()) {
-            final PacketReceived packetReceived = packetInTranslator.translate(packetInMessage, getDeviceInfo(), null);
-            handlePacketInMessage(packetReceived, packetInMessage.getImplementedInterface(), packetReceived.getMatch());
-        } else {
-            LOG.debug("Controller is not owner of the device {}, skipping packet_in message", deviceInfo.getLOGValue());
+        try {
+            if (isMasterOfDevice()) {
+                final PacketReceived packetReceived =
+                        packetInTranslator.translate(packetInMessage, getDeviceInfo(), null);
+                handlePacketInMessage(packetReceived, packetInMessage.getImplementedInterface(),
+                        packetReceived.getMatch());
+            } else {
+                LOG.debug("Controller is not owner of the device {}, skipping packet_in message",
+                        deviceInfo.getLOGValue());
+            }
+        } finally {
+            // zero-copy packet-in holds the inbound buffer until released, the payload has been copied by now
+            ReferenceCountUtil.release(packetInMessage);
         }
     }
 
@@ -531,6 +550,13 @@ public class DeviceContextImpl implements DeviceContext, ExtensionConverterProvi
         return new MultiMsgCollectorImpl<>(this, requestContext);
     }
 
+    @Override
+    public <T extends OfHeader> MultiMsgCollector<T> getMultiMsgCollector(final RequestContext<List<T>>
+                                                                                  requestContext,
+                                                                          final Consumer<? super T> replyConsumer) {
+        return new MultiMsgCollectorImpl<>(this, requestContext, replyConsumer);
+    }
+
     @Override
     public void updatePacketInRateLimit(final long upperBound) {
         packetInLimiter.changeWaterMarks((int) (LOW_WATERMARK_FACTOR * upperBound),
@@ -674,7 +700,8 @@ public class DeviceContextImpl implements DeviceContext, ExtensionConverterProvi
             }
             this.transactionChainManager = new TransactionChainManager(dataBroker, deviceInfo.getNodeId().getValue());
             this.deviceFlowRegistry = new DeviceFlowRegistryImpl(deviceInfo.getVersion(), dataBroker,
-                    deviceInfo.getNodeInstanceIdentifier());
+                    deviceInfo.getNodeInstanceIdentifier(), flowRegistryKeyFactory, flowRegistryFillParallelism,
+                    flowRegistrySnapshotDirectory);
             this.deviceGroupRegistry = new DeviceGroupRegistryImpl();
             this.deviceMeterRegistry = new DeviceMeterRegistryImpl();
         }
@@ -686,8 +713,12 @@ public class DeviceContextImpl implements DeviceContext, ExtensionConverterProvi
     @Nullable
     @Override
     public <T> RequestContext<T> createRequestContext() {
-        final Long xid = deviceInfo.reserveXidForDeviceMessage();
+        return createRequestContext(deviceInfo.reserveXidForDeviceMessage());
+    }
 
+    @Nullable
+    @Override
+    public <T> RequestContext<T> createRequestContext(final Long xid) {
         final AbstractRequestContext<T> abstractRequestContext = new AbstractRequestContext<T>(xid) {
             @Override
             public void close() {
@@ -719,26 +750,10 @@ public class DeviceContextImpl implements DeviceContext, ExtensionConverterProvi
         @Override
         public void onSuccess(@Nullable List<com.google.common.base.Optional<FlowCapableNode>> result) {
             if (LOG.isDebugEnabled()) {
-                // Count all flows we read from datastore for debugging purposes.
-                // This number do not always represent how many flows were actually added
-                // to DeviceFlowRegistry, because of possible duplicates.
-                long flowCount = Optional.ofNullable(result)
-                        .map(Collections::singleton)
-                        .orElse(Collections.emptySet())
-                        .stream()
-                        .flatMap(Collection::stream)
-                        .filter(Objects::nonNull)
-                        .flatMap(flowCapableNodeOptional -> flowCapableNodeOptional.asSet().stream())
-                        .filter(Objects::nonNull)
-                        .filter(flowCapableNode -> Objects.nonNull(flowCapableNode.getTable()))
-                        .flatMap(flowCapableNode -> flowCapableNode.getTable().stream())
-                        .filter(Objects::nonNull)
-                        .filter(table -> Objects.nonNull(table.getFlow()))
-                        .flatMap(table -> table.getFlow().stream())
-                        .filter(Objects::nonNull)
-                        .count();
-
-                LOG.debug("Finished filling flow registry with {} flows for node: {}", flowCount, deviceInfo);
+                // Per-table fills do not return what they read, report the size of the registry instead.
+                // Flows read from both datastores are counted once here.
+                LOG.debug("Finished filling flow registry with {} flows for node: {}",
+                        getDeviceFlowRegistry().size(), deviceInfo);
             }
             this.contextChainMastershipWatcher.onMasterRoleAcquired(deviceInfo, ContextChainMastershipState
                     .INITIAL_FLOW_REGISTRY_FILL);
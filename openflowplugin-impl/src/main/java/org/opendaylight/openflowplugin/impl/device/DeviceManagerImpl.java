@@ -36,6 +36,7 @@ import org.opendaylight.openflowplugin.extension.api.core.extension.ExtensionCon
 import org.opendaylight.openflowplugin.impl.connection.OutboundQueueProviderImpl;
 import org.opendaylight.openflowplugin.impl.device.initialization.DeviceInitializerProvider;
 import org.opendaylight.openflowplugin.impl.device.listener.OpenflowProtocolListenerFullImpl;
+import org.opendaylight.openflowplugin.impl.registry.flow.FlowRegistryKeyFactory;
 import org.opendaylight.openflowplugin.impl.util.DeviceInitializationUtil;
 import org.opendaylight.openflowplugin.openflow.md.core.sal.convertor.ConvertorExecutor;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeId;
@@ -63,6 +64,7 @@ public class DeviceManagerImpl implements DeviceManager, ExtensionConverterProvi
     private final NotificationPublishService notificationPublishService;
     private final MessageSpy messageSpy;
     private final HashedWheelTimer hashedWheelTimer;
+    private final FlowRegistryKeyFactory flowRegistryKeyFactory;
     private final Object updatePacketInRateLimitersLock = new Object();
     private TranslatorLibrary translatorLibrary;
     private ExtensionConverterProvider extensionConverterProvider;
@@ -84,6 +86,7 @@ public class DeviceManagerImpl implements DeviceManager, ExtensionConverterProvi
         this.spyPool = new ScheduledThreadPoolExecutor(1);
         this.notificationPublishService = notificationPublishService;
         this.messageSpy = messageSpy;
+        this.flowRegistryKeyFactory = new FlowRegistryKeyFactory(config.isUseCompactFlowRegistryKeys());
         DeviceInitializationUtil.makeEmptyNodes(dataBroker);
     }
 
@@ -164,7 +167,10 @@ public class DeviceManagerImpl implements DeviceManager, ExtensionConverterProvi
                 deviceInitializerProvider,
                 config.isEnableFlowRemovedNotification(),
                 config.isSwitchFeaturesMandatory(),
-                contextChainHolder);
+                contextChainHolder,
+                flowRegistryKeyFactory,
+                config.getFlowRegistryFillParallelism(),
+                config.getFlowRegistrySnapshotDirectory());
 
         ((ExtensionConverterProviderKeeper) deviceContext).setExtensionConverterProvider(extensionConverterProvider);
         deviceContext.setNotificationPublishService(notificationPublishService);
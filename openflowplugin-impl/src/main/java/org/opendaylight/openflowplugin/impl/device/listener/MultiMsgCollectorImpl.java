@@ -10,8 +10,10 @@ package org.opendaylight.openflowplugin.impl.device.listener;
 
 import com.google.common.base.Preconditions;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opendaylight.openflowplugin.api.openflow.device.RequestContext;
@@ -29,6 +31,12 @@ import org.slf4j.LoggerFactory;
 /**
  * Implementation for {@link MultiMsgCollector} interface.
  *
+ * <p>
+ * When created with a reply consumer the collector works in streaming mode: every reply is handed over
+ * to the consumer as soon as it arrives and is not retained, so the memory held for a multipart request
+ * is bounded by a single reply regardless of the number of fragments. The request context is completed
+ * with an empty list in that case.
+ *
  * @author <a href="mailto:vdemcak@cisco.com">Vaclav Demcak</a>
  * @author <a href="mailto:tkubas@cisco.com">Timotej Kubas</a>
  */
@@ -37,11 +45,19 @@ public class MultiMsgCollectorImpl<T extends OfHeader> implements MultiMsgCollec
     private final List<T> replyCollection = new ArrayList<>();
     private final RequestContext<List<T>> requestContext;
     private final DeviceReplyProcessor deviceReplyProcessor;
+    private final Consumer<? super T> replyConsumer;
 
     public MultiMsgCollectorImpl(final DeviceReplyProcessor deviceReplyProcessor,
                                  final RequestContext<List<T>> requestContext) {
+        this(deviceReplyProcessor, requestContext, null);
+    }
+
+    public MultiMsgCollectorImpl(final DeviceReplyProcessor deviceReplyProcessor,
+                                 final RequestContext<List<T>> requestContext,
+                                 @Nullable final Consumer<? super T> replyConsumer) {
         this.deviceReplyProcessor = Preconditions.checkNotNull(deviceReplyProcessor);
         this.requestContext = Preconditions.checkNotNull(requestContext);
+        this.replyConsumer = replyConsumer;
     }
 
     @Override
@@ -51,7 +67,13 @@ public class MultiMsgCollectorImpl<T extends OfHeader> implements MultiMsgCollec
         Preconditions.checkNotNull(requestContext.getXid());
         Preconditions.checkArgument(requestContext.getXid().getValue().equals(reply.getXid()));
         LOG.trace("Try to add Multipart reply msg with XID {}", reply.getXid());
-        replyCollection.add(reply);
+
+        if (Objects.nonNull(replyConsumer)) {
+            replyConsumer.accept(reply);
+            deviceReplyProcessor.processReply(requestContext.getXid(), Collections.singletonList(reply));
+        } else {
+            replyCollection.add(reply);
+        }
 
         if (!reqMore) {
             endCollecting(eventIdentifier);
@@ -68,6 +90,9 @@ public class MultiMsgCollectorImpl<T extends OfHeader> implements MultiMsgCollec
 
         requestContext.setResult(rpcResult);
         requestContext.close();
-        deviceReplyProcessor.processReply(requestContext.getXid(), replyCollection);
+
+        if (Objects.isNull(replyConsumer)) {
+            deviceReplyProcessor.processReply(requestContext.getXid(), replyCollection);
+        }
     }
 }
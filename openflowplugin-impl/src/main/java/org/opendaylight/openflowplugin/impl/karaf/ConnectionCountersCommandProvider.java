@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2018 OpenDaylight and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowplugin.impl.karaf;
+
+import java.io.PrintStream;
+import java.util.Map;
+import org.apache.karaf.shell.commands.Argument;
+import org.apache.karaf.shell.commands.Command;
+import org.apache.karaf.shell.console.OsgiCommandSupport;
+import org.opendaylight.openflowjava.protocol.impl.core.connection.SegmentPool;
+import org.opendaylight.openflowjava.statistics.StatisticsCounters;
+
+@Command(scope = "ofp", name = "connection-counters",
+        description = "Show openflowjava message counters and rates, globally and per switch connection.")
+public class ConnectionCountersCommandProvider extends OsgiCommandSupport {
+
+    @Argument(index = 0, name = "on-off-reset",
+            description = "on, off or reset to start, stop or reset counting, counters are shown if omitted",
+            required = false, multiValued = false)
+    String action;
+
+    @Override
+    protected Object doExecute() throws Exception {
+        final PrintStream out = session.getConsole();
+        final StatisticsCounters statisticsCounters = StatisticsCounters.getInstance();
+
+        if ("on".equalsIgnoreCase(action)) {
+            statisticsCounters.startCounting(false, 0);
+            out.print("Counting started.\n");
+        } else if ("off".equalsIgnoreCase(action)) {
+            statisticsCounters.stopCounting();
+            out.print("Counting stopped.\n");
+        } else if ("reset".equalsIgnoreCase(action)) {
+            statisticsCounters.resetCounters();
+            out.print("Counters cleaned.\n");
+        } else {
+            final StringBuilder result = new StringBuilder();
+            if (!statisticsCounters.isRunCounting()) {
+                result.append("Counting is stopped, start it with 'ofp:connection-counters on'.\n");
+            }
+            final Map<String, Long> rates = statisticsCounters.getCounterRates();
+            for (Map.Entry<String, Long> entry : statisticsCounters.getCounterValues().entrySet()) {
+                result.append(String.format("%s: %d (%d/s)%n", entry.getKey(), entry.getValue(),
+                        rates.get(entry.getKey())));
+            }
+            for (String line : statisticsCounters.getConnectionStatistics()) {
+                result.append(line);
+                result.append("\n");
+            }
+            final SegmentPool segmentPool = SegmentPool.getInstance();
+            result.append(String.format("segment pool | hits: %d | misses: %d | discards: %d | retained-entries: %d"
+                    + " | retained-bytes: %d%n", segmentPool.getHits(), segmentPool.getMisses(),
+                    segmentPool.getDiscards(), segmentPool.getRetainedEntries(), segmentPool.getRetainedBytes()));
+            out.print(result.toString());
+        }
+        return null;
+    }
+}
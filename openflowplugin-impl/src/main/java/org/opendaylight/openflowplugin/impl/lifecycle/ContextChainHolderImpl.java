@@ -158,6 +158,7 @@ public class ContextChainHolderImpl implements ContextChainHolder, MasterChecker
             } else {
                 if (contextChain.addAuxiliaryConnection(connectionContext)) {
                     LOG.info("An auxiliary connection was added to device: {}", deviceInfo);
+                    connectionContext.deviceInitializationFinished();
                     return ConnectionStatus.MAY_CONTINUE;
                 } else {
                     LOG.warn("Not able to add auxiliary connection to the device {}", deviceInfo);
@@ -280,10 +281,6 @@ public class ContextChainHolderImpl implements ContextChainHolder, MasterChecker
     @Override
     @SuppressFBWarnings("BC_UNCONFIRMED_CAST_OF_RETURN_VALUE")
     public void ownershipChanged(EntityOwnershipChange entityOwnershipChange) {
-        if (entityOwnershipChange.getState().hasOwner()) {
-            return;
-        }
-
         // Findbugs flags a false violation for "Unchecked/unconfirmed cast" from GenericEntity to Entity hence the
         // suppression above. The suppression is temporary until EntityOwnershipChange is modified to eliminate the
         // violation.
@@ -293,6 +290,19 @@ public class ContextChainHolderImpl implements ContextChainHolder, MasterChecker
                 .firstKeyOf(Entity.class)
                 .getName();
 
+        if (entityOwnershipChange.getState().hasOwner()) {
+            if (!entityOwnershipChange.getState().isOwner() && Objects.nonNull(entityName)) {
+                // Another node owns the device, it is not going to be initialized locally
+                final NodeId nodeId = new NodeId(entityName);
+                contextChainMap.forEach((deviceInfo, contextChain) -> {
+                    if (nodeId.equals(deviceInfo.getNodeId())) {
+                        contextChain.initializationFinished();
+                    }
+                });
+            }
+            return;
+        }
+
         if (Objects.nonNull(entityName)) {
             LOG.debug("Entity {} has no owner", entityName);
             try {
@@ -149,6 +149,11 @@ public class ContextChainImpl implements ContextChain {
         changeMastershipState(ContextChainState.WORKING_SLAVE);
     }
 
+    @Override
+    public void initializationFinished() {
+        primaryConnection.deviceInitializationFinished();
+    }
+
     @Override
     public void registerServices(final ClusterSingletonServiceProvider clusterSingletonServiceProvider) {
         registration = Objects.requireNonNull(clusterSingletonServiceProvider
@@ -239,6 +244,7 @@ public class ContextChainImpl implements ContextChain {
 
         boolean propagate = ContextChainState.UNDEFINED.equals(this.contextChainState.get());
         this.contextChainState.set(newContextChainState);
+        initializationFinished();
 
         if (propagate) {
             contexts.forEach(context -> {
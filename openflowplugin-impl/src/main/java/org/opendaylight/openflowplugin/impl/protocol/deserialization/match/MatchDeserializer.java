@@ -18,6 +18,7 @@ import org.opendaylight.openflowjava.protocol.api.extensibility.HeaderDeserializ
 import org.opendaylight.openflowjava.protocol.api.extensibility.OFDeserializer;
 import org.opendaylight.openflowjava.protocol.api.keys.MatchEntryDeserializerKey;
 import org.opendaylight.openflowjava.protocol.api.util.EncodeConstants;
+import org.opendaylight.openflowjava.util.LongKeyedTable;
 import org.opendaylight.openflowplugin.api.openflow.protocol.deserialization.MatchEntryDeserializer;
 import org.opendaylight.openflowplugin.api.openflow.protocol.deserialization.MatchEntryDeserializerRegistry;
 import org.opendaylight.openflowplugin.extension.api.path.MatchPath;
@@ -33,6 +34,8 @@ public class MatchDeserializer implements OFDeserializer<Match>, HeaderDeseriali
 
     private static final Logger LOG = LoggerFactory.getLogger(MatchDeserializer.class);
     private final Map<MatchEntryDeserializerKey, MatchEntryDeserializer> entryRegistry = new HashMap<>();
+    // Entry deserializers by packed key, updated whenever an entry deserializer is (un)registered
+    private final LongKeyedTable<MatchEntryDeserializer> entryTable = new LongKeyedTable<>();
     private final MatchPath matchPath;
     private DeserializerRegistry registry;
 
@@ -84,23 +87,22 @@ public class MatchDeserializer implements OFDeserializer<Match>, HeaderDeseriali
         int oxmField = inBuffer.getUnsignedByte(inBuffer.readerIndex()
                 + EncodeConstants.SIZE_OF_SHORT_IN_BYTES) >>> 1;
 
-        final MatchEntryDeserializerKey key = new MatchEntryDeserializerKey(
-                EncodeConstants.OF13_VERSION_ID, oxmClass, oxmField);
+        long expId = 0;
 
         if (oxmClass == EncodeConstants.EXPERIMENTER_VALUE) {
-            long expId = inBuffer.getUnsignedInt(inBuffer.readerIndex()
+            expId = inBuffer.getUnsignedInt(inBuffer.readerIndex()
                     + EncodeConstants.SIZE_OF_SHORT_IN_BYTES
                     + 2 * EncodeConstants.SIZE_OF_BYTE_IN_BYTES);
-
-            key.setExperimenterId(expId);
         }
 
-        final MatchEntryDeserializer entryDeserializer = entryRegistry.get(key);
+        final MatchEntryDeserializer entryDeserializer = entryTable.get(
+                MatchEntryDeserializerKey.toLong(EncodeConstants.OF13_VERSION_ID, oxmClass, oxmField, expId));
 
         if (Objects.nonNull(entryDeserializer)) {
             entryDeserializer.deserializeEntry(inBuffer, builder);
         } else {
-            final OFDeserializer<MatchEntry> deserializer = registry.getDeserializer(key);
+            final OFDeserializer<MatchEntry> deserializer = registry.getMatchEntryDeserializer(
+                    EncodeConstants.OF13_VERSION_ID, oxmClass, oxmField, expId);
             MatchExtensionHelper.injectExtension(EncodeConstants.OF13_VERSION_ID,
                     deserializer.deserialize(inBuffer), builder, matchPath);
         }
@@ -118,6 +120,11 @@ public class MatchDeserializer implements OFDeserializer<Match>, HeaderDeseriali
             LOG.debug("Deserializer for key {} overwritten. Old deserializer: {}, new deserializer: {}", key,
                     desInRegistry.getClass().getName(), deserializer.getClass().getName());
         }
+
+        final Long packedKey = key.toLong();
+        if (Objects.nonNull(packedKey)) {
+            entryTable.put(packedKey, deserializer);
+        }
     }
 
     @Override
@@ -126,7 +133,15 @@ public class MatchDeserializer implements OFDeserializer<Match>, HeaderDeseriali
             throw new IllegalArgumentException("MatchEntryDeserializerKey is null");
         }
 
-        return Objects.nonNull(entryRegistry.remove(key));
+        if (Objects.isNull(entryRegistry.remove(key))) {
+            return false;
+        }
+
+        final Long packedKey = key.toLong();
+        if (Objects.nonNull(packedKey)) {
+            entryTable.remove(packedKey);
+        }
+        return true;
     }
 
     @Override
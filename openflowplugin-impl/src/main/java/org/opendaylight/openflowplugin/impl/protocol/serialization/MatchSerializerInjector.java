@@ -79,10 +79,19 @@ public final class MatchSerializerInjector {
      * @param provider OpenflowJava serializer extension provider
      */
     static void injectSerializers(final SerializerExtensionProvider provider) {
-        final MatchSerializer serializer = new MatchSerializer();
         provider.registerSerializer(
                 new MessageTypeKey<>(EncodeConstants.OF13_VERSION_ID, Match.class),
-                serializer);
+                createMatchSerializer());
+    }
+
+    /**
+     * Creates a match serializer with all match entry serializers registered. Match extensions are serialized
+     * only once the serializer has been injected with a serializer registry.
+     *
+     * @return match serializer
+     */
+    public static MatchSerializer createMatchSerializer() {
+        final MatchSerializer serializer = new MatchSerializer();
 
         // Inject all match entry serializers to match serializers using injector created by createInjector method
         final Function<Integer, Function<Integer, Consumer<MatchEntrySerializer>>> injector =
@@ -137,6 +146,7 @@ public final class MatchSerializerInjector {
         basicInjector.apply(OxmMatchConstants.PBB_ISID).accept(new PbbEntrySerializer());
         basicInjector.apply(OxmMatchConstants.TUNNEL_ID).accept(new TunnelIdEntrySerializer());
         experInjector.apply(EncodeConstants.ONFOXM_ET_TCP_FLAGS).accept(new TcpFlagsEntrySerializer());
+        return serializer;
     }
 
     /**
@@ -21,7 +21,6 @@ import java.util.stream.Collectors;
 import org.opendaylight.openflowjava.protocol.api.extensibility.OFSerializer;
 import org.opendaylight.openflowjava.protocol.api.extensibility.SerializerRegistry;
 import org.opendaylight.openflowjava.protocol.api.extensibility.SerializerRegistryInjector;
-import org.opendaylight.openflowjava.protocol.api.keys.MessageTypeKey;
 import org.opendaylight.openflowjava.protocol.api.util.EncodeConstants;
 import org.opendaylight.openflowjava.util.ByteBufUtils;
 import org.opendaylight.openflowplugin.api.OFConstants;
@@ -166,7 +165,7 @@ public class FlowMessageSerializer extends AbstractMessageSerializer<FlowMessage
      */
     private void writeMatch(final FlowMessage message, final ByteBuf outBuffer) {
         Preconditions.checkNotNull(registry).<Match, OFSerializer<Match>>getSerializer(
-                new MessageTypeKey<>(message.getVersion(), Match.class)).serialize(message.getMatch(), outBuffer);
+                message.getVersion(), Match.class).serialize(message.getMatch(), outBuffer);
 
     }
 
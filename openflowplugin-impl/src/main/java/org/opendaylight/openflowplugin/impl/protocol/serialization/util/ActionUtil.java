@@ -13,7 +13,6 @@ import java.util.Optional;
 import org.opendaylight.openflowjava.protocol.api.extensibility.HeaderSerializer;
 import org.opendaylight.openflowjava.protocol.api.extensibility.OFSerializer;
 import org.opendaylight.openflowjava.protocol.api.extensibility.SerializerRegistry;
-import org.opendaylight.openflowjava.protocol.api.keys.MessageTypeKey;
 import org.opendaylight.openflowjava.protocol.impl.util.TypeKeyMakerFactory;
 import org.opendaylight.openflowplugin.extension.api.ConverterExtensionKey;
 import org.opendaylight.openflowplugin.extension.api.ConvertorActionToOFJava;
@@ -63,9 +62,8 @@ public final class ActionUtil {
                                         return action;
                                     })
                     ).orElseGet(() -> {
-                        final OFSerializer<Action> serializer = registry.getSerializer(
-                                new MessageTypeKey<>(
-                                        version, (Class<? extends Action>) action.getImplementedInterface()));
+                        final OFSerializer<Action> serializer = registry.<Action, OFSerializer<Action>>getSerializer(
+                                version, (Class<? extends Action>) action.getImplementedInterface());
 
                         serializer.serialize(action, outBuffer);
                         return action;
@@ -103,9 +101,9 @@ public final class ActionUtil {
                                         return action;
                                     })
                     ).orElseGet(() -> {
-                        final HeaderSerializer<Action> serializer = registry.getSerializer(
-                                new MessageTypeKey<>(
-                                        version, (Class<? extends Action>) action.getImplementedInterface()));
+                        final HeaderSerializer<Action> serializer = registry
+                                .<Action, HeaderSerializer<Action>>getSerializer(
+                                        version, (Class<? extends Action>) action.getImplementedInterface());
 
                         serializer.serializeHeader(action, outBuffer);
                         return action;
@@ -12,7 +12,6 @@ import io.netty.buffer.ByteBuf;
 import org.opendaylight.openflowjava.protocol.api.extensibility.HeaderSerializer;
 import org.opendaylight.openflowjava.protocol.api.extensibility.OFSerializer;
 import org.opendaylight.openflowjava.protocol.api.extensibility.SerializerRegistry;
-import org.opendaylight.openflowjava.protocol.api.keys.MessageTypeKey;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.instruction.Instruction;
 
 /**
@@ -38,9 +37,7 @@ public final class InstructionUtil {
                                         final ByteBuf outBuffer) {
 
         registry.<Instruction, OFSerializer<Instruction>>getSerializer(
-            new MessageTypeKey<>(
-                version,
-                (Class<Instruction>) instruction.getImplementedInterface()))
+                version, (Class<Instruction>) instruction.getImplementedInterface())
             .serialize(instruction, outBuffer);
     }
 
@@ -60,9 +57,7 @@ public final class InstructionUtil {
                                               final ByteBuf outBuffer) {
 
         registry.<Instruction, HeaderSerializer<Instruction>>getSerializer(
-            new MessageTypeKey<>(
-                version,
-                (Class<Instruction>) instruction.getImplementedInterface()))
+                version, (Class<Instruction>) instruction.getImplementedInterface())
             .serializeHeader(instruction, outBuffer);
     }
 
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2018 OpenDaylight and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.registry.flow;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.math.BigInteger;
+import java.util.Arrays;
+import javax.annotation.Nonnull;
+import org.opendaylight.openflowjava.util.ByteBufUtils;
+import org.opendaylight.openflowplugin.api.openflow.registry.flow.FlowRegistryKey;
+import org.opendaylight.openflowplugin.extension.api.path.MatchPath;
+import org.opendaylight.openflowplugin.impl.protocol.deserialization.MatchDeserializerInjector;
+import org.opendaylight.openflowplugin.impl.protocol.deserialization.match.MatchDeserializer;
+import org.opendaylight.openflowplugin.impl.protocol.serialization.match.MatchSerializer;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.flow.Match;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.flow.MatchBuilder;
+
+/**
+ * Flow registry key holding a compact binary encoding of the flow: table id, priority, cookie and the OXM entries
+ * of the normalized match. Keys compare as byte arrays and cache their hash. Unlike keys holding the match object
+ * graph, they do not retain the match itself, it is decoded from the OXM entries on request.
+ */
+final class CompactFlowRegistryKey implements FlowRegistryKey {
+
+    private static final int PRIORITY_INDEX = 1;
+    private static final int COOKIE_INDEX = 3;
+    private static final int MATCH_INDEX = 11;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final byte[] encoded;
+    private final int hashCode;
+
+    private CompactFlowRegistryKey(final byte[] encoded) {
+        this.encoded = encoded;
+        this.hashCode = Arrays.hashCode(encoded);
+    }
+
+    /**
+     * Creates a key for the given flow.
+     *
+     * @param tableId table id
+     * @param priority flow priority
+     * @param cookie flow cookie
+     * @param match normalized match, without extensions
+     * @param matchSerializer serializer of the match entries
+     * @return compact key
+     */
+    static CompactFlowRegistryKey create(final short tableId,
+                                         final int priority,
+                                         @Nonnull final BigInteger cookie,
+                                         @Nonnull final Match match,
+                                         @Nonnull final MatchSerializer matchSerializer) {
+        final ByteBuf buffer = Unpooled.buffer(INITIAL_CAPACITY);
+        try {
+            buffer.writeByte(tableId);
+            buffer.writeShort(priority);
+            buffer.writeLong(cookie.longValue());
+            matchSerializer.serializeHeader(match, buffer);
+
+            final byte[] encoded = new byte[buffer.readableBytes()];
+            buffer.readBytes(encoded);
+            return new CompactFlowRegistryKey(encoded);
+        } finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * Recreates a key from its encoded form, as returned by {@link #getEncoded()}.
+     *
+     * @param encoded encoded key, must not be modified afterwards
+     * @return compact key
+     */
+    static CompactFlowRegistryKey fromEncoded(@Nonnull final byte[] encoded) {
+        return new CompactFlowRegistryKey(encoded);
+    }
+
+    /**
+     * Returns the encoded form of this key. The returned array is shared and must not be modified.
+     *
+     * @return encoded key
+     */
+    byte[] getEncoded() {
+        return encoded;
+    }
+
+    @Override
+    public short getTableId() {
+        return (short) (encoded[0] & 0xff);
+    }
+
+    @Override
+    public int getPriority() {
+        return (encoded[PRIORITY_INDEX] & 0xff) << 8 | encoded[PRIORITY_INDEX + 1] & 0xff;
+    }
+
+    @Override
+    public BigInteger getCookie() {
+        return new BigInteger(1, Arrays.copyOfRange(encoded, COOKIE_INDEX, MATCH_INDEX));
+    }
+
+    /**
+     * Decodes the match from the OXM entries of this key. Every call decodes a new match instance.
+     *
+     * @return normalized match
+     */
+    @Override
+    public Match getMatch() {
+        final ByteBuf buffer = Unpooled.wrappedBuffer(encoded, MATCH_INDEX, encoded.length - MATCH_INDEX);
+        final MatchBuilder builder = new MatchBuilder();
+        while (buffer.isReadable()) {
+            MatchDecoder.DESERIALIZER.deserializeEntry(buffer, builder);
+        }
+        return builder.build();
+    }
+
+    @Override
+    public boolean equals(final Object object) {
+        if (this == object) {
+            return true;
+        }
+
+        if (!(object instanceof CompactFlowRegistryKey)) {
+            return false;
+        }
+
+        final CompactFlowRegistryKey that = (CompactFlowRegistryKey) object;
+        return hashCode == that.hashCode && Arrays.equals(encoded, that.encoded);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return "CompactFlowRegistryKey{"
+                + "tableId=" + getTableId()
+                + ", priority=" + getPriority()
+                + ", cookie=" + getCookie()
+                + ", match=" + ByteBufUtils.bytesToHexString(Arrays.copyOfRange(encoded, MATCH_INDEX, encoded.length))
+                + '}';
+    }
+
+    // Compact keys hold no extension entries, so the decoder does not need a deserializer registry
+    private static final class MatchDecoder {
+        static final MatchDeserializer DESERIALIZER =
+                MatchDeserializerInjector.createMatchDeserializer(MatchPath.FLOWS_STATISTICS_UPDATE_MATCH);
+    }
+}
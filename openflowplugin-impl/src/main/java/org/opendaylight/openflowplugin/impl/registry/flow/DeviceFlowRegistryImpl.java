@@ -19,27 +19,34 @@ import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.MoreExecutors;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 import org.opendaylight.controller.md.sal.binding.api.DataBroker;
 import org.opendaylight.controller.md.sal.binding.api.ReadOnlyTransaction;
 import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
 import org.opendaylight.controller.md.sal.common.api.data.ReadFailedException;
+import org.opendaylight.openflowplugin.api.OFConstants;
 import org.opendaylight.openflowplugin.api.openflow.registry.flow.DeviceFlowRegistry;
 import org.opendaylight.openflowplugin.api.openflow.registry.flow.FlowDescriptor;
 import org.opendaylight.openflowplugin.api.openflow.registry.flow.FlowRegistryKey;
+import org.opendaylight.openflowplugin.impl.statistics.ofpspecific.FlowRegistryFillStatistics;
+import org.opendaylight.openflowplugin.impl.statistics.ofpspecific.FlowRegistryFillStatistics.FillProgress;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowCapableNode;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.Table;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.TableKey;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.table.Flow;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.Node;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.NodeKey;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.general.rev140714.GeneralAugMatchNodesNodeTableFlow;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 import org.opendaylight.yangtools.yang.binding.KeyedInstanceIdentifier;
 import org.slf4j.Logger;
@@ -50,26 +57,69 @@ public class DeviceFlowRegistryImpl implements DeviceFlowRegistry {
     private static final Logger LOG = LoggerFactory.getLogger(DeviceFlowRegistryImpl.class);
     private static final String ALIEN_SYSTEM_FLOW_ID = "#UF$TABLE*";
     private static final AtomicInteger UNACCOUNTED_FLOWS_COUNTER = new AtomicInteger(0);
+    // Table IDs 0 - 254, 255 (OFPTT_ALL) is not a table
+    private static final int TABLE_COUNT = OFConstants.OFPTT_ALL;
 
+    // Keys hash extension matches regardless of the order of extensions (see FlowRegistryKeyFactory), so flows
+    // with extension matches are found by hash lookup like any other flow
     private final BiMap<FlowRegistryKey, FlowDescriptor> flowRegistry = Maps.synchronizedBiMap(HashBiMap.create());
+    private final short version;
     private final DataBroker dataBroker;
     private final KeyedInstanceIdentifier<Node, NodeKey> instanceIdentifier;
+    private final FlowRegistryKeyFactory keyFactory;
+    // Number of tables read at once by per-table fills, per-table fills are disabled if zero
+    private final int fillParallelism;
     private final List<ListenableFuture<List<Optional<FlowCapableNode>>>> lastFillFutures = new ArrayList<>();
     private final Consumer<Flow> flowConsumer;
-
+    // Snapshot of the registry on disk, null if snapshots are disabled
+    private final FlowRegistrySnapshot snapshot;
+    // Descriptors loaded from the snapshot, which were not yet confirmed by the datastore
+    private final Map<FlowRegistryKey, FlowDescriptor> unverifiedDescriptors = new ConcurrentHashMap<>();
+    // Progress of the latest per-table fill, shown until the registry is closed
+    private volatile FillProgress lastFillProgress;
+
+    /**
+     * Creates a flow registry.
+     *
+     * @param version protocol version of the device
+     * @param dataBroker data broker the registry is filled from
+     * @param instanceIdentifier node of the device
+     * @param keyFactory factory of flow registry keys
+     * @param fillParallelism number of tables read at once when filling the registry. Each table is read separately
+     *                        and its flows are added to the registry as soon as it is read, tables are not
+     *                        retained and the fill completes with absent nodes. Zero reads the whole node at once.
+     * @param snapshotDirectory directory holding flow registry snapshots, null or empty to disable snapshots
+     */
     public DeviceFlowRegistryImpl(final short version,
                                   final DataBroker dataBroker,
-                                  final KeyedInstanceIdentifier<Node, NodeKey> instanceIdentifier) {
+                                  final KeyedInstanceIdentifier<Node, NodeKey> instanceIdentifier,
+                                  final FlowRegistryKeyFactory keyFactory,
+                                  final int fillParallelism,
+                                  @Nullable final String snapshotDirectory) {
+        this.version = version;
         this.dataBroker = dataBroker;
         this.instanceIdentifier = instanceIdentifier;
+        this.keyFactory = keyFactory;
+        this.fillParallelism = fillParallelism;
+        this.snapshot = FlowRegistrySnapshot.forNode(snapshotDirectory,
+                instanceIdentifier.getKey().getId().getValue());
 
         // Specifies what to do with flow read from data store
         flowConsumer = flow -> {
-            final FlowRegistryKey flowRegistryKey = FlowRegistryKeyFactory.create(version, flow);
+            final FlowRegistryKey flowRegistryKey = createKey(flow);
+            final FlowDescriptor flowDescriptor = FlowDescriptorFactory.create(flow.getTableId(), flow.getId());
+
+            // Descriptors loaded from the snapshot are confirmed by the datastore, or replaced if they differ
+            final FlowDescriptor snapshotDescriptor = unverifiedDescriptors.isEmpty()
+                    ? null : unverifiedDescriptors.remove(flowRegistryKey);
+            if (flowDescriptor.equals(snapshotDescriptor)) {
+                return;
+            }
 
-            if (getExistingKey(flowRegistryKey) == null) {
+            if (snapshotDescriptor != null || !flowRegistry.containsKey(flowRegistryKey)) {
                 // Now, we will update the registry
-                storeDescriptor(flowRegistryKey, FlowDescriptorFactory.create(flow.getTableId(), flow.getId()));
+                removeUnverifiedFlowId(flowDescriptor);
+                storeDescriptor(flowRegistryKey, flowDescriptor);
             }
         };
     }
@@ -80,19 +130,37 @@ public class DeviceFlowRegistryImpl implements DeviceFlowRegistry {
             LOG.debug("Filling flow registry with flows for node: {}", instanceIdentifier.getKey().getId().getValue());
         }
 
+        // Load descriptors from the snapshot, if any, so that the registry is usable before the datastore is read
+        final Map<FlowRegistryKey, FlowDescriptor> snapshotDescriptors = loadSnapshot();
+
         // Prepare path for read transaction
         // TODO: Read only Tables, and not entire FlowCapableNode (fix Yang model)
         final InstanceIdentifier<FlowCapableNode> path = instanceIdentifier.augmentation(FlowCapableNode.class);
 
-        // First, try to fill registry with flows from DS/Configuration
-        final CheckedFuture<Optional<FlowCapableNode>, ReadFailedException> configFuture =
-                fillFromDatastore(LogicalDatastoreType.CONFIGURATION, path);
+        final ListenableFuture<Optional<FlowCapableNode>> configFuture;
+        final ListenableFuture<Optional<FlowCapableNode>> operationalFuture;
+        final FillProgress fillProgress;
+        if (fillParallelism > 0) {
+            fillProgress = FlowRegistryFillStatistics.startFill(instanceIdentifier.getKey().getId().getValue(),
+                    TABLE_COUNT * 2);
+            lastFillProgress = fillProgress;
+
+            // Read both datastores table by table, tables are read concurrently in chunks
+            configFuture = fillTablesFromDatastore(LogicalDatastoreType.CONFIGURATION, path, fillParallelism,
+                    fillProgress);
+            operationalFuture = fillTablesFromDatastore(LogicalDatastoreType.OPERATIONAL, path, fillParallelism,
+                    fillProgress);
+        } else {
+            fillProgress = null;
+
+            // First, try to fill registry with flows from DS/Configuration
+            configFuture = fillFromDatastore(LogicalDatastoreType.CONFIGURATION, path);
 
-        // Now, try to fill registry with flows from DS/Operational
-        // in case of cluster fail over, when clients are not using DS/Configuration
-        // for adding flows, but only RPCs
-        final CheckedFuture<Optional<FlowCapableNode>, ReadFailedException> operationalFuture =
-                fillFromDatastore(LogicalDatastoreType.OPERATIONAL, path);
+            // Now, try to fill registry with flows from DS/Operational
+            // in case of cluster fail over, when clients are not using DS/Configuration
+            // for adding flows, but only RPCs
+            operationalFuture = fillFromDatastore(LogicalDatastoreType.OPERATIONAL, path);
+        }
 
         // And at last, chain and return futures created above.
         // Also, cache this future, so call to DeviceFlowRegistry.close() will be able
@@ -100,7 +168,94 @@ public class DeviceFlowRegistryImpl implements DeviceFlowRegistry {
         final ListenableFuture<List<Optional<FlowCapableNode>>> lastFillFuture =
                 Futures.allAsList(Arrays.asList(configFuture, operationalFuture));
         lastFillFutures.add(lastFillFuture);
-        return lastFillFuture;
+        if (fillProgress != null) {
+            lastFillFuture.addListener(() -> {
+                fillProgress.finish();
+                LOG.debug("Read {} flows from {} tables for node: {}", fillProgress.getFlowsRead(),
+                        fillProgress.getTablesRead(), instanceIdentifier.getKey().getId().getValue());
+            }, MoreExecutors.directExecutor());
+        }
+
+        if (!snapshotDescriptors.isEmpty()) {
+            // Datastore reads only verify the snapshot now, do not wait for them
+            Futures.addCallback(lastFillFuture, new FutureCallback<List<Optional<FlowCapableNode>>>() {
+                @Override
+                public void onSuccess(final List<Optional<FlowCapableNode>> result) {
+                    removeUnverifiedDescriptors(true);
+                }
+
+                @Override
+                public void onFailure(final Throwable throwable) {
+                    if (!lastFillFuture.isCancelled()) {
+                        LOG.warn("Failed to verify flow registry snapshot for node: {}",
+                                instanceIdentifier.getKey().getId().getValue(), throwable);
+                        removeUnverifiedDescriptors(false);
+                    }
+                }
+            }, MoreExecutors.directExecutor());
+        }
+
+        if (snapshot != null) {
+            // Flows read from the datastore are appended to the snapshot in batches, write the rest once done
+            lastFillFuture.addListener(snapshot::flush, MoreExecutors.directExecutor());
+        }
+
+        return snapshotDescriptors.isEmpty() ? lastFillFuture : Futures.immediateFuture(Collections.emptyList());
+    }
+
+    private Map<FlowRegistryKey, FlowDescriptor> loadSnapshot() {
+        if (snapshot == null) {
+            return Collections.emptyMap();
+        }
+
+        final Map<FlowRegistryKey, FlowDescriptor> snapshotDescriptors = snapshot.load();
+        synchronized (flowRegistry) {
+            snapshotDescriptors.forEach((flowRegistryKey, flowDescriptor) -> {
+                if (!flowRegistry.containsKey(flowRegistryKey) && !flowRegistry.containsValue(flowDescriptor)) {
+                    flowRegistry.put(flowRegistryKey, flowDescriptor);
+                    unverifiedDescriptors.put(flowRegistryKey, flowDescriptor);
+                }
+            });
+        }
+
+        LOG.debug("Filled flow registry with {} flows from snapshot for node: {}", snapshotDescriptors.size(),
+                instanceIdentifier.getKey().getId().getValue());
+        return snapshotDescriptors;
+    }
+
+    private void removeUnverifiedFlowId(final FlowDescriptor flowDescriptor) {
+        if (unverifiedDescriptors.isEmpty()) {
+            return;
+        }
+
+        // The flow ID may still be held by a stale descriptor loaded from the snapshot, for a different key
+        synchronized (flowRegistry) {
+            final FlowRegistryKey flowRegistryKey = flowRegistry.inverse().get(flowDescriptor);
+            if (flowRegistryKey != null && unverifiedDescriptors.remove(flowRegistryKey, flowDescriptor)) {
+                flowRegistry.remove(flowRegistryKey);
+                snapshot.remove(flowRegistryKey);
+            }
+        }
+    }
+
+    /**
+     * Removes descriptors loaded from the snapshot, which were not confirmed by the datastore, from the registry.
+     *
+     * @param stale true if the datastore was read and the descriptors are stale, so that they are removed from
+     *              the snapshot as well, false if the datastore could not be read
+     */
+    private void removeUnverifiedDescriptors(final boolean stale) {
+        unverifiedDescriptors.forEach((flowRegistryKey, flowDescriptor) -> {
+            synchronized (flowRegistry) {
+                if (flowDescriptor.equals(flowRegistry.get(flowRegistryKey))) {
+                    flowRegistry.remove(flowRegistryKey);
+                    if (stale) {
+                        snapshot.remove(flowRegistryKey);
+                    }
+                }
+            }
+        });
+        unverifiedDescriptors.clear();
     }
 
     private CheckedFuture<Optional<FlowCapableNode>, ReadFailedException>
@@ -153,17 +308,98 @@ public class DeviceFlowRegistryImpl implements DeviceFlowRegistry {
         return future;
     }
 
+    private ListenableFuture<Optional<FlowCapableNode>>
+            fillTablesFromDatastore(final LogicalDatastoreType logicalDatastoreType,
+                                    final InstanceIdentifier<FlowCapableNode> path,
+                                    final int parallelism,
+                                    final FillProgress fillProgress) {
+        // Create new read-only transaction, shared by all table reads
+        final ReadOnlyTransaction transaction = dataBroker.newReadOnlyTransaction();
+
+        // Bail out early if transaction is null
+        if (transaction == null) {
+            return Futures.immediateFailedFuture(new ReadFailedException("Read transaction is null"));
+        }
+
+        // Chain reads of table chunks, so that at most parallelism tables are read at once. Tables are not retained,
+        // their flows are only counted by the fill progress.
+        ListenableFuture<?> chunkFuture = Futures.immediateFuture(null);
+        for (int chunkStart = 0; chunkStart < TABLE_COUNT; chunkStart += parallelism) {
+            final int start = chunkStart;
+            final int end = Math.min(chunkStart + parallelism, TABLE_COUNT);
+            chunkFuture = Futures.transformAsync(chunkFuture,
+                result -> fillTableChunk(transaction, logicalDatastoreType, path, start, end, fillProgress),
+                MoreExecutors.directExecutor());
+        }
+
+        final ListenableFuture<Optional<FlowCapableNode>> future = Futures.transform(chunkFuture,
+            result -> Optional.<FlowCapableNode>absent(), MoreExecutors.directExecutor());
+
+        // After we are done with reading from datastore, or failed to, close the transaction
+        future.addListener(transaction::close, MoreExecutors.directExecutor());
+        return future;
+    }
+
+    private ListenableFuture<List<Optional<Table>>> fillTableChunk(final ReadOnlyTransaction transaction,
+                                                                   final LogicalDatastoreType logicalDatastoreType,
+                                                                   final InstanceIdentifier<FlowCapableNode> path,
+                                                                   final int start,
+                                                                   final int end,
+                                                                   final FillProgress fillProgress) {
+        final List<ListenableFuture<Optional<Table>>> futures = new ArrayList<>(end - start);
+        for (int tableId = start; tableId < end; tableId++) {
+            final CheckedFuture<Optional<Table>, ReadFailedException> future =
+                    transaction.read(logicalDatastoreType, path.child(Table.class, new TableKey((short) tableId)));
+
+            // Bail out early if future is null
+            if (future == null) {
+                return Futures.immediateFailedFuture(
+                        new ReadFailedException("Future from read transaction is null"));
+            }
+
+            Futures.addCallback(future, new FutureCallback<Optional<Table>>() {
+                @Override
+                public void onSuccess(@Nonnull Optional<Table> result) {
+                    int flowCount = 0;
+                    if (result.isPresent()) {
+                        final Table table = result.get();
+
+                        if (Objects.nonNull(table.getFlow())) {
+                            for (Flow flow : table.getFlow()) {
+                                if (Objects.nonNull(flow) && Objects.nonNull(flow.getId())) {
+                                    flowConsumer.accept(flow);
+                                    flowCount++;
+                                }
+                            }
+                        }
+                    }
+                    fillProgress.tableRead(flowCount);
+                }
+
+                @Override
+                public void onFailure(Throwable throwable) {
+                    // Failure is propagated by the chunk future
+                }
+            }, MoreExecutors.directExecutor());
+            futures.add(future);
+        }
+
+        return Futures.allAsList(futures);
+    }
+
+    @Override
+    public FlowRegistryKey createKey(
+            @Nonnull final org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.Flow flow) {
+        return keyFactory.create(version, flow);
+    }
+
     @Override
     public FlowDescriptor retrieveDescriptor(@Nonnull final FlowRegistryKey flowRegistryKey) {
         if (LOG.isTraceEnabled()) {
             LOG.trace("Retrieving flow descriptor for flow registry : {}", flowRegistryKey.toString());
         }
 
-        FlowRegistryKey existingFlowRegistryKey = getExistingKey(flowRegistryKey);
-        if (existingFlowRegistryKey != null) {
-            return flowRegistry.get(existingFlowRegistryKey);
-        }
-        return null;
+        return flowRegistry.get(flowRegistryKey);
     }
 
     @Override
@@ -177,7 +413,8 @@ public class DeviceFlowRegistryImpl implements DeviceFlowRegistry {
                         flowRegistryKey.toString());
             }
 
-            addToFlowRegistry(flowRegistryKey, flowDescriptor);
+            flowRegistry.put(flowRegistryKey, flowDescriptor);
+            storeSnapshot(flowRegistryKey, flowDescriptor);
         } catch (IllegalArgumentException ex) {
             if (LOG.isWarnEnabled()) {
                 LOG.warn("Flow with flow ID {} already exists in table {}, generating alien flow ID",
@@ -187,11 +424,18 @@ public class DeviceFlowRegistryImpl implements DeviceFlowRegistry {
 
             // We are trying to store new flow to flow registry, but we already have different flow with same flow ID
             // stored in registry, so we need to create alien ID for this new flow here.
-            addToFlowRegistry(
-                    flowRegistryKey,
-                    FlowDescriptorFactory.create(
-                            flowDescriptor.getTableKey().getId(),
-                            createAlienFlowId(flowDescriptor.getTableKey().getId())));
+            final FlowDescriptor alienFlowDescriptor = FlowDescriptorFactory.create(
+                    flowDescriptor.getTableKey().getId(),
+                    createAlienFlowId(flowDescriptor.getTableKey().getId()));
+            flowRegistry.put(flowRegistryKey, alienFlowDescriptor);
+            storeSnapshot(flowRegistryKey, alienFlowDescriptor);
+        }
+    }
+
+    private void storeSnapshot(final FlowRegistryKey flowRegistryKey, final FlowDescriptor flowDescriptor) {
+        unverifiedDescriptors.remove(flowRegistryKey);
+        if (snapshot != null) {
+            snapshot.store(flowRegistryKey, flowDescriptor);
         }
     }
 
@@ -219,7 +463,11 @@ public class DeviceFlowRegistryImpl implements DeviceFlowRegistry {
             LOG.trace("Removing flow descriptor for flow hash : {}", flowRegistryKey.toString());
         }
 
-        removeFromFlowRegistry(flowRegistryKey);
+        flowRegistry.remove(flowRegistryKey);
+        unverifiedDescriptors.remove(flowRegistryKey);
+        if (snapshot != null) {
+            snapshot.remove(flowRegistryKey);
+        }
     }
 
     @Override
@@ -251,7 +499,18 @@ public class DeviceFlowRegistryImpl implements DeviceFlowRegistry {
             iterator.remove();
         }
 
+        // The snapshot is kept on the disk for the next mastership
         flowRegistry.clear();
+        unverifiedDescriptors.clear();
+        if (snapshot != null) {
+            snapshot.close();
+        }
+
+        final FillProgress fillProgress = lastFillProgress;
+        if (fillProgress != null) {
+            FlowRegistryFillStatistics.removeFill(instanceIdentifier.getKey().getId().getValue(), fillProgress);
+            lastFillProgress = null;
+        }
     }
 
     @VisibleForTesting
@@ -261,44 +520,6 @@ public class DeviceFlowRegistryImpl implements DeviceFlowRegistry {
         return new FlowId(alienId);
     }
 
-    //Hashcode generation of the extension augmentation can differ for the same object received from the datastore and
-    // the one received after deserialization of switch message. OpenFlowplugin extensions are list, and the order in
-    // which it can receive the extensions back from switch can differ and that lead to a different hashcode. In that
-    // scenario, hashcode won't match and flowRegistry return the  related key. To overcome this issue, these methods
-    // make sure that key is stored only if it doesn't equals to any existing key.
-    private void addToFlowRegistry(final FlowRegistryKey flowRegistryKey, final FlowDescriptor flowDescriptor) {
-        FlowRegistryKey existingFlowRegistryKey = getExistingKey(flowRegistryKey);
-        if (existingFlowRegistryKey == null) {
-            flowRegistry.put(flowRegistryKey, flowDescriptor);
-        } else {
-            flowRegistry.put(existingFlowRegistryKey, flowDescriptor);
-        }
-    }
-
-    private void removeFromFlowRegistry(final FlowRegistryKey flowRegistryKey) {
-        FlowRegistryKey existingFlowRegistryKey = getExistingKey(flowRegistryKey);
-        if (existingFlowRegistryKey != null) {
-            flowRegistry.remove(existingFlowRegistryKey);
-        } else {
-            flowRegistry.remove(flowRegistryKey);
-        }
-    }
-
-    private FlowRegistryKey getExistingKey(final FlowRegistryKey flowRegistryKey) {
-        if (flowRegistryKey.getMatch().getAugmentation(GeneralAugMatchNodesNodeTableFlow.class) == null) {
-            if (flowRegistry.containsKey(flowRegistryKey)) {
-                return flowRegistryKey;
-            }
-        } else {
-            for (Map.Entry<FlowRegistryKey, FlowDescriptor> keyValueSet : flowRegistry.entrySet()) {
-                if (keyValueSet.getKey().equals(flowRegistryKey)) {
-                    return keyValueSet.getKey();
-                }
-            }
-        }
-        return null;
-    }
-
     @VisibleForTesting
     Map<FlowRegistryKey, FlowDescriptor> getAllFlowDescriptors() {
         return flowRegistry;
@@ -10,12 +10,19 @@ package org.opendaylight.openflowplugin.impl.registry.flow;
 
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.HashMultiset;
+import com.google.common.collect.ImmutableMultiset;
+import com.google.common.collect.Multiset;
 import java.math.BigInteger;
+import java.util.List;
 import java.util.Objects;
 import javax.annotation.Nonnull;
 import org.opendaylight.openflowplugin.api.OFConstants;
 import org.opendaylight.openflowplugin.api.openflow.registry.flow.FlowRegistryKey;
+import org.opendaylight.openflowplugin.impl.protocol.serialization.MatchSerializerInjector;
+import org.opendaylight.openflowplugin.impl.protocol.serialization.match.MatchSerializer;
 import org.opendaylight.openflowplugin.impl.util.MatchNormalizationUtil;
+import org.opendaylight.openflowplugin.openflow.md.core.extension.ExtensionResolvers;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.Flow;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.flow.Match;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.general.rev140714.GeneralAugMatchNodesNodeTableFlow;
@@ -23,12 +30,21 @@ import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.ge
 
 public final class FlowRegistryKeyFactory {
 
-    private FlowRegistryKeyFactory() {
-        // Hide implicit constructor
+    // Serializer of compact key matches, null unless compact keys are enabled
+    private final MatchSerializer compactMatchSerializer;
+
+    /**
+     * Creates a key factory.
+     *
+     * @param useCompactKeys true to create {@link CompactFlowRegistryKey}s for OpenFlow 1.3 flows which do not match
+     *                       on extensions
+     */
+    public FlowRegistryKeyFactory(final boolean useCompactKeys) {
+        compactMatchSerializer = useCompactKeys ? MatchSerializerInjector.createMatchSerializer() : null;
     }
 
     @Nonnull
-    public static FlowRegistryKey create(final short version, @Nonnull final Flow flow) {
+    public FlowRegistryKey create(final short version, @Nonnull final Flow flow) {
         //TODO: mandatory flow input values (or default values) should be specified via yang model
         final short tableId = Preconditions.checkNotNull(flow.getTableId(), "flow tableId must not be null");
         final int priority = MoreObjects.firstNonNull(flow.getPriority(), OFConstants.DEFAULT_FLOW_PRIORITY);
@@ -36,6 +52,13 @@ public final class FlowRegistryKeyFactory {
                 MoreObjects.firstNonNull(flow.getCookie(), OFConstants.DEFAULT_FLOW_COOKIE).getValue();
         Match match = MatchNormalizationUtil
                 .normalizeMatch(MoreObjects.firstNonNull(flow.getMatch(), OFConstants.EMPTY_MATCH), version);
+
+        // Extension matches are serialized by extension converters, in the order of the extension list
+        final MatchSerializer matchSerializer = compactMatchSerializer;
+        if (matchSerializer != null && version == OFConstants.OFP_VERSION_1_3
+                && !ExtensionResolvers.getMatchExtensionResolver().getExtension(match).isPresent()) {
+            return CompactFlowRegistryKey.create(tableId, priority, cookie, match, matchSerializer);
+        }
         return new FlowRegistryKeyDto(tableId, priority, cookie, match);
     }
 
@@ -44,6 +67,7 @@ public final class FlowRegistryKeyFactory {
         private final int priority;
         private final BigInteger cookie;
         private final Match match;
+        private final int hashCode;
 
         private FlowRegistryKeyDto(final short tableId,
                                    final int priority,
@@ -53,6 +77,12 @@ public final class FlowRegistryKeyFactory {
             this.priority = priority;
             this.cookie = cookie;
             this.match = match;
+
+            int result = tableId;
+            result = 31 * result + priority;
+            result = 31 * result + cookie.hashCode();
+            result = 31 * result + hashMatch(match);
+            this.hashCode = result;
         }
 
         @Override
@@ -61,7 +91,7 @@ public final class FlowRegistryKeyFactory {
                 return true;
             }
 
-            if (object == null || !(object instanceof FlowRegistryKey)) {
+            if (!(object instanceof FlowRegistryKeyDto) || hashCode != object.hashCode()) {
                 return false;
             }
 
@@ -76,69 +106,64 @@ public final class FlowRegistryKeyFactory {
         private boolean equalMatch(final Match input) {
             GeneralAugMatchNodesNodeTableFlow thisAug = match.getAugmentation(GeneralAugMatchNodesNodeTableFlow.class);
             GeneralAugMatchNodesNodeTableFlow inputAug = input.getAugmentation(GeneralAugMatchNodesNodeTableFlow.class);
-            if (thisAug != inputAug) {
-                if (thisAug != null) {
-                    if (inputAug == null) {
-                        return false;
-                    }
-                    if (!Objects.equals(match.getEthernetMatch(), input.getEthernetMatch())) {
-                        return false;
-                    }
-                    if (!Objects.equals(match.getIcmpv4Match(), input.getIcmpv4Match())) {
-                        return false;
-                    }
-                    if (!Objects.equals(match.getIcmpv6Match(), input.getIcmpv6Match())) {
-                        return false;
-                    }
-                    if (!Objects.equals(match.getInPhyPort(), input.getInPhyPort())) {
-                        return false;
-                    }
-                    if (!Objects.equals(match.getInPort(), input.getInPort())) {
-                        return false;
-                    }
-                    if (!Objects.equals(match.getIpMatch(), input.getIpMatch())) {
-                        return false;
-                    }
-                    if (!Objects.equals(match.getLayer3Match(), input.getLayer3Match())) {
-                        return false;
-                    }
-                    if (!Objects.equals(match.getLayer4Match(), input.getLayer4Match())) {
-                        return false;
-                    }
-                    if (!Objects.equals(match.getMetadata(), input.getMetadata())) {
-                        return false;
-                    }
-                    if (!Objects.equals(match.getProtocolMatchFields(), input.getProtocolMatchFields())) {
-                        return false;
-                    }
-                    if (!Objects.equals(match.getTcpFlagsMatch(), input.getTcpFlagsMatch())) {
-                        return false;
-                    }
-                    if (!Objects.equals(match.getTunnel(), input.getTunnel())) {
-                        return false;
-                    }
-                    if (!Objects.equals(match.getVlanMatch(), input.getVlanMatch())) {
-                        return false;
-                    }
-                    for (ExtensionList inputExtensionList : inputAug.getExtensionList()) {
-                        if (!thisAug.getExtensionList().contains(inputExtensionList)) {
-                            return false;
-                        }
-                    }
-                }
-            } else {
+            if (thisAug == inputAug) {
                 return getMatch().equals(input);
             }
-            return true;
+            if (thisAug == null || inputAug == null) {
+                return false;
+            }
+            return Objects.equals(match.getEthernetMatch(), input.getEthernetMatch())
+                    && Objects.equals(match.getIcmpv4Match(), input.getIcmpv4Match())
+                    && Objects.equals(match.getIcmpv6Match(), input.getIcmpv6Match())
+                    && Objects.equals(match.getInPhyPort(), input.getInPhyPort())
+                    && Objects.equals(match.getInPort(), input.getInPort())
+                    && Objects.equals(match.getIpMatch(), input.getIpMatch())
+                    && Objects.equals(match.getLayer3Match(), input.getLayer3Match())
+                    && Objects.equals(match.getLayer4Match(), input.getLayer4Match())
+                    && Objects.equals(match.getMetadata(), input.getMetadata())
+                    && Objects.equals(match.getProtocolMatchFields(), input.getProtocolMatchFields())
+                    && Objects.equals(match.getTcpFlagsMatch(), input.getTcpFlagsMatch())
+                    && Objects.equals(match.getTunnel(), input.getTunnel())
+                    && Objects.equals(match.getVlanMatch(), input.getVlanMatch())
+                    && equalExtensions(thisAug.getExtensionList(), inputAug.getExtensionList());
+        }
+
+        /**
+         * Compares extension lists regardless of the order of their elements. Switches do not necessarily return
+         * extensions in the order they were configured in.
+         */
+        private static boolean equalExtensions(final List<ExtensionList> extensions,
+                                               final List<ExtensionList> inputExtensions) {
+            if (Objects.equals(extensions, inputExtensions)) {
+                return true;
+            }
+            return extensionMultiset(extensions).equals(extensionMultiset(inputExtensions));
+        }
+
+        /**
+         * Hashes the match consistently with {@link #equalMatch(Match)}. Extension lists are hashed as multisets,
+         * so that the hash does not depend on the order of extensions and a key can be found by hash lookup
+         * whatever order the switch reported its extensions in.
+         */
+        private static int hashMatch(final Match match) {
+            GeneralAugMatchNodesNodeTableFlow aug = match.getAugmentation(GeneralAugMatchNodesNodeTableFlow.class);
+            if (aug == null) {
+                return match.hashCode();
+            }
+            int result = Objects.hash(match.getEthernetMatch(), match.getIcmpv4Match(), match.getIcmpv6Match(),
+                    match.getInPhyPort(), match.getInPort(), match.getIpMatch(), match.getLayer3Match(),
+                    match.getLayer4Match(), match.getMetadata(), match.getProtocolMatchFields(),
+                    match.getTcpFlagsMatch(), match.getTunnel(), match.getVlanMatch());
+            return 31 * result + extensionMultiset(aug.getExtensionList()).hashCode();
+        }
+
+        private static Multiset<ExtensionList> extensionMultiset(final List<ExtensionList> extensions) {
+            return extensions == null ? ImmutableMultiset.of() : HashMultiset.create(extensions);
         }
 
         @Override
         public int hashCode() {
-            int result = tableId;
-            result = 31 * result + priority;
-            result = 31 * result + cookie.hashCode();
-            result = 31 * result + match.hashCode();
-            return result;
+            return hashCode;
         }
 
         @Override
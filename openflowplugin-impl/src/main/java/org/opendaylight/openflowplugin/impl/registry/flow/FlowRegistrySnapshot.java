@@ -0,0 +1,348 @@
+/*
+ * Copyright (c) 2018 OpenDaylight and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.registry.flow;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Strings;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+import org.opendaylight.openflowplugin.api.openflow.registry.flow.FlowDescriptor;
+import org.opendaylight.openflowplugin.api.openflow.registry.flow.FlowRegistryKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * On-disk snapshot of the flow registry of a single device. The snapshot is an append-only log of store and remove
+ * records, which is memory-mapped and replayed when loaded and compacted when it holds many more records than
+ * live entries. Only {@link CompactFlowRegistryKey}s are persisted, other keys are silently skipped.
+ *
+ * <p>
+ * Records are buffered and written in batches, when the buffer fills up, when the snapshot is flushed and when it is
+ * closed. Snapshots are a cache: they are not synced to the disk, records still buffered on a crash are lost and
+ * a record torn by a crash ends the log. Loaded descriptors are expected to be verified against the datastore.
+ */
+@ThreadSafe
+final class FlowRegistrySnapshot {
+    private static final Logger LOG = LoggerFactory.getLogger(FlowRegistrySnapshot.class);
+
+    private static final int MAGIC = 0x4F465253;
+    private static final byte FORMAT_VERSION = 1;
+    private static final int HEADER_LENGTH = Integer.BYTES + Byte.BYTES;
+    private static final byte STORE = 1;
+    private static final byte REMOVE = 2;
+    private static final int MAX_LENGTH = 0xFFFF;
+    private static final int MIN_KEY_LENGTH = 11;
+    private static final int COMPACTION_MIN_RECORDS = 1024;
+    private static final int WRITE_BUFFER_LENGTH = 32 * 1024;
+    private static final String SUFFIX = ".log";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final Path path;
+    private FileChannel channel;
+    // Records not yet written to the channel, allocated on the first append
+    private ByteBuffer writeBuffer;
+
+    @VisibleForTesting
+    FlowRegistrySnapshot(@Nonnull final Path path) {
+        this.path = path;
+    }
+
+    /**
+     * Returns the snapshot of the given device. No file is accessed until the snapshot is loaded.
+     *
+     * @param directory directory holding device snapshots, null or empty if snapshots are disabled
+     * @param nodeId node id of the device
+     * @return snapshot, or null if snapshots are disabled
+     */
+    @Nullable
+    static FlowRegistrySnapshot forNode(@Nullable final String directory, @Nonnull final String nodeId) {
+        if (Strings.isNullOrEmpty(directory)) {
+            return null;
+        }
+
+        try {
+            return new FlowRegistrySnapshot(Paths.get(directory, URLEncoder.encode(nodeId, "UTF-8") + SUFFIX));
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException("UTF-8 is not supported", e);
+        }
+    }
+
+    /**
+     * Reads the snapshot and opens it for appending. A missing or unreadable snapshot is (re)created empty.
+     *
+     * @return descriptors held by the snapshot
+     */
+    @Nonnull
+    synchronized Map<FlowRegistryKey, FlowDescriptor> load() {
+        writeBuffered();
+        closeChannel();
+
+        final Map<FlowRegistryKey, FlowDescriptor> descriptors = new HashMap<>();
+        try {
+            Files.createDirectories(path.getParent());
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+
+            final long size = channel.size();
+            long validLength = 0;
+            int records = 0;
+            if (size > HEADER_LENGTH && size <= Integer.MAX_VALUE) {
+                final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+                if (buffer.getInt() == MAGIC && buffer.get() == FORMAT_VERSION) {
+                    while (readRecord(buffer, descriptors)) {
+                        records++;
+                    }
+                    validLength = buffer.position();
+                }
+            }
+
+            if (validLength == 0) {
+                descriptors.clear();
+                rewrite(Collections.emptyMap());
+            } else if (records > COMPACTION_MIN_RECORDS && records > 2 * descriptors.size()) {
+                LOG.debug("Compacting flow registry snapshot {} from {} records to {}", path, records,
+                        descriptors.size());
+                rewrite(descriptors);
+            } else {
+                // Drop a record torn by a crash, if any
+                channel.truncate(validLength);
+                channel.position(validLength);
+            }
+        } catch (IOException e) {
+            LOG.warn("Failed to load flow registry snapshot {}, snapshot disabled", path, e);
+            closeChannel();
+            descriptors.clear();
+        }
+
+        LOG.debug("Loaded {} flow descriptors from flow registry snapshot {}", descriptors.size(), path);
+        return descriptors;
+    }
+
+    /**
+     * Appends a store record, if the snapshot is loaded and the key is persistable.
+     *
+     * @param flowRegistryKey flow registry key
+     * @param flowDescriptor flow descriptor
+     */
+    synchronized void store(@Nonnull final FlowRegistryKey flowRegistryKey,
+                            @Nonnull final FlowDescriptor flowDescriptor) {
+        if (channel == null || !(flowRegistryKey instanceof CompactFlowRegistryKey)) {
+            return;
+        }
+
+        final byte[] flowId = flowDescriptor.getFlowId().getValue().getBytes(StandardCharsets.UTF_8);
+        if (flowId.length > MAX_LENGTH) {
+            LOG.debug("Flow ID {} is too long to be persisted", flowDescriptor.getFlowId().getValue());
+            remove(flowRegistryKey);
+            return;
+        }
+
+        final byte[] key = ((CompactFlowRegistryKey) flowRegistryKey).getEncoded();
+        final ByteBuffer buffer = ByteBuffer.allocate(Byte.BYTES * 2 + Short.BYTES * 2 + key.length + flowId.length);
+        writeRecord(buffer, key, flowDescriptor.getTableKey().getId(), flowId);
+        append(buffer);
+    }
+
+    /**
+     * Appends a remove record, if the snapshot is loaded and the key is persistable.
+     *
+     * @param flowRegistryKey flow registry key
+     */
+    synchronized void remove(@Nonnull final FlowRegistryKey flowRegistryKey) {
+        if (channel == null || !(flowRegistryKey instanceof CompactFlowRegistryKey)) {
+            return;
+        }
+
+        final byte[] key = ((CompactFlowRegistryKey) flowRegistryKey).getEncoded();
+        final ByteBuffer buffer = ByteBuffer.allocate(Byte.BYTES + Short.BYTES + key.length);
+        buffer.put(REMOVE).putShort((short) key.length).put(key);
+        append(buffer);
+    }
+
+    /**
+     * Writes buffered records to the disk, if the snapshot is loaded.
+     */
+    synchronized void flush() {
+        writeBuffered();
+    }
+
+    /**
+     * Writes buffered records and closes the snapshot, it is kept on the disk. Further appends are ignored until
+     * the snapshot is loaded again.
+     */
+    synchronized void close() {
+        writeBuffered();
+        closeChannel();
+        writeBuffer = null;
+    }
+
+    private void append(final ByteBuffer record) {
+        record.flip();
+        if (writeBuffer == null) {
+            writeBuffer = ByteBuffer.allocate(WRITE_BUFFER_LENGTH);
+        }
+        if (writeBuffer.remaining() < record.remaining()) {
+            writeBuffered();
+        }
+
+        if (writeBuffer.remaining() >= record.remaining()) {
+            writeBuffer.put(record);
+        } else {
+            // Records longer than the buffer are written on their own
+            write(record);
+        }
+    }
+
+    private void writeBuffered() {
+        if (writeBuffer != null && writeBuffer.position() > 0) {
+            writeBuffer.flip();
+            write(writeBuffer);
+            writeBuffer.clear();
+        }
+    }
+
+    private void write(final ByteBuffer buffer) {
+        if (channel == null) {
+            return;
+        }
+
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            // A partially written record ends the log when it is loaded again
+            LOG.warn("Failed to append to flow registry snapshot {}, snapshot disabled", path, e);
+            closeChannel();
+        }
+    }
+
+    private void rewrite(final Map<FlowRegistryKey, FlowDescriptor> descriptors) throws IOException {
+        final Path tempPath = path.resolveSibling(path.getFileName() + TEMP_SUFFIX);
+        try (FileChannel tempChannel = FileChannel.open(tempPath, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            final ByteBuffer buffer = ByteBuffer.allocate(Byte.BYTES * 2 + Short.BYTES * 2 + MAX_LENGTH * 2);
+            buffer.putInt(MAGIC).put(FORMAT_VERSION);
+
+            for (Map.Entry<FlowRegistryKey, FlowDescriptor> entry : descriptors.entrySet()) {
+                final byte[] key = ((CompactFlowRegistryKey) entry.getKey()).getEncoded();
+                final byte[] flowId = entry.getValue().getFlowId().getValue().getBytes(StandardCharsets.UTF_8);
+                if (buffer.remaining() < Byte.BYTES * 2 + Short.BYTES * 2 + key.length + flowId.length) {
+                    flush(tempChannel, buffer);
+                }
+                writeRecord(buffer, key, entry.getValue().getTableKey().getId(), flowId);
+            }
+            flush(tempChannel, buffer);
+        }
+
+        closeChannel();
+        Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private void closeChannel() {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                LOG.debug("Failed to close flow registry snapshot {}", path, e);
+            }
+            channel = null;
+        }
+    }
+
+    @VisibleForTesting
+    synchronized boolean isOpen() {
+        return channel != null;
+    }
+
+    @VisibleForTesting
+    Path getPath() {
+        return path;
+    }
+
+    private static void flush(final FileChannel fileChannel, final ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            fileChannel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private static void writeRecord(final ByteBuffer buffer, final byte[] key, final short tableId,
+                                    final byte[] flowId) {
+        buffer.put(STORE)
+                .putShort((short) key.length)
+                .put(key)
+                .put((byte) tableId)
+                .putShort((short) flowId.length)
+                .put(flowId);
+    }
+
+    /**
+     * Replays a single record of the log.
+     *
+     * @return false if the buffer does not start with a complete record
+     */
+    private static boolean readRecord(final ByteBuffer buffer, final Map<FlowRegistryKey, FlowDescriptor> target) {
+        final int start = buffer.position();
+        if (buffer.remaining() < Byte.BYTES + Short.BYTES) {
+            return false;
+        }
+
+        final byte type = buffer.get();
+        final int keyLength = Short.toUnsignedInt(buffer.getShort());
+        if (type != STORE && type != REMOVE || keyLength < MIN_KEY_LENGTH || buffer.remaining() < keyLength) {
+            buffer.position(start);
+            return false;
+        }
+
+        final byte[] key = new byte[keyLength];
+        buffer.get(key);
+        final CompactFlowRegistryKey flowRegistryKey = CompactFlowRegistryKey.fromEncoded(key);
+        if (type == REMOVE) {
+            target.remove(flowRegistryKey);
+            return true;
+        }
+
+        if (buffer.remaining() < Byte.BYTES + Short.BYTES) {
+            buffer.position(start);
+            return false;
+        }
+
+        final short tableId = (short) Byte.toUnsignedInt(buffer.get());
+        final int flowIdLength = Short.toUnsignedInt(buffer.getShort());
+        if (buffer.remaining() < flowIdLength) {
+            buffer.position(start);
+            return false;
+        }
+
+        final byte[] flowId = new byte[flowIdLength];
+        buffer.get(flowId);
+        target.put(flowRegistryKey,
+                FlowDescriptorFactory.create(tableId, new FlowId(new String(flowId, StandardCharsets.UTF_8))));
+        return true;
+    }
+}
@@ -10,60 +10,60 @@ package org.opendaylight.openflowplugin.impl.registry.group;
 
 import com.google.common.annotations.VisibleForTesting;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.function.Consumer;
 import javax.annotation.concurrent.ThreadSafe;
+import org.opendaylight.openflowjava.util.LongHashSet;
 import org.opendaylight.openflowplugin.api.openflow.registry.group.DeviceGroupRegistry;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.group.types.rev131018.GroupId;
 
 @ThreadSafe
 public class DeviceGroupRegistryImpl implements DeviceGroupRegistry {
 
-    private final List<GroupId> groupIds = Collections.synchronizedList(new ArrayList<>());
-    private final List<GroupId> marks = Collections.synchronizedList(new ArrayList<>());
+    // Group IDs are 32-bit unsigned integers, kept as primitive longs so that stores, marks and their processing
+    // take constant time per ID
+    private final LongHashSet groupIds = new LongHashSet();
+    private final LongHashSet marks = new LongHashSet();
 
     @Override
-    public void store(final GroupId groupId) {
-        if (!groupIds.contains(groupId)) {
-            marks.remove(groupId);
-            groupIds.add(groupId);
+    public synchronized void store(final GroupId groupId) {
+        final long value = groupId.getValue();
+        if (groupIds.add(value)) {
+            marks.remove(value);
         }
     }
 
     @Override
-    public void addMark(final GroupId groupId) {
-        if (!marks.contains(groupId)) {
-            marks.add(groupId);
-        }
+    public synchronized void addMark(final GroupId groupId) {
+        marks.add(groupId.getValue());
     }
 
     @Override
-    public void processMarks() {
+    public synchronized void processMarks() {
         groupIds.removeAll(marks);
         marks.clear();
     }
 
     @Override
-    public void forEach(final Consumer<GroupId> consumer) {
-        synchronized (groupIds) {
-            groupIds.forEach(consumer);
-        }
+    public synchronized void forEach(final Consumer<GroupId> consumer) {
+        groupIds.forEach(value -> consumer.accept(new GroupId(value)));
     }
 
     @Override
-    public int size() {
+    public synchronized int size() {
         return groupIds.size();
     }
 
     @Override
-    public void close() {
+    public synchronized void close() {
         groupIds.clear();
         marks.clear();
     }
 
     @VisibleForTesting
-    List<GroupId> getAllGroupIds() {
-        return groupIds;
+    synchronized List<GroupId> getAllGroupIds() {
+        final List<GroupId> ids = new ArrayList<>(groupIds.size());
+        forEach(ids::add);
+        return ids;
     }
 }
@@ -10,58 +10,60 @@ package org.opendaylight.openflowplugin.impl.registry.meter;
 
 import com.google.common.annotations.VisibleForTesting;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.function.Consumer;
 import javax.annotation.concurrent.ThreadSafe;
+import org.opendaylight.openflowjava.util.LongHashSet;
 import org.opendaylight.openflowplugin.api.openflow.registry.meter.DeviceMeterRegistry;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.meter.types.rev130918.MeterId;
 
 @ThreadSafe
 public class DeviceMeterRegistryImpl implements DeviceMeterRegistry {
 
-    private final List<MeterId> meterIds = Collections.synchronizedList(new ArrayList<>());
-    private final List<MeterId> marks = Collections.synchronizedList(new ArrayList<>());
+    // Meter IDs are 32-bit unsigned integers, kept as primitive longs so that stores, marks and their processing
+    // take constant time per ID
+    private final LongHashSet meterIds = new LongHashSet();
+    private final LongHashSet marks = new LongHashSet();
 
     @Override
-    public void store(final MeterId meterId) {
-        if (!meterIds.contains(meterId)) {
-            marks.remove(meterId);
-            meterIds.add(meterId);
+    public synchronized void store(final MeterId meterId) {
+        final long value = meterId.getValue();
+        if (meterIds.add(value)) {
+            marks.remove(value);
         }
     }
 
     @Override
-    public void addMark(final MeterId meterId) {
-        marks.add(meterId);
+    public synchronized void addMark(final MeterId meterId) {
+        marks.add(meterId.getValue());
     }
 
     @Override
-    public void processMarks() {
+    public synchronized void processMarks() {
         meterIds.removeAll(marks);
         marks.clear();
     }
 
     @Override
-    public void forEach(final Consumer<MeterId> consumer) {
-        synchronized (meterIds) {
-            meterIds.forEach(consumer);
-        }
+    public synchronized void forEach(final Consumer<MeterId> consumer) {
+        meterIds.forEach(value -> consumer.accept(new MeterId(value)));
     }
 
     @Override
-    public int size() {
+    public synchronized int size() {
         return meterIds.size();
     }
 
     @Override
-    public void close() {
+    public synchronized void close() {
         meterIds.clear();
         marks.clear();
     }
 
     @VisibleForTesting
-    List<MeterId> getAllMeterIds() {
-        return meterIds;
+    synchronized List<MeterId> getAllMeterIds() {
+        final List<MeterId> ids = new ArrayList<>(meterIds.size());
+        forEach(ids::add);
+        return ids;
     }
 }
@@ -112,7 +112,12 @@ public class RoleContextImpl implements RoleContext {
 
     @Override
     public <T> RequestContext<T> createRequestContext() {
-        final AbstractRequestContext<T> ret = new AbstractRequestContext<T>(deviceInfo.reserveXidForDeviceMessage()) {
+        return createRequestContext(deviceInfo.reserveXidForDeviceMessage());
+    }
+
+    @Override
+    public <T> RequestContext<T> createRequestContext(final Long xid) {
+        final AbstractRequestContext<T> ret = new AbstractRequestContext<T>(xid) {
             @Override
             public void close() {
                 requestContexts.remove(this);
@@ -139,6 +139,20 @@ class RpcContextImpl implements RpcContext {
             return null;
         }
 
+        return newRequestContext(xid);
+    }
+
+    @Override
+    public <T> RequestContext<T> createRequestContext(final Long xid) {
+        if (!tracker.tryAcquire()) {
+            LOG.trace("Device queue {} at capacity", this);
+            return null;
+        }
+
+        return newRequestContext(xid);
+    }
+
+    private <T> RequestContext<T> newRequestContext(final Long xid) {
         return new AbstractRequestContext<T>(xid) {
             @Override
             public void close() {
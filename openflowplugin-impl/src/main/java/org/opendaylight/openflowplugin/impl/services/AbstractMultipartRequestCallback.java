@@ -9,6 +9,8 @@ package org.opendaylight.openflowplugin.impl.services;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
+import javax.annotation.Nullable;
 import org.opendaylight.openflowplugin.api.openflow.device.DeviceContext;
 import org.opendaylight.openflowplugin.api.openflow.device.RequestContext;
 import org.opendaylight.openflowplugin.api.openflow.device.handlers.MultiMsgCollector;
@@ -28,8 +30,27 @@ public abstract class AbstractMultipartRequestCallback<T extends OfHeader> exten
             final Class<?> requestType,
             final DeviceContext deviceContext,
             final EventIdentifier eventIdentifier) {
+        this(context, requestType, deviceContext, eventIdentifier, null);
+    }
+
+    /**
+     * Create multipart request callback.
+     * @param context request context
+     * @param requestType request type
+     * @param deviceContext device context
+     * @param eventIdentifier event identifier
+     * @param replyConsumer if not null, replies are streamed to this consumer instead of being collected
+     */
+    public AbstractMultipartRequestCallback(
+            final RequestContext<List<T>> context,
+            final Class<?> requestType,
+            final DeviceContext deviceContext,
+            final EventIdentifier eventIdentifier,
+            @Nullable final Consumer<? super T> replyConsumer) {
         super(context, requestType, deviceContext.getMessageSpy(), eventIdentifier);
-        collector = deviceContext.getMultiMsgCollector(context);
+        collector = Objects.isNull(replyConsumer)
+                ? deviceContext.getMultiMsgCollector(context)
+                : deviceContext.getMultiMsgCollector(context, replyConsumer);
     }
 
     @Override
@@ -10,8 +10,10 @@ package org.opendaylight.openflowplugin.impl.services;
 import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.ListenableFuture;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import org.opendaylight.openflowplugin.api.openflow.device.DeviceContext;
 import org.opendaylight.openflowplugin.api.openflow.device.RequestContext;
 import org.opendaylight.openflowplugin.api.openflow.device.RequestContextStack;
@@ -33,9 +35,16 @@ public abstract class AbstractMultipartService<I, T extends OfHeader> extends Ab
 
     @Override
     protected FutureCallback<OfHeader> createCallback(RequestContext<List<T>> context, Class<?> requestType) {
+        return createCallback(context, requestType, null);
+    }
+
+    private FutureCallback<OfHeader> createCallback(final RequestContext<List<T>> context, final Class<?> requestType,
+                                                    @Nullable final Consumer<? super T> replyConsumer) {
         return canUseSingleLayerSerialization()
-            ? new SingleLayerMultipartRequestCallback<>(context, requestType, getDeviceContext(), getEventIdentifier())
-            : new MultiLayerMultipartRequestCallback<>(context, requestType, getDeviceContext(), getEventIdentifier());
+            ? new SingleLayerMultipartRequestCallback<>(context, requestType, getDeviceContext(), getEventIdentifier(),
+                replyConsumer)
+            : new MultiLayerMultipartRequestCallback<>(context, requestType, getDeviceContext(), getEventIdentifier(),
+                replyConsumer);
     }
 
     @Override
@@ -45,4 +54,17 @@ public abstract class AbstractMultipartService<I, T extends OfHeader> extends Ab
             : super.handleServiceCall(input);
     }
 
+    /**
+     * Handles a service call whose multipart replies are handed over to the consumer one by one as they arrive.
+     * Replies are not collected, so the service call completes with an empty list.
+     * @param input service input
+     * @param replyConsumer consumer of the replies of this call
+     * @return result of the service call
+     */
+    protected final ListenableFuture<RpcResult<List<T>>> handleStreamingServiceCall(@Nonnull final I input,
+            @Nonnull final Consumer<? super T> replyConsumer) {
+        return handleServiceCall(input, canUseSingleLayerSerialization() ? ALTERNATE_IS_COMPLETE : null,
+            (context, requestType) -> createCallback(context, requestType, replyConsumer));
+    }
+
 }
@@ -12,12 +12,16 @@ import com.google.common.base.Verify;
 import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import java.math.BigInteger;
 import java.util.Objects;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opendaylight.openflowjava.protocol.api.connection.OutboundQueue;
+import org.opendaylight.openflowplugin.api.openflow.connection.ConnectionContext;
+import org.opendaylight.openflowplugin.api.openflow.connection.OutboundQueueProvider;
 import org.opendaylight.openflowplugin.api.openflow.device.DeviceContext;
 import org.opendaylight.openflowplugin.api.openflow.device.DeviceInfo;
 import org.opendaylight.openflowplugin.api.openflow.device.DeviceRegistry;
@@ -112,6 +116,20 @@ public abstract class AbstractService<I, O> {
 
     public ListenableFuture<RpcResult<O>> handleServiceCall(@Nonnull final I input,
             @Nullable final Function<OfHeader, Boolean> isComplete) {
+        return handleServiceCall(input, isComplete, this::createCallback);
+    }
+
+    /**
+     * Handles a service call whose request callback is created by the given factory instead of
+     * {@link #createCallback(RequestContext, Class)}, e.g. to hand it state of this particular call.
+     * @param input service input
+     * @param isComplete function deciding whether a reply completes the request, may be null
+     * @param callbackFactory creates the request callback from the request context and the request type
+     * @return result of the service call
+     */
+    protected final ListenableFuture<RpcResult<O>> handleServiceCall(@Nonnull final I input,
+            @Nullable final Function<OfHeader, Boolean> isComplete,
+            @Nonnull final BiFunction<RequestContext<O>, Class<?>, FutureCallback<OfHeader>> callbackFactory) {
         Preconditions.checkNotNull(input);
 
         final Class<?> requestType = input instanceof DataContainer
@@ -121,8 +139,34 @@ public abstract class AbstractService<I, O> {
         getMessageSpy().spyMessage(requestType, MessageSpy.StatisticsGroup.TO_SWITCH_ENTERED);
 
         LOG.trace("Handling general service call");
-        final RequestContext<O> requestContext = requestContextStack.createRequestContext();
+        final OutboundQueueProvider outboundQueueProvider = getOutboundQueueProvider();
+        if (Objects.isNull(outboundQueueProvider)) {
+            return handleRequestContext(input, isComplete, callbackFactory, requestType,
+                    requestContextStack.createRequestContext());
+        }
 
+        // Do not park the calling thread while the queue refuses reservations, the request is sent once the XID
+        // is reserved. Without a queue, the request context fails to reserve the XID as well.
+        return Futures.transformAsync(outboundQueueProvider.reserveEntryAsync(), xid -> {
+            if (Objects.isNull(xid)) {
+                return handleRequestContext(input, isComplete, callbackFactory, requestType,
+                        requestContextStack.createRequestContext());
+            }
+
+            final RequestContext<O> requestContext = requestContextStack.createRequestContext(xid);
+            if (Objects.isNull(requestContext)) {
+                // Release the reserved entry, so that it does not hold up the queue
+                outboundQueueProvider.commitEntry(xid, null, null);
+            }
+
+            return handleRequestContext(input, isComplete, callbackFactory, requestType, requestContext);
+        }, MoreExecutors.directExecutor());
+    }
+
+    private ListenableFuture<RpcResult<O>> handleRequestContext(final I input,
+            @Nullable final Function<OfHeader, Boolean> isComplete,
+            final BiFunction<RequestContext<O>, Class<?>, FutureCallback<OfHeader>> callbackFactory,
+            final Class<?> requestType, @Nullable final RequestContext<O> requestContext) {
         if (Objects.isNull(requestContext)) {
             LOG.trace("Request context refused.");
             getMessageSpy().spyMessage(AbstractService.class, MessageSpy.StatisticsGroup.TO_SWITCH_DISREGARDED);
@@ -160,12 +204,21 @@ public abstract class AbstractService<I, O> {
             if (Objects.nonNull(isComplete)) {
                 outboundQueue.commitEntry(xid.getValue(),
                                           request,
-                                          createCallback(requestContext, requestType), isComplete);
+                                          callbackFactory.apply(requestContext, requestType), isComplete);
             } else {
-                outboundQueue.commitEntry(xid.getValue(), request, createCallback(requestContext, requestType));
+                outboundQueue.commitEntry(xid.getValue(), request,
+                                          callbackFactory.apply(requestContext, requestType));
             }
         }
 
         return requestContext.getFuture();
     }
+
+    @Nullable
+    private OutboundQueueProvider getOutboundQueueProvider() {
+        final ConnectionContext connectionContext = deviceContext.getPrimaryConnectionContext();
+        final OutboundQueue outboundQueue = Objects.nonNull(connectionContext)
+                ? connectionContext.getOutboundQueueProvider() : null;
+        return outboundQueue instanceof OutboundQueueProvider ? (OutboundQueueProvider) outboundQueue : null;
+    }
 }
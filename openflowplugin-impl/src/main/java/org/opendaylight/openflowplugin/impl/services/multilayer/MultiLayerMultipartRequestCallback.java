@@ -10,6 +10,7 @@ package org.opendaylight.openflowplugin.impl.services.multilayer;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 import org.opendaylight.openflowplugin.api.openflow.device.DeviceContext;
 import org.opendaylight.openflowplugin.api.openflow.device.RequestContext;
 import org.opendaylight.openflowplugin.api.openflow.statistics.ofpspecific.EventIdentifier;
@@ -26,6 +27,13 @@ public class MultiLayerMultipartRequestCallback<T extends OfHeader> extends Abst
         super(context, requestType, deviceContext, eventIdentifier);
     }
 
+    public MultiLayerMultipartRequestCallback(RequestContext<List<T>> context, Class<?> requestType,
+                                              DeviceContext deviceContext,
+                                              EventIdentifier eventIdentifier,
+                                              Consumer<? super T> replyConsumer) {
+        super(context, requestType, deviceContext, eventIdentifier, replyConsumer);
+    }
+
     @Override
     protected boolean isMultipart(OfHeader result) {
         return result instanceof MultipartReply;
@@ -24,7 +24,6 @@ import org.opendaylight.openflowplugin.api.openflow.registry.flow.DeviceFlowRegi
 import org.opendaylight.openflowplugin.api.openflow.registry.flow.FlowDescriptor;
 import org.opendaylight.openflowplugin.api.openflow.registry.flow.FlowRegistryKey;
 import org.opendaylight.openflowplugin.impl.registry.flow.FlowDescriptorFactory;
-import org.opendaylight.openflowplugin.impl.registry.flow.FlowRegistryKeyFactory;
 import org.opendaylight.openflowplugin.impl.services.multilayer.MultiLayerFlowService;
 import org.opendaylight.openflowplugin.impl.services.singlelayer.SingleLayerFlowService;
 import org.opendaylight.openflowplugin.impl.util.ErrorUtil;
@@ -85,7 +84,7 @@ public class SalFlowServiceImpl implements SalFlowService {
     @Override
     public Future<RpcResult<AddFlowOutput>> addFlow(final AddFlowInput input) {
         final FlowRegistryKey flowRegistryKey =
-                FlowRegistryKeyFactory.create(deviceContext.getDeviceInfo().getVersion(), input);
+                deviceContext.getDeviceFlowRegistry().createKey(input);
         final ListenableFuture<RpcResult<AddFlowOutput>> future;
 
         if (flowAddMessage.canUseSingleLayerSerialization()) {
@@ -247,7 +246,7 @@ public class SalFlowServiceImpl implements SalFlowService {
                     LOG.debug("Flow remove finished without error for flow={}", input);
                 }
                 FlowRegistryKey flowRegistryKey =
-                        FlowRegistryKeyFactory.create(deviceContext.getDeviceInfo().getVersion(), input);
+                        deviceContext.getDeviceFlowRegistry().createKey(input);
                 deviceContext.getDeviceFlowRegistry().addMark(flowRegistryKey);
             } else {
                 if (LOG.isDebugEnabled()) {
@@ -277,9 +276,9 @@ public class SalFlowServiceImpl implements SalFlowService {
             final UpdatedFlow updated = input.getUpdatedFlow();
             final OriginalFlow original = input.getOriginalFlow();
             final FlowRegistryKey origFlowRegistryKey =
-                    FlowRegistryKeyFactory.create(deviceContext.getDeviceInfo().getVersion(), original);
+                    deviceContext.getDeviceFlowRegistry().createKey(original);
             final FlowRegistryKey updatedFlowRegistryKey =
-                    FlowRegistryKeyFactory.create(deviceContext.getDeviceInfo().getVersion(), updated);
+                    deviceContext.getDeviceFlowRegistry().createKey(updated);
             final FlowDescriptor origFlowDescriptor = deviceFlowRegistry.retrieveDescriptor(origFlowRegistryKey);
 
             final boolean isUpdate = Objects.nonNull(origFlowDescriptor);
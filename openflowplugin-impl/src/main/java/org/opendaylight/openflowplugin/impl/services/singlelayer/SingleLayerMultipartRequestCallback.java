@@ -9,6 +9,7 @@
 package org.opendaylight.openflowplugin.impl.services.singlelayer;
 
 import java.util.List;
+import java.util.function.Consumer;
 import org.opendaylight.openflowplugin.api.openflow.device.DeviceContext;
 import org.opendaylight.openflowplugin.api.openflow.device.RequestContext;
 import org.opendaylight.openflowplugin.api.openflow.statistics.ofpspecific.EventIdentifier;
@@ -25,6 +26,14 @@ public class SingleLayerMultipartRequestCallback<T extends OfHeader> extends Abs
         super(context, requestType, deviceContext, eventIdentifier);
     }
 
+    public SingleLayerMultipartRequestCallback(RequestContext<List<T>> context,
+                                               Class<?> requestType,
+                                               DeviceContext deviceContext,
+                                               EventIdentifier eventIdentifier,
+                                               Consumer<? super T> replyConsumer) {
+        super(context, requestType, deviceContext, eventIdentifier, replyConsumer);
+    }
+
     @Override
     protected boolean isMultipart(OfHeader result) {
         return result instanceof MultipartReply;
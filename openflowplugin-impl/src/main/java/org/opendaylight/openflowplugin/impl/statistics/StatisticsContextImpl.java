@@ -118,7 +118,12 @@ class StatisticsContextImpl<T extends OfHeader> implements StatisticsContext {
 
     @Override
     public <O> RequestContext<O> createRequestContext() {
-        final AbstractRequestContext<O> ret = new AbstractRequestContext<O>(deviceInfo.reserveXidForDeviceMessage()) {
+        return createRequestContext(deviceInfo.reserveXidForDeviceMessage());
+    }
+
+    @Override
+    public <O> RequestContext<O> createRequestContext(final Long xid) {
+        final AbstractRequestContext<O> ret = new AbstractRequestContext<O>(xid) {
             @Override
             public void close() {
                 requestContexts.remove(this);
@@ -16,13 +16,14 @@ import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.ListeningExecutorService;
 import com.google.common.util.concurrent.MoreExecutors;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
-import java.util.Objects;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import javax.annotation.concurrent.GuardedBy;
 import org.opendaylight.controller.md.sal.binding.api.ReadOnlyTransaction;
 import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
 import org.opendaylight.controller.md.sal.common.api.data.ReadFailedException;
@@ -76,40 +77,30 @@ public final class StatisticsGatheringUtils {
             final MultipartType type, final TxFacade txFacade, final DeviceRegistry registry,
             final ConvertorExecutor convertorExecutor, final MultipartWriterProvider statisticsWriterProvider,
             final ListeningExecutorService executorService) {
-        return Futures.transformAsync(statisticsGatheringService.getStatisticsOfType(
-           new EventIdentifier(QUEUE2_REQCTX + type.toString(), deviceInfo.getNodeId().toString()), type),
-            rpcResult -> executorService.submit(() -> {
-                final boolean rpcResultIsNull = rpcResult == null;
-
-                if (!rpcResultIsNull && rpcResult.isSuccessful()) {
-                    LOG.debug("Stats reply successfully received for node {} of type {}", deviceInfo.getNodeId(), type);
-                        // TODO: in case the result value is null then multipart data probably got processed
-                        // TODO: on the fly. This contract should by clearly stated and enforced.
-                        // TODO: Now simple true value is returned
-                    if (Objects.nonNull(rpcResult.getResult()) && !rpcResult.getResult().isEmpty()) {
-                        final List<DataContainer> allMultipartData = rpcResult.getResult().stream()
-                                .map(reply -> MultipartReplyTranslatorUtil
-                                                    .translate(reply, deviceInfo, convertorExecutor, null))
-                                .filter(java.util.Optional::isPresent).map(java.util.Optional::get)
-                                            .collect(Collectors.toList());
-
-                        return processStatistics(type, allMultipartData, txFacade, registry, deviceInfo,
-                                        statisticsWriterProvider);
-                    } else {
-                        LOG.debug("Stats reply was empty for node {} of type {}", deviceInfo.getNodeId(), type);
-                    }
-                } else {
+        final EventIdentifier eventIdentifier =
+                new EventIdentifier(QUEUE2_REQCTX + type.toString(), deviceInfo.getNodeId().toString());
+
+        // Replies are translated and written in chunks as they arrive, so that neither the raw multipart replies
+        // nor their translations are retained until the last one
+        final StatisticsStreamWriter<T> streamWriter = new StatisticsStreamWriter<>(type, deviceInfo, txFacade,
+                registry, convertorExecutor, statisticsWriterProvider, executorService);
+
+        return Futures.transformAsync(
+            statisticsGatheringService.getStatisticsOfType(eventIdentifier, type, streamWriter),
+            rpcResult -> {
+                if (rpcResult == null || !rpcResult.isSuccessful()) {
                     LOG.warn("Stats reply FAILED for node {} of type {}: {}", deviceInfo.getNodeId(), type,
-                                rpcResultIsNull ? "" : rpcResult.getErrors());
+                                rpcResult == null ? "" : rpcResult.getErrors());
+                    return Futures.immediateFuture(false);
                 }
-                return false;
-            }), MoreExecutors.directExecutor());
+
+                LOG.debug("Stats reply successfully received for node {} of type {}", deviceInfo.getNodeId(), type);
+                return streamWriter.finish();
+            }, MoreExecutors.directExecutor());
     }
 
-    private static boolean processStatistics(final MultipartType type, final List<? extends DataContainer> statistics,
-                                             final TxFacade txFacade, final DeviceRegistry deviceRegistry,
-                                             final DeviceInfo deviceInfo,
-                                             final MultipartWriterProvider statisticsWriterProvider) {
+    private static void deleteAllKnownStatistics(final MultipartType type, final TxFacade txFacade,
+                                                 final DeviceRegistry deviceRegistry, final DeviceInfo deviceInfo) {
         final InstanceIdentifier<FlowCapableNode> instanceIdentifier = deviceInfo.getNodeInstanceIdentifier()
                 .augmentation(FlowCapableNode.class);
 
@@ -129,16 +120,6 @@ public final class StatisticsGatheringUtils {
             default:
                 // no operation
         }
-
-        if (writeStatistics(type, statistics, deviceInfo, statisticsWriterProvider)) {
-            txFacade.submitTransaction();
-
-            LOG.debug("Stats reply added to transaction for node {} of type {}", deviceInfo.getNodeId(), type);
-            return true;
-        }
-
-        LOG.warn("Stats processing of type {} for node {} " + "failed during write-to-tx step", type, deviceInfo);
-        return false;
     }
 
     @SuppressWarnings("checkstyle:IllegalCatch")
@@ -275,4 +256,101 @@ public final class StatisticsGatheringUtils {
 
         txFacade.submitTransaction();
     }
+
+    /**
+     * Translates streamed multipart replies and writes them to the transaction in chunks on the executor. Chunks
+     * are processed one after another in the order the replies arrived. Known entries are deleted before the first
+     * chunk with data is written and the transaction is submitted once all chunks are written.
+     */
+    private static final class StatisticsStreamWriter<T extends OfHeader> implements Consumer<T> {
+        private static final int CHUNK_SIZE = 16;
+
+        private final MultipartType type;
+        private final DeviceInfo deviceInfo;
+        private final TxFacade txFacade;
+        private final DeviceRegistry registry;
+        private final ConvertorExecutor convertorExecutor;
+        private final MultipartWriterProvider statisticsWriterProvider;
+        private final ListeningExecutorService executorService;
+
+        @GuardedBy("this")
+        private List<T> chunk = new ArrayList<>(CHUNK_SIZE);
+        // Completes with true once any statistics were written, fails if a chunk could not be translated
+        @GuardedBy("this")
+        private ListenableFuture<Boolean> written = Futures.immediateFuture(false);
+        // Set by chunk tasks, which run one after another
+        private volatile boolean received;
+
+        StatisticsStreamWriter(final MultipartType type, final DeviceInfo deviceInfo, final TxFacade txFacade,
+                               final DeviceRegistry registry, final ConvertorExecutor convertorExecutor,
+                               final MultipartWriterProvider statisticsWriterProvider,
+                               final ListeningExecutorService executorService) {
+            this.type = type;
+            this.deviceInfo = deviceInfo;
+            this.txFacade = txFacade;
+            this.registry = registry;
+            this.convertorExecutor = convertorExecutor;
+            this.statisticsWriterProvider = statisticsWriterProvider;
+            this.executorService = executorService;
+        }
+
+        @Override
+        public synchronized void accept(final T reply) {
+            chunk.add(reply);
+            if (chunk.size() >= CHUNK_SIZE) {
+                submitChunk();
+            }
+        }
+
+        synchronized ListenableFuture<Boolean> finish() {
+            if (!chunk.isEmpty()) {
+                submitChunk();
+            }
+
+            return Futures.transform(written, anyWritten -> {
+                if (!received) {
+                    LOG.debug("Stats reply was empty for node {} of type {}", deviceInfo.getNodeId(), type);
+                    return false;
+                }
+
+                if (anyWritten) {
+                    txFacade.submitTransaction();
+                    LOG.debug("Stats reply added to transaction for node {} of type {}", deviceInfo.getNodeId(),
+                            type);
+                    return true;
+                }
+
+                LOG.warn("Stats processing of type {} for node {} failed during write-to-tx step", type, deviceInfo);
+                return false;
+            }, executorService);
+        }
+
+        @GuardedBy("this")
+        private void submitChunk() {
+            final List<T> replies = chunk;
+            chunk = new ArrayList<>(CHUNK_SIZE);
+            written = Futures.transformAsync(written,
+                anyWritten -> executorService.submit(() -> writeChunk(replies, anyWritten)),
+                MoreExecutors.directExecutor());
+        }
+
+        private boolean writeChunk(final List<T> replies, final boolean anyWritten) {
+            // Translation failures propagate, so that gathering fails instead of reporting partial data
+            final List<DataContainer> statistics = new ArrayList<>(replies.size());
+            replies.forEach(reply -> MultipartReplyTranslatorUtil
+                    .translate(reply, deviceInfo, convertorExecutor, null)
+                    .ifPresent(statistics::add));
+
+            if (statistics.isEmpty()) {
+                return anyWritten;
+            }
+
+            if (!received) {
+                received = true;
+                deleteAllKnownStatistics(type, txFacade, registry, deviceInfo);
+            }
+
+            return writeStatistics(type, statistics, deviceInfo, statisticsWriterProvider) || anyWritten;
+        }
+    }
 }
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2018 OpenDaylight and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowplugin.impl.statistics.ofpspecific;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of the latest flow registry fill of each device.
+ */
+public final class FlowRegistryFillStatistics {
+
+    private static final Map<String, FillProgress> DEVICE_FILLS = new ConcurrentHashMap<>();
+
+    private FlowRegistryFillStatistics() {
+        // Hiding implicit constructor
+    }
+
+    /**
+     * Starts tracking a new fill of the flow registry of the given device, replacing the previous one.
+     *
+     * @param deviceId device identifier
+     * @param tableCount number of tables to be read
+     * @return progress of the fill
+     */
+    public static FillProgress startFill(final String deviceId, final int tableCount) {
+        final FillProgress fillProgress = new FillProgress(tableCount);
+        DEVICE_FILLS.put(deviceId, fillProgress);
+        return fillProgress;
+    }
+
+    /**
+     * Stops tracking the given fill of the flow registry of the given device, unless a newer fill replaced it.
+     *
+     * @param deviceId device identifier
+     * @param fillProgress progress of the fill
+     */
+    public static void removeFill(final String deviceId, final FillProgress fillProgress) {
+        DEVICE_FILLS.remove(deviceId, fillProgress);
+    }
+
+    public static List<String> provideStatistics() {
+        List<String> dump = new ArrayList<>();
+        for (Map.Entry<String, FillProgress> deviceEntry : DEVICE_FILLS.entrySet()) {
+            final FillProgress fillProgress = deviceEntry.getValue();
+            dump.add(String.format("DEVICE : %s", deviceEntry.getKey()));
+            dump.add(String.format(" TABLES READ : %d/%d", fillProgress.getTablesRead(),
+                    fillProgress.getTableCount()));
+            dump.add(String.format(" FLOWS READ : %d", fillProgress.getFlowsRead()));
+            dump.add(String.format(" %s (ms) : %d", fillProgress.isFinished() ? "DURATION" : "RUNNING",
+                    TimeUnit.NANOSECONDS.toMillis(fillProgress.getElapsedNanos())));
+        }
+        return dump;
+    }
+
+    public static void resetAllCounters() {
+        DEVICE_FILLS.clear();
+    }
+
+    public static final class FillProgress {
+        private final int tableCount;
+        private final long startNanos = System.nanoTime();
+        private final AtomicInteger tablesRead = new AtomicInteger();
+        private final AtomicLong flowsRead = new AtomicLong();
+        private volatile long finishNanos;
+        private volatile boolean finished;
+
+        private FillProgress(final int tableCount) {
+            this.tableCount = tableCount;
+        }
+
+        public void tableRead(final int flowCount) {
+            tablesRead.incrementAndGet();
+            flowsRead.addAndGet(flowCount);
+        }
+
+        public void finish() {
+            finishNanos = System.nanoTime();
+            finished = true;
+        }
+
+        public int getTableCount() {
+            return tableCount;
+        }
+
+        public int getTablesRead() {
+            return tablesRead.get();
+        }
+
+        public long getFlowsRead() {
+            return flowsRead.get();
+        }
+
+        public boolean isFinished() {
+            return finished;
+        }
+
+        public long getElapsedNanos() {
+            return (finished ? finishNanos : System.nanoTime()) - startNanos;
+        }
+    }
+}
@@ -8,8 +8,12 @@
 
 package org.opendaylight.openflowplugin.impl.statistics.services.dedicated;
 
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
 import org.opendaylight.openflowplugin.api.openflow.device.DeviceContext;
 import org.opendaylight.openflowplugin.api.openflow.device.RequestContextStack;
 import org.opendaylight.openflowplugin.api.openflow.device.Xid;
@@ -52,6 +56,19 @@ public class StatisticsGatheringOnTheFlyService<T extends OfHeader>
         return handleServiceCall(type);
     }
 
+    @Override
+    public ListenableFuture<RpcResult<List<T>>> getStatisticsOfType(final EventIdentifier eventIdentifier,
+                                                                    final MultipartType type,
+                                                                    final Consumer<? super T> consumer) {
+        // Replies are processed on the fly, the consumer only gets whatever the request completes with
+        return Futures.transform(getStatisticsOfType(eventIdentifier, type), rpcResult -> {
+            if (Objects.nonNull(rpcResult) && Objects.nonNull(rpcResult.getResult())) {
+                rpcResult.getResult().forEach(consumer);
+            }
+            return rpcResult;
+        }, MoreExecutors.directExecutor());
+    }
+
     @Override
     protected OfHeader buildRequest(final Xid xid, final MultipartType input) throws ServiceException {
         return MultipartRequestInputFactory.makeMultipartRequest(xid.getValue(),
@@ -10,6 +10,7 @@ package org.opendaylight.openflowplugin.impl.statistics.services.dedicated;
 
 import com.google.common.util.concurrent.ListenableFuture;
 import java.util.List;
+import java.util.function.Consumer;
 import org.opendaylight.openflowplugin.api.openflow.device.DeviceContext;
 import org.opendaylight.openflowplugin.api.openflow.device.RequestContextStack;
 import org.opendaylight.openflowplugin.api.openflow.device.Xid;
@@ -45,6 +46,16 @@ public class StatisticsGatheringService<T extends OfHeader>
         return handleServiceCall(type);
     }
 
+    @Override
+    public ListenableFuture<RpcResult<List<T>>> getStatisticsOfType(final EventIdentifier eventIdentifier,
+                                                                    final MultipartType type,
+                                                                    final Consumer<? super T> consumer) {
+        LOG.debug("Getting statistics for node {} of type {}", getDeviceInfo().getNodeId(), type);
+        EventsTimeCounter.markStart(eventIdentifier);
+        setEventIdentifier(eventIdentifier);
+        return handleStreamingServiceCall(type, consumer);
+    }
+
     @Override
     protected OfHeader buildRequest(final Xid xid, final MultipartType input) throws ServiceException {
         return MultipartRequestInputFactory.makeMultipartRequest(xid.getValue(),
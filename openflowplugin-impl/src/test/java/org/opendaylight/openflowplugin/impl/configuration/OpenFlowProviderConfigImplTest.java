@@ -40,6 +40,10 @@ public class OpenFlowProviderConfigImplTest {
     private static final Integer THREAD_POOL_MIN_THREADS = 3;
     private static final Integer THREAD_POOL_MAX_THREADS = 1000;
     private static final Long THREAD_POOL_TIMEOUT = 60L;
+    private static final Integer MAX_CONCURRENT_HANDSHAKES = 16;
+    private static final Boolean USE_COMPACT_FLOW_REGISTRY_KEYS = true;
+    private static final String FLOW_REGISTRY_SNAPSHOT_DIRECTORY = "data/flow-registry";
+    private static final Integer FLOW_REGISTRY_FILL_PARALLELISM = 8;
 
     @Mock
     private ConfigurationService configurationService;
@@ -79,6 +83,14 @@ public class OpenFlowProviderConfigImplTest {
                 .thenReturn(THREAD_POOL_MAX_THREADS);
         when(configurationService.getProperty(eq(ConfigurationProperty.THREAD_POOL_TIMEOUT.toString()), any()))
                 .thenReturn(THREAD_POOL_TIMEOUT);
+        when(configurationService.getProperty(eq(ConfigurationProperty.MAX_CONCURRENT_HANDSHAKES.toString()), any()))
+                .thenReturn(MAX_CONCURRENT_HANDSHAKES);
+        when(configurationService.getProperty(eq(ConfigurationProperty.USE_COMPACT_FLOW_REGISTRY_KEYS.toString()),
+                any())).thenReturn(USE_COMPACT_FLOW_REGISTRY_KEYS);
+        when(configurationService.getProperty(eq(ConfigurationProperty.FLOW_REGISTRY_SNAPSHOT_DIRECTORY.toString()),
+                any())).thenReturn(FLOW_REGISTRY_SNAPSHOT_DIRECTORY);
+        when(configurationService.getProperty(eq(ConfigurationProperty.FLOW_REGISTRY_FILL_PARALLELISM.toString()),
+                any())).thenReturn(FLOW_REGISTRY_FILL_PARALLELISM);
         openflowProviderConfig = new OpenFlowProviderConfigImpl(configurationService);
     }
 
@@ -143,6 +155,26 @@ public class OpenFlowProviderConfigImplTest {
         assertEquals(THREAD_POOL_TIMEOUT, openflowProviderConfig.getThreadPoolTimeout());
     }
 
+    @Test
+    public void getMaxConcurrentHandshakes() throws Exception {
+        assertEquals(MAX_CONCURRENT_HANDSHAKES, openflowProviderConfig.getMaxConcurrentHandshakes());
+    }
+
+    @Test
+    public void isUseCompactFlowRegistryKeys() throws Exception {
+        assertEquals(USE_COMPACT_FLOW_REGISTRY_KEYS, openflowProviderConfig.isUseCompactFlowRegistryKeys());
+    }
+
+    @Test
+    public void getFlowRegistrySnapshotDirectory() throws Exception {
+        assertEquals(FLOW_REGISTRY_SNAPSHOT_DIRECTORY, openflowProviderConfig.getFlowRegistrySnapshotDirectory());
+    }
+
+    @Test
+    public void getFlowRegistryFillParallelism() throws Exception {
+        assertEquals(FLOW_REGISTRY_FILL_PARALLELISM, openflowProviderConfig.getFlowRegistryFillParallelism());
+    }
+
     @Test
     public void isEnableFlowRemovedNotification() throws Exception {
         assertEquals(ENABLE_FLOW_REMOVED_NOTIFICATION, openflowProviderConfig.isEnableFlowRemovedNotification());
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2018 OpenDaylight and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.connection;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+
+/**
+ * Test of {@link AdmissionController}.
+ */
+public class AdmissionControllerTest {
+
+    private final List<Integer> admitted = new ArrayList<>();
+
+    private AdmissionController.Ticket enqueue(final AdmissionController controller, final int id) {
+        final AdmissionController.Ticket ticket = controller.newTicket();
+        ticket.enqueue(() -> admitted.add(id));
+        return ticket;
+    }
+
+    @Test
+    public void testUnlimited() {
+        final AdmissionController controller = new AdmissionController(0);
+        for (int i = 0; i < 10; i++) {
+            enqueue(controller, i);
+        }
+
+        assertEquals(10, admitted.size());
+        assertEquals(10, controller.getInProgress());
+        assertEquals(0, controller.getQueueDepth());
+    }
+
+    @Test
+    public void testLimitAndOrder() {
+        final AdmissionController controller = new AdmissionController(2);
+        final AdmissionController.Ticket first = enqueue(controller, 1);
+        final AdmissionController.Ticket second = enqueue(controller, 2);
+        enqueue(controller, 3);
+        enqueue(controller, 4);
+
+        assertEquals(2, admitted.size());
+        assertEquals(2, controller.getQueueDepth());
+
+        first.connected();
+        second.release();
+        // Releasing twice does not free another slot
+        second.release();
+
+        assertEquals(4, admitted.size());
+        assertEquals(Integer.valueOf(3), admitted.get(2));
+        assertEquals(Integer.valueOf(4), admitted.get(3));
+        assertEquals(2, controller.getInProgress());
+        assertEquals(4, controller.getAdmittedCount());
+    }
+
+    @Test
+    public void testAbandoned() {
+        final AdmissionController controller = new AdmissionController(1);
+        final AdmissionController.Ticket first = enqueue(controller, 1);
+        final AdmissionController.Ticket second = enqueue(controller, 2);
+        enqueue(controller, 3);
+
+        second.release();
+        assertEquals(1, controller.getAbandonedCount());
+        assertEquals(1, controller.getQueueDepth());
+
+        first.release();
+        assertEquals(Integer.valueOf(3), admitted.get(1));
+        assertEquals(0, controller.getQueueDepth());
+    }
+
+    @Test
+    public void testReleasedBeforeEnqueue() {
+        final AdmissionController controller = new AdmissionController(1);
+        final AdmissionController.Ticket ticket = controller.newTicket();
+        ticket.release();
+        ticket.enqueue(() -> admitted.add(1));
+
+        assertEquals(0, admitted.size());
+        assertEquals(0, controller.getInProgress());
+    }
+}
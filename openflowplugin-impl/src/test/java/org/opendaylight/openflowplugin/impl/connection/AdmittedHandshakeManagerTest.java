@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2018 OpenDaylight and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.connection;
+
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InOrder;
+import org.mockito.Matchers;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.opendaylight.openflowjava.protocol.api.connection.ConnectionAdapter;
+import org.opendaylight.openflowplugin.api.openflow.md.core.HandshakeManager;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.HelloMessage;
+
+/**
+ * Test of {@link AdmittedHandshakeManager}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class AdmittedHandshakeManagerTest {
+
+    @Mock
+    private HandshakeManager delegate;
+    @Mock
+    private ConnectionAdapter connectionAdapter;
+    @Mock
+    private HelloMessage firstHello;
+    @Mock
+    private HelloMessage secondHello;
+
+    private final List<Runnable> tasks = new ArrayList<>();
+    private AdmittedHandshakeManager handshakeManager;
+
+    @Before
+    public void setUp() {
+        when(connectionAdapter.isAlive()).thenReturn(true);
+        handshakeManager = new AdmittedHandshakeManager(delegate, connectionAdapter, tasks::add);
+    }
+
+    private void runTasks() {
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+    }
+
+    @Test
+    public void testDeferredUntilAdmitted() {
+        handshakeManager.shake(firstHello);
+        handshakeManager.shake(secondHello);
+        verify(delegate, never()).shake(Matchers.any(HelloMessage.class));
+
+        handshakeManager.admit();
+        runTasks();
+        final InOrder inOrder = inOrder(delegate);
+        inOrder.verify(delegate).shake(firstHello);
+        inOrder.verify(delegate).shake(secondHello);
+
+        // Once admitted, steps are passed on directly
+        handshakeManager.shake(firstHello);
+        inOrder.verify(delegate).shake(firstHello);
+        runTasks();
+        inOrder.verifyNoMoreInteractions();
+    }
+
+    @Test
+    public void testAdmittedWithoutDeferredSteps() {
+        handshakeManager.admit();
+        verify(delegate, never()).shake(Matchers.any(HelloMessage.class));
+
+        handshakeManager.shake(firstHello);
+        verify(delegate).shake(firstHello);
+        runTasks();
+        verify(delegate).shake(Matchers.any(HelloMessage.class));
+    }
+
+    @Test
+    public void testDeferredStepsSkippedWhenDisconnected() {
+        handshakeManager.shake(firstHello);
+        when(connectionAdapter.isAlive()).thenReturn(false);
+
+        handshakeManager.admit();
+        runTasks();
+        verify(delegate, never()).shake(Matchers.any(HelloMessage.class));
+    }
+}
@@ -10,6 +10,7 @@ package org.opendaylight.openflowplugin.impl.connection;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import com.google.common.util.concurrent.ListenableFuture;
 import junit.framework.TestCase;
 import org.junit.Test;
 import org.opendaylight.openflowjava.protocol.api.connection.OutboundQueue;
@@ -28,16 +29,56 @@ public class OutboundQueueProviderImplTest extends TestCase {
     public void testReserveEntry() throws Exception {
 
         outboundQueueProvider.onConnectionQueueChanged(null);
+        assertTrue(outboundQueueProvider.isReservationBlocked());
         Long returnValue = outboundQueueProvider.reserveEntry();
         assertEquals(null, returnValue);
 
         OutboundQueue mockedQueue = mock(OutboundQueue.class);
         when(mockedQueue.reserveEntry()).thenReturn(DUMMY_ENTRY_NUMBER);
         outboundQueueProvider.onConnectionQueueChanged(mockedQueue);
+        assertFalse(outboundQueueProvider.isReservationBlocked());
         returnValue = outboundQueueProvider.reserveEntry();
         assertEquals(DUMMY_ENTRY_NUMBER, returnValue);
     }
 
+    @Test
+    public void testReserveEntryAsync() throws Exception {
+        outboundQueueProvider.onConnectionQueueChanged(null);
+        assertNull(outboundQueueProvider.reserveEntryAsync().get());
+
+        final OutboundQueue closingQueue = mock(OutboundQueue.class);
+        outboundQueueProvider.onConnectionQueueChanged(closingQueue);
+
+        // Reservation refused by the current queue is postponed without blocking the caller
+        final ListenableFuture<Long> reservation = outboundQueueProvider.reserveEntryAsync();
+        assertFalse(reservation.isDone());
+        assertTrue(outboundQueueProvider.isReservationBlocked());
+        assertFalse(outboundQueueProvider.isWritable());
+
+        final OutboundQueue mockedQueue = mock(OutboundQueue.class);
+        when(mockedQueue.reserveEntry()).thenReturn(DUMMY_ENTRY_NUMBER);
+        outboundQueueProvider.onConnectionQueueChanged(mockedQueue);
+        assertEquals(DUMMY_ENTRY_NUMBER, reservation.get());
+        assertFalse(outboundQueueProvider.isReservationBlocked());
+    }
+
+    @Test
+    public void testReserveEntryAsyncOnWritability() throws Exception {
+        final OutboundQueue mockedQueue = mock(OutboundQueue.class);
+        when(mockedQueue.reserveEntry()).thenReturn(null, DUMMY_ENTRY_NUMBER);
+        outboundQueueProvider.onConnectionQueueChanged(mockedQueue);
+
+        final ListenableFuture<Long> reservation = outboundQueueProvider.reserveEntryAsync();
+        outboundQueueProvider.onWritabilityChanged(false);
+        assertFalse(reservation.isDone());
+        assertFalse(outboundQueueProvider.isWritable());
+
+        // The congested queue accepts the reservation once it drains
+        outboundQueueProvider.onWritabilityChanged(true);
+        assertEquals(DUMMY_ENTRY_NUMBER, reservation.get());
+        assertTrue(outboundQueueProvider.isWritable());
+    }
+
     @Test
     public void testCreateBarrierRequest() {
         final BarrierInput barrierRequest = outboundQueueProvider.createBarrierRequest(DUMMY_XID);
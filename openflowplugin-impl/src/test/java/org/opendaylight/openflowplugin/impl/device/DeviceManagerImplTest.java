@@ -133,6 +133,8 @@ public class DeviceManagerImplTest {
                         .setEnableFlowRemovedNotification(true)
                         .setSkipTableFeatures(false)
                         .setUseSingleLayerSerialization(true)
+                        .setUseCompactFlowRegistryKeys(false)
+                        .setFlowRegistryFillParallelism(0)
                         .build(),
                 dataBroker,
                 messageIntelligenceAgency,
@@ -9,11 +9,13 @@
 package org.opendaylight.openflowplugin.impl.device.initialization;
 
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.google.common.util.concurrent.Futures;
 import java.util.Collections;
 import java.util.Optional;
 import java.util.concurrent.Future;
@@ -100,7 +102,8 @@ public class OF13DeviceInitializerTest {
         when(translatorLibrary.lookupTranslator(any())).thenReturn(messageTranslator);
         when(deviceContext.oook()).thenReturn(translatorLibrary);
         when(requestContext.getXid()).thenReturn(new Xid(42L));
-        when(deviceContext.createRequestContext()).thenReturn(requestContext);
+        when(outboundQueueProvider.reserveEntryAsync()).thenReturn(Futures.immediateFuture(42L));
+        when(deviceContext.createRequestContext(anyLong())).thenReturn(requestContext);
         when(deviceContext.getPrimaryConnectionContext()).thenReturn(connectionContext);
     }
 
@@ -9,6 +9,7 @@
 package org.opendaylight.openflowplugin.impl.device.listener;
 
 import com.google.common.util.concurrent.Runnables;
+import java.util.ArrayList;
 import java.util.List;
 import org.junit.After;
 import org.junit.Assert;
@@ -30,6 +31,7 @@ import org.opendaylight.openflowplugin.impl.connection.testutil.MsgGeneratorTest
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.types.rev130731.MultipartType;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.MultipartReply;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.MultipartReplyMessage;
+import org.opendaylight.yangtools.yang.common.RpcResult;
 
 /**
  * openflowplugin-api
@@ -203,4 +205,31 @@ public class MultiMsgCollectorImplTest {
         Assert.assertEquals(MultipartType.OFPMPPORTDESC, multipartReplyList.get(1).getType());
         Assert.assertEquals(MultipartType.OFPMPDESC, multipartReplyList.get(2).getType());
     }
+
+    /**
+     * Test of ${link MultiMsgCollector#addMultipartMsg}
+     * streaming mode - replies are handed over one by one and not retained in the result.
+     */
+    @Test
+    public void testAddMultipartMsgStreaming() {
+        final List<MultipartReply> streamed = new ArrayList<>();
+        collector = new MultiMsgCollectorImpl<>(deviceProcessor, requestContext, streamed::add);
+
+        collector.addMultipartMsg(MsgGeneratorTestUtils
+                .makeMultipartDescReply(xid, hwTestValue, true).build(), true, null);
+        Assert.assertEquals(1, streamed.size());
+
+        collector.addMultipartMsg(MsgGeneratorTestUtils
+                .makeMultipartDescReply(xid, hwTestValue, false).build(), false, null);
+        Assert.assertEquals(2, streamed.size());
+
+        Mockito.verify(deviceProcessor, Mockito.times(2)).processReply(xidCaptor.capture(), mmCaptor.capture());
+        Assert.assertEquals(xid, xidCaptor.getValue().getValue());
+        Assert.assertEquals(1, mmCaptor.getValue().size());
+
+        final ArgumentCaptor<RpcResult<List<MultipartReply>>> resultCaptor = ArgumentCaptor.forClass(RpcResult.class);
+        Mockito.verify(requestContext).setResult(resultCaptor.capture());
+        Assert.assertTrue(resultCaptor.getValue().isSuccessful());
+        Assert.assertTrue(resultCaptor.getValue().getResult().isEmpty());
+    }
 }
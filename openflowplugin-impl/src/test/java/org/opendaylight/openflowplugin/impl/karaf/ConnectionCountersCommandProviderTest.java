@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2018 OpenDaylight and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowplugin.impl.karaf;
+
+import java.net.InetSocketAddress;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Matchers;
+import org.mockito.Mockito;
+import org.opendaylight.openflowjava.statistics.ConnectionStatistics;
+import org.opendaylight.openflowjava.statistics.CounterEventTypes;
+import org.opendaylight.openflowjava.statistics.StatisticsCounters;
+
+/**
+ * Test for {@link ConnectionCountersCommandProvider}.
+ */
+public class ConnectionCountersCommandProviderTest extends AbstractKarafTest {
+
+    private ConnectionCountersCommandProvider connectionCountersCommandProvider;
+    private final StatisticsCounters statisticsCounters = StatisticsCounters.getInstance();
+
+    @Override
+    public void doSetUp() {
+        connectionCountersCommandProvider = new ConnectionCountersCommandProvider();
+    }
+
+    @After
+    public void tearDown() {
+        statisticsCounters.stopCounting();
+    }
+
+    /**
+     * Test for {@link ConnectionCountersCommandProvider#doExecute()} starting and stopping counting.
+     */
+    @Test
+    public void testDoExecute_onOff() throws Exception {
+        connectionCountersCommandProvider.action = "on";
+        connectionCountersCommandProvider.execute(cmdSession);
+        Assert.assertTrue(statisticsCounters.isRunCounting());
+
+        connectionCountersCommandProvider.action = "off";
+        connectionCountersCommandProvider.execute(cmdSession);
+        Assert.assertFalse(statisticsCounters.isRunCounting());
+    }
+
+    /**
+     * Test for {@link ConnectionCountersCommandProvider#doExecute()} showing counters of a connection.
+     */
+    @Test
+    public void testDoExecute_show() throws Exception {
+        statisticsCounters.startCounting(false, 0);
+        final ConnectionStatistics connection = statisticsCounters.registerConnection(
+                InetSocketAddress.createUnresolved("10.0.0.1", 6653));
+        statisticsCounters.incrementCounter(CounterEventTypes.US_MESSAGE_PASS, connection);
+
+        connectionCountersCommandProvider.execute(cmdSession);
+        Mockito.verify(console).print(Matchers.contains(connection.getLabel()));
+        statisticsCounters.unregisterConnection(connection);
+    }
+}
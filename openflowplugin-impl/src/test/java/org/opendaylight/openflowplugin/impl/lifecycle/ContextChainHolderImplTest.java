@@ -39,6 +39,7 @@ import org.opendaylight.openflowplugin.api.openflow.rpc.RpcManager;
 import org.opendaylight.openflowplugin.api.openflow.statistics.StatisticsContext;
 import org.opendaylight.openflowplugin.api.openflow.statistics.StatisticsManager;
 import org.opendaylight.openflowplugin.impl.mastership.MastershipChangeServiceManagerImpl;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeId;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.FeaturesReply;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.openflowplugin.rf.state.rev170713.ResultState;
 
@@ -293,4 +294,18 @@ public class ContextChainHolderImplTest {
         contextChainHolder.ownershipChanged(ownershipChange);
         Mockito.verify(deviceManager,Mockito.never()).removeDeviceFromOperationalDS(Mockito.any());
     }
+
+    @Test
+    public void ownershipChangedRemoteOwner() throws Exception {
+        registration.close();
+        Mockito.when(deviceInfo.getNodeId()).thenReturn(new NodeId(OPENFLOW_TEST));
+        contextChainHolder.createContextChain(connectionContext);
+        EntityOwnershipChange ownershipChange = new EntityOwnershipChange(
+                new Entity(ENTITY_TEST, OPENFLOW_TEST),
+                EntityOwnershipChangeState.REMOTE_OWNERSHIP_CHANGED
+        );
+        contextChainHolder.ownershipChanged(ownershipChange);
+        Mockito.verify(connectionContext).deviceInitializationFinished();
+        Mockito.verify(deviceManager, Mockito.never()).removeDeviceFromOperationalDS(Mockito.any());
+    }
 }
@@ -123,4 +123,10 @@ public class ContextChainImplTest {
         Mockito.verify(contextChainMastershipWatcher)
                 .onNotAbleToStartMastershipMandatory(Mockito.any(DeviceInfo.class), Mockito.anyString());
     }
+
+    @Test
+    public void makeContextChainStateSlave() throws Exception {
+        contextChain.makeContextChainStateSlave();
+        Mockito.verify(connectionContext).deviceInitializationFinished();
+    }
 }
@@ -11,6 +11,8 @@ package org.opendaylight.openflowplugin.impl.registry.flow;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -18,15 +20,19 @@ import static org.mockito.Mockito.when;
 
 import com.google.common.base.Optional;
 import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.SettableFuture;
 import java.math.BigInteger;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.junit.Assert;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
 import org.mockito.InOrder;
 import org.mockito.Mock;
@@ -34,14 +40,17 @@ import org.mockito.runners.MockitoJUnitRunner;
 import org.opendaylight.controller.md.sal.binding.api.DataBroker;
 import org.opendaylight.controller.md.sal.binding.api.ReadOnlyTransaction;
 import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
+import org.opendaylight.controller.md.sal.common.api.data.ReadFailedException;
 import org.opendaylight.openflowplugin.api.OFConstants;
 import org.opendaylight.openflowplugin.api.openflow.registry.flow.FlowDescriptor;
 import org.opendaylight.openflowplugin.api.openflow.registry.flow.FlowRegistryKey;
+import org.opendaylight.openflowplugin.impl.statistics.ofpspecific.FlowRegistryFillStatistics;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowCapableNode;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowCapableNodeBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowId;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.Table;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.TableBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.TableKey;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.table.Flow;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.table.FlowBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.statistics.rev130819.flow.and.statistics.map.list.FlowAndStatisticsMapList;
@@ -62,6 +71,9 @@ public class DeviceFlowRegistryImplTest {
     private static final Pattern INDEX_PATTERN = Pattern.compile("^#UF\\$TABLE\\*1-([0-9]+)$");
     private static final Short DUMMY_TABLE_ID = 1;
 
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
     private DeviceFlowRegistryImpl deviceFlowRegistry;
     private FlowRegistryKey key;
     private FlowDescriptor descriptor;
@@ -76,10 +88,10 @@ public class DeviceFlowRegistryImplTest {
         nodeInstanceIdentifier =
                 InstanceIdentifier.create(Nodes.class).child(Node.class, new NodeKey(new NodeId(NODE_ID)));
         when(dataBroker.newReadOnlyTransaction()).thenReturn(readOnlyTransaction);
-        deviceFlowRegistry =
-                new DeviceFlowRegistryImpl(OFConstants.OFP_VERSION_1_3, dataBroker, nodeInstanceIdentifier);
+        deviceFlowRegistry = new DeviceFlowRegistryImpl(OFConstants.OFP_VERSION_1_3, dataBroker,
+                nodeInstanceIdentifier, new FlowRegistryKeyFactory(false), 0, null);
         final FlowAndStatisticsMapList flowStats = TestFlowHelper.createFlowAndStatisticsMapListBuilder(1).build();
-        key = FlowRegistryKeyFactory.create(OFConstants.OFP_VERSION_1_3, flowStats);
+        key = deviceFlowRegistry.createKey(flowStats);
         descriptor = FlowDescriptorFactory.create(key.getTableId(), new FlowId("ut:1"));
 
         Assert.assertEquals(0, deviceFlowRegistry.getAllFlowDescriptors().size());
@@ -107,7 +119,7 @@ public class DeviceFlowRegistryImplTest {
                 .build();
 
         final Map<FlowRegistryKey, FlowDescriptor> allFlowDescriptors = fillRegistry(path, flowCapableNode);
-        key = FlowRegistryKeyFactory.create(OFConstants.OFP_VERSION_1_3, flow);
+        key = deviceFlowRegistry.createKey(flow);
 
         InOrder order = inOrder(dataBroker, readOnlyTransaction);
         order.verify(dataBroker).newReadOnlyTransaction();
@@ -160,6 +172,126 @@ public class DeviceFlowRegistryImplTest {
         Assert.assertEquals(1, deviceFlowRegistry.getAllFlowDescriptors().size());
     }
 
+    @Test
+    public void testFillPerTable() throws Exception {
+        final InstanceIdentifier<FlowCapableNode> path = nodeInstanceIdentifier.augmentation(FlowCapableNode.class);
+        final Flow flow = new FlowBuilder()
+                .setTableId((short)1)
+                .setPriority(10)
+                .setCookie(new FlowCookie(BigInteger.TEN))
+                .setId(new FlowId("HELLO"))
+                .build();
+        final Table table = new TableBuilder()
+                .setId((short)1)
+                .setFlow(Collections.singletonList(flow))
+                .build();
+
+        doReturn(Futures.immediateCheckedFuture(Optional.absent()))
+                .when(readOnlyTransaction).read(any(), any());
+        doReturn(Futures.immediateCheckedFuture(Optional.of(table)))
+                .when(readOnlyTransaction).read(any(), eq(path.child(Table.class, new TableKey((short)1))));
+
+        final DeviceFlowRegistryImpl registry = new DeviceFlowRegistryImpl(OFConstants.OFP_VERSION_1_3, dataBroker,
+                nodeInstanceIdentifier, new FlowRegistryKeyFactory(false), 16, null);
+        final List<Optional<FlowCapableNode>> result = registry.fill().get();
+        Assert.assertEquals(2, result.size());
+        // Tables are not retained, flows only end up in the registry
+        Assert.assertFalse(result.get(0).isPresent());
+        Assert.assertFalse(result.get(1).isPresent());
+
+        verify(dataBroker, times(2)).newReadOnlyTransaction();
+        verify(readOnlyTransaction, times(255)).read(eq(LogicalDatastoreType.CONFIGURATION), any());
+        verify(readOnlyTransaction, times(255)).read(eq(LogicalDatastoreType.OPERATIONAL), any());
+        verify(readOnlyTransaction, times(2)).close();
+        Assert.assertEquals("HELLO", registry.retrieveDescriptor(registry.createKey(flow)).getFlowId().getValue());
+        Assert.assertTrue(FlowRegistryFillStatistics.provideStatistics().contains(" TABLES READ : 510/510"));
+        Assert.assertTrue(FlowRegistryFillStatistics.provideStatistics().contains(" FLOWS READ : 2"));
+
+        registry.close();
+        Assert.assertFalse(FlowRegistryFillStatistics.provideStatistics().contains("DEVICE : " + NODE_ID));
+    }
+
+    @Test
+    public void testFillFromSnapshot() throws Exception {
+        final FlowRegistryKeyFactory keyFactory = new FlowRegistryKeyFactory(true);
+        final String snapshotDirectory = folder.getRoot().getPath();
+        final Flow flow = new FlowBuilder()
+                .setTableId((short)1)
+                .setPriority(10)
+                .setCookie(new FlowCookie(BigInteger.TEN))
+                .setId(new FlowId("HELLO"))
+                .build();
+
+        final FlowCapableNode flowCapableNode = new FlowCapableNodeBuilder()
+                .setTable(Collections.singletonList(new TableBuilder()
+                        .setFlow(Collections.singletonList(flow))
+                        .build()))
+                .build();
+
+        // Cold fill from datastore persists the registry
+        DeviceFlowRegistryImpl registry = new DeviceFlowRegistryImpl(OFConstants.OFP_VERSION_1_3, dataBroker,
+                nodeInstanceIdentifier, keyFactory, 0, snapshotDirectory);
+        when(readOnlyTransaction.read(any(), any()))
+                .thenReturn(Futures.immediateCheckedFuture(Optional.of(flowCapableNode)));
+        registry.fill().get();
+        registry.close();
+
+        // Warm fill does not wait for datastore
+        final SettableFuture<Optional<FlowCapableNode>> readFuture = SettableFuture.create();
+        doReturn(Futures.makeChecked(readFuture, ex -> new ReadFailedException("Read failed", ex)))
+                .when(readOnlyTransaction).read(any(), any());
+        registry = new DeviceFlowRegistryImpl(OFConstants.OFP_VERSION_1_3, dataBroker, nodeInstanceIdentifier,
+                keyFactory, 0, snapshotDirectory);
+        assertTrue(registry.fill().isDone());
+
+        key = registry.createKey(flow);
+        Assert.assertEquals("HELLO", registry.retrieveDescriptor(key).getFlowId().getValue());
+
+        // Flow is no longer in datastore, so the persisted descriptor is stale
+        readFuture.set(Optional.absent());
+        Assert.assertNull(registry.retrieveDescriptor(key));
+        registry.close();
+    }
+
+    @Test
+    public void testFillFromSnapshotNotVerified() throws Exception {
+        final FlowRegistryKeyFactory keyFactory = new FlowRegistryKeyFactory(true);
+        final String snapshotDirectory = folder.getRoot().getPath();
+        final Flow flow = new FlowBuilder()
+                .setTableId((short)1)
+                .setPriority(10)
+                .setCookie(new FlowCookie(BigInteger.TEN))
+                .setId(new FlowId("HELLO"))
+                .build();
+
+        DeviceFlowRegistryImpl registry = new DeviceFlowRegistryImpl(OFConstants.OFP_VERSION_1_3, dataBroker,
+                nodeInstanceIdentifier, keyFactory, 0, snapshotDirectory);
+        when(readOnlyTransaction.read(any(), any()))
+                .thenReturn(Futures.immediateCheckedFuture(Optional.absent()));
+        registry.fill().get();
+        key = registry.createKey(flow);
+        registry.storeDescriptor(key, FlowDescriptorFactory.create((short) 1, new FlowId("HELLO")));
+        registry.close();
+
+        // Descriptors which could not be verified are not used, but kept in the snapshot
+        final SettableFuture<Optional<FlowCapableNode>> readFuture = SettableFuture.create();
+        doReturn(Futures.makeChecked(readFuture, ex -> new ReadFailedException("Read failed", ex)))
+                .when(readOnlyTransaction).read(any(), any());
+        registry = new DeviceFlowRegistryImpl(OFConstants.OFP_VERSION_1_3, dataBroker, nodeInstanceIdentifier,
+                keyFactory, 0, snapshotDirectory);
+        assertTrue(registry.fill().isDone());
+        Assert.assertEquals("HELLO", registry.retrieveDescriptor(key).getFlowId().getValue());
+        readFuture.setException(new IllegalStateException("Read failed"));
+        Assert.assertNull(registry.retrieveDescriptor(key));
+        registry.close();
+
+        registry = new DeviceFlowRegistryImpl(OFConstants.OFP_VERSION_1_3, dataBroker, nodeInstanceIdentifier,
+                keyFactory, 0, snapshotDirectory);
+        registry.fill();
+        Assert.assertEquals("HELLO", registry.retrieveDescriptor(key).getFlowId().getValue());
+        registry.close();
+    }
+
     private Map<FlowRegistryKey, FlowDescriptor> fillRegistry(final InstanceIdentifier<FlowCapableNode> path,
                                                               final FlowCapableNode flowCapableNode) throws Exception {
         when(readOnlyTransaction.read(any(), any()))
@@ -183,7 +315,7 @@ public class DeviceFlowRegistryImplTest {
 
         // store new key with old value
         final FlowAndStatisticsMapList flowStats = TestFlowHelper.createFlowAndStatisticsMapListBuilder(2).build();
-        final FlowRegistryKey key2 = FlowRegistryKeyFactory.create(OFConstants.OFP_VERSION_1_3, flowStats);
+        final FlowRegistryKey key2 = deviceFlowRegistry.createKey(flowStats);
         deviceFlowRegistry.storeDescriptor(key2, descriptor);
         Assert.assertEquals(2, deviceFlowRegistry.getAllFlowDescriptors().size());
         Assert.assertEquals("ut:1", deviceFlowRegistry.retrieveDescriptor(key2).getFlowId().getValue());
@@ -203,7 +335,7 @@ public class DeviceFlowRegistryImplTest {
 
         //store new key
         final String alienPrefix = "#UF$TABLE*2-";
-        final FlowRegistryKey key2 = FlowRegistryKeyFactory.create(OFConstants.OFP_VERSION_1_3,
+        final FlowRegistryKey key2 = deviceFlowRegistry.createKey(
                 TestFlowHelper.createFlowAndStatisticsMapListBuilder(2).build());
         deviceFlowRegistry.store(key2);
         newFlowId = deviceFlowRegistry.retrieveDescriptor(key2).getFlowId();
@@ -13,6 +13,8 @@ import static org.junit.Assert.assertNotEquals;
 
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import org.junit.Assert;
@@ -35,7 +37,13 @@ import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.statistics.rev130819.f
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.statistics.rev130819.flow.and.statistics.map.list.FlowAndStatisticsMapListBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.FlowCookie;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.flow.MatchBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.model.match.types.rev131026.match.layer._3.match.Ipv4Match;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.model.match.types.rev131026.match.layer._3.match.Ipv4MatchBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.general.rev140714.ExtensionKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.general.rev140714.GeneralAugMatchNodesNodeTableFlow;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.general.rev140714.GeneralAugMatchNodesNodeTableFlowBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.general.rev140714.general.extension.list.grouping.ExtensionList;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.general.rev140714.general.extension.list.grouping.ExtensionListBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -54,6 +62,8 @@ public class FlowRegistryKeyFactoryTest {
     @Mock
     private DeviceInfo deviceInfo;
 
+    private final FlowRegistryKeyFactory keyFactory = new FlowRegistryKeyFactory(false);
+
 
     @Before
     public void setup() {
@@ -72,8 +82,8 @@ public class FlowRegistryKeyFactoryTest {
 
         HashSet<FlowRegistryKey> flowRegistryKeys = new HashSet<>();
         for (FlowAndStatisticsMapList item : flowStats.getFlowAndStatisticsMapList()) {
-            final FlowRegistryKey key1 = FlowRegistryKeyFactory.create(deviceInfo.getVersion(), item);
-            final FlowRegistryKey key2 = FlowRegistryKeyFactory.create(deviceInfo.getVersion(), item);
+            final FlowRegistryKey key1 = keyFactory.create(deviceInfo.getVersion(), item);
+            final FlowRegistryKey key2 = keyFactory.create(deviceInfo.getVersion(), item);
             flowRegistryKeys.add(key1);
             flowRegistryKeys.add(key1);
             flowRegistryKeys.add(key2);
@@ -85,7 +95,7 @@ public class FlowRegistryKeyFactoryTest {
     public void testEqualsNegative() throws Exception {
         final FlowAndStatisticsMapList flowStatisticsMapList1 =
                 TestFlowHelper.createFlowAndStatisticsMapListBuilder(1).build();
-        final FlowRegistryKey key1 = FlowRegistryKeyFactory.create(deviceInfo.getVersion(), flowStatisticsMapList1);
+        final FlowRegistryKey key1 = keyFactory.create(deviceInfo.getVersion(), flowStatisticsMapList1);
 
         FlowRegistryKey key2;
         FlowAndStatisticsMapListBuilder flowStatisticsMapListBld2;
@@ -93,19 +103,19 @@ public class FlowRegistryKeyFactoryTest {
         // different priority
         flowStatisticsMapListBld2 = new FlowAndStatisticsMapListBuilder(flowStatisticsMapList1);
         flowStatisticsMapListBld2.setPriority(flowStatisticsMapListBld2.getPriority() + 1);
-        key2 = FlowRegistryKeyFactory.create(deviceInfo.getVersion(), flowStatisticsMapListBld2.build());
+        key2 = keyFactory.create(deviceInfo.getVersion(), flowStatisticsMapListBld2.build());
         Assert.assertFalse(key1.equals(key2));
 
         // different match
         flowStatisticsMapListBld2 = new FlowAndStatisticsMapListBuilder(flowStatisticsMapList1);
         flowStatisticsMapListBld2.setMatch(new MatchBuilder().build());
-        key2 = FlowRegistryKeyFactory.create(deviceInfo.getVersion(), flowStatisticsMapListBld2.build());
+        key2 = keyFactory.create(deviceInfo.getVersion(), flowStatisticsMapListBld2.build());
         Assert.assertFalse(key1.equals(key2));
 
         // different tableId
         flowStatisticsMapListBld2 = new FlowAndStatisticsMapListBuilder(flowStatisticsMapList1);
         flowStatisticsMapListBld2.setTableId((short) (flowStatisticsMapListBld2.getTableId() + 1));
-        key2 = FlowRegistryKeyFactory.create(deviceInfo.getVersion(), flowStatisticsMapListBld2.build());
+        key2 = keyFactory.create(deviceInfo.getVersion(), flowStatisticsMapListBld2.build());
         Assert.assertFalse(key1.equals(key2));
 
         Assert.assertFalse(key1.equals(null));
@@ -121,7 +131,7 @@ public class FlowRegistryKeyFactoryTest {
                 .setPriority(2)
                 .setTableId((short) 0);
 
-        FlowRegistryKey flow1Hash = FlowRegistryKeyFactory.create(deviceInfo.getVersion(), flow1Builder.build());
+        FlowRegistryKey flow1Hash = keyFactory.create(deviceInfo.getVersion(), flow1Builder.build());
         LOG.info("flowHash1: {}", flow1Hash.hashCode());
 
 
@@ -131,7 +141,7 @@ public class FlowRegistryKeyFactoryTest {
                 .setCookie(new FlowCookie(BigInteger.valueOf(148)))
                 .setMatch(match2Builder.build());
 
-        FlowRegistryKey flow2Hash = FlowRegistryKeyFactory.create(deviceInfo.getVersion(), flow2Builder.build());
+        FlowRegistryKey flow2Hash = keyFactory.create(deviceInfo.getVersion(), flow2Builder.build());
         LOG.info("flowHash2: {}", flow2Hash.hashCode());
 
         Assert.assertNotSame(flow1Hash, flow2Hash);
@@ -150,7 +160,7 @@ public class FlowRegistryKeyFactoryTest {
         FlowBuilder fb1 = new FlowBuilder(flow1Builder.build());
         fb1.setTableId(null);
         try {
-            FlowRegistryKeyFactory.create(deviceInfo.getVersion(), fb1.build());
+            keyFactory.create(deviceInfo.getVersion(), fb1.build());
             Assert.fail("hash creation should have failed because of NPE");
         } catch (NullPointerException e) {
             // expected
@@ -160,7 +170,7 @@ public class FlowRegistryKeyFactoryTest {
         FlowBuilder fb2 = new FlowBuilder(flow1Builder.build());
         fb2.setPriority(null);
         try {
-            FlowRegistryKeyFactory.create(deviceInfo.getVersion(), fb2.build());
+            keyFactory.create(deviceInfo.getVersion(), fb2.build());
         } catch (NullPointerException e) {
             // not expected
             Assert.fail("no exception was expected while hash was creating.");
@@ -168,7 +178,7 @@ public class FlowRegistryKeyFactoryTest {
 
         FlowBuilder fb3 = new FlowBuilder(flow1Builder.build());
         fb3.setCookie(null);
-        FlowRegistryKey flowRegistryKey = FlowRegistryKeyFactory.create(deviceInfo.getVersion(), fb3.build());
+        FlowRegistryKey flowRegistryKey = keyFactory.create(deviceInfo.getVersion(), fb3.build());
         Assert.assertNotNull(flowRegistryKey.getCookie());
         Assert.assertEquals(OFConstants.DEFAULT_COOKIE, flowRegistryKey.getCookie());
     }
@@ -178,7 +188,7 @@ public class FlowRegistryKeyFactoryTest {
         FlowsStatisticsUpdate flowStats = FLOWS_STATISTICS_UPDATE_BUILDER.build();
 
         for (FlowAndStatisticsMapList item : flowStats.getFlowAndStatisticsMapList()) {
-            FlowRegistryKey flowRegistryKey = FlowRegistryKeyFactory.create(deviceInfo.getVersion(), item);
+            FlowRegistryKey flowRegistryKey = keyFactory.create(deviceInfo.getVersion(), item);
             FlowRegistryKey lastHash = null;
             if (null != lastHash) {
                 assertNotEquals(lastHash, flowRegistryKey);
@@ -187,4 +197,92 @@ public class FlowRegistryKeyFactoryTest {
             }
         }
     }
+
+    @Test
+    public void testEqualsExtensionOrder() throws Exception {
+        final ExtensionList extension1 = new ExtensionListBuilder().setExtensionKey(FirstExtension.class).build();
+        final ExtensionList extension2 = new ExtensionListBuilder().setExtensionKey(SecondExtension.class).build();
+
+        final FlowRegistryKey key1 = createExtensionFlowKey(Arrays.asList(extension1, extension2));
+        final FlowRegistryKey key2 = createExtensionFlowKey(Arrays.asList(extension2, extension1));
+        assertEquals(key1, key2);
+        assertEquals(key2, key1);
+        assertEquals(key1.hashCode(), key2.hashCode());
+
+        final FlowRegistryKey key3 = createExtensionFlowKey(Collections.singletonList(extension1));
+        assertNotEquals(key1, key3);
+        assertNotEquals(key3, key1);
+
+        final FlowRegistryKey key4 = createExtensionFlowKey(Arrays.asList(extension1, extension1));
+        assertNotEquals(key1, key4);
+        assertNotEquals(key4, key1);
+    }
+
+    @Test
+    public void testCompactKeys() throws Exception {
+        final FlowRegistryKeyFactory compactKeyFactory = new FlowRegistryKeyFactory(true);
+        final BigInteger cookie = new BigInteger("ffffffffffffff01", 16);
+        final FlowBuilder flowBuilder = new FlowBuilder()
+                .setCookie(new FlowCookie(cookie))
+                .setMatch(new MatchBuilder().setLayer3Match(new Ipv4MatchBuilder()
+                        .setIpv4Destination(new Ipv4Prefix("10.0.1.157/32")).build()).build())
+                .setPriority(0xFFF0)
+                .setTableId((short) 200);
+
+        final FlowRegistryKey key1 = compactKeyFactory.create(deviceInfo.getVersion(), flowBuilder.build());
+        final FlowRegistryKey key2 = compactKeyFactory.create(deviceInfo.getVersion(), flowBuilder.build());
+        Assert.assertTrue(key1 instanceof CompactFlowRegistryKey);
+        assertEquals(key1, key2);
+        assertEquals(key1.hashCode(), key2.hashCode());
+        assertEquals(200, key1.getTableId());
+        assertEquals(0xFFF0, key1.getPriority());
+        assertEquals(cookie, key1.getCookie());
+
+        flowBuilder.setPriority(0xFFF1);
+        assertNotEquals(key1, compactKeyFactory.create(deviceInfo.getVersion(), flowBuilder.build()));
+
+        final FlowRegistryKey extensionKey = createExtensionFlowKey(compactKeyFactory, Collections.singletonList(
+                new ExtensionListBuilder().setExtensionKey(FirstExtension.class).build()));
+        Assert.assertFalse(extensionKey instanceof CompactFlowRegistryKey);
+        assertNotEquals(extensionKey, key1);
+        assertNotEquals(key1, extensionKey);
+    }
+
+    @Test
+    public void testCompactKeyMatch() throws Exception {
+        final FlowRegistryKey key = new FlowRegistryKeyFactory(true).create(deviceInfo.getVersion(),
+                new FlowBuilder()
+                        .setMatch(new MatchBuilder().setLayer3Match(new Ipv4MatchBuilder()
+                                .setIpv4Destination(new Ipv4Prefix("10.0.1.157/32")).build()).build())
+                        .setTableId((short) 0)
+                        .build());
+
+        Assert.assertTrue(key instanceof CompactFlowRegistryKey);
+        assertEquals(new Ipv4Prefix("10.0.1.157/32"),
+                ((Ipv4Match) key.getMatch().getLayer3Match()).getIpv4Destination());
+    }
+
+    private FlowRegistryKey createExtensionFlowKey(final List<ExtensionList> extensions) {
+        return createExtensionFlowKey(keyFactory, extensions);
+    }
+
+    private FlowRegistryKey createExtensionFlowKey(final FlowRegistryKeyFactory factory,
+                                                   final List<ExtensionList> extensions) {
+        final MatchBuilder matchBuilder = new MatchBuilder()
+                .setLayer3Match(new Ipv4MatchBuilder().setIpv4Destination(new Ipv4Prefix("10.0.1.157/32")).build())
+                .addAugmentation(GeneralAugMatchNodesNodeTableFlow.class,
+                        new GeneralAugMatchNodesNodeTableFlowBuilder().setExtensionList(extensions).build());
+        final FlowBuilder flowBuilder = new FlowBuilder()
+                .setCookie(new FlowCookie(BigInteger.valueOf(483)))
+                .setMatch(matchBuilder.build())
+                .setPriority(2)
+                .setTableId((short) 0);
+        return factory.create(deviceInfo.getVersion(), flowBuilder.build());
+    }
+
+    private interface FirstExtension extends ExtensionKey {
+    }
+
+    private interface SecondExtension extends ExtensionKey {
+    }
 }
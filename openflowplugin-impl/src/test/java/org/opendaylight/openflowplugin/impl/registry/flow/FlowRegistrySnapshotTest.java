@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2018 OpenDaylight and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowplugin.impl.registry.flow;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.opendaylight.openflowplugin.api.openflow.registry.flow.FlowDescriptor;
+import org.opendaylight.openflowplugin.api.openflow.registry.flow.FlowRegistryKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowId;
+
+/**
+ * Test for {@link FlowRegistrySnapshot}.
+ */
+public class FlowRegistrySnapshotTest {
+    private static final String NODE_ID = "openflow:1";
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private FlowRegistrySnapshot snapshot;
+
+    @Before
+    public void setUp() throws Exception {
+        snapshot = FlowRegistrySnapshot.forNode(folder.getRoot().getPath(), NODE_ID);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        snapshot.close();
+    }
+
+    @Test
+    public void testDisabled() throws Exception {
+        assertNull(FlowRegistrySnapshot.forNode(null, NODE_ID));
+        assertNull(FlowRegistrySnapshot.forNode("", NODE_ID));
+    }
+
+    @Test
+    public void testStoreAndLoad() throws Exception {
+        assertTrue(snapshot.load().isEmpty());
+        assertTrue(snapshot.isOpen());
+
+        final FlowRegistryKey key1 = createKey(1);
+        final FlowRegistryKey key2 = createKey(2);
+        snapshot.store(key1, createDescriptor(key1, "flow1"));
+        snapshot.store(key2, createDescriptor(key2, "flow2"));
+        snapshot.store(key1, createDescriptor(key1, "flow1-updated"));
+        snapshot.remove(key2);
+        snapshot.close();
+        assertFalse(snapshot.isOpen());
+
+        final Map<FlowRegistryKey, FlowDescriptor> descriptors = snapshot.load();
+        assertEquals(1, descriptors.size());
+        assertEquals(createDescriptor(key1, "flow1-updated"), descriptors.get(key1));
+        assertEquals(1, descriptors.keySet().iterator().next().getTableId());
+    }
+
+    @Test
+    public void testBufferedWrites() throws Exception {
+        snapshot.load();
+        final long size = Files.size(snapshot.getPath());
+
+        final FlowRegistryKey key1 = createKey(1);
+        snapshot.store(key1, createDescriptor(key1, "flow1"));
+        assertEquals(size, Files.size(snapshot.getPath()));
+
+        snapshot.flush();
+        assertTrue(Files.size(snapshot.getPath()) > size);
+    }
+
+    @Test
+    public void testTornRecord() throws Exception {
+        snapshot.load();
+        final FlowRegistryKey key1 = createKey(1);
+        snapshot.store(key1, createDescriptor(key1, "flow1"));
+        snapshot.close();
+
+        // Simulate a crash in the middle of appending a record
+        Files.write(snapshot.getPath(), new byte[]{1, 0, 20, 1}, StandardOpenOption.APPEND);
+
+        assertEquals(1, snapshot.load().size());
+        final FlowRegistryKey key2 = createKey(2);
+        snapshot.store(key2, createDescriptor(key2, "flow2"));
+        snapshot.close();
+
+        assertEquals(2, snapshot.load().size());
+    }
+
+    @Test
+    public void testCorruptedHeader() throws Exception {
+        Files.write(snapshot.getPath(), new byte[]{0, 1, 2, 3, 4, 5, 6, 7});
+        assertTrue(snapshot.load().isEmpty());
+
+        final FlowRegistryKey key1 = createKey(1);
+        snapshot.store(key1, createDescriptor(key1, "flow1"));
+        snapshot.close();
+        assertEquals(1, snapshot.load().size());
+    }
+
+    @Test
+    public void testCompaction() throws Exception {
+        snapshot.load();
+        final FlowRegistryKey key1 = createKey(1);
+        for (int i = 0; i < 2000; i++) {
+            snapshot.store(key1, createDescriptor(key1, "flow" + i));
+        }
+        snapshot.close();
+        final long size = Files.size(snapshot.getPath());
+
+        assertEquals(createDescriptor(key1, "flow1999"), snapshot.load().get(key1));
+        assertTrue(Files.size(snapshot.getPath()) < size);
+        snapshot.close();
+        assertEquals(createDescriptor(key1, "flow1999"), snapshot.load().get(key1));
+    }
+
+    private static FlowRegistryKey createKey(final int priority) {
+        final byte[] encoded = new byte[16];
+        encoded[0] = 1;
+        encoded[2] = (byte) priority;
+        return CompactFlowRegistryKey.fromEncoded(encoded);
+    }
+
+    private static FlowDescriptor createDescriptor(final FlowRegistryKey key, final String flowId) {
+        return FlowDescriptorFactory.create(key.getTableId(), new FlowId(flowId));
+    }
+}
@@ -53,6 +53,14 @@ public class DeviceGroupRegistryImplTest {
         Assert.assertEquals(1, deviceGroupRegistry.getAllGroupIds().size());
     }
 
+    @Test
+    public void testStoreMarked() throws Exception {
+        deviceGroupRegistry.addMark(groupId2);
+        deviceGroupRegistry.store(groupId2);
+        deviceGroupRegistry.processMarks();
+        Assert.assertEquals(2, deviceGroupRegistry.getAllGroupIds().size());
+    }
+
     @Test
     public void testClose() throws Exception {
         deviceGroupRegistry.addMark(groupId);
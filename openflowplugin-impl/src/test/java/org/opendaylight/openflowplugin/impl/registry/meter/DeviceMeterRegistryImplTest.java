@@ -53,6 +53,14 @@ public class DeviceMeterRegistryImplTest {
         Assert.assertEquals(1, deviceMeterRegistry.getAllMeterIds().size());
     }
 
+    @Test
+    public void testStoreMarked() throws Exception {
+        deviceMeterRegistry.addMark(meterId2);
+        deviceMeterRegistry.store(meterId2);
+        deviceMeterRegistry.processMarks();
+        Assert.assertEquals(2, deviceMeterRegistry.getAllMeterIds().size());
+    }
+
     @Test
     public void testClose() throws Exception {
         deviceMeterRegistry.addMark(meterId);
@@ -103,19 +103,19 @@ public class StatisticsContextImplParamTest extends StatisticsContextImpMockInit
         final ListenableFuture<RpcResult<List<MultipartReply>>> rpcResult = immediateFuture(RpcResultBuilder
                 .success(Collections.<MultipartReply>emptyList()).build());
         when(mockedStatisticsGatheringService.getStatisticsOfType(any(EventIdentifier.class), any(MultipartType
-                .class))).thenReturn(rpcResult);
+                .class), any())).thenReturn(rpcResult);
         when(mockedStatisticsOnFlyGatheringService.getStatisticsOfType(any(EventIdentifier.class), any(MultipartType
-                .class))).thenReturn(rpcResult);
+                .class), any())).thenReturn(rpcResult);
 
         statisticsContext.registerMastershipWatcher(mockedMastershipWatcher);
         statisticsContext.setStatisticsGatheringService(mockedStatisticsGatheringService);
         statisticsContext.setStatisticsGatheringOnTheFlyService(mockedStatisticsOnFlyGatheringService);
         statisticsContext.instantiateServiceInstance();
 
-        verify(mockedStatisticsGatheringService, times(7))
-                .getStatisticsOfType(Matchers.any(EventIdentifier.class), Matchers.any(MultipartType.class));
-        verify(mockedStatisticsOnFlyGatheringService)
-                .getStatisticsOfType(Matchers.any(EventIdentifier.class), Matchers.any(MultipartType.class));
+        verify(mockedStatisticsGatheringService, times(7)).getStatisticsOfType(Matchers.any(EventIdentifier.class),
+                Matchers.any(MultipartType.class), Matchers.any());
+        verify(mockedStatisticsOnFlyGatheringService).getStatisticsOfType(Matchers.any(EventIdentifier.class),
+                Matchers.any(MultipartType.class), Matchers.any());
     }
 
 }
@@ -137,11 +137,13 @@ public class StatisticsContextImplTest extends StatisticsContextImpMockInitiatio
         initStatisticsContext();
 
         when(mockedStatisticsGatheringService
-                     .getStatisticsOfType(Matchers.any(EventIdentifier.class), Matchers.any(MultipartType.class)))
+                     .getStatisticsOfType(Matchers.any(EventIdentifier.class), Matchers.any(MultipartType.class),
+                             Matchers.any()))
                 .thenReturn(Futures.immediateFuture(
                         RpcResultBuilder.success(Collections.<MultipartReply>emptyList()).build()));
         when(mockedStatisticsOnFlyGatheringService
-                     .getStatisticsOfType(Matchers.any(EventIdentifier.class), Matchers.any(MultipartType.class)))
+                     .getStatisticsOfType(Matchers.any(EventIdentifier.class), Matchers.any(MultipartType.class),
+                             Matchers.any()))
                 .thenReturn(Futures.immediateFuture(
                         RpcResultBuilder.success(Collections.<MultipartReply>emptyList()).build()));
 
@@ -150,10 +152,10 @@ public class StatisticsContextImplTest extends StatisticsContextImpMockInitiatio
         statisticsContext.setStatisticsGatheringOnTheFlyService(mockedStatisticsOnFlyGatheringService);
         statisticsContext.instantiateServiceInstance();
 
-        verify(mockedStatisticsGatheringService, times(7))
-                .getStatisticsOfType(Matchers.any(EventIdentifier.class), Matchers.any(MultipartType.class));
-        verify(mockedStatisticsOnFlyGatheringService)
-                .getStatisticsOfType(Matchers.any(EventIdentifier.class), Matchers.any(MultipartType.class));
+        verify(mockedStatisticsGatheringService, times(7)).getStatisticsOfType(Matchers.any(EventIdentifier.class),
+                Matchers.any(MultipartType.class), Matchers.any());
+        verify(mockedStatisticsOnFlyGatheringService).getStatisticsOfType(Matchers.any(EventIdentifier.class),
+                Matchers.any(MultipartType.class), Matchers.any());
         Mockito.verifyNoMoreInteractions(mockedStatisticsGatheringService, mockedStatisticsOnFlyGatheringService);
     }
 }
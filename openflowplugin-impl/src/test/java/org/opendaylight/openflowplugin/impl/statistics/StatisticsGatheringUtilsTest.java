@@ -23,6 +23,7 @@ import java.util.List;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -500,10 +501,16 @@ public class StatisticsGatheringUtilsTest {
                                                  Matchers.eq(meterPath), Matchers.any(Meter.class));
     }
 
+    @SuppressWarnings("unchecked")
     private void fireAndCheck(final MultipartType type, final List<MultipartReply> statsData)
             throws InterruptedException, ExecutionException, TimeoutException {
-        when(statisticsService.getStatisticsOfType(Matchers.any(EventIdentifier.class), Matchers.eq(type)))
-                .thenReturn(Futures.immediateFuture(RpcResultBuilder.success(statsData).build()));
+        when(statisticsService.getStatisticsOfType(Matchers.any(EventIdentifier.class), Matchers.eq(type),
+                Matchers.any())).thenAnswer(invocation -> {
+                    // Replies are streamed to the consumer, the result does not carry them
+                    final Consumer<MultipartReply> consumer = (Consumer<MultipartReply>) invocation.getArguments()[2];
+                    statsData.forEach(consumer);
+                    return Futures.immediateFuture(RpcResultBuilder.success(Collections.emptyList()).build());
+                });
 
         final ListenableFuture<Boolean> gatherStatisticsResult = StatisticsGatheringUtils.gatherStatistics(
             statisticsService,
@@ -8,15 +8,26 @@
 
 package org.opendaylight.openflowplugin.impl.statistics.services.dedicated;
 
+import com.google.common.util.concurrent.FutureCallback;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
 import org.junit.Assert;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Matchers;
 import org.mockito.Mockito;
 import org.opendaylight.openflowplugin.api.openflow.device.Xid;
 import org.opendaylight.openflowplugin.api.openflow.statistics.ofpspecific.EventIdentifier;
+import org.opendaylight.openflowplugin.impl.device.listener.MultiMsgCollectorImpl;
 import org.opendaylight.openflowplugin.impl.services.ServiceMocking;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.types.rev130731.MultipartRequestFlags;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.types.rev130731.MultipartType;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.MultipartReplyMessage;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.MultipartReplyMessageBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.MultipartRequestInput;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.OfHeader;
+import org.opendaylight.yangtools.yang.common.RpcResult;
 
 /**
  * Test for {@link StatisticsGatheringService}.
@@ -41,6 +52,37 @@ public class StatisticsGatheringServiceTest extends ServiceMocking {
         Mockito.verify(mockedRequestContextStack, Mockito.times(15)).createRequestContext();
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testGetStatisticsOfTypeStreaming() throws Exception {
+        Mockito.doAnswer(invocation -> new MultiMsgCollectorImpl<>(mockedDeviceContext, mockedRequestContext,
+                (Consumer<OfHeader>) invocation.getArguments()[1]))
+                .when(mockedDeviceContext).getMultiMsgCollector(Matchers.any(), Matchers.any());
+
+        final List<OfHeader> streamed = new ArrayList<>();
+        final EventIdentifier eventIdentifier = new EventIdentifier("ut-event", "ut-device-id:1");
+        statisticsGatheringService.getStatisticsOfType(eventIdentifier, MultipartType.OFPMPPORTSTATS,
+                (Consumer<OfHeader>) streamed::add);
+
+        final ArgumentCaptor<FutureCallback> callbackCaptor = ArgumentCaptor.forClass(FutureCallback.class);
+        Mockito.verify(mockedOutboundQueue).commitEntry(Matchers.eq(DUMMY_XID_VALUE), Matchers.any(OfHeader.class),
+                callbackCaptor.capture());
+
+        final MultipartReplyMessage first = makeReply(true);
+        final MultipartReplyMessage last = makeReply(false);
+        callbackCaptor.getValue().onSuccess(first);
+        callbackCaptor.getValue().onSuccess(last);
+
+        Assert.assertEquals(2, streamed.size());
+        Assert.assertSame(first, streamed.get(0));
+        Assert.assertSame(last, streamed.get(1));
+
+        final ArgumentCaptor<RpcResult> resultCaptor = ArgumentCaptor.forClass(RpcResult.class);
+        Mockito.verify(mockedRequestContext).setResult(resultCaptor.capture());
+        Assert.assertTrue(resultCaptor.getValue().isSuccessful());
+        Assert.assertTrue(((List<?>) resultCaptor.getValue().getResult()).isEmpty());
+    }
+
     @Test
     public void testBuildRequest() throws Exception {
         final long xidValue = 21L;
@@ -52,4 +94,12 @@ public class StatisticsGatheringServiceTest extends ServiceMocking {
             Assert.assertNotNull(request);
         }
     }
-}
\ No newline at end of file
+
+    private static MultipartReplyMessage makeReply(final boolean requestMore) {
+        return new MultipartReplyMessageBuilder()
+                .setXid(DUMMY_XID_VALUE)
+                .setType(MultipartType.OFPMPPORTSTATS)
+                .setFlags(new MultipartRequestFlags(requestMore))
+                .build();
+    }
+}